@@ -70,6 +70,27 @@ public interface BeanBuilder<T extends Bean> {
      */
     public abstract BeanBuilder<T> set(MetaProperty<?> metaProperty, Object value);
 
+    /**
+     * Sets the value of a single property into the builder by ordinal.
+     * <p>
+     * The ordinal is the position of the property in the meta-bean, as per {@link MetaProperty#ordinal()}.
+     * This avoids the lookup by name, which is useful when the same properties are set many times.
+     * <p>
+     * The default implementation throws an exception, as the builder has no access to the meta-bean.
+     * All builders provided by Joda-Beans override this method, including generated builders.
+     * The deserializers use this method where possible, and set the property by
+     * meta-property instead if it throws {@code UnsupportedOperationException}.
+     * 
+     * @param ordinal  the ordinal of the property to set
+     * @param value  the property value, may be null
+     * @return {@code this}, for chaining, not null
+     * @throws UnsupportedOperationException if the builder does not support ordinals
+     * @throws RuntimeException optionally thrown if the ordinal is invalid
+     */
+    public default BeanBuilder<T> set(int ordinal, Object value) {
+        throw new UnsupportedOperationException("Builder does not support setting by ordinal");
+    }
+
     /**
      * Builds the bean from the state of the builder.
      * <p>
@@ -159,6 +159,36 @@ public interface MetaBean {
         return (MetaProperty<R>) mp;
     }
 
+    /**
+     * Gets a meta-property by ordinal.
+     * <p>
+     * The ordinal of a meta-property is its zero-based position in {@link #metaPropertyIterable()}.
+     * Looking up by ordinal allows callers that have already resolved a property,
+     * such as a deserializer, to avoid hashing the property name on every access.
+     * For code generated beans, the properties of a superclass have the same ordinals in the subclass.
+     * <p>
+     * The default implementation iterates over the meta-properties.
+     * Implementations are encouraged to override this to use an array lookup.
+     * The ordinals of a {@code DynamicMetaBean} are not stable as properties are added.
+     * 
+     * @param <R>  the property type, optional, enabling auto-casting
+     * @param ordinal  the ordinal of the property to retrieve, from zero
+     * @return the meta property, not null
+     * @throws IndexOutOfBoundsException if the ordinal is invalid
+     */
+    @SuppressWarnings("unchecked")
+    public default <R> MetaProperty<R> metaProperty(int ordinal) {
+        if (ordinal >= 0) {
+            int index = 0;
+            for (MetaProperty<?> mp : metaPropertyIterable()) {
+                if (index++ == ordinal) {
+                    return (MetaProperty<R>) mp;
+                }
+            }
+        }
+        throw new IndexOutOfBoundsException("Invalid property ordinal: " + ordinal);
+    }
+
     /**
      * Gets an iterator of meta-properties.
      * <p>
@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans;
+
+import java.util.List;
+
+/**
+ * An index of bean types, typically generated at build time.
+ * <p>
+ * An implementation of this interface is generated by {@code BeanCodeGen} when
+ * the {@code -index} argument is used. The generated class refers to each bean
+ * using a class literal, allowing the bean types to be found without reflection.
+ * <p>
+ * Once registered, the index is used by the serialization framework to resolve
+ * bean type names, including short type names, without calling {@code Class.forName}.
+ * The index can also be used to initialize all the beans in bulk at startup,
+ * rather than as each bean is first used.
+ * <pre>
+ *  MetaBeanIndex index = new MyBeanIndex();
+ *  MetaBeanIndex.register(index);
+ *  index.preload();
+ * </pre>
+ * <p>
+ * Implementations must be immutable and thread-safe.
+ * 
+ * @author Stephen Colebourne
+ */
+public interface MetaBeanIndex {
+
+    /**
+     * Registers an index.
+     * <p>
+     * This makes the bean types of the index available to {@link #findType(String)}.
+     * If more than one type has the same name, the first to be registered is used.
+     * The bean classes are not initialized by this method.
+     * 
+     * @param index  the index, not null
+     */
+    public static void register(MetaBeanIndex index) {
+        MetaBeans.registerIndex(index);
+    }
+
+    /**
+     * Finds a bean type by name from the registered indexes.
+     * <p>
+     * This does not use reflection and does not initialize the class.
+     * 
+     * @param typeName  the fully qualified name of the type, not null
+     * @return the bean type, null if not found in a registered index
+     */
+    public static Class<?> findType(String typeName) {
+        return MetaBeans.indexedType(typeName);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the bean types in the index.
+     * 
+     * @return the bean types, not null
+     */
+    public abstract List<Class<?>> beanTypes();
+
+    /**
+     * Initializes each bean type in the index, registering the meta-beans.
+     * <p>
+     * This allows the cost of class initialization to be incurred at startup,
+     * rather than when each bean is first used.
+     * 
+     * @throws IllegalArgumentException if unable to obtain the meta-bean of a bean type
+     */
+    public default void preload() {
+        for (Class<?> beanType : beanTypes()) {
+            MetaBeans.lookup(beanType);
+        }
+    }
+
+}
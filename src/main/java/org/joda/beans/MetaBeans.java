@@ -15,20 +15,48 @@
  */
 package org.joda.beans;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import org.joda.beans.impl.flexi.FlexiBean;
 import org.joda.beans.impl.map.MapBean;
 
 /**
  * Utilities for registered meta-beans.
+ * <p>
+ * The meta-beans are held against the class using {@link ClassValue}.
+ * This avoids hashing on lookup and does not prevent the bean class from being unloaded.
  */
 final class MetaBeans {
 
     /**
-     * The cache of meta-beans.
+     * The registered meta-beans, with an empty reference if the class has not registered.
      */
-    private static final ConcurrentHashMap<Class<?>, MetaBean> META_BEANS = new ConcurrentHashMap<>();
+    private static final ClassValue<AtomicReference<MetaBean>> META_BEANS = new ClassValue<AtomicReference<MetaBean>>() {
+        @Override
+        protected AtomicReference<MetaBean> computeValue(Class<?> cls) {
+            return new AtomicReference<>();
+        }
+    };
+    /**
+     * The factories for the meta-beans of dynamic beans, null if the class is not a dynamic bean.
+     * <p>
+     * The meta-bean of a dynamic bean is obtained from a new instance of the bean.
+     * The meta-bean cannot be cached, as it is typically backed by that instance.
+     */
+    private static final ClassValue<Supplier<MetaBean>> DYNAMIC_META_BEANS = new ClassValue<Supplier<MetaBean>>() {
+        @Override
+        protected Supplier<MetaBean> computeValue(Class<?> cls) {
+            return dynamicMetaBeanFactory(cls);
+        }
+    };
+    /**
+     * The bean types from registered indexes, keyed by name.
+     */
+    private static final ConcurrentHashMap<String, Class<?>> INDEXED_TYPES = new ConcurrentHashMap<>();
 
     /**
      * Restricted constructor.
@@ -51,7 +79,7 @@ final class MetaBeans {
      * @throws IllegalArgumentException if unable to obtain the meta-bean
      */
     static MetaBean lookup(Class<?> cls) {
-        MetaBean meta = META_BEANS.get(cls);
+        MetaBean meta = META_BEANS.get(cls).get();
         if (meta == null) {
             return metaBeanLookup(cls);
         }
@@ -61,18 +89,9 @@ final class MetaBeans {
     // lookup the MetaBean outside the fast path, aiding hotspot inlining
     private static MetaBean metaBeanLookup(Class<?> cls) {
         // handle dynamic beans
-        if (cls == FlexiBean.class) {
-            return new FlexiBean().metaBean();
-        } else if (cls == MapBean.class) {
-            return new MapBean().metaBean();
-        } else if (DynamicBean.class.isAssignableFrom(cls)) {
-            try {
-                return cls.asSubclass(DynamicBean.class).newInstance().metaBean();
-            } catch (InstantiationException ex) {
-                throw new IllegalArgumentException("Unable to find meta-bean for a DynamicBean: " + cls.getName(), ex);
-            } catch (IllegalAccessException ex) {
-                throw new IllegalArgumentException("Unable to find meta-bean for a DynamicBean: " + cls.getName(), ex);
-            }
+        Supplier<MetaBean> dynamicFactory = DYNAMIC_META_BEANS.get(cls);
+        if (dynamicFactory != null) {
+            return dynamicFactory.get();
         }
         // a Class can be loaded without being initialized
         // in this state, the static initializers have not run, and thus the metabean not registered
@@ -86,13 +105,44 @@ final class MetaBeans {
             // should be impossible
             throw new IllegalArgumentException("Unable to find meta-bean: " + cls.getName(), ex);
         }
-        MetaBean meta = META_BEANS.get(cls);
+        MetaBean meta = META_BEANS.get(cls).get();
         if (meta == null) {
             throw new IllegalArgumentException("Unable to find meta-bean: " + cls.getName());
         }
         return meta;
     }
 
+    // finds the factory for the meta-bean of a dynamic bean, null if not a dynamic bean
+    private static Supplier<MetaBean> dynamicMetaBeanFactory(Class<?> cls) {
+        if (cls == FlexiBean.class) {
+            return () -> new FlexiBean().metaBean();
+        } else if (cls == MapBean.class) {
+            return () -> new MapBean().metaBean();
+        } else if (DynamicBean.class.isAssignableFrom(cls)) {
+            Constructor<? extends DynamicBean> constructor;
+            try {
+                constructor = cls.asSubclass(DynamicBean.class).getDeclaredConstructor();
+            } catch (NoSuchMethodException ex) {
+                throw new IllegalArgumentException("Unable to find meta-bean for a DynamicBean: " + cls.getName(), ex);
+            }
+            return () -> {
+                try {
+                    return constructor.newInstance().metaBean();
+                } catch (InstantiationException ex) {
+                    throw new IllegalArgumentException("Unable to find meta-bean for a DynamicBean: " + cls.getName(), ex);
+                } catch (IllegalAccessException ex) {
+                    throw new IllegalArgumentException("Unable to find meta-bean for a DynamicBean: " + cls.getName(), ex);
+                } catch (InvocationTargetException ex) {
+                    if (ex.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) ex.getCause();
+                    }
+                    throw new IllegalArgumentException("Unable to find meta-bean for a DynamicBean: " + cls.getName(), ex);
+                }
+            };
+        }
+        return null;
+    }
+
     /**
      * Registers a meta-bean.
      * <p>
@@ -104,9 +154,32 @@ final class MetaBeans {
      */
     static void register(MetaBean metaBean) {
         Class<? extends Bean> type = metaBean.beanType();
-        if (META_BEANS.putIfAbsent(type, metaBean) != null) {
+        if (META_BEANS.get(type).compareAndSet(null, metaBean) == false) {
             throw new IllegalArgumentException("Cannot register class twice: " + type.getName());
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Registers an index of bean types.
+     * 
+     * @param index  the index, not null
+     */
+    static void registerIndex(MetaBeanIndex index) {
+        JodaBeanUtils.notNull(index, "index");
+        for (Class<?> beanType : index.beanTypes()) {
+            INDEXED_TYPES.putIfAbsent(beanType.getName(), beanType);
+        }
+    }
+
+    /**
+     * Finds a bean type from the registered indexes.
+     * 
+     * @param typeName  the fully qualified name of the type, not null
+     * @return the bean type, null if not found
+     */
+    static Class<?> indexedType(String typeName) {
+        return INDEXED_TYPES.get(typeName);
+    }
+
 }
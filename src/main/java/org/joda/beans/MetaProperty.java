@@ -65,6 +65,28 @@ public interface MetaProperty<P> {
      */
     public abstract String name();
 
+    /**
+     * Gets the ordinal of the property within the meta-bean.
+     * <p>
+     * The ordinal is the zero-based position of this property in {@link MetaBean#metaPropertyIterable()},
+     * such that {@code metaBean().metaProperty(ordinal())} returns this property.
+     * <p>
+     * The default implementation searches the meta-properties of the meta-bean by name.
+     * Implementations are encouraged to override this to return a stored value.
+     * 
+     * @return the ordinal of the property, -1 if the property is not found in the meta-bean
+     */
+    public default int ordinal() {
+        int index = 0;
+        for (MetaProperty<?> mp : metaBean().metaPropertyIterable()) {
+            if (mp.name().equals(name())) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
     /**
      * Get the type that declares the property, represented as a {@code Class}.
      * <p>
@@ -266,6 +288,143 @@ public interface MetaProperty<P> {
         set(bean, stringConvert.convertFromString(propertyType(), value));
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the value of a {@code double} property for the specified bean.
+     * <p>
+     * This is equivalent to {@link #get(Bean)}, but avoids boxing where the implementation supports it.
+     * The default implementation unboxes the result of {@code get(Bean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code double}
+     * @throws NullPointerException if the value is null
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public default double getDouble(Bean bean) {
+        return ((Double) get(bean)).doubleValue();
+    }
+
+    /**
+     * Gets the value of a {@code long} property for the specified bean.
+     * <p>
+     * This is equivalent to {@link #get(Bean)}, but avoids boxing where the implementation supports it.
+     * The default implementation unboxes the result of {@code get(Bean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code long}
+     * @throws NullPointerException if the value is null
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public default long getLong(Bean bean) {
+        return ((Long) get(bean)).longValue();
+    }
+
+    /**
+     * Gets the value of a {@code int} property for the specified bean.
+     * <p>
+     * This is equivalent to {@link #get(Bean)}, but avoids boxing where the implementation supports it.
+     * The default implementation unboxes the result of {@code get(Bean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code int}
+     * @throws NullPointerException if the value is null
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public default int getInt(Bean bean) {
+        return ((Integer) get(bean)).intValue();
+    }
+
+    /**
+     * Gets the value of a {@code boolean} property for the specified bean.
+     * <p>
+     * This is equivalent to {@link #get(Bean)}, but avoids boxing where the implementation supports it.
+     * The default implementation unboxes the result of {@code get(Bean)}.
+     * 
+     * @param bean  the bean to query, not null
+     * @return the value of the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code boolean}
+     * @throws NullPointerException if the value is null
+     * @throws UnsupportedOperationException if the property is write-only
+     */
+    public default boolean getBoolean(Bean bean) {
+        return ((Boolean) get(bean)).booleanValue();
+    }
+
+    /**
+     * Sets the value of a {@code double} property on the specified bean.
+     * <p>
+     * This is equivalent to {@link #set(Bean, Object)}, but avoids boxing where the implementation supports it.
+     * The default implementation boxes the value and calls {@code set(Bean, Object)}.
+     * 
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code double}
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     */
+    public default void setDouble(Bean bean, double value) {
+        set(bean, value);
+    }
+
+    /**
+     * Sets the value of a {@code long} property on the specified bean.
+     * <p>
+     * This is equivalent to {@link #set(Bean, Object)}, but avoids boxing where the implementation supports it.
+     * The default implementation boxes the value and calls {@code set(Bean, Object)}.
+     * 
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code long}
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     */
+    public default void setLong(Bean bean, long value) {
+        set(bean, value);
+    }
+
+    /**
+     * Sets the value of a {@code int} property on the specified bean.
+     * <p>
+     * This is equivalent to {@link #set(Bean, Object)}, but avoids boxing where the implementation supports it.
+     * The default implementation boxes the value and calls {@code set(Bean, Object)}.
+     * 
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code int}
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     */
+    public default void setInt(Bean bean, int value) {
+        set(bean, value);
+    }
+
+    /**
+     * Sets the value of a {@code boolean} property on the specified bean.
+     * <p>
+     * This is equivalent to {@link #set(Bean, Object)}, but avoids boxing where the implementation supports it.
+     * The default implementation boxes the value and calls {@code set(Bean, Object)}.
+     * 
+     * @param bean  the bean to update, not null
+     * @param value  the value to set into the property on the specified bean
+     * @throws ClassCastException if the bean is of an incorrect type
+     * @throws ClassCastException if the property is not of type {@code boolean}
+     * @throws UnsupportedOperationException if the property is read-only
+     * @throws RuntimeException if the value is rejected by the property (use appropriate subclasses)
+     */
+    public default void setBoolean(Bean bean, boolean value) {
+        set(bean, value);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if this meta-property equals another.
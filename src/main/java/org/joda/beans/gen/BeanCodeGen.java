@@ -26,6 +26,8 @@ import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 import org.joda.beans.JodaBeanUtils;
 
@@ -38,6 +40,11 @@ import org.joda.beans.JodaBeanUtils;
  */
 public class BeanCodeGen {
 
+    /**
+     * The maximum number of types added to the index by a single generated method.
+     */
+    private static final int INDEX_METHOD_SIZE = 1000;
+
     /**
      * Main method.
      * <p>
@@ -63,6 +70,8 @@ public class BeanCodeGen {
             System.out.println("    -style=[s]        default bean style: 'light'/'minimal'/'full', default smart");
             System.out.println("    -verbose=[v]      output logging with verbosity from 0 to 3, default 1");
             System.out.println("    -nowrite          output messages rather than writing, default is to write");
+            System.out.println("    -index=[c]        generate an index class of the beans, such as 'com.foo.BeanIndex',");
+            System.out.println("                      written to the source tree of the directory being processed");
             System.exit(0);
             throw new InternalError("Unreachable");
         }
@@ -96,6 +105,7 @@ public class BeanCodeGen {
         boolean recurse = false;
         int verbosity = 1;
         boolean write = true;
+        String indexClassName = null;
         File file = null;
         BeanGenConfig config = null;
         if (args.length == 0) {
@@ -131,12 +141,27 @@ public class BeanCodeGen {
                 verbosity = Integer.parseInt(arg.substring(3));
             } else if (arg.equals("-nowrite")) {
                 write = false;
+            } else if (arg.startsWith("-index=")) {
+                if (indexClassName != null) {
+                    throw new IllegalArgumentException("Argument 'index' must not be specified twice: " + Arrays.toString(args));
+                }
+                indexClassName = arg.substring(7);
+                if (indexClassName.matches("([a-z_$][a-zA-Z0-9_$]*\\.)+[A-Z][a-zA-Z0-9_$]*") == false) {
+                    throw new IllegalArgumentException("Argument 'index' must be a fully qualified class name: " + indexClassName);
+                }
             } else {
                 throw new IllegalArgumentException("Unknown argument: " + arg);
             }
         }
         file = new File(args[args.length - 1]);
         List<File> files = findFiles(file, recurse);
+        File indexFile = null;
+        if (indexClassName != null) {
+            if (file.isDirectory() == false) {
+                throw new IllegalArgumentException("Argument 'index' requires the file to be the root source directory: " + file);
+            }
+            indexFile = new File(file, indexClassName.replace('.', File.separatorChar) + ".java");
+        }
         
         if (config == null) {
             config = BeanGenConfig.parse("guava");
@@ -146,7 +171,7 @@ public class BeanCodeGen {
         if (defaultStyle != null) {
             config.setDefaultStyle(defaultStyle);
         }
-        return new BeanCodeGen(files, config, verbosity, write);
+        return new BeanCodeGen(files, config, verbosity, write, indexFile, indexClassName);
     }
 
     /**
@@ -190,6 +215,10 @@ public class BeanCodeGen {
     private final int verbosity;
     /** Whether to write or not. */
     private final boolean write;
+    /** The index file to generate, null if not generating an index. */
+    private final File indexFile;
+    /** The fully qualified class name of the index, null if not generating an index. */
+    private final String indexClassName;
 
     /**
      * Creates the generator for a single bean.
@@ -202,15 +231,44 @@ public class BeanCodeGen {
      * @param write  whether to write or not
      */
     public BeanCodeGen(List<File> files, BeanGenConfig config, int verbosity, boolean write) {
+        this(files, config, verbosity, write, null, null);
+    }
+
+    /**
+     * Creates the generator for a single bean, also generating an index of the beans.
+     * <p>
+     * The index is a class implementing {@code MetaBeanIndex} that lists the public beans.
+     * To generate, use {@link #process()}.
+     * 
+     * @param files  the files to process, not null
+     * @param config  the configuration to use, not null
+     * @param verbosity  the verbosity, from 0 to 3
+     * @param write  whether to write or not
+     * @param indexFile  the file to write the index to, null if not generating an index
+     * @param indexClassName  the fully qualified class name of the index, null if not generating an index
+     */
+    public BeanCodeGen(
+            List<File> files,
+            BeanGenConfig config,
+            int verbosity,
+            boolean write,
+            File indexFile,
+            String indexClassName) {
+        
         JodaBeanUtils.notNull(files, "files");
         JodaBeanUtils.notNull(config, "config");
         if (verbosity < 0 || verbosity > 3) {
             throw new IllegalArgumentException("Invalid verbosity: " + verbosity);
         }
+        if ((indexFile == null) != (indexClassName == null)) {
+            throw new IllegalArgumentException("Index file and class name must both be specified");
+        }
         this.files = files;
         this.config = config;
         this.verbosity = verbosity;
         this.write = write;
+        this.indexFile = indexFile;
+        this.indexClassName = indexClassName;
     }
 
     //-----------------------------------------------------------------------
@@ -223,11 +281,7 @@ public class BeanCodeGen {
      * @throws Exception if an error occurs
      */
     public int process() throws Exception {
-        int changed = 0;
-        for (File child : files) {
-            changed += (processFile(child) != null ? 1 : 0);
-        }
-        return changed;
+        return processFiles().size();
     }
 
     /**
@@ -240,12 +294,16 @@ public class BeanCodeGen {
      */
     public List<File> processFiles() throws Exception {
         List<File> changed = new ArrayList<>();
+        SortedSet<String> beanTypes = new TreeSet<>();
         for (File child : files) {
-            File file = processFile(child);
+            File file = processFile(child, beanTypes);
             if (file != null) {
                 changed.add(file);
             }
         }
+        if (indexFile != null && processIndex(beanTypes)) {
+            changed.add(indexFile);
+        }
         return changed;
     }
 
@@ -253,10 +311,11 @@ public class BeanCodeGen {
      * Processes the bean, generating the code.
      * 
      * @param file  the file to process, not null
+     * @param beanTypes  the set of public bean types to add to, not null
      * @return not-null if changed
      * @throws Exception if an error occurs
      */
-    private File processFile(File file) throws Exception {
+    private File processFile(File file, SortedSet<String> beanTypes) throws Exception {
         List<String> original = readFile(file);
         List<String> content = new ArrayList<>(original);
         BeanGen gen;
@@ -272,6 +331,9 @@ public class BeanCodeGen {
             if (verbosity >= 2) {
                 System.out.print(file + "  [processing]");
             }
+            if ("public".equals(gen.getData().getTypeScope())) {
+                beanTypes.add(beanTypeName(file, original, gen.getData().getTypeRaw()));
+            }
             gen.process();
             if (content.equals(original) == false) {
                 if (write) {
@@ -321,6 +383,113 @@ public class BeanCodeGen {
         return null;
     }
 
+    // the name of the bean type as used in source code
+    private static String beanTypeName(File file, List<String> content, String typeRaw) {
+        String fileType = file.getName().substring(0, file.getName().length() - 5);
+        String type = fileType.equals(typeRaw) ? typeRaw : fileType + "." + typeRaw;
+        for (String line : content) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith("package ") && trimmed.endsWith(";")) {
+                return trimmed.substring(8, trimmed.length() - 1).trim() + "." + type;
+            }
+        }
+        return type;
+    }
+
+    /**
+     * Processes the index, generating the code.
+     * 
+     * @param beanTypes  the bean types to include, not null
+     * @return true if changed
+     * @throws Exception if an error occurs
+     */
+    private boolean processIndex(SortedSet<String> beanTypes) throws Exception {
+        List<String> original = indexFile.exists() ? readFile(indexFile) : new ArrayList<>();
+        List<String> content = generateIndex(beanTypes);
+        if (content.equals(original)) {
+            if (verbosity >= 2) {
+                System.out.println(indexFile + "  [no change]");
+            }
+            return false;
+        }
+        if (write) {
+            if (verbosity >= 1) {
+                System.out.println(indexFile + "  [writing]");
+            }
+            File parent = indexFile.getParentFile();
+            if (parent != null && parent.exists() == false && parent.mkdirs() == false) {
+                throw new IllegalArgumentException("Unable to create directory: " + parent);
+            }
+            writeFile(indexFile, content);
+        } else {
+            if (verbosity >= 1) {
+                System.out.println(indexFile + "  [changed not written]");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Generates the source code of the index.
+     * <p>
+     * The types are added in methods of at most 1000 types to stay within the bytecode size limit.
+     * 
+     * @param beanTypes  the bean types to include, not null
+     * @return the lines of source code, not null
+     */
+    private List<String> generateIndex(SortedSet<String> beanTypes) {
+        String indent = config.getIndent();
+        String packageName = indexClassName.substring(0, indexClassName.lastIndexOf('.'));
+        String simpleName = indexClassName.substring(indexClassName.lastIndexOf('.') + 1);
+        List<String> types = new ArrayList<>(beanTypes);
+        int methodCount = Math.max((types.size() + INDEX_METHOD_SIZE - 1) / INDEX_METHOD_SIZE, 1);
+        List<String> content = new ArrayList<>();
+        content.add("package " + packageName + ";");
+        content.add("");
+        content.add("import java.util.ArrayList;");
+        content.add("import java.util.Collections;");
+        content.add("import java.util.List;");
+        content.add("");
+        content.add("import org.joda.beans.MetaBeanIndex;");
+        content.add("");
+        content.add("/**");
+        content.add(" * The index of beans in this source tree.");
+        content.add(" * <p>");
+        content.add(" * This class is generated by Joda-Beans {@code BeanCodeGen} and should not be edited.");
+        content.add(" * Register the index at startup using {@code MetaBeanIndex.register(new " + simpleName + "())}.");
+        content.add(" */");
+        content.add("public final class " + simpleName + " implements MetaBeanIndex {");
+        content.add("");
+        content.add(indent + "/**");
+        content.add(indent + " * The bean types.");
+        content.add(indent + " */");
+        content.add(indent + "private static final List<Class<?>> BEAN_TYPES;");
+        content.add(indent + "static {");
+        content.add(indent + indent + "List<Class<?>> types = new ArrayList<>(" + types.size() + ");");
+        for (int i = 0; i < methodCount; i++) {
+            content.add(indent + indent + "addTypes" + i + "(types);");
+        }
+        content.add(indent + indent + "BEAN_TYPES = Collections.unmodifiableList(types);");
+        content.add(indent + "}");
+        content.add("");
+        for (int i = 0; i < methodCount; i++) {
+            content.add(indent + "private static void addTypes" + i + "(List<Class<?>> types) {");
+            for (String type : types.subList(i * INDEX_METHOD_SIZE, Math.min((i + 1) * INDEX_METHOD_SIZE, types.size()))) {
+                content.add(indent + indent + "types.add(" + type + ".class);");
+            }
+            content.add(indent + "}");
+            content.add("");
+        }
+        content.add(indent + "//-----------------------------------------------------------------------");
+        content.add(indent + "@Override");
+        content.add(indent + "public List<Class<?>> beanTypes() {");
+        content.add(indent + indent + "return BEAN_TYPES;");
+        content.add(indent + "}");
+        content.add("");
+        content.add("}");
+        return content;
+    }
+
     //-----------------------------------------------------------------------
     private List<String> readFile(File file) throws Exception {
         List<String> content = new ArrayList<>(100);
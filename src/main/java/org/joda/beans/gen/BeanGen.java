@@ -30,6 +30,7 @@ import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -91,6 +92,9 @@ class BeanGen {
         PRIMITIVE_EQUALS.add("long");
         // not float or double, as Double.equals is not the same as double ==
     }
+    /** Primitive types with specialized accessors on the meta-bean, and the accessor suffix. */
+    private static final String[][] PRIMITIVE_ACCESSORS = {
+        {"double", "Double"}, {"long", "Long"}, {"int", "Int"}, {"boolean", "Boolean"}};
 
     /** The content to process. */
     private final File file;
@@ -1012,6 +1016,8 @@ class BeanGen {
         generateIndentedSeparator();
         generateMetaGetPropertyValue();
         generateMetaSetPropertyValue();
+        generateMetaGetPrimitiveValues();
+        generateMetaSetPrimitiveValues();
         generateMetaValidate();
         insertRegion.add("\t}");
         insertRegion.add("");
@@ -1185,6 +1191,55 @@ class BeanGen {
         insertRegion.add("");
     }
 
+    private void generateMetaGetPrimitiveValues() {
+        for (String[] primitive : PRIMITIVE_ACCESSORS) {
+            List<PropertyGen> matched = properties.stream()
+                    .filter(p -> p.getData().getType().equals(primitive[0]) && p.getData().getStyle().isReadable())
+                    .collect(Collectors.toList());
+            if (matched.isEmpty()) {
+                continue;
+            }
+            data.ensureImport(Bean.class);
+            insertRegion.add("\t\t@Override");
+            insertRegion.add("\t\tprotected " + primitive[0] + " propertyGet" + primitive[1] + "(Bean bean, String propertyName) {");
+            insertRegion.add("\t\t\tswitch (propertyName.hashCode()) {");
+            for (PropertyGen prop : matched) {
+                insertRegion.addAll(prop.generatePropertyGetCase());
+            }
+            insertRegion.add("\t\t\t}");
+            insertRegion.add("\t\t\treturn super.propertyGet" + primitive[1] + "(bean, propertyName);");
+            insertRegion.add("\t\t}");
+            insertRegion.add("");
+        }
+    }
+
+    private void generateMetaSetPrimitiveValues() {
+        if (data.isImmutable()) {
+            return;
+        }
+        for (String[] primitive : PRIMITIVE_ACCESSORS) {
+            List<PropertyGen> matched = properties.stream()
+                    .filter(p -> p.getData().getType().equals(primitive[0]) && p.getData().getStyle().isWritable() &&
+                            p.getData().getSetterGen().generateSetInvoke(p.getData(), "newValue") != null)
+                    .collect(Collectors.toList());
+            if (matched.isEmpty()) {
+                continue;
+            }
+            data.ensureImport(Bean.class);
+            insertRegion.add("\t\t@Override");
+            insertRegion.add("\t\tprotected void propertySet" + primitive[1] + "(Bean bean, String propertyName, " +
+                    primitive[0] + " newValue) {");
+            insertRegion.add("\t\t\tswitch (propertyName.hashCode()) {");
+            for (PropertyGen prop : matched) {
+                insertRegion.addAll(prop.generatePropertySetPrimitiveCase());
+            }
+            insertRegion.add("\t\t\t}");
+            insertRegion.add("\t\t\tsuper.propertySet" + primitive[1] + "(bean, propertyName, newValue);");
+            insertRegion.add("\t\t}");
+            insertRegion.add("");
+        }
+    }
+
     private void generateMetaValidate() {
         if (data.isValidated() == false || data.isImmutable()) {
             return;
@@ -1251,6 +1306,7 @@ class BeanGen {
         generateIndentedSeparator();
         generateBuilderGet();
         generateBuilderSet();
+        generateBuilderSetByOrdinal();
         generateBuilderOtherSets();
         if (data.isConstructable()) {
             generateBuilderBuild();
@@ -1361,6 +1417,53 @@ class BeanGen {
         insertRegion.add("");
     }
 
+    private void generateBuilderSetByOrdinal() {
+        List<PropertyGen> nonDerived = nonDerivedProperties();
+        boolean generics = data.getProperties().stream()
+                .filter(p -> p.isGeneric() && p.isGenericWildcardParamType() == false)
+                .findAny()
+                .isPresent();
+        if (generics) {
+            insertRegion.add("\t\t@SuppressWarnings(\"unchecked\")");
+        }
+        insertRegion.add("\t\t@Override");
+        insertRegion.add("\t\tpublic Builder" + data.getTypeGenericName(true) + " set(int ordinal, Object newValue) {");
+        if (nonDerived.size() > 0) {
+            // the ordinals of the superclass properties come first
+            if (data.isRootClass()) {
+                insertRegion.add("\t\t\tswitch (ordinal) {");
+            } else {
+                insertRegion.add("\t\t\tswitch (ordinal - (" + data.getTypeRaw() + ".Meta.INSTANCE.metaPropertyCount() - " +
+                        properties.size() + ")) {");
+            }
+            // minimal beans add the derived properties after the others
+            List<PropertyGen> ordered = data.isBeanStyleMinimal() ? nonDerived : properties;
+            for (int i = 0; i < ordered.size(); i++) {
+                if (ordered.get(i).getData().isDerived() == false) {
+                    insertRegion.addAll(ordered.get(i).generateBuilderFieldSetByOrdinal(i));
+                }
+            }
+            insertRegion.add("\t\t\t\tdefault:");
+            if (data.isRootClass()) {
+                data.ensureImport(NoSuchElementException.class);
+                insertRegion.add("\t\t\t\t\tthrow new NoSuchElementException(\"Unknown property ordinal: \" + ordinal);");
+            } else {
+                insertRegion.add("\t\t\t\t\tsuper.set(ordinal, newValue);");
+                insertRegion.add("\t\t\t\t\tbreak;");
+            }
+            insertRegion.add("\t\t\t}");
+            insertRegion.add("\t\t\treturn this;");
+        } else if (data.isRootClass()) {
+            data.ensureImport(NoSuchElementException.class);
+            insertRegion.add("\t\t\tthrow new NoSuchElementException(\"Unknown property ordinal: \" + ordinal);");
+        } else {
+            insertRegion.add("\t\t\tsuper.set(ordinal, newValue);");
+            insertRegion.add("\t\t\treturn this;");
+        }
+        insertRegion.add("\t\t}");
+        insertRegion.add("");
+    }
+
     private void generateBuilderOtherSets() {
         if (data.isEffectiveBuilderScopeVisible()) {
             insertRegion.add("\t\t@Override");
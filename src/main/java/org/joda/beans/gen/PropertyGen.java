@@ -174,6 +174,18 @@ class PropertyGen {
         return list;
     }
 
+    List<String> generatePropertySetPrimitiveCase() {
+        List<String> list = new ArrayList<>();
+        list.add("\t\t\t\tcase " + data.getPropertyName().hashCode() + ":  // " + data.getPropertyName());
+        if (data.getAlias() != null) {
+            list.add("\t\t\t\tcase " + data.getAlias().hashCode() + ":  // " + data.getAlias() + " (alias)");
+        }
+        String setter = data.getSetterGen().generateSetInvoke(data, "newValue");
+        list.add("\t\t\t\t\t((" + data.getBean().getTypeWildcard() + ") bean)." + setter + ";");
+        list.add("\t\t\t\t\treturn;");
+        return list;
+    }
+
     String generateLambdaGetter() {
         return "b -> b." + data.getGetterGen().generateGetInvoke(data);
     }
@@ -222,6 +234,14 @@ class PropertyGen {
         return list;
     }
 
+    List<String> generateBuilderFieldSetByOrdinal(int ordinal) {
+        List<String> list = new ArrayList<>();
+        list.add("\t\t\t\tcase " + ordinal + ":  // " + data.getPropertyName());
+        list.add("\t\t\t\t\tthis." + generateBuilderFieldName() + " = (" + propertyType(getBuilderType()) + ") newValue;");
+        list.add("\t\t\t\t\tbreak;");
+        return list;
+    }
+
     String generateBuilderFieldName() {
         return data.getFieldName();
     }
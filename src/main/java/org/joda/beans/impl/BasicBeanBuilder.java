@@ -81,6 +81,11 @@ public class BasicBeanBuilder<T extends Bean>
         return this;
     }
 
+    @Override
+    public BeanBuilder<T> set(int ordinal, Object value) {
+        return set(bean.metaBean().metaProperty(ordinal), value);
+    }
+
     @Override
     public T build() {
         validate(bean);
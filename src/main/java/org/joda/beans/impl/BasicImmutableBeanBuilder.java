@@ -67,6 +67,12 @@ public abstract class BasicImmutableBeanBuilder<T extends Bean>
         return this;
     }
 
+    @Override
+    public BeanBuilder<T> set(int ordinal, Object value) {
+        set(meta.metaProperty(ordinal).name(), value);
+        return this;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns a string that summarises the builder.
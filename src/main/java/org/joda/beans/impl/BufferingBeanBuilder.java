@@ -126,6 +126,11 @@ public class BufferingBeanBuilder<T extends Bean>
         return this;
     }
 
+    @Override
+    public BeanBuilder<T> set(int ordinal, Object value) {
+        return set(getMetaBean().metaProperty(ordinal), value);
+    }
+
     @Override
     public T build() {
         @SuppressWarnings("unchecked")
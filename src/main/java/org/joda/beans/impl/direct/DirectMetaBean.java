@@ -15,6 +15,7 @@
  */
 package org.joda.beans.impl.direct;
 
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 import org.joda.beans.Bean;
@@ -51,6 +52,16 @@ public abstract class DirectMetaBean implements MetaBean {
         return (MetaProperty<R>) mp;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <R> MetaProperty<R> metaProperty(int ordinal) {
+        Map<String, MetaProperty<?>> map = metaPropertyMap();
+        if (map instanceof DirectMetaPropertyMap) {
+            return (MetaProperty<R>) ((DirectMetaPropertyMap) map).getByOrdinal(ordinal);
+        }
+        return MetaBean.super.metaProperty(ordinal);
+    }
+
     @SuppressWarnings("unchecked")
     private <R> MetaProperty<R> metaPropertyNotFound(String propertyName) {
         if (propertyName == JodaBeanTests.TEST_COVERAGE_PROPERTY) {
@@ -107,6 +118,126 @@ public abstract class DirectMetaBean implements MetaBean {
         throw new NoSuchElementException("Unknown property: " + propertyName);
     }
 
+    /**
+     * Gets the value of a {@code double} property.
+     * <p>
+     * This implementation unboxes the result of {@link #propertyGet(Bean, String, boolean)}.
+     * Generated code overrides this to avoid boxing.
+     * 
+     * @param bean  the bean to query, not null
+     * @param propertyName  the property name, not null
+     * @return the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     */
+    protected double propertyGetDouble(Bean bean, String propertyName) {
+        return ((Double) propertyGet(bean, propertyName, false)).doubleValue();
+    }
+
+    /**
+     * Gets the value of a {@code long} property.
+     * <p>
+     * This implementation unboxes the result of {@link #propertyGet(Bean, String, boolean)}.
+     * Generated code overrides this to avoid boxing.
+     * 
+     * @param bean  the bean to query, not null
+     * @param propertyName  the property name, not null
+     * @return the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     */
+    protected long propertyGetLong(Bean bean, String propertyName) {
+        return ((Long) propertyGet(bean, propertyName, false)).longValue();
+    }
+
+    /**
+     * Gets the value of a {@code int} property.
+     * <p>
+     * This implementation unboxes the result of {@link #propertyGet(Bean, String, boolean)}.
+     * Generated code overrides this to avoid boxing.
+     * 
+     * @param bean  the bean to query, not null
+     * @param propertyName  the property name, not null
+     * @return the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     */
+    protected int propertyGetInt(Bean bean, String propertyName) {
+        return ((Integer) propertyGet(bean, propertyName, false)).intValue();
+    }
+
+    /**
+     * Gets the value of a {@code boolean} property.
+     * <p>
+     * This implementation unboxes the result of {@link #propertyGet(Bean, String, boolean)}.
+     * Generated code overrides this to avoid boxing.
+     * 
+     * @param bean  the bean to query, not null
+     * @param propertyName  the property name, not null
+     * @return the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     */
+    protected boolean propertyGetBoolean(Bean bean, String propertyName) {
+        return ((Boolean) propertyGet(bean, propertyName, false)).booleanValue();
+    }
+
+    /**
+     * Sets the value of a {@code double} property.
+     * <p>
+     * This implementation boxes the value and calls {@link #propertySet(Bean, String, Object, boolean)}.
+     * Generated code overrides this to avoid boxing.
+     * 
+     * @param bean  the bean to update, not null
+     * @param propertyName  the property name, not null
+     * @param value  the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     */
+    protected void propertySetDouble(Bean bean, String propertyName, double value) {
+        propertySet(bean, propertyName, value, false);
+    }
+
+    /**
+     * Sets the value of a {@code long} property.
+     * <p>
+     * This implementation boxes the value and calls {@link #propertySet(Bean, String, Object, boolean)}.
+     * Generated code overrides this to avoid boxing.
+     * 
+     * @param bean  the bean to update, not null
+     * @param propertyName  the property name, not null
+     * @param value  the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     */
+    protected void propertySetLong(Bean bean, String propertyName, long value) {
+        propertySet(bean, propertyName, value, false);
+    }
+
+    /**
+     * Sets the value of a {@code int} property.
+     * <p>
+     * This implementation boxes the value and calls {@link #propertySet(Bean, String, Object, boolean)}.
+     * Generated code overrides this to avoid boxing.
+     * 
+     * @param bean  the bean to update, not null
+     * @param propertyName  the property name, not null
+     * @param value  the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     */
+    protected void propertySetInt(Bean bean, String propertyName, int value) {
+        propertySet(bean, propertyName, value, false);
+    }
+
+    /**
+     * Sets the value of a {@code boolean} property.
+     * <p>
+     * This implementation boxes the value and calls {@link #propertySet(Bean, String, Object, boolean)}.
+     * Generated code overrides this to avoid boxing.
+     * 
+     * @param bean  the bean to update, not null
+     * @param propertyName  the property name, not null
+     * @param value  the value of the property
+     * @throws NoSuchElementException if the property name is invalid
+     */
+    protected void propertySetBoolean(Bean bean, String propertyName, boolean value) {
+        propertySet(bean, propertyName, value, false);
+    }
+
     /**
      * Validates the values of the properties.
      * 
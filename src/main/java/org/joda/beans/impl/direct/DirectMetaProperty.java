@@ -48,6 +48,8 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
     private final Field field;
     /** The style. */
     private final PropertyStyle style;
+    /** The ordinal, set when added to the meta-property map. */
+    private int ordinal = -1;
 
     /**
      * Factory to create a read-write meta-property avoiding duplicate generics.
@@ -245,6 +247,24 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
         return Arrays.asList(field.getDeclaredAnnotations());
     }
 
+    @Override
+    public int ordinal() {
+        return ordinal;
+    }
+
+    /**
+     * Initializes the ordinal, called when the property is added to the meta-property map.
+     * <p>
+     * The ordinal is only set once, as the properties of a superclass are shared with subclasses.
+     * 
+     * @param ordinal  the ordinal
+     */
+    void initOrdinal(int ordinal) {
+        if (this.ordinal < 0) {
+            this.ordinal = ordinal;
+        }
+    }
+
     //-----------------------------------------------------------------------
     @SuppressWarnings("unchecked")
     @Override
@@ -259,4 +279,52 @@ public final class DirectMetaProperty<P> extends BasicMetaProperty<P> {
         meta.propertySet(bean, name(), value, false);
     }
 
+    @Override
+    public double getDouble(Bean bean) {
+        DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
+        return meta.propertyGetDouble(bean, name());
+    }
+
+    @Override
+    public long getLong(Bean bean) {
+        DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
+        return meta.propertyGetLong(bean, name());
+    }
+
+    @Override
+    public int getInt(Bean bean) {
+        DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
+        return meta.propertyGetInt(bean, name());
+    }
+
+    @Override
+    public boolean getBoolean(Bean bean) {
+        DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
+        return meta.propertyGetBoolean(bean, name());
+    }
+
+    @Override
+    public void setDouble(Bean bean, double value) {
+        DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
+        meta.propertySetDouble(bean, name(), value);
+    }
+
+    @Override
+    public void setLong(Bean bean, long value) {
+        DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
+        meta.propertySetLong(bean, name(), value);
+    }
+
+    @Override
+    public void setInt(Bean bean, int value) {
+        DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
+        meta.propertySetInt(bean, name(), value);
+    }
+
+    @Override
+    public void setBoolean(Bean bean, boolean value) {
+        DirectMetaBean meta = (DirectMetaBean) bean.metaBean();
+        meta.propertySetBoolean(bean, name(), value);
+    }
+
 }
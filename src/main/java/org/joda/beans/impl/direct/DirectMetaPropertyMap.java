@@ -71,7 +71,11 @@ public final class DirectMetaPropertyMap implements Map<String, MetaProperty<?>>
             metaProperties = new Entry[propertyNames.length];
         }
         for (int i = 0; i < propertyNames.length; i++) {
-            metaProperties[i + parentSize] = new AbstractMap.SimpleImmutableEntry(propertyNames[i], metaBean.metaPropertyGet(propertyNames[i]));
+            MetaProperty<?> metaProperty = metaBean.metaPropertyGet(propertyNames[i]);
+            if (metaProperty instanceof DirectMetaProperty) {
+                ((DirectMetaProperty<?>) metaProperty).initOrdinal(i + parentSize);
+            }
+            metaProperties[i + parentSize] = new AbstractMap.SimpleImmutableEntry(propertyNames[i], metaProperty);
         }
         keys = new Keys(metaProperties);
         values = new Values(metaProperties);
@@ -110,6 +114,21 @@ public final class DirectMetaPropertyMap implements Map<String, MetaProperty<?>>
                 metaBean.metaPropertyGet(((MetaProperty<?>) value).name()) != null;
     }
 
+    /**
+     * Gets a meta-property by ordinal.
+     * 
+     * @param ordinal  the ordinal of the property, from zero
+     * @return the meta-property, not null
+     * @throws IndexOutOfBoundsException if the ordinal is invalid
+     */
+    MetaProperty<?> getByOrdinal(int ordinal) {
+        Entry<String, MetaProperty<?>>[] metaProperties = ((Entries) entries).metaProperties;
+        if (ordinal < 0 || ordinal >= metaProperties.length) {
+            throw new IndexOutOfBoundsException("Invalid property ordinal: " + ordinal);
+        }
+        return metaProperties[ordinal].getValue();
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public MetaProperty<?> put(String key, MetaProperty<?> value) {
@@ -50,6 +50,8 @@ public final class MinimalMetaBean<T extends Bean> implements TypedMetaBean<T> {
     private final Supplier<BeanBuilder<T>> builderSupplier;
     /** The meta-property instances of the bean. */
     private final Map<String, MetaProperty<?>> metaPropertyMap;
+    /** The meta-property instances of the bean, in ordinal order. */
+    private final MetaProperty<?>[] metaProperties;
 
     /**
      * Obtains an instance of the meta-bean for immutable beans.
@@ -215,7 +217,7 @@ public final class MinimalMetaBean<T extends Bean> implements TypedMetaBean<T> {
                 throw new IllegalArgumentException("Field must have PropertyDefinition annotation");
             }
             map.put(fieldName, new MinimalMetaProperty<>(
-                    this, fieldName, field, getters.get(i), setters != null ? setters.get(i) : null));
+                    this, fieldName, field, getters.get(i), setters != null ? setters.get(i) : null, i));
         }
         // derived
         Method[] methods = beanType.getDeclaredMethods();
@@ -229,11 +231,12 @@ public final class MinimalMetaBean<T extends Bean> implements TypedMetaBean<T> {
                     method.getParameterTypes().length == 0) {
                 String methodName = method.getName();
                 String propertyName = Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
-                MetaProperty<Object> mp = new MinimalMetaProperty<>(this, method, propertyName);
+                MetaProperty<Object> mp = new MinimalMetaProperty<>(this, method, propertyName, map.size());
                 map.put(propertyName, mp);
             }
         }
         this.metaPropertyMap = Collections.unmodifiableMap(map);
+        this.metaProperties = map.values().toArray(new MetaProperty<?>[map.size()]);
     }
 
     // determine the field names by reflection
@@ -271,6 +274,15 @@ public final class MinimalMetaBean<T extends Bean> implements TypedMetaBean<T> {
         return metaPropertyMap;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> MetaProperty<R> metaProperty(int ordinal) {
+        if (ordinal < 0 || ordinal >= metaProperties.length) {
+            throw new IndexOutOfBoundsException("Invalid property ordinal: " + ordinal);
+        }
+        return (MetaProperty<R>) metaProperties[ordinal];
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean equals(Object obj) {
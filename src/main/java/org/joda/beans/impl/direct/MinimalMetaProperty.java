@@ -52,6 +52,8 @@ final class MinimalMetaProperty<P> extends BasicMetaProperty<P> {
     private final BiConsumer<Bean, Object> setter;
     /** The property style. */
     private final PropertyStyle style;
+    /** The ordinal of the property in the meta-bean. */
+    private final int ordinal;
 
     //-----------------------------------------------------------------------
     /**
@@ -62,6 +64,7 @@ final class MinimalMetaProperty<P> extends BasicMetaProperty<P> {
      * @param field  the field, not null
      * @param getter  the property getter, not null
      * @param setter  the property setter, null if read only
+     * @param ordinal  the ordinal of the property in the meta-bean
      */
     @SuppressWarnings("unchecked")
     MinimalMetaProperty(
@@ -69,7 +72,8 @@ final class MinimalMetaProperty<P> extends BasicMetaProperty<P> {
             String propertyName,
             Field field,
             Function<? extends Bean, Object> getter,
-            BiConsumer<? extends Bean, Object> setter) {
+            BiConsumer<? extends Bean, Object> setter,
+            int ordinal) {
         
         super(propertyName);
         this.metaBean = metaBean;
@@ -83,6 +87,7 @@ final class MinimalMetaProperty<P> extends BasicMetaProperty<P> {
         } else {
             this.style = setter != null ? PropertyStyle.READ_WRITE : PropertyStyle.READ_ONLY;
         }
+        this.ordinal = ordinal;
     }
 
     /**
@@ -91,12 +96,14 @@ final class MinimalMetaProperty<P> extends BasicMetaProperty<P> {
      * @param metaBean  the meta bean, not null
      * @param method  the method, not null
      * @param propertyName  the property name, not empty
+     * @param ordinal  the ordinal of the property in the meta-bean
      */
     @SuppressWarnings("unchecked")
     MinimalMetaProperty(
             MetaBean metaBean,
             Method method,
-            String propertyName) {
+            String propertyName,
+            int ordinal) {
         
         super(propertyName);
         this.metaBean = metaBean;
@@ -114,6 +121,7 @@ final class MinimalMetaProperty<P> extends BasicMetaProperty<P> {
         };
         this.setter = null;
         this.style = PropertyStyle.DERIVED;
+        this.ordinal = ordinal;
     }
 
     //-----------------------------------------------------------------------
@@ -147,6 +155,11 @@ final class MinimalMetaProperty<P> extends BasicMetaProperty<P> {
         return annotations;
     }
 
+    @Override
+    public int ordinal() {
+        return ordinal;
+    }
+
     //-----------------------------------------------------------------------
     @Override
     @SuppressWarnings("unchecked")
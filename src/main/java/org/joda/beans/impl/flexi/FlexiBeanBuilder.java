@@ -67,6 +67,12 @@ class FlexiBeanBuilder implements BeanBuilder<FlexiBean> {
         return this;
     }
 
+    @Override
+    public FlexiBeanBuilder set(int ordinal, Object value) {
+        bean.put(bean.metaBean().metaProperty(ordinal).name(), value);
+        return this;
+    }
+
     @Override
     public FlexiBean build() {
         return bean;
@@ -70,6 +70,11 @@ class LightBeanBuilder<B extends Bean>
         return this;
     }
 
+    @Override
+    public BeanBuilder<B> set(int ordinal, Object value) {
+        return set(metaBean.metaProperty(ordinal), value);
+    }
+
     @SuppressWarnings("deprecation")
     private int index(MetaProperty<?> metaProperty) {
         if (metaProperty instanceof LightMetaProperty) {
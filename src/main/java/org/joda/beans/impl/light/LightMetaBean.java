@@ -65,6 +65,8 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
     private final Class<T> beanType;
     /** The meta-property instances of the bean. */
     private final Map<String, MetaProperty<?>> metaPropertyMap;
+    /** The meta-property instances of the bean, in ordinal order. */
+    private final MetaProperty<?>[] metaProperties;
     /** The constructor to use. */
     private final Function<Object[], T> constructorFn;
     /** The construction data array. */
@@ -176,6 +178,7 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
         }
 
         this.metaPropertyMap = Collections.unmodifiableMap(map);
+        this.metaProperties = map.values().toArray(new MetaProperty<?>[map.size()]);
         Constructor<T> construct = findConstructor(beanType, propertyTypes);
         construct.setAccessible(true);
         this.constructionData = buildConstructionData(construct);
@@ -388,11 +391,12 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
                     method.getParameterTypes().length == 0) {
                 String methodName = method.getName();
                 String propertyName = Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
-                MetaProperty<Object> mp = LightMetaProperty.of(this, method, lookup, propertyName, -1);
+                MetaProperty<Object> mp = LightMetaProperty.of(this, method, lookup, propertyName, map.size());
                 map.put(propertyName, mp);
             }
         }
         this.metaPropertyMap = Collections.unmodifiableMap(map);
+        this.metaProperties = map.values().toArray(new MetaProperty<?>[map.size()]);
         this.constructionData = defaultValues;
         MethodHandle handle = findConstructorHandle(beanType, lookup, constructor);
         this.constructorFn = args -> build(handle, args);
@@ -561,6 +565,15 @@ public final class LightMetaBean<T extends Bean> implements TypedMetaBean<T> {
         return metaPropertyMap;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> MetaProperty<R> metaProperty(int ordinal) {
+        if (ordinal < 0 || ordinal >= metaProperties.length) {
+            throw new IndexOutOfBoundsException("Invalid property ordinal: " + ordinal);
+        }
+        return (MetaProperty<R>) metaProperties[ordinal];
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean equals(Object obj) {
@@ -16,7 +16,10 @@
 package org.joda.beans.impl.light;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleInfo;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
@@ -25,6 +28,15 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import org.joda.beans.Bean;
 import org.joda.beans.ImmutableBean;
@@ -52,8 +64,32 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
     private final MethodHandle getter;
     /** The optional write method. */
     private final MethodHandle setter;
+    /** The read method returning the primitive type, null if the property is not primitive. */
+    private final MethodHandle primitiveGetter;
+    /** The write method taking the primitive type, null if the property is not primitive or read-only. */
+    private final MethodHandle primitiveSetter;
+    /** The generated read function, null if it could not be generated. */
+    private final Function<Bean, P> getterFunction;
+    /** The generated write function, null if read-only or it could not be generated. */
+    private final BiConsumer<Bean, Object> setterFunction;
+    /** The generated read function for a {@code double} property, null if not generated. */
+    private final ToDoubleFunction<Bean> doubleGetterFunction;
+    /** The generated write function for a {@code double} property, null if not generated. */
+    private final ObjDoubleConsumer<Bean> doubleSetterFunction;
+    /** The generated read function for a {@code long} property, null if not generated. */
+    private final ToLongFunction<Bean> longGetterFunction;
+    /** The generated write function for a {@code long} property, null if not generated. */
+    private final ObjLongConsumer<Bean> longSetterFunction;
+    /** The generated read function for an {@code int} property, null if not generated. */
+    private final ToIntFunction<Bean> intGetterFunction;
+    /** The generated write function for an {@code int} property, null if not generated. */
+    private final ObjIntConsumer<Bean> intSetterFunction;
+    /** The generated read function for a {@code boolean} property, null if not generated. */
+    private final Predicate<Bean> booleanGetterFunction;
     /** The index of the property in the constructor. */
     private final int constructorIndex;
+    /** The ordinal of the property in the meta-bean. */
+    private final int ordinal;
     /** The property style. */
     private final PropertyStyle style;
 
@@ -103,9 +139,11 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
                 (Class<P>) field.getType(), 
                 field.getGenericType(), 
                 Arrays.asList(field.getAnnotations()), 
+                lookup,
                 getter,
                 setter,
                 constructorIndex,
+                constructorIndex,
                 calculateStyle(metaBean, setter));
     }
 
@@ -159,9 +197,11 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
                 (Class<P>) field.getType(), 
                 field.getGenericType(), 
                 Arrays.asList(field.getAnnotations()), 
+                lookup,
                 getter,
                 setter,
                 constructorIndex,
+                constructorIndex,
                 calculateStyle(metaBean, setter));
     }
 
@@ -178,7 +218,7 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
      * @param <P>  the property type
      * @param metaBean  the meta bean, not null
      * @param getMethod  the get method, not null
-     * @param constructorIndex  the index of the property
+     * @param ordinal  the ordinal of the property in the meta-bean
      * @return the property, not null
      */
     @SuppressWarnings("unchecked")
@@ -187,7 +227,7 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
             final Method getMethod,
             MethodHandles.Lookup lookup,
             final String propertyName,
-            int constructorIndex) {
+            int ordinal) {
         
         MethodHandle getter;
         try {
@@ -203,9 +243,11 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
                 (Class<P>) getMethod.getReturnType(), 
                 getMethod.getGenericReturnType(), 
                 Arrays.asList(getMethod.getAnnotations()), 
+                lookup,
                 getter,
                 null,
-                constructorIndex,
+                -1,
+                ordinal,
                 PropertyStyle.DERIVED);
     }
 
@@ -217,9 +259,12 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
      * @param propertyType  the property type
      * @param propertyGenericType  the property generic type
      * @param annotations  the annotations
+     * @param lookup  the method handle lookup, not null
      * @param getter  the property getter
      * @param setter  the property setter
-     * @param constructorIndex  the index of the property in the constructor
+     * @param constructorIndex  the index of the property in the constructor, negative if derived
+     * @param ordinal  the ordinal of the property in the meta-bean
+     * @param style  the property style
      */
     LightMetaProperty(
             MetaBean metaBean, 
@@ -227,9 +272,11 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
             Class<P> propertyType,
             Type propertyGenericType,
             List<Annotation> annotations,
+            MethodHandles.Lookup lookup,
             MethodHandle getter,
             MethodHandle setter,
             int constructorIndex,
+            int ordinal,
             PropertyStyle style) {
         
         super(propertyName);
@@ -239,10 +286,112 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
         this.annotations = annotations;
         this.getter = getter.asType(MethodType.methodType(Object.class, Bean.class));
         this.setter = setter != null ? setter.asType(MethodType.methodType(void.class, Bean.class, Object.class)) : null;
+        if (propertyType.isPrimitive()) {
+            this.primitiveGetter = getter.asType(MethodType.methodType(propertyType, Bean.class));
+            this.primitiveSetter = setter != null ?
+                    setter.asType(MethodType.methodType(void.class, Bean.class, propertyType)) : null;
+        } else {
+            this.primitiveGetter = null;
+            this.primitiveSetter = null;
+        }
+        this.getterFunction = spin(lookup, getter, Function.class, "apply", Object.class, Object.class);
+        this.setterFunction = setter != null ?
+                spin(lookup, setter, BiConsumer.class, "accept", void.class, Object.class, Object.class) : null;
+        this.doubleGetterFunction = propertyType == double.class ?
+                spin(lookup, getter, ToDoubleFunction.class, "applyAsDouble", double.class, Object.class) : null;
+        this.doubleSetterFunction = propertyType == double.class && setter != null ?
+                spin(lookup, setter, ObjDoubleConsumer.class, "accept", void.class, Object.class, double.class) : null;
+        this.longGetterFunction = propertyType == long.class ?
+                spin(lookup, getter, ToLongFunction.class, "applyAsLong", long.class, Object.class) : null;
+        this.longSetterFunction = propertyType == long.class && setter != null ?
+                spin(lookup, setter, ObjLongConsumer.class, "accept", void.class, Object.class, long.class) : null;
+        this.intGetterFunction = propertyType == int.class ?
+                spin(lookup, getter, ToIntFunction.class, "applyAsInt", int.class, Object.class) : null;
+        this.intSetterFunction = propertyType == int.class && setter != null ?
+                spin(lookup, setter, ObjIntConsumer.class, "accept", void.class, Object.class, int.class) : null;
+        // there is no functional interface taking an object and a boolean, so the boxed write function is used
+        this.booleanGetterFunction = propertyType == boolean.class ?
+                spin(lookup, getter, Predicate.class, "test", boolean.class, Object.class) : null;
         this.constructorIndex = constructorIndex;
+        this.ordinal = ordinal;
         this.style = style;
     }
 
+    /**
+     * Generates an implementation of a functional interface that calls the method handle.
+     * <p>
+     * The implementation is a class generated by {@link LambdaMetafactory} that invokes the
+     * underlying method directly, which the JIT compiler can inline, unlike a call to a
+     * method handle held in a field.
+     * This only works when the handle refers to a method and the lookup has private access.
+     * Handles that refer to fields are not supported.
+     * 
+     * @param <F>  the type of the functional interface
+     * @param lookup  the method handle lookup, not null
+     * @param handle  the direct method handle, not null
+     * @param interfaceType  the functional interface, not null
+     * @param methodName  the name of the method of the functional interface, not null
+     * @param returnType  the erased return type of the method of the functional interface, not null
+     * @param parameterTypes  the erased parameter types of the method of the functional interface, not null
+     * @return the implementation, null if it could not be generated
+     */
+    @SuppressWarnings("unchecked")
+    private static <F> F spin(
+            MethodHandles.Lookup lookup,
+            MethodHandle handle,
+            Class<?> interfaceType,
+            String methodName,
+            Class<?> returnType,
+            Class<?>... parameterTypes) {
+        
+        try {
+            MethodHandleInfo info = lookup.revealDirect(handle);
+            if (info.getReferenceKind() != MethodHandleInfo.REF_invokeVirtual &&
+                    info.getReferenceKind() != MethodHandleInfo.REF_invokeInterface) {
+                return null;
+            }
+            // protected and package-scoped methods of other classes are not reliably accessible
+            if (info.getDeclaringClass() != lookup.lookupClass() &&
+                    (Modifier.isPublic(info.getModifiers()) == false ||
+                        Modifier.isPublic(info.getDeclaringClass().getModifiers()) == false)) {
+                return null;
+            }
+            for (Class<?> type : handle.type().parameterList()) {
+                if (isAccessible(type, lookup.lookupClass()) == false) {
+                    return null;
+                }
+            }
+            MethodType interfaceMethodType = MethodType.methodType(returnType, parameterTypes);
+            MethodType instantiatedType = handle.type().wrap().changeReturnType(
+                    returnType.isPrimitive() ? returnType : handle.type().wrap().returnType());
+            for (int i = 1; i < parameterTypes.length; i++) {
+                if (parameterTypes[i].isPrimitive()) {
+                    instantiatedType = instantiatedType.changeParameterType(i, parameterTypes[i]);
+                }
+            }
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup, methodName, MethodType.methodType(interfaceType), interfaceMethodType, handle, instantiatedType);
+            return (F) site.getTarget().invoke();
+        } catch (Throwable ex) {
+            // not a direct handle or the lookup does not have the necessary access, use the method handle instead
+            return null;
+        }
+    }
+
+    // checks if the generated class, which is in the package of the lookup class, can cast to the type
+    private static boolean isAccessible(Class<?> type, Class<?> lookupClass) {
+        Class<?> baseType = type;
+        while (baseType.isArray()) {
+            baseType = baseType.getComponentType();
+        }
+        if (baseType.isPrimitive() || Modifier.isPublic(baseType.getModifiers())) {
+            return true;
+        }
+        String packageName = baseType.getName().substring(0, Math.max(baseType.getName().lastIndexOf('.'), 0));
+        String lookupPackageName = lookupClass.getName().substring(0, Math.max(lookupClass.getName().lastIndexOf('.'), 0));
+        return baseType.getClassLoader() == lookupClass.getClassLoader() && packageName.equals(lookupPackageName);
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public MetaBean metaBean() {
@@ -274,10 +423,18 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
         return annotations;
     }
 
+    @Override
+    public int ordinal() {
+        return ordinal;
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public P get(Bean bean) {
         try {
+            if (getterFunction != null) {
+                return getterFunction.apply(bean);
+            }
             return (P) getter.invokeExact(bean);
         } catch (RuntimeException | Error ex) {
             throw ex;
@@ -292,6 +449,10 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
             throw new UnsupportedOperationException("Property cannot be written: " + name());
         }
         try {
+            if (setterFunction != null) {
+                setterFunction.accept(bean, value);
+                return;
+            }
             setter.invokeExact(bean, value);
         } catch (RuntimeException | Error ex) {
             throw ex;
@@ -300,6 +461,163 @@ final class LightMetaProperty<P> extends BasicMetaProperty<P> {
         }
     }
 
+    @Override
+    public double getDouble(Bean bean) {
+        if (propertyType != double.class) {
+            return super.getDouble(bean);
+        }
+        try {
+            if (doubleGetterFunction != null) {
+                return doubleGetterFunction.applyAsDouble(bean);
+            }
+            return (double) primitiveGetter.invokeExact(bean);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public long getLong(Bean bean) {
+        if (propertyType != long.class) {
+            return super.getLong(bean);
+        }
+        try {
+            if (longGetterFunction != null) {
+                return longGetterFunction.applyAsLong(bean);
+            }
+            return (long) primitiveGetter.invokeExact(bean);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public int getInt(Bean bean) {
+        if (propertyType != int.class) {
+            return super.getInt(bean);
+        }
+        try {
+            if (intGetterFunction != null) {
+                return intGetterFunction.applyAsInt(bean);
+            }
+            return (int) primitiveGetter.invokeExact(bean);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Bean bean) {
+        if (propertyType != boolean.class) {
+            return super.getBoolean(bean);
+        }
+        try {
+            if (booleanGetterFunction != null) {
+                return booleanGetterFunction.test(bean);
+            }
+            return (boolean) primitiveGetter.invokeExact(bean);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void setDouble(Bean bean, double value) {
+        if (propertyType != double.class) {
+            super.setDouble(bean, value);
+            return;
+        }
+        if (primitiveSetter == null) {
+            throw new UnsupportedOperationException("Property cannot be written: " + name());
+        }
+        try {
+            if (doubleSetterFunction != null) {
+                doubleSetterFunction.accept(bean, value);
+                return;
+            }
+            primitiveSetter.invokeExact(bean, value);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void setLong(Bean bean, long value) {
+        if (propertyType != long.class) {
+            super.setLong(bean, value);
+            return;
+        }
+        if (primitiveSetter == null) {
+            throw new UnsupportedOperationException("Property cannot be written: " + name());
+        }
+        try {
+            if (longSetterFunction != null) {
+                longSetterFunction.accept(bean, value);
+                return;
+            }
+            primitiveSetter.invokeExact(bean, value);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void setInt(Bean bean, int value) {
+        if (propertyType != int.class) {
+            super.setInt(bean, value);
+            return;
+        }
+        if (primitiveSetter == null) {
+            throw new UnsupportedOperationException("Property cannot be written: " + name());
+        }
+        try {
+            if (intSetterFunction != null) {
+                intSetterFunction.accept(bean, value);
+                return;
+            }
+            primitiveSetter.invokeExact(bean, value);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void setBoolean(Bean bean, boolean value) {
+        if (propertyType != boolean.class) {
+            super.setBoolean(bean, value);
+            return;
+        }
+        if (primitiveSetter == null) {
+            throw new UnsupportedOperationException("Property cannot be written: " + name());
+        }
+        try {
+            if (setterFunction != null) {
+                // the boxed values of boolean are cached, so this does not allocate
+                setterFunction.accept(bean, Boolean.valueOf(value));
+                return;
+            }
+            primitiveSetter.invokeExact(bean, value);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
     int getConstructorIndex() {
         return constructorIndex;
     }
@@ -67,6 +67,12 @@ class MapBeanBuilder implements BeanBuilder<MapBean> {
         return this;
     }
 
+    @Override
+    public MapBeanBuilder set(int ordinal, Object value) {
+        bean.put(bean.metaBean().metaProperty(ordinal).name(), value);
+        return this;
+    }
+
     @Override
     public MapBean build() {
         return bean;
@@ -44,6 +44,8 @@ public final class ReflectiveMetaBean<T extends Bean> implements TypedMetaBean<T
     private final Class<T> beanType;
     /** The meta-property instances of the bean. */
     private final Map<String, MetaProperty<?>> metaPropertyMap;
+    /** The meta-property instances of the bean, in ordinal order. */
+    private final MetaProperty<?>[] metaProperties;
 
     /**
      * Create a meta-bean and meta properties.
@@ -78,6 +80,10 @@ public final class ReflectiveMetaBean<T extends Bean> implements TypedMetaBean<T
             map.put(name, new ReflectiveMetaProperty<>(this, beanType, name));
         }
         this.metaPropertyMap = Collections.unmodifiableMap(map);
+        this.metaProperties = map.values().toArray(new MetaProperty<?>[map.size()]);
+        for (int i = 0; i < metaProperties.length; i++) {
+            ((ReflectiveMetaProperty<?>) metaProperties[i]).initOrdinal(i);
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -113,6 +119,15 @@ public final class ReflectiveMetaBean<T extends Bean> implements TypedMetaBean<T
         return metaPropertyMap;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> MetaProperty<R> metaProperty(int ordinal) {
+        if (ordinal < 0 || ordinal >= metaProperties.length) {
+            throw new IndexOutOfBoundsException("Invalid property ordinal: " + ordinal);
+        }
+        return (MetaProperty<R>) metaProperties[ordinal];
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean equals(Object obj) {
@@ -16,13 +16,21 @@
 package org.joda.beans.impl.reflection;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import org.joda.beans.Bean;
 import org.joda.beans.ImmutableBean;
@@ -46,6 +54,8 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
 
     /** The meta-bean. */
     private volatile MetaBean metaBean;
+    /** The ordinal, set by the meta-bean. */
+    private int ordinal = -1;
     /** The declaring type. */
     private final Class<?> declaringType;
     /** The type of the property. */
@@ -54,6 +64,12 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
     private final Method getMethod;
     /** The setter. */
     private final Method setMethod;
+    /** The generated getter function, null if it could not be generated. */
+    private final Function<Bean, Object> getter;
+    /** The generated setter function, null if it could not be generated. */
+    private final BiConsumer<Bean, Object> setter;
+    /** The type of value accepted by the setter, with primitives boxed. */
+    private final Class<?> setterValueType;
 
     /**
      * Constructor using {@code PropertyDescriptor} to find the get and set methods.
@@ -88,6 +104,82 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         this.propertyType = (Class<P>) getMethod.getReturnType();
         this.getMethod = getMethod;
         this.setMethod = setMethod;
+        this.getter = spin(getMethod, Function.class, "apply", Object.class, Object.class);
+        this.setter = setMethod != null ? spin(setMethod, BiConsumer.class, "accept", void.class, Object.class, Object.class) : null;
+        this.setterValueType = setMethod != null ? MethodType.methodType(setMethod.getParameterTypes()[0]).wrap().returnType() : null;
+    }
+
+    /**
+     * Generates an implementation of a functional interface that calls the method.
+     * <p>
+     * The implementation is a class generated by {@link LambdaMetafactory} that invokes the
+     * method directly, avoiding the overhead of {@link Method#invoke(Object, Object...)}.
+     * This only works for public methods of public classes where the generated class,
+     * which is defined alongside this class, can see all the types involved.
+     * 
+     * @param <F>  the type of the functional interface
+     * @param method  the method to call, not null
+     * @param interfaceType  the functional interface, not null
+     * @param methodName  the name of the method of the functional interface, not null
+     * @param returnType  the erased return type of the method of the functional interface, not null
+     * @param parameterTypes  the erased parameter types of the method of the functional interface, not null
+     * @return the implementation, null if it could not be generated
+     */
+    @SuppressWarnings("unchecked")
+    private static <F> F spin(
+            Method method,
+            Class<?> interfaceType,
+            String methodName,
+            Class<?> returnType,
+            Class<?>... parameterTypes) {
+        
+        if (Modifier.isPublic(method.getModifiers()) == false || isAccessible(method.getDeclaringClass()) == false ||
+                isAccessible(method.getReturnType()) == false) {
+            return null;
+        }
+        for (Class<?> type : method.getParameterTypes()) {
+            if (isAccessible(type) == false) {
+                return null;
+            }
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect(method);
+            MethodType instantiatedType = handle.type().wrap();
+            if (returnType == void.class) {
+                instantiatedType = instantiatedType.changeReturnType(void.class);
+            }
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    methodName,
+                    MethodType.methodType(interfaceType),
+                    MethodType.methodType(returnType, parameterTypes),
+                    handle,
+                    instantiatedType);
+            return (F) site.getTarget().invoke();
+        } catch (Throwable ex) {
+            // use reflection instead
+            return null;
+        }
+    }
+
+    // checks if the type is public and is the same type when loaded by the class loader of this class
+    private static boolean isAccessible(Class<?> type) {
+        Class<?> baseType = type;
+        while (baseType.isArray()) {
+            baseType = baseType.getComponentType();
+        }
+        if (baseType.isPrimitive()) {
+            return true;
+        }
+        if (Modifier.isPublic(baseType.getModifiers()) == false) {
+            return false;
+        }
+        try {
+            return Class.forName(baseType.getName(), false, ReflectiveMetaProperty.class.getClassLoader()) == baseType;
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return false;
+        }
     }
 
     // finds a method on class or public method on super-type
@@ -135,12 +227,25 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         this.metaBean = metaBean;
     }
 
+    /**
+     * Initializes the ordinal, called by the meta-bean once all the properties are created.
+     * @param ordinal  the ordinal
+     */
+    void initOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public MetaBean metaBean() {
         return metaBean;
     }
 
+    @Override
+    public int ordinal() {
+        return ordinal;
+    }
+
     @Override
     public Class<?> declaringType() {
         return declaringType;
@@ -180,6 +285,15 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         if (style().isReadable() == false) {
             throw new UnsupportedOperationException("Property cannot be read: " + name());
         }
+        if (getter != null && declaringType.isInstance(bean)) {
+            try {
+                return (P) getter.apply(bean);
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw wrap(ex);
+            }
+        }
         try {
             return (P) getMethod.invoke(bean, (Object[]) null);
         } catch (IllegalArgumentException ex) {
@@ -200,6 +314,18 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         if (style().isWritable() == false) {
             throw new UnsupportedOperationException("Property cannot be written: " + name());
         }
+        // invalid values use reflection to obtain the standard error messages
+        if (setter != null && setMethod.getDeclaringClass().isInstance(bean) &&
+                (value != null ? setterValueType.isInstance(value) : setterValueType == setMethod.getParameterTypes()[0])) {
+            try {
+                setter.accept(bean, value);
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw wrap(ex);
+            }
+            return;
+        }
         try {
             setMethod.invoke(bean, value);
         } catch (IllegalArgumentException ex) {
@@ -220,4 +346,9 @@ final class ReflectiveMetaProperty<P> extends BasicMetaProperty<P> {
         }
     }
 
+    // wraps a checked exception or error thrown by a generated accessor in the same way as a reflective call
+    private static RuntimeException wrap(Throwable ex) {
+        return new RuntimeException(new InvocationTargetException(ex));
+    }
+
 }
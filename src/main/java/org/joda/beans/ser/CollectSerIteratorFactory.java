@@ -34,22 +34,21 @@ import org.joda.collect.grid.ImmutableGrid;
 public class CollectSerIteratorFactory extends GuavaSerIteratorFactory {
 
     /**
-     * Creates an iterator wrapper for a meta-property value.
+     * Creates an iterator wrapper for a meta-property value using the generic types of the property.
      * 
      * @param value  the possible collection-like object, not null
-     * @param prop  the meta-property defining the value, not null
-     * @param beanClass  the class of the bean, not the meta-property, for better generics, not null
+     * @param types  the generic types of the meta-property defining the value, not null
      * @return the iterator, null if not a collection-like type
      */
     @Override
-    public SerIterator create(final Object value, final MetaProperty<?> prop, Class<?> beanClass) {
-        Class<?> declaredType = prop.propertyType();
+    SerIterator create(final Object value, final PropertyTypes types) {
+        Class<?> declaredType = types.declaredType();
         if (value instanceof Grid) {
-            Class<?> valueType = defaultToObjectClass(JodaBeanUtils.collectionType(prop, beanClass));
-            List<Class<?>> valueTypeTypes = JodaBeanUtils.collectionTypeTypes(prop, beanClass);
+            Class<?> valueType = defaultToObjectClass(types.collectionType());
+            List<Class<?>> valueTypeTypes = types.collectionTypeTypes();
             return grid((Grid<?>) value, declaredType, valueType, valueTypeTypes);
         }
-        return super.create(value, prop, beanClass);
+        return super.create(value, types);
     }
 
     /**
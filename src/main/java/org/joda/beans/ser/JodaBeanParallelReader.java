@@ -0,0 +1,395 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.joda.beans.JodaBeanUtils;
+
+/**
+ * Provides the ability to read a large number of independent Joda-Bean records in parallel.
+ * <p>
+ * Two formats of input are supported:
+ * <ul>
+ * <li>newline-delimited JSON, where each line is a bean in the format of {@link JodaBeanSer#jsonWriter()}
+ * <li>length-framed binary, where each record is a 4-byte big-endian length followed by
+ *  a bean in the format of {@link JodaBeanSer#binWriter()}
+ * </ul>
+ * Each record must be complete in itself, thus the binary stream format, which shares
+ * tables between beans, is not supported.
+ * <p>
+ * The input is split into chunks of records on the calling thread, without parsing.
+ * Each chunk is then parsed on the executor, with each worker thread using
+ * the readers of {@link JodaBeanSer#pool()}.
+ * The number of chunks in progress is limited, thus memory usage is bounded
+ * regardless of the size of the input.
+ * The beans are returned in the order of the input by default, or in the order
+ * that they are parsed if ordering is not required.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @author Stephen Colebourne
+ */
+public final class JodaBeanParallelReader {
+
+    /**
+     * The default number of records in a chunk.
+     */
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    /**
+     * The settings.
+     */
+    private final JodaBeanSer settings;
+    /**
+     * The executor.
+     */
+    private final Executor executor;
+    /**
+     * The expected parallelism of the executor.
+     */
+    private final int parallelism;
+    /**
+     * The number of records in a chunk.
+     */
+    private final int chunkSize;
+    /**
+     * Whether the beans are returned in input order.
+     */
+    private final boolean ordered;
+
+    /**
+     * Creates an instance using the common fork-join pool.
+     *
+     * @param settings  the settings, not null
+     */
+    JodaBeanParallelReader(JodaBeanSer settings) {
+        this(settings, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism(), DEFAULT_CHUNK_SIZE, true);
+    }
+
+    /**
+     * Creates an instance.
+     *
+     * @param settings  the settings, not null
+     * @param executor  the executor, not null
+     * @param parallelism  the expected parallelism of the executor
+     * @param chunkSize  the number of records in a chunk
+     * @param ordered  whether the beans are returned in input order
+     */
+    private JodaBeanParallelReader(JodaBeanSer settings, Executor executor, int parallelism, int chunkSize, boolean ordered) {
+        this.settings = settings;
+        this.executor = executor;
+        this.parallelism = Math.max(parallelism, 1);
+        this.chunkSize = chunkSize;
+        this.ordered = ordered;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a copy of this reader that parses using the specified executor.
+     * <p>
+     * The parallelism is used to limit the number of chunks in progress.
+     *
+     * @param executor  the executor, not null
+     * @param parallelism  the number of threads of the executor, one or greater
+     * @return a copy of this reader with the executor changed, not null
+     */
+    public JodaBeanParallelReader withExecutor(Executor executor, int parallelism) {
+        JodaBeanUtils.notNull(executor, "executor");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be one or greater");
+        }
+        return new JodaBeanParallelReader(settings, executor, parallelism, chunkSize, ordered);
+    }
+
+    /**
+     * Returns a copy of this reader with the specified number of records in a chunk.
+     * <p>
+     * Larger chunks reduce the overhead of scheduling, at the cost of memory.
+     *
+     * @param chunkSize  the number of records in a chunk, one or greater
+     * @return a copy of this reader with the chunk size changed, not null
+     */
+    public JodaBeanParallelReader withChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be one or greater");
+        }
+        return new JodaBeanParallelReader(settings, executor, parallelism, chunkSize, ordered);
+    }
+
+    /**
+     * Returns a copy of this reader that returns beans in input order or not.
+     * <p>
+     * When unordered, the beans of each chunk are returned as soon as the chunk is parsed.
+     *
+     * @param ordered  true to return the beans in input order
+     * @return a copy of this reader with the ordering changed, not null
+     */
+    public JodaBeanParallelReader withOrdered(boolean ordered) {
+        return new JodaBeanParallelReader(settings, executor, parallelism, chunkSize, ordered);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads newline-delimited JSON, parsing the beans in parallel.
+     * <p>
+     * Blank lines are ignored.
+     * The input is consumed as the stream is consumed.
+     * Closing the returned stream closes the input.
+     *
+     * @param <T>  the type of the beans
+     * @param input  the input reader, not null
+     * @param beanType  the type of the beans, not null
+     * @return the stream of beans, not null
+     */
+    public <T> Stream<T> readJsonLines(Reader input, Class<T> beanType) {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(beanType, "beanType");
+        BufferedReader reader = (input instanceof BufferedReader ? (BufferedReader) input : new BufferedReader(input));
+        ChunkSource<String> source = () -> {
+            List<String> chunk = new ArrayList<>(chunkSize);
+            String line;
+            while (chunk.size() < chunkSize && (line = reader.readLine()) != null) {
+                if (line.trim().isEmpty() == false) {
+                    chunk.add(line);
+                }
+            }
+            return chunk;
+        };
+        JodaBeanSerPool pool = settings.pool();
+        return stream(source, record -> pool.readJson(record, beanType), input);
+    }
+
+    /**
+     * Reads length-framed binary, parsing the beans in parallel.
+     * <p>
+     * Each record is a 4-byte big-endian length, as written by {@code DataOutputStream.writeInt()},
+     * followed by that many bytes of a bean in the standard or referencing binary format.
+     * The input is consumed as the stream is consumed.
+     * Closing the returned stream closes the input.
+     *
+     * @param <T>  the type of the beans
+     * @param input  the input stream, not null
+     * @param beanType  the type of the beans, not null
+     * @return the stream of beans, not null
+     */
+    public <T> Stream<T> readBinFramed(InputStream input, Class<T> beanType) {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(beanType, "beanType");
+        DataInputStream stream = new DataInputStream(input);
+        ChunkSource<byte[]> source = () -> {
+            List<byte[]> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize) {
+                int first = stream.read();
+                if (first < 0) {
+                    break;
+                }
+                int length = (first << 24) | (stream.readUnsignedByte() << 16) | stream.readUnsignedShort();
+                if (length < 0) {
+                    throw new IllegalArgumentException("Invalid binary data: Record length was negative: " + length);
+                }
+                byte[] record = new byte[length];
+                stream.readFully(record);
+                chunk.add(record);
+            }
+            return chunk;
+        };
+        JodaBeanSerPool pool = settings.pool();
+        return stream(source, record -> pool.readBin(record, beanType), input);
+    }
+
+    // creates the stream
+    private <R, T> Stream<T> stream(ChunkSource<R> source, Function<R, T> parser, AutoCloseable input) {
+        Iterator<T> iterator = new ParallelIterator<>(source, parser);
+        int characteristics = Spliterator.NONNULL | (ordered ? Spliterator.ORDERED : 0);
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, characteristics);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                input.close();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new RuntimeException(ex);
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "JodaBeanParallelReader[" + executor + ", chunkSize=" + chunkSize + ", ordered=" + ordered + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Source of chunks of records.
+     */
+    private interface ChunkSource<R> {
+        /**
+         * Reads the next chunk of records.
+         *
+         * @return the records, empty at the end of the input
+         * @throws IOException if an error occurs
+         */
+        List<R> next() throws IOException;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Iterator that reads chunks on the calling thread and parses them on the executor.
+     */
+    private final class ParallelIterator<R, T> implements Iterator<T> {
+        /**
+         * The source of records.
+         */
+        private final ChunkSource<R> source;
+        /**
+         * The parser of a single record.
+         */
+        private final Function<R, T> parser;
+        /**
+         * The chunks in progress, in input order.
+         */
+        private final ArrayDeque<CompletableFuture<List<T>>> inProgress = new ArrayDeque<>();
+        /**
+         * The chunks that have completed, used when unordered.
+         */
+        private final BlockingQueue<CompletableFuture<List<T>>> completed = new LinkedBlockingQueue<>();
+        /**
+         * The beans of the current chunk.
+         */
+        private Iterator<T> current = Collections.emptyIterator();
+        /**
+         * The number of records read from the source.
+         */
+        private long recordCount;
+        /**
+         * Whether the source has been fully read.
+         */
+        private boolean sourceEnded;
+
+        ParallelIterator(ChunkSource<R> source, Function<R, T> parser) {
+            this.source = source;
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (current.hasNext() == false) {
+                submit();
+                if (inProgress.isEmpty()) {
+                    return false;
+                }
+                current = nextCompleted().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (hasNext() == false) {
+                throw new NoSuchElementException();
+            }
+            return current.next();
+        }
+
+        // reads and submits chunks until the limit of chunks in progress is reached
+        private void submit() {
+            // two chunks per thread keeps the threads busy while the next chunk is read
+            while (sourceEnded == false && inProgress.size() < parallelism * 2) {
+                List<R> chunk;
+                try {
+                    chunk = source.next();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                if (chunk.isEmpty()) {
+                    sourceEnded = true;
+                    return;
+                }
+                long firstIndex = recordCount;
+                recordCount += chunk.size();
+                CompletableFuture<List<T>> future = CompletableFuture.supplyAsync(() -> parse(chunk, firstIndex), executor);
+                inProgress.add(future);
+                if (ordered == false) {
+                    future.whenComplete((result, ex) -> completed.add(future));
+                }
+            }
+        }
+
+        // parses a chunk
+        private List<T> parse(List<R> chunk, long firstIndex) {
+            List<T> beans = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                long index = firstIndex + i;
+                try {
+                    beans.add(parser.apply(chunk.get(i)));
+                } catch (RuntimeException ex) {
+                    throw new IllegalArgumentException("Error parsing record " + index + ": " + ex.getMessage(), ex);
+                }
+            }
+            return beans;
+        }
+
+        // waits for the next chunk to complete
+        private List<T> nextCompleted() {
+            CompletableFuture<List<T>> future;
+            if (ordered) {
+                future = inProgress.poll();
+            } else {
+                try {
+                    future = completed.take();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for records to be parsed", ex);
+                }
+                inProgress.remove(future);
+            }
+            try {
+                return future.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw ex;
+            }
+        }
+    }
+
+}
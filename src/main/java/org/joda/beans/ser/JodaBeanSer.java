@@ -15,10 +15,24 @@
  */
 package org.joda.beans.ser;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.joda.beans.Bean;
+import org.joda.beans.DynamicBean;
 import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.ser.bin.JodaBeanBinFormat;
 import org.joda.beans.ser.bin.JodaBeanBinReader;
+import org.joda.beans.ser.bin.JodaBeanBinStreamReader;
+import org.joda.beans.ser.bin.JodaBeanBinStreamWriter;
+import org.joda.beans.ser.bin.JodaBeanBinTranscoder;
 import org.joda.beans.ser.bin.JodaBeanBinWriter;
 import org.joda.beans.ser.json.JodaBeanJsonReader;
+import org.joda.beans.ser.json.JodaBeanJsonStreamReader;
 import org.joda.beans.ser.json.JodaBeanJsonWriter;
 import org.joda.beans.ser.json.JodaBeanSimpleJsonReader;
 import org.joda.beans.ser.json.JodaBeanSimpleJsonWriter;
@@ -48,6 +62,18 @@ public final class JodaBeanSer {
      */
     public static final JodaBeanSer PRETTY = new JodaBeanSer(" ", "\n", StringConvert.create(),
             SerIteratorFactory.INSTANCE, true, SerDeserializers.INSTANCE);
+    /**
+     * The cache of serialization plans, held against the bean type.
+     * <p>
+     * The plans do not depend on the settings, so are shared by all instances.
+     * Using {@link ClassValue} does not prevent the bean class from being unloaded.
+     */
+    private static final ClassValue<AtomicReference<SerBeanPlan>> BEAN_PLANS = new ClassValue<AtomicReference<SerBeanPlan>>() {
+        @Override
+        protected AtomicReference<SerBeanPlan> computeValue(Class<?> cls) {
+            return new AtomicReference<>();
+        }
+    };
 
     /**
      * The indent to use.
@@ -73,6 +99,10 @@ public final class JodaBeanSer {
      * The deserializers.
      */
     private final SerDeserializers deserializers;
+    /**
+     * The pool of reusable writers and readers, created on demand.
+     */
+    private volatile JodaBeanSerPool pool;
 
     /**
      * Creates an instance.
@@ -224,11 +254,79 @@ public final class JodaBeanSer {
         return new JodaBeanSer(indent, newLine, converter, iteratorFactory, shortTypes, deserializers);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the serialization plan for a bean.
+     * <p>
+     * The plan is cached against the bean type, allowing the writers to avoid repeating
+     * per-property decisions. As the plan does not depend on the settings, the same plan
+     * is returned by every instance. Dynamic beans, whose properties vary by instance,
+     * are not cached. Where a bean type has more than one meta-bean, only the plan for
+     * the first meta-bean is cached.
+     * 
+     * @param bean  the bean to obtain a plan for, not null
+     * @return the plan, not null
+     */
+    public SerBeanPlan beanPlan(Bean bean) {
+        if (bean instanceof DynamicBean) {
+            return SerBeanPlan.of(bean.metaBean(), bean.getClass());
+        }
+        Class<?> beanType = bean.getClass();
+        MetaBean metaBean = bean.metaBean();
+        AtomicReference<SerBeanPlan> cached = BEAN_PLANS.get(beanType);
+        SerBeanPlan plan = cached.get();
+        if (plan == null || plan.getMetaBean() != metaBean) {
+            plan = SerBeanPlan.of(metaBean, beanType);
+            if (cached.compareAndSet(null, plan) == false) {
+                SerBeanPlan existing = cached.get();
+                plan = (existing.getMetaBean() == metaBean ? existing : plan);
+            }
+        }
+        return plan;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the thread-safe pool of reusable writers and readers.
+     * <p>
+     * The pool allows beans to be written and read without creating a new writer
+     * or reader for each message, reusing scratch buffers between messages.
+     * The same pool is returned for the lifetime of this instance.
+     * 
+     * @return the pool, not null
+     */
+    public JodaBeanSerPool pool() {
+        JodaBeanSerPool result = pool;
+        if (result == null) {
+            synchronized (this) {
+                result = pool;
+                if (result == null) {
+                    result = new JodaBeanSerPool(this);
+                    pool = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates a reader that parses independent records in parallel.
+     * <p>
+     * The reader parses newline-delimited JSON or length-framed binary using
+     * the common fork-join pool, returning the beans in input order.
+     * See {@link JodaBeanParallelReader} for details and other options.
+     * 
+     * @return the parallel reader, not null
+     */
+    public JodaBeanParallelReader parallelReader() {
+        return new JodaBeanParallelReader(this);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates a binary writer.
      * <p>
-     * A new instance of the writer must be created for each message.
+     * The writer may be reused for a sequence of messages on a single thread.
      * 
      * @return the binary writer, not null
      */
@@ -236,10 +334,64 @@ public final class JodaBeanSer {
         return new JodaBeanBinWriter(this);
     }
 
+    /**
+     * Creates a binary writer using the specified format.
+     * <p>
+     * The writer may be reused for a sequence of messages on a single thread.
+     * The binary reader can read all formats.
+     * 
+     * @param format  the format to write, not null
+     * @return the binary writer, not null
+     */
+    public JodaBeanBinWriter binWriter(JodaBeanBinFormat format) {
+        return new JodaBeanBinWriter(this, format);
+    }
+
+    /**
+     * Creates a binary writer using the specified format, optionally writing sized values.
+     * <p>
+     * The writer may be reused for a sequence of messages on a single thread.
+     * Sized values allow nested beans and collections to be skipped efficiently when reading.
+     * The binary reader can read all formats, with or without sized values.
+     * 
+     * @param format  the format to write, not null
+     * @param sizedValues  true to write nested beans and collections as sized values
+     * @return the binary writer, not null
+     */
+    public JodaBeanBinWriter binWriter(JodaBeanBinFormat format, boolean sizedValues) {
+        return new JodaBeanBinWriter(this, format, sizedValues);
+    }
+
+    /**
+     * Creates a binary stream writer.
+     * <p>
+     * The stream writer writes a sequence of beans sharing the tables of
+     * property names and types, see {@link JodaBeanBinStreamWriter}.
+     * 
+     * @param output  the output stream to write to, not null
+     * @return the binary stream writer, not null
+     * @throws IOException if an error occurs
+     */
+    public JodaBeanBinStreamWriter binStreamWriter(OutputStream output) throws IOException {
+        return new JodaBeanBinStreamWriter(this, output);
+    }
+
+    /**
+     * Creates a binary stream reader.
+     * <p>
+     * The stream reader reads a sequence of beans written by {@link #binStreamWriter(OutputStream)}.
+     * 
+     * @param input  the input stream to read from, not null
+     * @return the binary stream reader, not null
+     */
+    public JodaBeanBinStreamReader binStreamReader(InputStream input) {
+        return new JodaBeanBinStreamReader(this, input);
+    }
+
     /**
      * Creates a binary reader.
      * <p>
-     * A new instance of the reader must be created for each message.
+     * The reader may be reused for a sequence of messages on a single thread.
      * 
      * @return the binary reader, not null
      */
@@ -247,6 +399,18 @@ public final class JodaBeanSer {
         return new JodaBeanBinReader(this);
     }
 
+    /**
+     * Creates a transcoder between JSON and the binary format.
+     * <p>
+     * The transcoder converts directly from one format to the other without creating beans.
+     * An instance of the transcoder may be reused for multiple messages, but not concurrently.
+     * 
+     * @return the transcoder, not null
+     */
+    public JodaBeanBinTranscoder binTranscoder() {
+        return new JodaBeanBinTranscoder(this);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates an XML writer.
@@ -274,7 +438,7 @@ public final class JodaBeanSer {
     /**
      * Creates a JSON writer.
      * <p>
-     * A new instance of the writer must be created for each message.
+     * The writer may be reused for a sequence of messages on a single thread.
      * 
      * @return the JSON writer, not null
      */
@@ -285,7 +449,7 @@ public final class JodaBeanSer {
     /**
      * Creates a JSON reader.
      * <p>
-     * A new instance of the reader must be created for each message.
+     * The reader may be reused for a sequence of messages on a single thread.
      * 
      * @return the JSON reader, not null
      */
@@ -293,6 +457,22 @@ public final class JodaBeanSer {
         return new JodaBeanJsonReader(this);
     }
 
+    /**
+     * Creates a JSON stream reader.
+     * <p>
+     * The stream reader reads a sequence of beans, either held in a JSON array
+     * or as a sequence of JSON objects, such as newline-delimited JSON.
+     * See {@link JodaBeanJsonStreamReader}.
+     * 
+     * @param <T>  the type of the beans
+     * @param input  the reader to read from, not null
+     * @param beanType  the type of the beans, not null
+     * @return the JSON stream reader, not null
+     */
+    public <T> JodaBeanJsonStreamReader<T> jsonStreamReader(Reader input, Class<T> beanType) {
+        return new JodaBeanJsonStreamReader<>(this, input, beanType);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Creates a simple JSON writer.
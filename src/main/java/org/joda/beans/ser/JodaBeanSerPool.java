@@ -0,0 +1,301 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.ser.bin.JodaBeanBinFormat;
+import org.joda.beans.ser.bin.JodaBeanBinReader;
+import org.joda.beans.ser.bin.JodaBeanBinWriter;
+import org.joda.beans.ser.json.JodaBeanJsonReader;
+import org.joda.beans.ser.json.JodaBeanJsonWriter;
+
+/**
+ * Provides thread-safe serialization of Joda-Beans, reusing writers, readers and buffers.
+ * <p>
+ * The writers and readers obtained from {@link JodaBeanSer} are stateful and not thread-safe.
+ * Each resets its state at the start of a message, so it can be reused sequentially on one thread,
+ * but callers must manage that reuse themselves and each message allocates a new output buffer.
+ * This class instead caches a set of writers, readers and scratch buffers for each thread,
+ * relying on that reset at the start of each message.
+ * As a result, steady-state serialization only allocates the output.
+ * <p>
+ * Scratch buffers that grow to handle a large message are discarded after use
+ * if they exceed a fixed limit, so that occasional large messages do not pin memory.
+ * If a bean is serialized on a thread that is already serializing using this instance,
+ * such as from within a converter, a new set of writers and readers is used.
+ * <p>
+ * Obtain an instance using {@link JodaBeanSer#pool()}.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Stephen Colebourne
+ */
+public final class JodaBeanSerPool {
+
+    /**
+     * The initial size of the scratch buffers.
+     */
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    /**
+     * The maximum size of scratch buffer retained between messages.
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * The settings to use.
+     */
+    private final JodaBeanSer settings;
+    /**
+     * The cached state for each thread.
+     */
+    private final ThreadLocal<Cache> caches;
+
+    /**
+     * Creates an instance.
+     *
+     * @param settings  the settings to use, not null
+     */
+    JodaBeanSerPool(JodaBeanSer settings) {
+        JodaBeanUtils.notNull(settings, "settings");
+        this.settings = settings;
+        this.caches = ThreadLocal.withInitial(() -> new Cache(settings));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the settings used by this pool.
+     *
+     * @return the settings, not null
+     */
+    public JodaBeanSer getSettings() {
+        return settings;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the bean to an array of bytes in the standard binary format.
+     * <p>
+     * The type of the bean will be set in the message.
+     *
+     * @param bean  the bean to output, not null
+     * @return the binary data, not null
+     */
+    public byte[] writeBin(Bean bean) {
+        return writeBin(bean, JodaBeanBinFormat.STANDARD);
+    }
+
+    /**
+     * Writes the bean to an array of bytes in the specified binary format.
+     * <p>
+     * The type of the bean will be set in the message.
+     *
+     * @param bean  the bean to output, not null
+     * @param format  the format to write, not null
+     * @return the binary data, not null
+     */
+    public byte[] writeBin(Bean bean, JodaBeanBinFormat format) {
+        JodaBeanUtils.notNull(bean, "bean");
+        JodaBeanUtils.notNull(format, "format");
+        Cache cache = acquire();
+        try {
+            cache.bytes.clear();
+            ByteBuffer written = cache.binWriter(format).write(bean, cache.bytes);
+            byte[] result = Arrays.copyOf(written.array(), written.position());
+            cache.retainBytes(written);
+            return result;
+        } finally {
+            release(cache);
+        }
+    }
+
+    /**
+     * Reads and parses binary data to a bean.
+     *
+     * @param input  the input bytes, not null
+     * @return the bean, not null
+     */
+    public Bean readBin(byte[] input) {
+        return readBin(input, Bean.class);
+    }
+
+    /**
+     * Reads and parses binary data to a bean.
+     *
+     * @param <T>  the root type
+     * @param input  the input bytes, not null
+     * @param rootType  the root type, not null
+     * @return the bean, not null
+     */
+    public <T> T readBin(byte[] input, Class<T> rootType) {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(rootType, "rootType");
+        Cache cache = acquire();
+        try {
+            return cache.binReader.read(input, rootType);
+        } finally {
+            release(cache);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the bean to a JSON string.
+     * <p>
+     * The type of the bean will be set in the message.
+     *
+     * @param bean  the bean to output, not null
+     * @return the JSON, not null
+     */
+    public String writeJson(Bean bean) {
+        JodaBeanUtils.notNull(bean, "bean");
+        Cache cache = acquire();
+        try {
+            cache.chars.setLength(0);
+            cache.jsonWriter.write(bean, cache.chars);
+            return cache.chars.toString();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        } finally {
+            cache.retainChars();
+            release(cache);
+        }
+    }
+
+    /**
+     * Reads and parses JSON to a bean.
+     *
+     * @param input  the input string, not null
+     * @return the bean, not null
+     */
+    public Bean readJson(String input) {
+        return readJson(input, Bean.class);
+    }
+
+    /**
+     * Reads and parses JSON to a bean.
+     *
+     * @param <T>  the root type
+     * @param input  the input string, not null
+     * @param rootType  the root type, not null
+     * @return the bean, not null
+     */
+    public <T> T readJson(String input, Class<T> rootType) {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(rootType, "rootType");
+        Cache cache = acquire();
+        try {
+            return cache.jsonReader.read(input, rootType);
+        } finally {
+            release(cache);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // obtains the cache for this thread, or a new one if this thread is already using it
+    private Cache acquire() {
+        Cache cache = caches.get();
+        if (cache.inUse) {
+            return new Cache(settings);
+        }
+        cache.inUse = true;
+        return cache;
+    }
+
+    // releases the cache for use by the next message
+    private void release(Cache cache) {
+        cache.inUse = false;
+    }
+
+    @Override
+    public String toString() {
+        return "JodaBeanSerPool[" + settings + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The writers, readers and buffers of a single thread.
+     */
+    private static final class Cache {
+        /**
+         * The settings.
+         */
+        private final JodaBeanSer settings;
+        /**
+         * The binary writers, indexed by format ordinal, created on demand.
+         */
+        private final JodaBeanBinWriter[] binWriters = new JodaBeanBinWriter[JodaBeanBinFormat.values().length];
+        /**
+         * The binary reader.
+         */
+        private final JodaBeanBinReader binReader;
+        /**
+         * The JSON writer.
+         */
+        private final JodaBeanJsonWriter jsonWriter;
+        /**
+         * The JSON reader.
+         */
+        private final JodaBeanJsonReader jsonReader;
+        /**
+         * The scratch byte buffer.
+         */
+        private ByteBuffer bytes = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        /**
+         * The scratch char buffer.
+         */
+        private StringBuilder chars = new StringBuilder(INITIAL_BUFFER_SIZE);
+        /**
+         * Whether the cache is in use.
+         */
+        private boolean inUse;
+
+        Cache(JodaBeanSer settings) {
+            this.settings = settings;
+            this.binReader = settings.binReader();
+            this.jsonWriter = settings.jsonWriter();
+            this.jsonReader = settings.jsonReader();
+        }
+
+        // gets the binary writer for the format
+        JodaBeanBinWriter binWriter(JodaBeanBinFormat format) {
+            JodaBeanBinWriter writer = binWriters[format.ordinal()];
+            if (writer == null) {
+                writer = settings.binWriter(format);
+                binWriters[format.ordinal()] = writer;
+            }
+            return writer;
+        }
+
+        // retains the byte buffer, which may have been reallocated, unless it is too large
+        void retainBytes(ByteBuffer written) {
+            bytes = (written.capacity() > MAX_RETAINED_BUFFER_SIZE ? ByteBuffer.allocate(INITIAL_BUFFER_SIZE) : written);
+            bytes.clear();
+        }
+
+        // retains the char buffer unless it is too large
+        void retainChars() {
+            if (chars.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                chars = new StringBuilder(INITIAL_BUFFER_SIZE);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,277 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.joda.beans.Bean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+
+/**
+ * A precompiled plan for serializing a bean.
+ * <p>
+ * Serializing a bean requires a number of decisions to be made for each property,
+ * such as whether it is serializable, what its declared type is and whether it is optional.
+ * These decisions depend only on the type of the bean, not on the values of the properties.
+ * The plan makes the decisions once, allowing them to be reused for each instance of the bean.
+ * <p>
+ * Plans are obtained from, and cached by, {@link JodaBeanSer#beanPlan(Bean)}.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @author Stephen Colebourne
+ */
+public final class SerBeanPlan {
+
+    /**
+     * The final types that are never collection-like.
+     */
+    private static final Set<Class<?>> LEAF_TYPES = new HashSet<>(Arrays.<Class<?>>asList(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class,
+            Integer.class, Long.class, Float.class, Double.class));
+
+    /**
+     * The meta-bean that was planned.
+     */
+    private final MetaBean metaBean;
+    /**
+     * The serializable properties, in the order of the meta-bean.
+     */
+    private final List<PropertyPlan> properties;
+
+    /**
+     * Creates a plan for the specified bean.
+     * <p>
+     * Most applications should use {@link JodaBeanSer#beanPlan(Bean)} which caches the plan.
+     *
+     * @param metaBean  the meta-bean to plan, not null
+     * @param beanType  the type of the bean, which may be a subclass of the meta-bean type, not null
+     * @return the plan, not null
+     */
+    public static SerBeanPlan of(MetaBean metaBean, Class<?> beanType) {
+        List<PropertyPlan> properties = new ArrayList<>(metaBean.metaPropertyCount());
+        for (MetaProperty<?> prop : metaBean.metaPropertyIterable()) {
+            if (prop.style().isSerializable()) {
+                properties.add(new PropertyPlan(prop, beanType));
+            }
+        }
+        return new SerBeanPlan(metaBean, properties);
+    }
+
+    /**
+     * Restricted constructor.
+     *
+     * @param metaBean  the meta-bean, not null
+     * @param properties  the properties, not null
+     */
+    private SerBeanPlan(MetaBean metaBean, List<PropertyPlan> properties) {
+        this.metaBean = metaBean;
+        this.properties = Collections.unmodifiableList(properties);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the meta-bean that the plan was created from.
+     *
+     * @return the meta-bean, not null
+     */
+    public MetaBean getMetaBean() {
+        return metaBean;
+    }
+
+    /**
+     * Gets the plans for each serializable property.
+     *
+     * @return the property plans, in meta-bean order, not null
+     */
+    public List<PropertyPlan> getProperties() {
+        return properties;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The plan for a single property.
+     */
+    public static final class PropertyPlan {
+        /**
+         * The meta-property.
+         */
+        private final MetaProperty<?> metaProperty;
+        /**
+         * The name of the property.
+         */
+        private final String name;
+        /**
+         * The declared type of the property, with any optional wrapper removed.
+         */
+        private final Class<?> propertyType;
+        /**
+         * The helpers used to unwrap an optional, null if not optional.
+         */
+        private final Object[] optionalHelpers;
+        /**
+         * Whether the value may be collection-like.
+         */
+        private final boolean collectionLike;
+        /**
+         * Whether the value can be read without boxing.
+         */
+        private final boolean unboxed;
+        /**
+         * The generic types used to create an iterator, resolved once, null if not collection-like.
+         */
+        private final SerIteratorFactory.PropertyTypes iteratorTypes;
+
+        /**
+         * Creates an instance.
+         *
+         * @param metaProperty  the meta-property, not null
+         * @param beanType  the type of the bean, not null
+         */
+        PropertyPlan(MetaProperty<?> metaProperty, Class<?> beanType) {
+            this.metaProperty = metaProperty;
+            this.name = metaProperty.name();
+            this.propertyType = SerOptional.extractType(metaProperty, beanType);
+            this.optionalHelpers = SerOptional.helpers(metaProperty.propertyType());
+            this.collectionLike = isCollectionLike(propertyType);
+            this.unboxed = (propertyType == double.class || propertyType == long.class ||
+                    propertyType == int.class || propertyType == boolean.class);
+            this.iteratorTypes = (collectionLike ? new SerIteratorFactory.PropertyTypes(metaProperty, beanType).resolve() : null);
+        }
+
+        // types that can never hold a collection-like value do not need the iterator factory
+        private static boolean isCollectionLike(Class<?> type) {
+            if (type.isPrimitive() || type.isEnum() || LEAF_TYPES.contains(type)) {
+                return false;
+            }
+            return type.isArray() == false || type.getComponentType().isPrimitive() == false;
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Gets the meta-property.
+         *
+         * @return the meta-property, not null
+         */
+        public MetaProperty<?> getMetaProperty() {
+            return metaProperty;
+        }
+
+        /**
+         * Gets the name of the property.
+         *
+         * @return the name, not null
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the declared type of the property, with any optional wrapper removed.
+         * <p>
+         * This is the same as {@link SerOptional#extractType(MetaProperty, Class)}.
+         *
+         * @return the declared type, not null
+         */
+        public Class<?> getPropertyType() {
+            return propertyType;
+        }
+
+        /**
+         * Checks if the property is an optional that is unwrapped during serialization.
+         *
+         * @return true if the property is optional
+         */
+        public boolean isOptional() {
+            return optionalHelpers != null;
+        }
+
+        /**
+         * Checks if the value of the property may be collection-like.
+         * <p>
+         * If this returns false, the value can never be handled by a {@link SerIterator},
+         * such as when the declared type is a primitive, a primitive wrapper, a string or an enum.
+         *
+         * @return true if the value may be collection-like
+         */
+        public boolean isCollectionLike() {
+            return collectionLike;
+        }
+
+        /**
+         * Checks if the value of the property can be read without boxing.
+         * <p>
+         * If this returns true, the property is a {@code double}, {@code long}, {@code int} or {@code boolean},
+         * and the value should be read using the matching primitive getter on {@link MetaProperty}.
+         *
+         * @return true if the value can be read without boxing
+         */
+        public boolean isUnboxed() {
+            return unboxed;
+        }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Extracts the value of the property from a bean, unwrapping any optional.
+         * <p>
+         * This is the same as {@link SerOptional#extractValue(MetaProperty, Bean)}.
+         *
+         * @param bean  the bean to query, not null
+         * @return the value of the property, with any optional wrapper removed
+         */
+        public Object extractValue(Bean bean) {
+            Object value = metaProperty.get(bean);
+            if (value != null && optionalHelpers != null) {
+                value = SerOptional.unwrap(optionalHelpers, value);
+            }
+            return value;
+        }
+
+        /**
+         * Creates an iterator wrapper for a value of this property.
+         * <p>
+         * When the factory is {@link SerIteratorFactory#INSTANCE}, the iterator is created
+         * using the generic types resolved when the plan was created.
+         * Other factories are called with the meta-property.
+         *
+         * @param factory  the iterator factory, not null
+         * @param value  the value, not null
+         * @param beanType  the type of the bean, not null
+         * @return the iterator, null if not a collection-like type
+         */
+        public SerIterator createIterator(SerIteratorFactory factory, Object value, Class<?> beanType) {
+            if (collectionLike == false) {
+                return null;
+            }
+            if (factory == SerIteratorFactory.INSTANCE && beanType == iteratorTypes.beanClass) {
+                return factory.create(value, iteratorTypes);
+            }
+            return factory.create(value, metaProperty, beanType);
+        }
+
+        @Override
+        public String toString() {
+            return name + ":" + propertyType.getName();
+        }
+    }
+
+}
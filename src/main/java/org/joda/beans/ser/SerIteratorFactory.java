@@ -101,16 +101,30 @@ public class SerIteratorFactory {
      * @return the iterator, null if not a collection-like type
      */
     public SerIterator create(final Object value, final MetaProperty<?> prop, Class<?> beanClass) {
-        Class<?> declaredType = prop.propertyType();
+        return create(value, new PropertyTypes(prop, beanClass));
+    }
+
+    /**
+     * Creates an iterator wrapper for a meta-property value using the generic types of the property.
+     * <p>
+     * The factories provided by Joda-Beans override this method rather than the public method,
+     * allowing {@link SerBeanPlan} to supply generic types that were resolved in advance.
+     * 
+     * @param value  the possible collection-like object, not null
+     * @param types  the generic types of the meta-property defining the value, not null
+     * @return the iterator, null if not a collection-like type
+     */
+    SerIterator create(final Object value, final PropertyTypes types) {
+        Class<?> declaredType = types.declaredType();
         if (value instanceof Collection) {
-            Class<?> valueType = defaultToObjectClass(JodaBeanUtils.collectionType(prop, beanClass));
-            List<Class<?>> valueTypeTypes = JodaBeanUtils.collectionTypeTypes(prop, beanClass);
+            Class<?> valueType = defaultToObjectClass(types.collectionType());
+            List<Class<?>> valueTypeTypes = types.collectionTypeTypes();
             return collection((Collection<?>) value, declaredType, valueType, valueTypeTypes);
         }
         if (value instanceof Map) {
-            Class<?> keyType = defaultToObjectClass(JodaBeanUtils.mapKeyType(prop, beanClass));
-            Class<?> valueType = defaultToObjectClass(JodaBeanUtils.mapValueType(prop, beanClass));
-            List<Class<?>> valueTypeTypes = JodaBeanUtils.mapValueTypeTypes(prop, beanClass);
+            Class<?> keyType = defaultToObjectClass(types.mapKeyType());
+            Class<?> valueType = defaultToObjectClass(types.mapValueType());
+            List<Class<?>> valueTypeTypes = types.mapValueTypeTypes();
             return map((Map<?, ?>) value, declaredType, keyType, valueType, valueTypeTypes);
         }
         if (value.getClass().isArray() && value.getClass().getComponentType().isPrimitive() == false) {
@@ -740,4 +754,130 @@ public class SerIteratorFactory {
         };
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * The generic types of a meta-property, as used to create an iterator.
+     * <p>
+     * This resolves the types each time they are requested.
+     * Use {@link #resolve()} to obtain an instance that resolves them once.
+     */
+    static class PropertyTypes {
+        /** The meta-property. */
+        final MetaProperty<?> prop;
+        /** The class of the bean, used to resolve generics. */
+        final Class<?> beanClass;
+
+        /**
+         * Creates an instance.
+         * 
+         * @param prop  the meta-property, not null
+         * @param beanClass  the class of the bean, not the meta-property, for better generics, not null
+         */
+        PropertyTypes(MetaProperty<?> prop, Class<?> beanClass) {
+            this.prop = prop;
+            this.beanClass = beanClass;
+        }
+
+        /**
+         * Resolves all the types, returning an instance that does not resolve them again.
+         * 
+         * @return the resolved types, not null
+         */
+        PropertyTypes resolve() {
+            return new ResolvedPropertyTypes(this);
+        }
+
+        Class<?> declaredType() {
+            return prop.propertyType();
+        }
+
+        Class<?> collectionType() {
+            return JodaBeanUtils.collectionType(prop, beanClass);
+        }
+
+        List<Class<?>> collectionTypeTypes() {
+            return JodaBeanUtils.collectionTypeTypes(prop, beanClass);
+        }
+
+        Class<?> mapKeyType() {
+            return JodaBeanUtils.mapKeyType(prop, beanClass);
+        }
+
+        Class<?> mapValueType() {
+            return JodaBeanUtils.mapValueType(prop, beanClass);
+        }
+
+        List<Class<?>> mapValueTypeTypes() {
+            return JodaBeanUtils.mapValueTypeTypes(prop, beanClass);
+        }
+
+        Class<?> tableType(int index) {
+            return JodaBeanUtils.extractTypeClass(prop, beanClass, 3, index);
+        }
+    }
+
+    /**
+     * The generic types of a meta-property, resolved once.
+     */
+    static final class ResolvedPropertyTypes extends PropertyTypes {
+        private final Class<?> declaredType;
+        private final Class<?> collectionType;
+        private final List<Class<?>> collectionTypeTypes;
+        private final Class<?> mapKeyType;
+        private final Class<?> mapValueType;
+        private final List<Class<?>> mapValueTypeTypes;
+        private final Class<?>[] tableTypes;
+
+        ResolvedPropertyTypes(PropertyTypes types) {
+            super(types.prop, types.beanClass);
+            this.declaredType = types.declaredType();
+            this.collectionType = types.collectionType();
+            this.collectionTypeTypes = Collections.unmodifiableList(types.collectionTypeTypes());
+            this.mapKeyType = types.mapKeyType();
+            this.mapValueType = types.mapValueType();
+            this.mapValueTypeTypes = Collections.unmodifiableList(types.mapValueTypeTypes());
+            this.tableTypes = new Class<?>[] {types.tableType(0), types.tableType(1), types.tableType(2)};
+        }
+
+        @Override
+        PropertyTypes resolve() {
+            return this;
+        }
+
+        @Override
+        Class<?> declaredType() {
+            return declaredType;
+        }
+
+        @Override
+        Class<?> collectionType() {
+            return collectionType;
+        }
+
+        @Override
+        List<Class<?>> collectionTypeTypes() {
+            return collectionTypeTypes;
+        }
+
+        @Override
+        Class<?> mapKeyType() {
+            return mapKeyType;
+        }
+
+        @Override
+        Class<?> mapValueType() {
+            return mapValueType;
+        }
+
+        @Override
+        List<Class<?>> mapValueTypeTypes() {
+            return mapValueTypeTypes;
+        }
+
+        @Override
+        Class<?> tableType(int index) {
+            return tableTypes[index];
+        }
+    }
+
 }
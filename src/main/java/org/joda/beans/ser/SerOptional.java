@@ -104,21 +104,38 @@ public class SerOptional {
         if (value != null) {
             Object[] helpers = OPTIONALS.get(metaProp.propertyType());
             if (helpers != null) {
-                try {
-                    boolean present = (Boolean) ((Method) helpers[2]).invoke(value);
-                    if (present) {
-                        value = ((Method) helpers[3]).invoke(value);
-                    } else {
-                        value = null;
-                    }
-                } catch (Exception ex) {
-                    throw new RuntimeException(ex);
-                }
+                value = unwrap(helpers, value);
             }
         }
         return value;
     }
 
+    /**
+     * Gets the helpers for an optional type.
+     * 
+     * @param type  the type to query, not null
+     * @return the helpers, null if not an optional type
+     */
+    static Object[] helpers(Class<?> type) {
+        return OPTIONALS.get(type);
+    }
+
+    /**
+     * Unwraps an optional value using the helpers.
+     * 
+     * @param helpers  the helpers, not null
+     * @param value  the optional value, not null
+     * @return the unwrapped value, null if empty
+     */
+    static Object unwrap(Object[] helpers, Object value) {
+        try {
+            boolean present = (Boolean) ((Method) helpers[2]).invoke(value);
+            return present ? ((Method) helpers[3]).invoke(value) : null;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
     /**
      * Extracts the value of the property from a bean, unwrapping any optional.
      * 
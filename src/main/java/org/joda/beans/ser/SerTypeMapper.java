@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.UUID;
 
+import org.joda.beans.MetaBeanIndex;
 import org.joda.convert.RenameHandler;
 
 /**
@@ -149,6 +150,7 @@ public final class SerTypeMapper {
      * This uses the context class loader.
      * This handles known simple types, like String, Integer or File, and prefixing.
      * It also allows a map of message specific shorter forms.
+     * Types in a registered {@link MetaBeanIndex} are found without reflection.
      * 
      * @param className  the class name, not null
      * @param settings  the settings object, not null
@@ -172,6 +174,7 @@ public final class SerTypeMapper {
      * This uses the context class loader.
      * This handles known simple types, like String, Integer or File, and prefixing.
      * It also allows a map of message specific shorter forms.
+     * Types in a registered {@link MetaBeanIndex} are found without reflection.
      * 
      * @param className  the class name, not null
      * @param settings  the settings object, not null
@@ -219,7 +222,7 @@ public final class SerTypeMapper {
             expanded = true;
         }
         try {
-            result = RenameHandler.INSTANCE.lookupType(fullName);
+            result = lookupType(fullName);
             if (knownTypes != null) {
                 // cache full name
                 knownTypes.put(fullName, result);
@@ -247,7 +250,7 @@ public final class SerTypeMapper {
             // handle pathological case of package name starting with upper case
             if (fullName.equals(className) == false) {
                 try {
-                    result = RenameHandler.INSTANCE.lookupType(className);
+                    result = lookupType(className);
                     if (knownTypes != null) {
                         knownTypes.put(className, result);
                     }
@@ -262,6 +265,15 @@ public final class SerTypeMapper {
         }
     }
 
+    // lookup the type, using a registered index in preference to reflection
+    private static Class<?> lookupType(String typeName) throws ClassNotFoundException {
+        Class<?> indexed = MetaBeanIndex.findType(typeName);
+        if (indexed != null) {
+            return indexed;
+        }
+        return RenameHandler.INSTANCE.lookupType(typeName);
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public String toString() {
@@ -0,0 +1,84 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+/**
+ * The format of the binary data.
+ * <p>
+ * The reader determines the format from the version number in the data,
+ * thus the format only needs to be selected when writing.
+ *
+ * @author Stephen Colebourne
+ */
+public enum JodaBeanBinFormat {
+
+    /**
+     * The standard format, version 1.
+     * <p>
+     * Each property name and type is written in full as a MessagePack string or 'ext'.
+     * This format is the most friendly for a standalone MessagePack parser.
+     */
+    STANDARD(1),
+    /**
+     * The referencing format, version 2.
+     * <p>
+     * The first time a property name or type is written, it is added to a table.
+     * Subsequent uses of the same property name or type refer back to the table by index.
+     * This produces much smaller output where beans are repeated, such as in large lists.
+     */
+    REFERENCING(2);
+
+    /**
+     * The version number written to the data.
+     */
+    private final int version;
+
+    /**
+     * Creates an instance.
+     *
+     * @param version  the version number
+     */
+    JodaBeanBinFormat(int version) {
+        this.version = version;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the version number written to the data.
+     *
+     * @return the version number
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Obtains the format from the version number.
+     *
+     * @param version  the version number
+     * @return the format, not null
+     * @throws IllegalArgumentException if the version is not known
+     */
+    public static JodaBeanBinFormat ofVersion(int version) {
+        for (JodaBeanBinFormat format : values()) {
+            if (format.version == version) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Invalid binary data: Expected version 1 or 2, but was: " + version);
+    }
+
+}
@@ -15,17 +15,24 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
+import org.joda.beans.DynamicMetaBean;
 import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
+import org.joda.beans.ser.DefaultDeserializer;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerDeserializer;
@@ -38,8 +45,15 @@ import org.joda.beans.ser.SerTypeMapper;
  * <p>
  * The binary format is defined by {@link JodaBeanBinWriter}.
  * <p>
+ * Data can be read from a byte array, an {@code InputStream} or a {@code ByteBuffer}.
+ * The buffer may be heap, direct or a {@code MappedByteBuffer} of a file,
+ * in which case the data is decoded directly from the buffer without copying.
+ * <p>
+ * Both the standard and referencing formats are read, see {@link JodaBeanBinFormat}.
+ * <p>
  * This class contains mutable state and cannot be used from multiple threads.
- * A new instance must be created for each message.
+ * Each call to {@code read} resets the state of any previous message,
+ * thus an instance may be reused for a sequence of messages on a single thread.
  *
  * @author Stephen Colebourne
  */
@@ -52,7 +66,7 @@ public class JodaBeanBinReader extends MsgPack {
     /**
      * The reader.
      */
-    private DataInputStream input;
+    private MsgPackSource input;
     /**
      * The base package including the trailing dot.
      */
@@ -61,6 +75,34 @@ public class JodaBeanBinReader extends MsgPack {
      * The known types.
      */
     private Map<String, Class<?>> knownTypes = new HashMap<>();
+    /**
+     * Whether the data is in the referencing format.
+     */
+    private boolean referencing;
+    /**
+     * The property names that can be referenced, used by the referencing format.
+     */
+    private List<String> propertyNameTable = new ArrayList<>();
+    /**
+     * The types that can be referenced, used by the referencing format.
+     */
+    private List<String> typeTable = new ArrayList<>();
+    /**
+     * The number of property names defined so far, less than the table size when data is re-read.
+     */
+    private int propertyNameCount;
+    /**
+     * The number of types defined so far, less than the table size when data is re-read.
+     */
+    private int typeCount;
+    /**
+     * The names of the properties to read from the root bean, null to read all properties.
+     */
+    private Set<String> projection;
+    /**
+     * Whether the projected properties of the root bean are returned as a map.
+     */
+    private boolean projectToMap;
 
     //-----------------------------------------------------------------------
     /**
@@ -103,7 +145,7 @@ public class JodaBeanBinReader extends MsgPack {
      * @return the bean, not null
      */
     public <T> T read(final byte[] input, Class<T> rootType) {
-        return read(new ByteArrayInputStream(input), rootType);
+        return rootType.cast(read(MsgPackSource.ofBytes(input), rootType));
     }
 
     /**
@@ -125,17 +167,325 @@ public class JodaBeanBinReader extends MsgPack {
      * @return the bean, not null
      */
     public <T> T read(final InputStream input, Class<T> rootType) {
-        if (input instanceof DataInputStream) {
-            this.input = (DataInputStream) input;
-        } else {
-            this.input = new DataInputStream(input);
+        return rootType.cast(read(MsgPackSource.ofStream(input), rootType));
+    }
+
+    /**
+     * Reads and parses to a bean.
+     * <p>
+     * See {@link #read(ByteBuffer, Class)} for details of how the buffer is used.
+     * 
+     * @param input  the input buffer, not null
+     * @return the bean, not null
+     */
+    public Bean read(final ByteBuffer input) {
+        return read(input, Bean.class);
+    }
+
+    /**
+     * Reads and parses to a bean.
+     * <p>
+     * Data is read starting at the current position of the buffer, which may be
+     * heap, direct or a {@code MappedByteBuffer} of a file.
+     * When parsing succeeds, the position of the buffer is moved to the end of the bean.
+     * The data is always read in big-endian order, whatever the order of the buffer.
+     * 
+     * @param <T>  the root type
+     * @param input  the input buffer, not null
+     * @param rootType  the root type, not null
+     * @return the bean, not null
+     */
+    public <T> T read(final ByteBuffer input, Class<T> rootType) {
+        MsgPackSource source = MsgPackSource.ofBuffer(input);
+        T result = rootType.cast(read(source, rootType));
+        input.position(source.buffer.position());
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads and parses to a bean, only reading the specified properties of the root bean.
+     * <p>
+     * The data of all other properties of the root bean is skipped without being parsed.
+     * The returned bean is built from the selected properties, thus the bean must
+     * permit the remaining properties to be absent, such as by having defaults.
+     * Beans nested within the selected properties are read in full.
+     * 
+     * @param <T>  the root type
+     * @param input  the input bytes, not null
+     * @param rootType  the root type, not null
+     * @param properties  the properties to read, not null
+     * @return the bean, not null
+     */
+    public <T> T read(final byte[] input, Class<T> rootType, Collection<? extends MetaProperty<?>> properties) {
+        return rootType.cast(readProjection(MsgPackSource.ofBytes(input), rootType, properties, false));
+    }
+
+    /**
+     * Reads and parses to a bean, only reading the specified properties of the root bean.
+     * <p>
+     * See {@link #read(byte[], Class, Collection)} for details.
+     * 
+     * @param <T>  the root type
+     * @param input  the input stream, not null
+     * @param rootType  the root type, not null
+     * @param properties  the properties to read, not null
+     * @return the bean, not null
+     */
+    public <T> T read(final InputStream input, Class<T> rootType, Collection<? extends MetaProperty<?>> properties) {
+        return rootType.cast(readProjection(MsgPackSource.ofStream(input), rootType, properties, false));
+    }
+
+    /**
+     * Reads and parses the specified properties of the root bean to a map.
+     * <p>
+     * The data of all other properties of the root bean is skipped without being parsed.
+     * No bean is built, thus this works whatever the validation rules of the bean.
+     * The map is keyed by property name, in the order the properties were found in the data.
+     * Properties that are absent from the data are absent from the map.
+     * Any optional wrapper is removed from the values.
+     * 
+     * @param input  the input bytes, not null
+     * @param rootType  the root type, not null
+     * @param properties  the properties to read, not null
+     * @return the map of property name to value, not null
+     */
+    public Map<String, Object> readProperties(final byte[] input, Class<?> rootType, Collection<? extends MetaProperty<?>> properties) {
+        return castMap(readProjection(MsgPackSource.ofBytes(input), rootType, properties, true));
+    }
+
+    /**
+     * Reads and parses the specified properties of the root bean to a map.
+     * <p>
+     * See {@link #readProperties(byte[], Class, Collection)} for details.
+     * 
+     * @param input  the input stream, not null
+     * @param rootType  the root type, not null
+     * @param properties  the properties to read, not null
+     * @return the map of property name to value, not null
+     */
+    public Map<String, Object> readProperties(final InputStream input, Class<?> rootType, Collection<? extends MetaProperty<?>> properties) {
+        return castMap(readProjection(MsgPackSource.ofStream(input), rootType, properties, true));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads the root bean as a lazy read-only view.
+     * <p>
+     * The data is scanned once to find the location of each property of the root bean,
+     * but no property values are parsed. Each property value is parsed on first access
+     * and then cached, see {@link JodaBeanBinView}.
+     * No bean is built, thus this works whatever the validation rules of the bean.
+     * <p>
+     * The view retains the input, which must not be altered while the view is in use.
+     * 
+     * @param input  the input bytes, not null
+     * @return the view, not null
+     */
+    public JodaBeanBinView readView(final byte[] input) {
+        return readView(MsgPackSource.ofBytes(input));
+    }
+
+    /**
+     * Reads the root bean as a lazy read-only view.
+     * <p>
+     * Data is read starting at the current position of the buffer.
+     * When the scan succeeds, the position of the buffer is moved to the end of the bean.
+     * The view retains the data of the buffer, which must not be altered while the view is in use.
+     * See {@link #readView(byte[])} for more details.
+     * 
+     * @param input  the input buffer, not null
+     * @return the view, not null
+     */
+    public JodaBeanBinView readView(final ByteBuffer input) {
+        MsgPackSource source = MsgPackSource.ofBuffer(input);
+        JodaBeanBinView result = readView(source);
+        input.position(source.buffer.position());
+        return result;
+    }
+
+    private JodaBeanBinView readView(MsgPackSource source) {
+        // the view parses lazily, so it needs a reader of its own
+        JodaBeanBinReader viewReader = new JodaBeanBinReader(settings);
+        viewReader.input = source;
+        try {
+            return viewReader.parseView();
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
         }
+    }
+
+    private Object readProjection(MsgPackSource source, Class<?> rootType, Collection<? extends MetaProperty<?>> properties, boolean toMap) {
+        if (properties == null) {
+            throw new NullPointerException("properties");
+        }
+        projection = new HashSet<>();
+        for (MetaProperty<?> metaProp : properties) {
+            projection.add(metaProp.name());
+        }
+        projectToMap = toMap;
+        return read(source, rootType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> castMap(Object parsed) {
+        if (parsed instanceof Map == false) {
+            throw new IllegalArgumentException("Invalid binary data: Root bean was not written as a map of properties");
+        }
+        return (Map<String, Object>) parsed;
+    }
+
+    private Object read(final MsgPackSource source, Class<?> rootType) {
+        reset();
+        this.input = source;
         try {
             try {
                 return parseRoot(rootType);
             } finally {
-                input.close();
+                projection = null;
+                source.close();
+            }
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    // resets the state of any previous message, allowing the reader to be reused
+    private void reset() {
+        basePackage = null;
+        knownTypes.clear();
+        propertyNameTable.clear();
+        typeTable.clear();
+        propertyNameCount = 0;
+        typeCount = 0;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Starts reading a stream of beans, checking the stream header.
+     * <p>
+     * The tables of the referencing format are retained between the beans of the stream.
+     * As such, the base package used for short type names is that of the first bean,
+     * and remains the same for the whole stream.
+     * 
+     * @param source  the source to read from, not null
+     * @throws IOException if an error occurs
+     */
+    void startStream(final MsgPackSource source) throws IOException {
+        reset();
+        this.input = source;
+        int typeByte = input.readByte();
+        if (typeByte != JODA_STREAM_VERSION) {
+            throw new IllegalArgumentException("Invalid binary data: Expected stream version " + JODA_STREAM_VERSION + ", but was: 0x" + toHex(typeByte));
+        }
+        referencing = true;
+    }
+
+    /**
+     * Reads the next bean in a stream.
+     * 
+     * @return the bean, null at the end of the stream
+     * @throws Exception if an error occurs
+     */
+    Bean readStreamBean() throws Exception {
+        if (input.isEnd()) {
+            return null;
+        }
+        return (Bean) parseObject(Bean.class, null, null, null, true);
+    }
+
+    /**
+     * Starts reading data that is to be transcoded rather than parsed to beans.
+     * <p>
+     * The caller reads from the same source, using the package-scoped methods
+     * of this class to accept the root header, types and property names.
+     * 
+     * @param source  the source to read from, not null
+     */
+    void startTranscode(final MsgPackSource source) {
+        reset();
+        this.input = source;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Scans the root bean, indexing the location of each property value.
+     * 
+     * @return the view, not null
+     * @throws Exception if an error occurs
+     */
+    private JodaBeanBinView parseView() throws Exception {
+        int rootOffset = input.buffer.position();
+        acceptRootHeader();
+        int typeByte = input.readByte();
+        if (acceptSized(typeByte)) {
+            typeByte = input.readByte();
+        }
+        int headerSize = (typeByte == MAP_16 ? 2 : (typeByte == MAP_32 ? 4 : 0));
+        if (isMap(typeByte) == false || typeByte == MIN_FIX_MAP || peekTypeExtension(headerSize) != JODA_TYPE_BEAN) {
+            throw new IllegalArgumentException("Invalid binary data: Expected root bean with type, but was: 0x" + toHex(typeByte));
+        }
+        int mapSize = acceptMap(typeByte);
+        Class<?> beanType = SerTypeMapper.decodeType(acceptTypeString(), settings, basePackage, knownTypes);
+        if (Bean.class.isAssignableFrom(beanType) == false) {
+            throw new IllegalArgumentException("Root type is not a Joda-Bean: " + beanType.getName());
+        }
+        basePackage = beanType.getPackage().getName() + ".";
+        if (input.readByte() != NIL) {
+            throw new IllegalArgumentException("Invalid binary data: Expected null after bean type");
+        }
+        String propName = "";
+        try {
+            SerDeserializer deser = settings.getDeserializers().findDeserializer(beanType);
+            MetaBean metaBean = deser.findMetaBean(beanType);
+            List<JodaBeanBinView.Slot> slots = new ArrayList<>(mapSize - 1);
+            for (int i = 0; i < mapSize - 1; i++) {
+                propName = acceptPropertyName(input.readByte());
+                MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propName);
+                if (metaProp != null) {
+                    slots.add(new JodaBeanBinView.Slot(metaProp, input.buffer.position(), propertyNameCount, typeCount));
+                }
+                skipObject();
+                propName = "";
             }
+            return new JodaBeanBinView(this, beanType.asSubclass(Bean.class), rootOffset, slots);
+        } catch (Exception ex) {
+            throw new RuntimeException("Error parsing bean: " + beanType.getName() + "::" + propName + ", " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Parses the value of a property that was indexed by {@link #parseView()}.
+     * 
+     * @param slot  the location of the value, not null
+     * @param beanType  the type of the root bean, not null
+     * @return the value, with any optional wrapper, may be null
+     */
+    Object parseViewValue(JodaBeanBinView.Slot slot, Class<?> beanType) {
+        MetaProperty<?> metaProp = slot.metaProperty;
+        resume(slot.offset, slot.propertyNameCount, slot.typeCount);
+        try {
+            Object value = parseObject(SerOptional.extractType(metaProp, beanType), metaProp, beanType, null, false);
+            return SerOptional.wrapValue(metaProp, beanType, value);
+        } catch (Exception ex) {
+            throw new RuntimeException("Error parsing bean: " + beanType.getName() + "::" + metaProp.name() + ", " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Parses the whole root bean that was indexed by {@link #parseView()}.
+     * 
+     * @param rootOffset  the offset of the root array
+     * @return the bean, not null
+     */
+    Bean parseViewBean(int rootOffset) {
+        resume(rootOffset, 0, 0);
+        try {
+            return (Bean) parseRoot(Bean.class);
         } catch (RuntimeException ex) {
             throw ex;
         } catch (Exception ex) {
@@ -143,6 +493,13 @@ public class JodaBeanBinReader extends MsgPack {
         }
     }
 
+    // moves to an earlier location in the data, restoring the definitions that had been read at that point
+    private void resume(int offset, int propertyNameCount, int typeCount) {
+        input.buffer.position(offset);
+        this.propertyNameCount = propertyNameCount;
+        this.typeCount = typeCount;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Parses the root bean.
@@ -151,7 +508,14 @@ public class JodaBeanBinReader extends MsgPack {
      * @return the bean, not null
      * @throws Exception if an error occurs
      */
-    private <T> T parseRoot(final Class<T> declaredType) throws Exception {
+    private Object parseRoot(final Class<?> declaredType) throws Exception {
+        acceptRootHeader();
+        // parse
+        return parseObject(declaredType, null, null, null, true);
+    }
+
+    // accepts the root array and version, setting the format
+    void acceptRootHeader() throws IOException {
         // root array
         int typeByte = input.readByte();
         if (typeByte != MIN_FIX_ARRAY + 2) {
@@ -159,91 +523,91 @@ public class JodaBeanBinReader extends MsgPack {
         }
         // version
         typeByte = input.readByte();
-        if (typeByte != 1) {
-            throw new IllegalArgumentException("Invalid binary data: Expected version 1, but was: 0x" + toHex(typeByte));
+        if (typeByte != 1 && typeByte != 2) {
+            throw new IllegalArgumentException("Invalid binary data: Expected version 1 or 2, but was: 0x" + toHex(typeByte));
         }
-        // parse
-        Object parsed = parseObject(declaredType, null, null, null, true);
-        return declaredType.cast(parsed);
+        referencing = (JodaBeanBinFormat.ofVersion(typeByte) == JodaBeanBinFormat.REFERENCING);
     }
 
     private Object parseBean(int propertyCount, Class<?> beanType) throws Exception {
         String propName = "";
+        // any projection only applies to the root bean
+        Set<String> selected = projection;
+        Map<String, Object> projected = (selected != null && projectToMap ? new LinkedHashMap<String, Object>() : null);
+        projection = null;
         try {
             SerDeserializer deser = settings.getDeserializers().findDeserializer(beanType);
             MetaBean metaBean = deser.findMetaBean(beanType);
             BeanBuilder<?> builder = deser.createBuilder(beanType, metaBean);
+            // the standard deserializer sets by ordinal, avoiding a lookup by name in the builder
+            boolean ordinals = (deser == DefaultDeserializer.INSTANCE && metaBean instanceof DynamicMetaBean == false);
             for (int i = 0; i < propertyCount; i++) {
                 // property name
-                propName = acceptString(input.readByte());
+                propName = acceptPropertyName(input.readByte());
                 MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propName);
-                if (metaProp == null) {
-                    MsgPackInput.skipObject(input);
+                if (metaProp == null || (selected != null && selected.contains(metaProp.name()) == false)) {
+                    skipObject();
                 } else {
                     Object value = parseObject(SerOptional.extractType(metaProp, beanType), metaProp, beanType, null, false);
-                    deser.setValue(builder, metaProp, SerOptional.wrapValue(metaProp, beanType, value));
+                    if (projected != null) {
+                        projected.put(metaProp.name(), value);
+                    } else {
+                        Object wrapped = SerOptional.wrapValue(metaProp, beanType, value);
+                        if (ordinals) {
+                            ordinals = setByOrdinal(builder, metaProp, wrapped);
+                        }
+                        if (ordinals == false) {
+                            deser.setValue(builder, metaProp, wrapped);
+                        }
+                    }
                 }
                 propName = "";
             }
-            return deser.build(beanType, builder);
+            return (projected != null ? projected : deser.build(beanType, builder));
         } catch (Exception ex) {
             throw new RuntimeException("Error parsing bean: " + beanType.getName() + "::" + propName + ", " + ex.getMessage(), ex);
         }
     }
 
+    // sets a property by ordinal, returning false if the builder does not support ordinals
+    private static boolean setByOrdinal(BeanBuilder<?> builder, MetaProperty<?> metaProp, Object value) {
+        int ordinal = metaProp.ordinal();
+        if (ordinal < 0) {
+            return false;
+        }
+        try {
+            builder.set(ordinal, value);
+            return true;
+        } catch (UnsupportedOperationException ex) {
+            // builders generated by earlier versions only support setting by name
+            return false;
+        }
+    }
+
     private Object parseObject(Class<?> declaredType, MetaProperty<?> metaProp, Class<?> beanType, SerIterable parentIterable, boolean rootType) throws Exception {
         // establish type
         Class<?> effectiveType = declaredType;
         String metaType = null;
         int typeByte = input.readByte();
-        if (isMap(typeByte)) {
-            input.mark(8);
-            int mapSize = acceptMap(typeByte);
-            if (mapSize > 0) {
-                int typeByteTemp = input.readByte();
-                if (typeByteTemp == EXT_8) {
-                    int size = input.readUnsignedByte();
-                    typeByteTemp = input.readByte();
-                    if (typeByteTemp == JODA_TYPE_BEAN) {
-                        String typeStr = acceptStringBytes(size);
-                        effectiveType = SerTypeMapper.decodeType(typeStr, settings, basePackage, knownTypes);
-                        if (rootType) {
-                            if (Bean.class.isAssignableFrom(effectiveType) == false) {
-                                throw new IllegalArgumentException("Root type is not a Joda-Bean: " + effectiveType.getName());
-                            }
-                            basePackage = effectiveType.getPackage().getName() + ".";
-                        }
-                        if (declaredType.isAssignableFrom(effectiveType) == false) {
-                            throw new IllegalArgumentException("Specified type is incompatible with declared type: " + declaredType.getName() + " and " + effectiveType.getName());
-                        }
-                        if (input.readByte() != NIL) {
-                            throw new IllegalArgumentException("Invalid binary data: Expected null after bean type");
-                        }
-                        return parseBean(mapSize - 1, effectiveType);
-                    } else if (typeByteTemp == JODA_TYPE_DATA) {
-                        if (mapSize != 1) {
-                            throw new IllegalArgumentException("Invalid binary data: Expected map size 1, but was: " + mapSize);
-                        }
-                        String typeStr = acceptStringBytes(size);
-                        effectiveType = settings.getDeserializers().decodeType(typeStr, settings, basePackage, knownTypes, declaredType);
-                        if (declaredType.isAssignableFrom(effectiveType) == false) {
-                            throw new IllegalArgumentException("Specified type is incompatible with declared type: " + declaredType.getName() + " and " + effectiveType.getName());
-                        }
-                        typeByte = input.readByte();
-                    } else if (typeByteTemp == JODA_TYPE_META) {
-                        if (mapSize != 1) {
-                            throw new IllegalArgumentException("Invalid binary data: Expected map size 1, but was: " + mapSize);
-                        }
-                        metaType = acceptStringBytes(size);
-                        typeByte = input.readByte();
-                    } else {
-                        input.reset();
-                    }
-                } else {
-                    input.reset();
-                }
-            } else {
-                input.reset();
+        if (acceptSized(typeByte)) {
+            return parseObject(declaredType, metaProp, beanType, parentIterable, rootType);
+        }
+        if (isMap(typeByte) && typeByte != MIN_FIX_MAP) {
+            // peek past the map header to find any type information
+            int headerSize = (typeByte == MAP_16 ? 2 : (typeByte == MAP_32 ? 4 : 0));
+            int typeByteTemp = peekTypeExtension(headerSize);
+            if (typeByteTemp == JODA_TYPE_BEAN) {
+                int mapSize = acceptMap(typeByte);
+                effectiveType = acceptBeanType(declaredType, rootType);
+                return parseBean(mapSize - 1, effectiveType);
+            } else if (typeByteTemp == JODA_TYPE_DATA) {
+                acceptTypeMap(typeByte);
+                effectiveType = acceptDataType(declaredType);
+                typeByte = input.readByte();
+            } else if (typeByteTemp == JODA_TYPE_META) {
+                acceptTypeMap(typeByte);
+                metaType = acceptTypeString();
+                typeByte = input.readByte();
             }
         }
         // parse based on type
@@ -259,17 +623,7 @@ public class JodaBeanBinReader extends MsgPack {
             }
         } else {
             if (isMap(typeByte) || isArray(typeByte)) {
-                SerIterable childIterable = null;
-                if (metaType != null) {
-                    childIterable = settings.getIteratorFactory().createIterable(metaType, settings, knownTypes);
-                } else if (metaProp != null) {
-                    childIterable = settings.getIteratorFactory().createIterable(metaProp, beanType);
-                } else if (parentIterable != null) {
-                    childIterable = settings.getIteratorFactory().createIterable(parentIterable);
-                }
-                if (childIterable == null) {
-                    throw new IllegalArgumentException("Invalid binary data: Invalid metaType: " + metaType);
-                }
+                SerIterable childIterable = createIterable(metaType, metaProp, beanType, parentIterable);
                 return parseIterable(typeByte, childIterable);
             } else {
                 return parseSimple(typeByte, effectiveType);
@@ -277,6 +631,75 @@ public class JodaBeanBinReader extends MsgPack {
         }
     }
 
+    // accepts the header of the map of size one that holds a simple-type or meta-type and the value
+    void acceptTypeMap(int typeByte) throws IOException {
+        int mapSize = acceptMap(typeByte);
+        if (mapSize != 1) {
+            throw new IllegalArgumentException("Invalid binary data: Expected map size 1, but was: " + mapSize);
+        }
+    }
+
+    // accepts the bean-type that has been found by peeking and the null that follows it
+    Class<?> acceptBeanType(Class<?> declaredType, boolean rootType) throws Exception {
+        String typeStr = acceptTypeString();
+        Class<?> effectiveType = SerTypeMapper.decodeType(typeStr, settings, basePackage, knownTypes);
+        if (rootType) {
+            if (Bean.class.isAssignableFrom(effectiveType) == false) {
+                throw new IllegalArgumentException("Root type is not a Joda-Bean: " + effectiveType.getName());
+            }
+            if (basePackage == null) {
+                // in a stream, the base package is fixed by the first bean as the known types depend on it
+                basePackage = effectiveType.getPackage().getName() + ".";
+            }
+        }
+        if (declaredType.isAssignableFrom(effectiveType) == false) {
+            throw new IllegalArgumentException("Specified type is incompatible with declared type: " + declaredType.getName() + " and " + effectiveType.getName());
+        }
+        if (input.readByte() != NIL) {
+            throw new IllegalArgumentException("Invalid binary data: Expected null after bean type");
+        }
+        return effectiveType;
+    }
+
+    // accepts the simple-type that has been found by peeking
+    Class<?> acceptDataType(Class<?> declaredType) throws Exception {
+        String typeStr = acceptTypeString();
+        Class<?> effectiveType = settings.getDeserializers().decodeType(typeStr, settings, basePackage, knownTypes, declaredType);
+        if (declaredType.isAssignableFrom(effectiveType) == false) {
+            throw new IllegalArgumentException("Specified type is incompatible with declared type: " + declaredType.getName() + " and " + effectiveType.getName());
+        }
+        return effectiveType;
+    }
+
+    // creates the iterable for a collection, using the meta-type, meta-property or parent, whichever is available
+    SerIterable createIterable(String metaType, MetaProperty<?> metaProp, Class<?> beanType, SerIterable parentIterable) throws Exception {
+        SerIterable childIterable = null;
+        if (metaType != null) {
+            childIterable = settings.getIteratorFactory().createIterable(metaType, settings, knownTypes);
+        } else if (metaProp != null) {
+            childIterable = settings.getIteratorFactory().createIterable(metaProp, beanType);
+        } else if (parentIterable != null) {
+            childIterable = settings.getIteratorFactory().createIterable(parentIterable);
+        }
+        if (childIterable == null) {
+            throw new IllegalArgumentException("Invalid binary data: Invalid metaType: " + metaType);
+        }
+        return childIterable;
+    }
+
+    // accepts the header of a sized value, which is simply a wrapper around the actual value
+    boolean acceptSized(int typeByte) throws IOException {
+        int headerSize = (typeByte == EXT_8 ? 1 : (typeByte == EXT_16 ? 2 : (typeByte == EXT_32 ? 4 : 0)));
+        if (headerSize > 0) {
+            int extType = input.peekByte(headerSize);
+            if (extType == JODA_SIZED || extType == JODA_SIZED_DEFINING) {
+                input.skip(headerSize + 1);
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Object parseIterable(int typeByte, SerIterable iterable) throws Exception {
         if (iterable.category() == SerCategory.MAP) {
             return parseIterableMap(typeByte, iterable);
@@ -406,12 +829,22 @@ public class JodaBeanBinReader extends MsgPack {
             case BIN_16:
             case BIN_32:
                 return acceptBinary(typeByte);
+            case EXT_8:
+            case EXT_16:
+            case EXT_32: {
+                Object array = acceptPrimitiveArray(typeByte);
+                if (type.isInstance(array) == false) {
+                    throw new IllegalArgumentException(
+                            "Invalid binary data: Expected " + type.getName() + ", but was: " + array.getClass().getSimpleName());
+                }
+                return array;
+            }
         }
         throw new IllegalArgumentException("Invalid binary data: Expected " + type.getName() + ", but was: 0x" + toHex(typeByte));
     }
 
     //-----------------------------------------------------------------------
-    private int acceptMap(int typeByte) throws IOException {
+    int acceptMap(int typeByte) throws IOException {
         int size;
         if (typeByte >= MIN_FIX_MAP && typeByte <= MAX_FIX_MAP) {
             size = (typeByte - MIN_FIX_MAP);
@@ -428,7 +861,7 @@ public class JodaBeanBinReader extends MsgPack {
         return size;
     }
 
-    private int acceptArray(int typeByte) throws IOException {
+    int acceptArray(int typeByte) throws IOException {
         int size;
         if (typeByte >= MIN_FIX_ARRAY && typeByte <= MAX_FIX_ARRAY) {
             size = (typeByte - MIN_FIX_ARRAY);
@@ -445,7 +878,7 @@ public class JodaBeanBinReader extends MsgPack {
         return size;
     }
 
-    private String acceptString(int typeByte) throws IOException {
+    String acceptString(int typeByte) throws IOException {
         int size;
         if (typeByte >= MIN_FIX_STR && typeByte <= MAX_FIX_STR) {
             size = (typeByte - MIN_FIX_STR);
@@ -461,26 +894,139 @@ public class JodaBeanBinReader extends MsgPack {
         } else {
             throw new IllegalArgumentException("Invalid binary data: Expected string, but was: 0x" + toHex(typeByte));
         }
-        return acceptStringBytes(size);
+        return input.readString(size);
     }
 
-    private String acceptStringBytes(int size) throws IOException {
-        byte[] bytes = new byte[size];
-        input.readFully(bytes);
-        // inline common ASCII case for much better performance
-        char[] chars = new char[size];
-        for (int i = 0; i < size; i++) {
-            byte b = bytes[i];
-            if (b >= 0) {
-                chars[i] = (char) b;
-            } else {
-                return new String(bytes, UTF_8);
+    // peeks the byte at the offset to find an extension holding a type, returning zero if not found
+    int peekTypeExtension(int offset) throws IOException {
+        int extByte = input.peekByte(offset);
+        if (extByte == EXT_8) {
+            int typeCode = input.peekByte(offset + 2);
+            if (typeCode == JODA_TYPE_BEAN || typeCode == JODA_TYPE_DATA || typeCode == JODA_TYPE_META) {
+                return typeCode;
+            }
+        } else if (referencing && (extByte == FIX_EXT_1 || extByte == FIX_EXT_2 || extByte == FIX_EXT_4)) {
+            switch (input.peekByte(offset + 1)) {
+                case JODA_TYPE_BEAN_REF:
+                    return JODA_TYPE_BEAN;
+                case JODA_TYPE_DATA_REF:
+                    return JODA_TYPE_DATA;
+                case JODA_TYPE_META_REF:
+                    return JODA_TYPE_META;
+            }
+        }
+        return 0;
+    }
+
+    // reads a type extension that has been found by peeking, handling references
+    String acceptTypeString() throws IOException {
+        int extByte = input.readByte();
+        if (extByte == EXT_8) {
+            // EXT_8, size, type code, data
+            int size = input.readUnsignedByte();
+            input.readByte();
+            String str = input.readString(size);
+            if (referencing) {
+                defineType(str);
+            }
+            return str;
+        }
+        // FIX_EXT_n, type code, reference
+        input.readByte();
+        return lookupReference(typeTable, acceptReference(extByte));
+    }
+
+    String acceptPropertyName(int typeByte) throws IOException {
+        if (referencing) {
+            if (isIntegral(typeByte)) {
+                return lookupReference(propertyNameTable, acceptInteger(typeByte));
             }
+            if (typeByte == EXT_8) {
+                int size = input.readUnsignedByte();
+                int typeCode = input.readByte();
+                if (typeCode != JODA_PROPERTY_NAME) {
+                    throw new IllegalArgumentException("Invalid binary data: Expected property name, but was extension: " + typeCode);
+                }
+                String str = input.readString(size);
+                definePropertyName(str);
+                return str;
+            }
+        }
+        return acceptString(typeByte);
+    }
+
+    private int acceptReference(int extByte) throws IOException {
+        switch (extByte) {
+            case FIX_EXT_1:
+                return input.readUnsignedByte();
+            case FIX_EXT_2:
+                return input.readUnsignedShort();
+            case FIX_EXT_4:
+                return input.readInt();
+        }
+        throw new IllegalArgumentException("Invalid binary data: Expected reference, but was: 0x" + toHex(extByte));
+    }
+
+    private static String lookupReference(List<String> table, int reference) {
+        if (reference < 0 || reference >= table.size()) {
+            throw new IllegalArgumentException("Invalid binary data: Reference not found: " + reference);
+        }
+        return table.get(reference);
+    }
+
+    // defines a property name, unless it was defined when the data was first read
+    private void definePropertyName(String name) {
+        if (propertyNameCount == propertyNameTable.size()) {
+            propertyNameTable.add(name);
+        }
+        propertyNameCount++;
+    }
+
+    // defines a type, unless it was defined when the data was first read
+    private void defineType(String type) {
+        if (typeCount == typeTable.size()) {
+            typeTable.add(type);
         }
-        return new String(chars);
+        typeCount++;
     }
 
-    private byte[] acceptBinary(int typeByte) throws IOException {
+    // skips an object, capturing any definitions within it that may be referred to later
+    void skipObject() throws IOException {
+        new DefinitionSkipper(input).skip(input.readByte());
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Skips an object, capturing definitions.
+     * <p>
+     * In the referencing format, property names and types are added to the tables.
+     * In the standard format, types are decoded so that short type names work later.
+     */
+    private final class DefinitionSkipper extends MsgPackInput.Skipper {
+        DefinitionSkipper(MsgPackSource input) {
+            super(input);
+        }
+
+        @Override
+        protected void handleExtension(int type, byte[] bytes) throws IOException {
+            if (type == JODA_PROPERTY_NAME) {
+                definePropertyName(new String(bytes, UTF_8));
+            } else if (type == JODA_TYPE_BEAN || type == JODA_TYPE_DATA || type == JODA_TYPE_META) {
+                String str = new String(bytes, UTF_8);
+                if (referencing) {
+                    defineType(str);
+                } else if (type != JODA_TYPE_META) {
+                    try {
+                        SerTypeMapper.decodeType(str, settings, basePackage, knownTypes);
+                    } catch (ClassNotFoundException ex) {
+                        // ignore, as skipped data may refer to unknown types
+                    }
+                }
+            }
+        }
+    }
+
+    byte[] acceptBinary(int typeByte) throws IOException {
         int size;
         if (typeByte == BIN_8) {
             size = input.readUnsignedByte();
@@ -499,7 +1045,67 @@ public class JodaBeanBinReader extends MsgPack {
         return bytes;
     }
 
-    private int acceptInteger(int typeByte) throws IOException {
+    Object acceptPrimitiveArray(int typeByte) throws IOException {
+        int size;
+        if (typeByte == EXT_8) {
+            size = input.readUnsignedByte();
+        } else if (typeByte == EXT_16) {
+            size = input.readUnsignedShort();
+        } else {
+            size = input.readInt();
+            if (size < 0) {
+                throw new IllegalArgumentException("Invalid binary data: Extension too large");
+            }
+        }
+        int typeCode = input.readByte();
+        switch (typeCode) {
+            case JODA_ARRAY_BOOLEAN: {
+                boolean[] array = new boolean[size];
+                input.readFully(array);
+                return array;
+            }
+            case JODA_ARRAY_SHORT: {
+                short[] array = new short[checkArraySize(size, 2)];
+                input.readFully(array);
+                return array;
+            }
+            case JODA_ARRAY_CHAR: {
+                char[] array = new char[checkArraySize(size, 2)];
+                input.readFully(array);
+                return array;
+            }
+            case JODA_ARRAY_INT: {
+                int[] array = new int[checkArraySize(size, 4)];
+                input.readFully(array);
+                return array;
+            }
+            case JODA_ARRAY_LONG: {
+                long[] array = new long[checkArraySize(size, 8)];
+                input.readFully(array);
+                return array;
+            }
+            case JODA_ARRAY_FLOAT: {
+                float[] array = new float[checkArraySize(size, 4)];
+                input.readFully(array);
+                return array;
+            }
+            case JODA_ARRAY_DOUBLE: {
+                double[] array = new double[checkArraySize(size, 8)];
+                input.readFully(array);
+                return array;
+            }
+        }
+        throw new IllegalArgumentException("Invalid binary data: Unexpected extension type: " + typeCode);
+    }
+
+    private static int checkArraySize(int byteSize, int elementSize) {
+        if (byteSize % elementSize != 0) {
+            throw new IllegalArgumentException("Invalid binary data: Array size invalid: " + byteSize);
+        }
+        return byteSize / elementSize;
+    }
+
+    int acceptInteger(int typeByte) throws IOException {
         if (typeByte >= MIN_FIX_INT && typeByte <= MAX_FIX_INT) {
             return typeByte;
         }
@@ -539,7 +1145,7 @@ public class JodaBeanBinReader extends MsgPack {
         throw new IllegalArgumentException("Invalid binary data: Expected int, but was: 0x" + toHex(typeByte));
     }
 
-    private long acceptLong(int typeByte) throws IOException {
+    long acceptLong(int typeByte) throws IOException {
         if (typeByte >= MIN_FIX_INT && typeByte <= MAX_FIX_INT) {
             return typeByte;
         }
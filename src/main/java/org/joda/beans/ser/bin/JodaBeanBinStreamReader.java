@@ -0,0 +1,160 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.joda.beans.Bean;
+import org.joda.beans.ser.JodaBeanSer;
+
+/**
+ * Provides the ability to read a stream of Joda-Beans from a binary format.
+ * <p>
+ * The binary format is defined by {@link JodaBeanBinStreamWriter}.
+ * <p>
+ * The beans must be read in order, as the tables of property names and types
+ * are shared between all the beans in the stream.
+ * The beans can be read one at a time using {@link #read()}, or via
+ * an {@code Iterator} or {@code Stream}, which are consumed as they are read.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ *
+ * @author Stephen Colebourne
+ */
+public class JodaBeanBinStreamReader implements Closeable {
+
+    /**
+     * The source to read from.
+     */
+    private final MsgPackSource source;
+    /**
+     * The reader, which retains state between beans.
+     */
+    private final JodaBeanBinReader reader;
+    /**
+     * Whether the stream header has been read.
+     */
+    private boolean started;
+
+    /**
+     * Creates an instance.
+     * <p>
+     * The stream header is read when the first bean is read.
+     *
+     * @param settings  the settings to use, not null
+     * @param stream  the stream to read from, not null
+     */
+    public JodaBeanBinStreamReader(final JodaBeanSer settings, final InputStream stream) {
+        if (settings == null) {
+            throw new NullPointerException("settings");
+        }
+        if (stream == null) {
+            throw new NullPointerException("stream");
+        }
+        this.source = MsgPackSource.ofStream(stream);
+        this.reader = new JodaBeanBinReader(settings);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads the next bean from the stream.
+     *
+     * @return the bean, null at the end of the stream
+     */
+    public Bean read() {
+        try {
+            if (started == false) {
+                reader.startStream(source);
+                started = true;
+            }
+            return reader.readStreamBean();
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Returns an iterator over the remaining beans in the stream.
+     * <p>
+     * The iterator consumes the stream as it is iterated.
+     *
+     * @return the iterator, not null
+     */
+    public Iterator<Bean> iterator() {
+        return new Iterator<Bean>() {
+            private Bean next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    next = read();
+                }
+                return next != null;
+            }
+
+            @Override
+            public Bean next() {
+                if (hasNext() == false) {
+                    throw new NoSuchElementException();
+                }
+                Bean bean = next;
+                next = null;
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential stream of the remaining beans in the stream.
+     * <p>
+     * Closing the returned stream closes this reader.
+     *
+     * @return the stream, not null
+     */
+    public Stream<Bean> stream() {
+        Spliterator<Bean> spliterator = Spliterators.spliteratorUnknownSize(
+                iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    /**
+     * Closes the underlying stream.
+     *
+     * @throws IOException if an error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+}
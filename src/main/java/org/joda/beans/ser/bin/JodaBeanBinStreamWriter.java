@@ -0,0 +1,113 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.joda.beans.Bean;
+import org.joda.beans.ser.JodaBeanSer;
+
+/**
+ * Provides the ability to write a stream of Joda-Beans to a binary format.
+ * <p>
+ * The stream starts with a header, the MessagePack integer 3, followed by each bean
+ * in turn, as written by {@link JodaBeanBinWriter} in the referencing format including the type.
+ * There is no root array for each bean, and the stream ends at the end of the data.
+ * <p>
+ * The tables of property names and types are shared between all the beans in the stream.
+ * Once a property name or type has been written, it is only referenced by subsequent beans,
+ * producing much smaller output than writing each bean separately.
+ * As a result, the beans cannot be read individually, and must be read in order using
+ * {@link JodaBeanBinStreamReader}.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ *
+ * @author Stephen Colebourne
+ */
+public class JodaBeanBinStreamWriter implements Flushable, Closeable {
+
+    /**
+     * The underlying stream.
+     */
+    private final OutputStream stream;
+    /**
+     * The writer, which retains state between beans.
+     */
+    private final JodaBeanBinWriter writer;
+
+    /**
+     * Creates an instance, writing the stream header.
+     * <p>
+     * The header is buffered, and is not written to the stream until the stream is flushed.
+     *
+     * @param settings  the settings to use, not null
+     * @param stream  the stream to write to, not null
+     * @throws IOException if an error occurs
+     */
+    public JodaBeanBinStreamWriter(final JodaBeanSer settings, final OutputStream stream) throws IOException {
+        if (stream == null) {
+            throw new NullPointerException("stream");
+        }
+        this.stream = stream;
+        this.writer = new JodaBeanBinWriter(settings, JodaBeanBinFormat.REFERENCING);
+        writer.startStream(MsgPackSink.ofStream(stream));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes a bean to the stream.
+     * <p>
+     * The bean may be buffered, and is not guaranteed to be written to the stream until flushed.
+     *
+     * @param bean  the bean to output, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(final Bean bean) throws IOException {
+        if (bean == null) {
+            throw new NullPointerException("bean");
+        }
+        writer.writeStreamBean(bean);
+    }
+
+    /**
+     * Writes any buffered data and flushes the underlying stream.
+     *
+     * @throws IOException if an error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        writer.finishStream();
+        stream.flush();
+    }
+
+    /**
+     * Writes any buffered data and closes the underlying stream.
+     *
+     * @throws IOException if an error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.finishStream();
+        } finally {
+            stream.close();
+        }
+    }
+
+}
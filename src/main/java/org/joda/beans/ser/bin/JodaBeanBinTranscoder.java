@@ -0,0 +1,757 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import static org.joda.beans.ser.bin.MsgPack.BIN_16;
+import static org.joda.beans.ser.bin.MsgPack.BIN_32;
+import static org.joda.beans.ser.bin.MsgPack.BIN_8;
+import static org.joda.beans.ser.bin.MsgPack.EXT_16;
+import static org.joda.beans.ser.bin.MsgPack.EXT_32;
+import static org.joda.beans.ser.bin.MsgPack.EXT_8;
+import static org.joda.beans.ser.bin.MsgPack.FALSE;
+import static org.joda.beans.ser.bin.MsgPack.FLOAT_32;
+import static org.joda.beans.ser.bin.MsgPack.FLOAT_64;
+import static org.joda.beans.ser.bin.MsgPack.JODA_TYPE_BEAN;
+import static org.joda.beans.ser.bin.MsgPack.JODA_TYPE_DATA;
+import static org.joda.beans.ser.bin.MsgPack.JODA_TYPE_META;
+import static org.joda.beans.ser.bin.MsgPack.MAP_16;
+import static org.joda.beans.ser.bin.MsgPack.MAP_32;
+import static org.joda.beans.ser.bin.MsgPack.MIN_FIX_MAP;
+import static org.joda.beans.ser.bin.MsgPack.NIL;
+import static org.joda.beans.ser.bin.MsgPack.TRUE;
+import static org.joda.beans.ser.bin.MsgPack.isArray;
+import static org.joda.beans.ser.bin.MsgPack.isIntegral;
+import static org.joda.beans.ser.bin.MsgPack.isMap;
+import static org.joda.beans.ser.bin.MsgPack.isString;
+import static org.joda.beans.ser.bin.MsgPack.toHex;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerCategory;
+import org.joda.beans.ser.SerDeserializer;
+import org.joda.beans.ser.SerIterable;
+import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerTypeMapper;
+import org.joda.beans.ser.json.AbstractJsonTranscoder;
+
+/**
+ * Provides the ability to transcode between JSON and the binary format without creating beans.
+ * <p>
+ * The JSON format is that of {@code JodaBeanJsonWriter} and the binary format is that of
+ * {@link JodaBeanBinWriter}. The output is the same as would be produced by reading
+ * the input to a bean and writing the bean, except that null values are retained.
+ * <p>
+ * The input is read one token at a time and the output written as it is read.
+ * The meta-bean of each bean is used to find the type of each property, which determines
+ * how numbers, map keys and collections are represented in the output.
+ * No beans or collections are created, and simple values are passed through as strings
+ * wherever both formats represent them as strings.
+ * <p>
+ * Binary output is in the {@link JodaBeanBinFormat#STANDARD standard} format.
+ * Since the binary format writes the size of each map and array before the content,
+ * the content is written to a buffer for each level of nesting, which is retained for the next use.
+ * Binary input may be in any format, including sized values.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ * An instance may be reused for multiple messages.
+ *
+ * @author Stephen Colebourne
+ */
+public class JodaBeanBinTranscoder extends AbstractJsonTranscoder {
+
+    /**
+     * The settings to use.
+     */
+    private final JodaBeanSer settings;
+    /**
+     * The base package of the output including the trailing dot.
+     */
+    private String outputBasePackage;
+    /**
+     * The known types of the output.
+     */
+    private final Map<Class<?>, String> outputKnownTypes = new HashMap<>();
+    /**
+     * The binary output, when transcoding JSON to binary.
+     */
+    private MsgPackOutput binOutput;
+    /**
+     * The outputs that are suspended while the content of a map or array is written.
+     */
+    private final List<MsgPackOutput> suspendedOutputs = new ArrayList<>();
+    /**
+     * The outputs used to write the content of maps and arrays, indexed by nesting depth.
+     */
+    private final List<MsgPackOutput> contentOutputs = new ArrayList<>();
+    /**
+     * The binary input, when transcoding binary to JSON.
+     */
+    private MsgPackSource binInput;
+    /**
+     * The reader used to interpret the binary input.
+     */
+    private final JodaBeanBinReader binReader;
+
+    /**
+     * Creates an instance.
+     *
+     * @param settings  the settings to use, not null
+     */
+    public JodaBeanBinTranscoder(JodaBeanSer settings) {
+        super(settings);
+        this.settings = settings;
+        this.binReader = new JodaBeanBinReader(settings);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Transcodes JSON to the binary format.
+     * <p>
+     * The JSON must contain the type of the root bean.
+     *
+     * @param input  the JSON input, not null
+     * @return the binary data, not null
+     */
+    public byte[] jsonToBin(String input) {
+        return jsonToBin(input, Bean.class);
+    }
+
+    /**
+     * Transcodes JSON to the binary format.
+     *
+     * @param input  the JSON input, not null
+     * @param rootType  the root type, used if the JSON does not contain the type of the root bean, not null
+     * @return the binary data, not null
+     */
+    public byte[] jsonToBin(String input, Class<?> rootType) {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(rootType, "rootType");
+        MsgPackSink sink = MsgPackSink.ofBuffer(ByteBuffer.allocate(1024));
+        try {
+            jsonToBin(input, null, rootType, sink);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        ByteBuffer buffer = sink.buffer;
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    /**
+     * Transcodes JSON to the binary format.
+     *
+     * @param input  the JSON input, not null
+     * @param rootType  the root type, used if the JSON does not contain the type of the root bean, not null
+     * @param output  the binary output, not null
+     * @throws IOException if an error occurs
+     */
+    public void jsonToBin(Reader input, Class<?> rootType, OutputStream output) throws IOException {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(rootType, "rootType");
+        JodaBeanUtils.notNull(output, "output");
+        jsonToBin(null, input, rootType, MsgPackSink.ofStream(output));
+    }
+
+    // one of the string or reader inputs is non-null
+    private void jsonToBin(String inputStr, Reader input, Class<?> rootType, MsgPackSink sink) throws IOException {
+        reset();
+        binOutput = new MsgPackOutput(sink);
+        try {
+            binOutput.writeArrayHeader(2);
+            binOutput.writeInt(JodaBeanBinFormat.STANDARD.getVersion());
+            if (inputStr != null) {
+                readJson(inputStr, rootType);
+            } else {
+                readJson(input, rootType);
+            }
+            binOutput.finish();
+        } catch (RuntimeException | IOException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        } finally {
+            binOutput = null;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Transcodes the binary format to JSON.
+     * <p>
+     * The binary data must contain the type of the root bean.
+     *
+     * @param input  the binary input, not null
+     * @return the JSON, not null
+     */
+    public String binToJson(byte[] input) {
+        return binToJson(input, Bean.class);
+    }
+
+    /**
+     * Transcodes the binary format to JSON.
+     *
+     * @param input  the binary input, not null
+     * @param rootType  the root type, used if the binary data does not contain the type of the root bean, not null
+     * @return the JSON, not null
+     */
+    public String binToJson(byte[] input, Class<?> rootType) {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(rootType, "rootType");
+        StringBuilder buf = new StringBuilder(input.length * 2);
+        try {
+            binToJson(MsgPackSource.ofBytes(input), rootType, buf);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Transcodes the binary format to JSON.
+     *
+     * @param input  the binary input, not null
+     * @param rootType  the root type, used if the binary data does not contain the type of the root bean, not null
+     * @param output  the JSON output, not null
+     * @throws IOException if an error occurs
+     */
+    public void binToJson(InputStream input, Class<?> rootType, Appendable output) throws IOException {
+        JodaBeanUtils.notNull(input, "input");
+        JodaBeanUtils.notNull(rootType, "rootType");
+        JodaBeanUtils.notNull(output, "output");
+        binToJson(MsgPackSource.ofStream(input), rootType, output);
+    }
+
+    private void binToJson(MsgPackSource source, Class<?> rootType, Appendable output) throws IOException {
+        reset();
+        binInput = source;
+        binReader.startTranscode(source);
+        startJson(output);
+        try {
+            binReader.acceptRootHeader();
+            binObject(rootType, null, null, null, true);
+            output.append(settings.getNewLine());
+        } catch (RuntimeException | IOException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        } finally {
+            source.close();
+            binInput = null;
+            endJson();
+        }
+    }
+
+    // resets the state of any previous message, allowing the transcoder to be reused
+    private void reset() {
+        outputBasePackage = null;
+        outputKnownTypes.clear();
+        suspendedOutputs.clear();
+        for (MsgPackOutput contentOutput : contentOutputs) {
+            contentOutput.buffer().clear();
+        }
+    }
+
+    // encodes a type for the output
+    private String encodeType(Class<?> type) {
+        return SerTypeMapper.encodeType(type, settings, outputBasePackage, outputKnownTypes);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    protected void writeNil() throws IOException {
+        binOutput.writeNil();
+    }
+
+    @Override
+    protected void writeBoolean(boolean value) throws IOException {
+        binOutput.writeBoolean(value);
+    }
+
+    @Override
+    protected void writeInt(int value) throws IOException {
+        binOutput.writeInt(value);
+    }
+
+    @Override
+    protected void writeLong(long value) throws IOException {
+        binOutput.writeLong(value);
+    }
+
+    @Override
+    protected void writeFloat(float value) throws IOException {
+        binOutput.writeFloat(value);
+    }
+
+    @Override
+    protected void writeDouble(double value) throws IOException {
+        binOutput.writeDouble(value);
+    }
+
+    @Override
+    protected void writeString(String value) throws IOException {
+        binOutput.writeString(value);
+    }
+
+    @Override
+    protected void writeBytes(byte[] value) throws IOException {
+        binOutput.writeBytes(value);
+    }
+
+    @Override
+    protected void writeBeanType(Class<?> beanType, boolean rootType) throws IOException {
+        binOutput.writeExtensionString(JODA_TYPE_BEAN, encodeType(beanType));
+        if (rootType) {
+            outputBasePackage = beanType.getPackage().getName() + ".";
+        }
+        binOutput.writeNil();
+    }
+
+    // these types are never written with a type by JodaBeanBinWriter
+    @Override
+    protected boolean isSelfDescribing(Class<?> type) {
+        return type == Integer.class || type == Double.class || type == Float.class || type == Boolean.class;
+    }
+
+    @Override
+    protected void writeDataType(Class<?> type) throws IOException {
+        binOutput.writeMapHeader(1);
+        binOutput.writeExtensionString(JODA_TYPE_DATA, encodeType(type));
+    }
+
+    @Override
+    protected void writeMetaType(String metaType) throws IOException {
+        binOutput.writeMapHeader(1);
+        binOutput.writeExtensionString(JODA_TYPE_META, metaType);
+    }
+
+    @Override
+    protected void writeArrayHeader(int size) throws IOException {
+        binOutput.writeArrayHeader(size);
+    }
+
+    // starts writing the content of a map or array, whose size is not yet known
+    @Override
+    protected void startContent() {
+        int depth = suspendedOutputs.size();
+        if (depth == contentOutputs.size()) {
+            contentOutputs.add(new MsgPackOutput(MsgPackSink.ofBuffer(ByteBuffer.allocate(256))));
+        }
+        suspendedOutputs.add(binOutput);
+        binOutput = contentOutputs.get(depth);
+    }
+
+    // ends the content of a map or array, returning the content, which must be cleared once written
+    private ByteBuffer endContent() {
+        ByteBuffer content = binOutput.buffer();
+        binOutput = suspendedOutputs.remove(suspendedOutputs.size() - 1);
+        content.flip();
+        return content;
+    }
+
+    @Override
+    protected void endMap(int size) throws IOException {
+        ByteBuffer content = endContent();
+        binOutput.writeMapHeader(size);
+        binOutput.writeEncoded(content);
+        content.clear();
+    }
+
+    @Override
+    protected void endArray(int size) throws IOException {
+        ByteBuffer content = endContent();
+        binOutput.writeArrayHeader(size);
+        binOutput.writeEncoded(content);
+        content.clear();
+    }
+
+    @Override
+    protected int startGridCell(int row, int column) throws IOException {
+        binOutput.writeArrayHeader(3);
+        binOutput.writeInt(row);
+        binOutput.writeInt(column);
+        return binOutput.buffer().position();
+    }
+
+    @Override
+    protected int contentPosition() {
+        return binOutput.buffer().position();
+    }
+
+    // the cells are written in the dense or sparse layout using the same rule as JodaBeanBinWriter
+    @Override
+    protected void endGrid(int rows, int columns, int[] cells, int size) throws IOException {
+        ByteBuffer content = endContent();
+        int totalSize = rows * columns;
+        if (size < (totalSize / 4)) {
+            // sparse
+            binOutput.writeArrayHeader(size + 2);
+            binOutput.writeInt(rows);
+            binOutput.writeInt(columns);
+            binOutput.writeEncoded(content);
+        } else {
+            // dense, written in row-major order
+            int[] cellIndex = new int[totalSize];
+            Arrays.fill(cellIndex, -1);
+            for (int i = 0; i < size; i++) {
+                int row = cells[i * 4];
+                int column = cells[i * 4 + 1];
+                if (row < 0 || row >= rows || column < 0 || column >= columns) {
+                    throw new IllegalArgumentException("Invalid JSON data: Grid cell out of range: " + row + "," + column);
+                }
+                cellIndex[row * columns + column] = i;
+            }
+            binOutput.writeArrayHeader(totalSize + 2);
+            binOutput.writeInt(rows);
+            binOutput.writeInt(columns);
+            for (int index : cellIndex) {
+                if (index < 0) {
+                    binOutput.writeNil();
+                } else {
+                    content.limit(cells[index * 4 + 3]).position(cells[index * 4 + 2]);
+                    binOutput.writeEncoded(content);
+                }
+            }
+        }
+        content.clear();
+    }
+
+    //-----------------------------------------------------------------------
+    // transcodes a binary object of any kind
+    private void binObject(
+            Class<?> declaredType, MetaProperty<?> metaProp, Class<?> beanType,
+            SerIterable parentIterable, boolean rootType) throws Exception {
+        // establish type
+        Class<?> effectiveType = declaredType;
+        String metaType = null;
+        boolean typed = false;
+        int typeByte = binInput.readByte();
+        if (binReader.acceptSized(typeByte)) {
+            binObject(declaredType, metaProp, beanType, parentIterable, rootType);
+            return;
+        }
+        if (isMap(typeByte) && typeByte != MIN_FIX_MAP) {
+            // peek past the map header to find any type information
+            int headerSize = (typeByte == MAP_16 ? 2 : (typeByte == MAP_32 ? 4 : 0));
+            int typeByteTemp = binReader.peekTypeExtension(headerSize);
+            if (typeByteTemp == JODA_TYPE_BEAN) {
+                int mapSize = binReader.acceptMap(typeByte);
+                effectiveType = binReader.acceptBeanType(declaredType, rootType);
+                binBean(mapSize - 1, effectiveType, true, rootType);
+                return;
+            } else if (typeByteTemp == JODA_TYPE_DATA) {
+                binReader.acceptTypeMap(typeByte);
+                effectiveType = binReader.acceptDataType(declaredType);
+                typeByte = binInput.readByte();
+                writeJsonTypedStart(encodeType(effectiveType));
+                typed = true;
+            } else if (typeByteTemp == JODA_TYPE_META) {
+                binReader.acceptTypeMap(typeByte);
+                metaType = binReader.acceptTypeString();
+                typeByte = binInput.readByte();
+            }
+        }
+        // transcode based on type
+        if (typeByte == NIL) {
+            writeJsonNull();
+        } else if (Bean.class.isAssignableFrom(effectiveType) && isMap(typeByte)) {
+            binBean(binReader.acceptMap(typeByte), effectiveType, rootType, rootType);
+        } else if (Bean.class.isAssignableFrom(effectiveType) == false && (isMap(typeByte) || isArray(typeByte))) {
+            SerIterable childIterable = binReader.createIterable(metaType, metaProp, beanType, parentIterable);
+            if (metaType != null) {
+                writeJsonMetaStart(metaType);
+                binIterable(typeByte, childIterable);
+                writeJsonObjectEnd();
+            } else {
+                binIterable(typeByte, childIterable);
+            }
+        } else {
+            binSimple(typeByte, effectiveType);
+        }
+        if (typed) {
+            writeJsonObjectEnd();
+        }
+    }
+
+    // transcodes a bean, the map header and any type having been read
+    private void binBean(int propertyCount, Class<?> beanType, boolean writeType, boolean rootType) throws Exception {
+        String propName = "";
+        try {
+            SerDeserializer deser = settings.getDeserializers().findDeserializer(beanType);
+            MetaBean metaBean = deser.findMetaBean(beanType);
+            String typeStr = null;
+            if (writeType) {
+                typeStr = encodeType(beanType);
+                if (rootType) {
+                    outputBasePackage = beanType.getPackage().getName() + ".";
+                }
+            }
+            writeJsonBeanStart(typeStr);
+            for (int i = 0; i < propertyCount; i++) {
+                propName = binReader.acceptPropertyName(binInput.readByte());
+                MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propName);
+                if (metaProp == null) {
+                    binReader.skipObject();
+                } else {
+                    writeJsonObjectKey(metaProp.name());
+                    binObject(SerOptional.extractType(metaProp, beanType), metaProp, beanType, null, false);
+                }
+                propName = "";
+            }
+            writeJsonObjectEnd();
+        } catch (Exception ex) {
+            throw new RuntimeException("Error parsing bean: " + beanType.getName() + "::" + propName + ", " + ex.getMessage(), ex);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private void binIterable(int typeByte, SerIterable iterable) throws Exception {
+        if (iterable.category() == SerCategory.MAP) {
+            binMap(typeByte, iterable);
+        } else if (iterable.category() == SerCategory.COUNTED) {
+            binCounted(typeByte, iterable);
+        } else if (iterable.category() == SerCategory.TABLE) {
+            binTable(typeByte, iterable);
+        } else if (iterable.category() == SerCategory.GRID) {
+            binGrid(typeByte, iterable);
+        } else {
+            binArray(typeByte, iterable);
+        }
+    }
+
+    // simple keys are written as a JSON object, other keys as an array of key-value pairs
+    private void binMap(int typeByte, SerIterable iterable) throws Exception {
+        int size = binReader.acceptMap(typeByte);
+        if (settings.getConverter().isConvertible(iterable.keyType())) {
+            writeJsonObjectStart();
+            for (int i = 0; i < size; i++) {
+                writeJsonObjectKey(binText(binInput.readByte(), iterable.keyType()));
+                binObject(iterable.valueType(), null, null, iterable, false);
+            }
+            writeJsonObjectEnd();
+        } else {
+            writeJsonArrayStart();
+            for (int i = 0; i < size; i++) {
+                writeJsonArrayItemStart();
+                writeJsonArrayStart();
+                writeJsonArrayItemStart();
+                binObject(iterable.keyType(), null, null, null, false);
+                writeJsonArrayItemStart();
+                binObject(iterable.valueType(), null, null, iterable, false);
+                writeJsonArrayEnd();
+            }
+            writeJsonArrayEnd();
+        }
+    }
+
+    private void binCounted(int typeByte, SerIterable iterable) throws Exception {
+        int size = binReader.acceptMap(typeByte);
+        writeJsonArrayStart();
+        for (int i = 0; i < size; i++) {
+            writeJsonArrayItemStart();
+            writeJsonArrayStart();
+            writeJsonArrayItemStart();
+            binObject(iterable.valueType(), null, null, iterable, false);
+            writeJsonArrayItemStart();
+            writeJsonInt(binReader.acceptInteger(binInput.readByte()));
+            writeJsonArrayEnd();
+        }
+        writeJsonArrayEnd();
+    }
+
+    private void binTable(int typeByte, SerIterable iterable) throws Exception {
+        int size = binReader.acceptArray(typeByte);
+        writeJsonArrayStart();
+        for (int i = 0; i < size; i++) {
+            if (binReader.acceptArray(binInput.readByte()) != 3) {
+                throw new IllegalArgumentException("Table must have cell array size 3");
+            }
+            writeJsonArrayItemStart();
+            writeJsonArrayStart();
+            writeJsonArrayItemStart();
+            binObject(iterable.keyType(), null, null, null, false);
+            writeJsonArrayItemStart();
+            binObject(iterable.columnType(), null, null, null, false);
+            writeJsonArrayItemStart();
+            binObject(iterable.valueType(), null, null, iterable, false);
+            writeJsonArrayEnd();
+        }
+        writeJsonArrayEnd();
+    }
+
+    // JSON always uses the sparse layout, omitting the empty cells of a dense grid
+    private void binGrid(int typeByte, SerIterable iterable) throws Exception {
+        int size = binReader.acceptArray(typeByte);
+        int rows = binReader.acceptInteger(binInput.readByte());
+        int columns = binReader.acceptInteger(binInput.readByte());
+        writeJsonArrayStart();
+        writeJsonArrayItemStart();
+        writeJsonInt(rows);
+        writeJsonArrayItemStart();
+        writeJsonInt(columns);
+        if ((rows * columns) != (size - 2)) {
+            // sparse
+            for (int i = 0; i < (size - 2); i++) {
+                if (binReader.acceptArray(binInput.readByte()) != 3) {
+                    throw new IllegalArgumentException("Grid must have cell array size 3");
+                }
+                int row = binReader.acceptInteger(binInput.readByte());
+                int column = binReader.acceptInteger(binInput.readByte());
+                binGridCell(row, column, iterable);
+            }
+        } else {
+            // dense
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column++) {
+                    if (binInput.peekByte(0) == NIL) {
+                        binInput.readByte();
+                    } else {
+                        binGridCell(row, column, iterable);
+                    }
+                }
+            }
+        }
+        writeJsonArrayEnd();
+    }
+
+    private void binGridCell(int row, int column, SerIterable iterable) throws Exception {
+        writeJsonArrayItemStart();
+        writeJsonArrayStart();
+        writeJsonArrayItemStart();
+        writeJsonInt(row);
+        writeJsonArrayItemStart();
+        writeJsonInt(column);
+        writeJsonArrayItemStart();
+        binObject(iterable.valueType(), null, null, iterable, false);
+        writeJsonArrayEnd();
+    }
+
+    private void binArray(int typeByte, SerIterable iterable) throws Exception {
+        int size = binReader.acceptArray(typeByte);
+        writeJsonArrayStart();
+        for (int i = 0; i < size; i++) {
+            writeJsonArrayItemStart();
+            binObject(iterable.valueType(), null, null, iterable, false);
+        }
+        writeJsonArrayEnd();
+    }
+
+    //-----------------------------------------------------------------------
+    // transcodes a binary simple value, adding the type where JSON requires it but the binary format does not
+    private void binSimple(int typeByte, Class<?> declaredType) throws Exception {
+        if (isString(typeByte)) {
+            writeJsonString(binReader.acceptString(typeByte));
+            return;
+        }
+        if (isIntegral(typeByte)) {
+            writeJsonLong(binReader.acceptLong(typeByte));
+            return;
+        }
+        switch (typeByte) {
+            case TRUE:
+                writeJsonBoolean(true);
+                return;
+            case FALSE:
+                writeJsonBoolean(false);
+                return;
+            case FLOAT_32: {
+                float value = binInput.readFloat();
+                boolean typed = startJsonType(Float.class, declaredType);
+                writeJsonFloat(value);
+                endJsonType(typed);
+                return;
+            }
+            case FLOAT_64: {
+                double value = binInput.readDouble();
+                boolean typed = (Double.isNaN(value) || Double.isInfinite(value)) && startJsonType(Double.class, declaredType);
+                writeJsonDouble(value);
+                endJsonType(typed);
+                return;
+            }
+            case BIN_8:
+            case BIN_16:
+            case BIN_32: {
+                byte[] bytes = binReader.acceptBinary(typeByte);
+                writeJsonString(settings.getConverter().convertToString(byte[].class, bytes));
+                return;
+            }
+            case EXT_8:
+            case EXT_16:
+            case EXT_32: {
+                Object array = binReader.acceptPrimitiveArray(typeByte);
+                boolean typed = startJsonType(array.getClass(), declaredType);
+                writeJsonString(settings.getConverter().convertToString(array));
+                endJsonType(typed);
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Invalid binary data: Expected " + declaredType.getName() + ", but was: 0x" + toHex(typeByte));
+    }
+
+    // writes the JSON object holding the type if the declared type requires it, as JodaBeanJsonWriter does
+    private boolean startJsonType(Class<?> realType, Class<?> declaredType) throws IOException {
+        if (declaredType == Object.class || settings.getConverter().isConvertible(declaredType) == false) {
+            Class<?> effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
+            writeJsonTypedStart(encodeType(effectiveType));
+            return true;
+        }
+        return false;
+    }
+
+    private void endJsonType(boolean typed) throws IOException {
+        if (typed) {
+            writeJsonObjectEnd();
+        }
+    }
+
+    // reads a simple value in its text form, as used for the key of a map
+    private String binText(int typeByte, Class<?> type) throws IOException {
+        if (isString(typeByte)) {
+            return binReader.acceptString(typeByte);
+        }
+        if (isIntegral(typeByte)) {
+            return Long.toString(binReader.acceptLong(typeByte));
+        }
+        switch (typeByte) {
+            case TRUE:
+                return "true";
+            case FALSE:
+                return "false";
+            case FLOAT_32:
+                return Float.toString(binInput.readFloat());
+            case FLOAT_64:
+                return Double.toString(binInput.readDouble());
+            case BIN_8:
+            case BIN_16:
+            case BIN_32:
+                return settings.getConverter().convertToString(byte[].class, binReader.acceptBinary(typeByte));
+        }
+        throw new IllegalArgumentException("Invalid binary data: Expected " + type.getName() + ", but was: 0x" + toHex(typeByte));
+    }
+
+}
@@ -0,0 +1,323 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.DynamicBean;
+import org.joda.beans.DynamicMetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.Property;
+import org.joda.beans.PropertyStyle;
+import org.joda.beans.impl.BasicMetaProperty;
+import org.joda.beans.impl.BasicProperty;
+
+/**
+ * A lazy read-only view of a Joda-Bean in binary format.
+ * <p>
+ * A view is obtained from {@link JodaBeanBinReader#readView(byte[])}.
+ * When the view is created, the data is scanned once to find the location of each property
+ * of the root bean, without parsing any property values.
+ * Each property value is then parsed from the underlying data on first access and cached.
+ * This allows a few properties to be read from a large message at low cost.
+ * <p>
+ * The view only exposes the properties that are present in the data, with the types
+ * of the real bean. The view cannot be altered; use {@link #toBean()} to parse the real bean.
+ * Property values are wrapped in any optional type in the same way as the real bean.
+ * <p>
+ * This class is thread-safe, with parsing synchronized on the view.
+ *
+ * @author Stephen Colebourne
+ */
+public final class JodaBeanBinView implements DynamicBean {
+
+    /**
+     * The reader, which retains the data and the definitions of the message.
+     */
+    private final JodaBeanBinReader reader;
+    /**
+     * The type of the real bean.
+     */
+    private final Class<? extends Bean> beanType;
+    /**
+     * The offset of the root of the message.
+     */
+    private final int rootOffset;
+    /**
+     * The meta-bean.
+     */
+    private final Meta meta;
+    /**
+     * The parsed values, keyed by property name.
+     */
+    private final Map<String, Object> values = new LinkedHashMap<>();
+
+    /**
+     * Creates an instance.
+     *
+     * @param reader  the reader positioned within the data, not null
+     * @param beanType  the type of the real bean, not null
+     * @param rootOffset  the offset of the root of the message
+     * @param slots  the locations of the property values, not null
+     */
+    JodaBeanBinView(JodaBeanBinReader reader, Class<? extends Bean> beanType, int rootOffset, List<Slot> slots) {
+        this.reader = reader;
+        this.beanType = beanType;
+        this.rootOffset = rootOffset;
+        this.meta = new Meta(slots);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the type of the real bean that the data represents.
+     *
+     * @return the bean type, not null
+     */
+    public Class<? extends Bean> getBeanType() {
+        return beanType;
+    }
+
+    /**
+     * Gets the value of a property, parsing it on first access.
+     *
+     * @param propertyName  the property name, not null
+     * @return the value of the property, may be null
+     * @throws NoSuchElementException if the property is not present in the data
+     */
+    public synchronized Object get(String propertyName) {
+        if (values.containsKey(propertyName)) {
+            return values.get(propertyName);
+        }
+        Slot slot = meta.metaProperty(propertyName).slot;
+        Object value = reader.parseViewValue(slot, beanType);
+        values.put(propertyName, value);
+        return value;
+    }
+
+    /**
+     * Parses the whole of the data, returning the real bean.
+     * <p>
+     * The bean is parsed afresh, without using any values already parsed by this view.
+     *
+     * @return the bean, not null
+     */
+    public synchronized Bean toBean() {
+        return reader.parseViewBean(rootOffset);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public DynamicMetaBean metaBean() {
+        return meta;
+    }
+
+    @Override
+    public Property<Object> property(String propertyName) {
+        return BasicProperty.of(this, meta.metaProperty(propertyName));
+    }
+
+    @Override
+    public void propertyDefine(String propertyName, Class<?> propertyType) {
+        throw new UnsupportedOperationException("JodaBeanBinView is read-only");
+    }
+
+    @Override
+    public void propertyRemove(String propertyName) {
+        throw new UnsupportedOperationException("JodaBeanBinView is read-only");
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a string that summarises the view.
+     * <p>
+     * The string contains the bean type and the property names, without parsing any values.
+     *
+     * @return a summary string, not null
+     */
+    @Override
+    public String toString() {
+        return "JodaBeanBinView[" + beanType.getSimpleName() + propertyNames() + "]";
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The location of a property value within the data.
+     */
+    static final class Slot {
+        /**
+         * The meta-property of the real bean.
+         */
+        final MetaProperty<?> metaProperty;
+        /**
+         * The offset of the value.
+         */
+        final int offset;
+        /**
+         * The number of property names defined before the value.
+         */
+        final int propertyNameCount;
+        /**
+         * The number of types defined before the value.
+         */
+        final int typeCount;
+
+        Slot(MetaProperty<?> metaProperty, int offset, int propertyNameCount, int typeCount) {
+            this.metaProperty = metaProperty;
+            this.offset = offset;
+            this.propertyNameCount = propertyNameCount;
+            this.typeCount = typeCount;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The meta-bean of the view.
+     */
+    private final class Meta implements DynamicMetaBean {
+        /**
+         * The meta-properties, keyed by name.
+         */
+        private final Map<String, MetaProperty<?>> metaPropertyMap;
+
+        Meta(List<Slot> slots) {
+            Map<String, MetaProperty<?>> map = new LinkedHashMap<>();
+            for (Slot slot : slots) {
+                map.put(slot.metaProperty.name(), new ViewMetaProperty(this, slot));
+            }
+            this.metaPropertyMap = Collections.unmodifiableMap(map);
+        }
+
+        @Override
+        public boolean isBuildable() {
+            return false;
+        }
+
+        @Override
+        public BeanBuilder<JodaBeanBinView> builder() {
+            throw new UnsupportedOperationException("JodaBeanBinView cannot be built");
+        }
+
+        @Override
+        public Class<JodaBeanBinView> beanType() {
+            return JodaBeanBinView.class;
+        }
+
+        @Override
+        public String beanName() {
+            return beanType.getName();
+        }
+
+        @Override
+        public ViewMetaProperty metaProperty(String propertyName) {
+            MetaProperty<?> metaProperty = metaPropertyMap.get(propertyName);
+            if (metaProperty == null) {
+                throw new NoSuchElementException("Unknown property: " + propertyName);
+            }
+            return (ViewMetaProperty) metaProperty;
+        }
+
+        @Override
+        public Map<String, MetaProperty<?>> metaPropertyMap() {
+            return metaPropertyMap;
+        }
+
+        @Override
+        public void metaPropertyDefine(String propertyName, Class<?> propertyType) {
+            throw new UnsupportedOperationException("JodaBeanBinView is read-only");
+        }
+
+        @Override
+        public void metaPropertyRemove(String propertyName) {
+            throw new UnsupportedOperationException("JodaBeanBinView is read-only");
+        }
+
+        @Override
+        public String toString() {
+            return "MetaBean:JodaBeanBinView:" + beanType.getSimpleName();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A meta-property of the view, reflecting the meta-property of the real bean.
+     */
+    private static final class ViewMetaProperty extends BasicMetaProperty<Object> {
+        /**
+         * The meta-bean.
+         */
+        private final Meta metaBean;
+        /**
+         * The location of the value.
+         */
+        private final Slot slot;
+
+        ViewMetaProperty(Meta metaBean, Slot slot) {
+            super(slot.metaProperty.name());
+            this.metaBean = metaBean;
+            this.slot = slot;
+        }
+
+        @Override
+        public DynamicMetaBean metaBean() {
+            return metaBean;
+        }
+
+        @Override
+        public Class<?> declaringType() {
+            return slot.metaProperty.declaringType();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Class<Object> propertyType() {
+            return (Class<Object>) slot.metaProperty.propertyType();
+        }
+
+        @Override
+        public Type propertyGenericType() {
+            return slot.metaProperty.propertyGenericType();
+        }
+
+        @Override
+        public PropertyStyle style() {
+            return PropertyStyle.READ_ONLY;
+        }
+
+        @Override
+        public List<Annotation> annotations() {
+            return slot.metaProperty.annotations();
+        }
+
+        @Override
+        public Object get(Bean bean) {
+            return ((JodaBeanBinView) bean).get(name());
+        }
+
+        @Override
+        public void set(Bean bean, Object value) {
+            throw new UnsupportedOperationException("Property cannot be written: " + name());
+        }
+    }
+
+}
@@ -15,25 +15,31 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.joda.beans.Bean;
 import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanPlan.PropertyPlan;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
 import org.joda.beans.ser.SerTypeMapper;
 
 /**
  * Provides the ability for a Joda-Bean to be written to a binary format.
  * <p>
  * This class contains mutable state and cannot be used from multiple threads.
- * A new instance must be created for each message.
+ * Each call to {@code write} resets the state of any previous message,
+ * thus an instance may be reused for a sequence of messages on a single thread.
  * <p>
  * The binary format is based on MessagePack v2.0.
  * Each bean is output as a map using the property name.
@@ -60,6 +66,22 @@ import org.joda.beans.ser.SerTypeMapper;
  * <p>
  * Type names are shortened by the package of the root type if possible.
  * Certain basic types are also handled, such as String, Integer, File and URI.
+ * <p>
+ * The {@link JodaBeanBinFormat#REFERENCING referencing} format, version 2, is the same
+ * except that repeated property names and types are replaced by back-references.
+ * The first time a property name is written, it is sent as an 'ext' containing the name
+ * and added to a table. Subsequent uses are written as the integer index into the table.
+ * Similarly, the first time a type is written, it is sent as in version 1 and added to a
+ * second table. Subsequent uses are written as a fixed 'ext' containing the integer index.
+ * In addition, arrays of primitive types other than {@code byte} are written as an 'ext'
+ * containing the raw big-endian values, avoiding conversion to and from a string.
+ * <p>
+ * Either format may optionally be written with sized values.
+ * In this layout, the value of each property that is a bean or collection is wrapped
+ * in an 'ext' whose data is the MessagePack value, thus the size in bytes is known.
+ * A reader can then skip an unwanted value without parsing it.
+ * If the value defines a property name or type that is referenced from elsewhere,
+ * a different 'ext' type is used, indicating that the value must be parsed to skip it.
  *
  * @author Stephen Colebourne
  */
@@ -73,6 +95,10 @@ public class JodaBeanBinWriter {
      * The settings to use.
      */
     private final JodaBeanSer settings;
+    /**
+     * The format to write.
+     */
+    private final JodaBeanBinFormat format;
     /**
      * The output stream.
      */
@@ -82,9 +108,29 @@ public class JodaBeanBinWriter {
      */
     private String basePackage;
     /**
-     * The known types.
+     * Whether nested beans and collections are written as sized values.
+     */
+    private final boolean sizedValues;
+    /**
+     * The known types, null if short types are not cached.
+     */
+    private final Map<Class<?>, String> knownTypes;
+    /**
+     * The property name references, used by the referencing format.
+     */
+    private Map<String, Integer> propertyNameRefs = new HashMap<>();
+    /**
+     * The type references, keyed by class or meta-type string, used by the referencing format.
      */
-    private Map<Class<?>, String> knownTypes = new HashMap<>();
+    private Map<Object, Integer> typeRefs = new HashMap<>();
+    /**
+     * The outputs that are suspended while a sized value is written.
+     */
+    private final List<MsgPackOutput> suspendedOutputs = new ArrayList<>();
+    /**
+     * The buffers used to write sized values, indexed by nesting depth.
+     */
+    private final List<ByteBuffer> sizedBuffers = new ArrayList<>();
 
     /**
      * Creates an instance.
@@ -92,7 +138,43 @@ public class JodaBeanBinWriter {
      * @param settings  the settings to use, not null
      */
     public JodaBeanBinWriter(final JodaBeanSer settings) {
+        this(settings, JodaBeanBinFormat.STANDARD);
+    }
+
+    /**
+     * Creates an instance.
+     * 
+     * @param settings  the settings to use, not null
+     * @param format  the format to write, not null
+     */
+    public JodaBeanBinWriter(final JodaBeanSer settings, final JodaBeanBinFormat format) {
+        this(settings, format, false);
+    }
+
+    /**
+     * Creates an instance, optionally writing sized values.
+     * <p>
+     * When sized values are enabled, the value of each property that is a bean or collection
+     * is wrapped in an 'ext' that contains its size in bytes.
+     * This allows a reader to skip the value without parsing it.
+     * As a result, short type names are not cached between different parts of the data.
+     * 
+     * @param settings  the settings to use, not null
+     * @param format  the format to write, not null
+     * @param sizedValues  true to write nested beans and collections as sized values
+     */
+    public JodaBeanBinWriter(final JodaBeanSer settings, final JodaBeanBinFormat format, final boolean sizedValues) {
+        if (settings == null) {
+            throw new NullPointerException("settings");
+        }
+        if (format == null) {
+            throw new NullPointerException("format");
+        }
         this.settings = settings;
+        this.format = format;
+        this.sizedValues = sizedValues;
+        // cached short types would refer to data that a reader may have skipped
+        this.knownTypes = (sizedValues ? null : new HashMap<Class<?>, String>());
     }
 
     //-----------------------------------------------------------------------
@@ -116,13 +198,10 @@ public class JodaBeanBinWriter {
      * @return the binary data, not null
      */
     public byte[] write(final Bean bean, final boolean rootType) {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream(1024);
-        try {
-            write(bean, rootType, baos);
-        } catch (IOException ex) {
-            throw new IllegalStateException(ex);
-        }
-        return baos.toByteArray();
+        ByteBuffer buffer = write(bean, rootType, ByteBuffer.allocate(1024));
+        byte[] array = buffer.array();
+        int size = buffer.position();
+        return (size == array.length ? array : Arrays.copyOf(array, size));
     }
 
     /**
@@ -153,57 +232,205 @@ public class JodaBeanBinWriter {
         if (output == null) {
             throw new NullPointerException("output");
         }
-        this.output = new MsgPackOutput(output);
+        write(bean, rootType, MsgPackSink.ofStream(output));
+    }
+
+    /**
+     * Writes the bean to the {@code WritableByteChannel}.
+     * <p>
+     * The type of the bean will be set in the message.
+     * The channel must be in blocking mode, as this method does not return until all the bytes are written.
+     * 
+     * @param bean  the bean to output, not null
+     * @param output  the output channel, which must be blocking, not null
+     * @throws IOException if an error occurs
+     * @throws IllegalBlockingModeException if the channel is a selectable channel in non-blocking mode
+     */
+    public void write(final Bean bean, WritableByteChannel output) throws IOException {
+        write(bean, true, output);
+    }
+
+    /**
+     * Writes the bean to the {@code WritableByteChannel}.
+     * <p>
+     * The channel must be in blocking mode, as this method does not return until all the bytes are written.
+     * 
+     * @param bean  the bean to output, not null
+     * @param rootType  true to output the root type
+     * @param output  the output channel, which must be blocking, not null
+     * @throws IOException if an error occurs
+     * @throws IllegalBlockingModeException if the channel is a selectable channel in non-blocking mode
+     */
+    public void write(final Bean bean, final boolean rootType, WritableByteChannel output) throws IOException {
+        if (bean == null) {
+            throw new NullPointerException("bean");
+        }
+        if (output == null) {
+            throw new NullPointerException("output");
+        }
+        write(bean, rootType, MsgPackSink.ofChannel(output));
+    }
+
+    /**
+     * Writes the bean to the {@code ByteBuffer}.
+     * <p>
+     * The type of the bean will be set in the message.
+     * See {@link #write(Bean, boolean, ByteBuffer)} for details of how the buffer is used.
+     * 
+     * @param bean  the bean to output, not null
+     * @param buffer  the buffer to write to, not null
+     * @return the buffer containing the data, which may be a different instance, not null
+     */
+    public ByteBuffer write(final Bean bean, ByteBuffer buffer) {
+        return write(bean, true, buffer);
+    }
+
+    /**
+     * Writes the bean to the {@code ByteBuffer}.
+     * <p>
+     * Data is written starting at the current position of the buffer, which may be heap or direct.
+     * If the buffer runs out of space, a larger buffer of the same kind is allocated and
+     * the contents copied, thus the returned buffer should be used to access the data.
+     * The position of the returned buffer is immediately after the last byte written.
+     * The data is always written in big-endian order, whatever the order of the buffer.
+     * 
+     * @param bean  the bean to output, not null
+     * @param rootType  true to output the root type
+     * @param buffer  the buffer to write to, not null
+     * @return the buffer containing the data, which may be a different instance, not null
+     */
+    public ByteBuffer write(final Bean bean, final boolean rootType, ByteBuffer buffer) {
+        if (bean == null) {
+            throw new NullPointerException("bean");
+        }
+        if (buffer == null) {
+            throw new NullPointerException("buffer");
+        }
+        try {
+            write(bean, rootType, MsgPackSink.ofBuffer(buffer));
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        ByteBuffer written = output.buffer();
+        if (written.capacity() == buffer.capacity()) {
+            // not reallocated, so update the original buffer
+            buffer.position(written.position());
+            return buffer;
+        }
+        return written;
+    }
+
+    private void write(final Bean bean, final boolean rootType, MsgPackSink sink) throws IOException {
+        reset();
+        this.output = new MsgPackOutput(sink);
         writeRoot(bean, rootType);
+        output.finish();
+    }
+
+    // resets the state of any previous message, allowing the writer to be reused
+    private void reset() {
+        basePackage = null;
+        propertyNameRefs.clear();
+        typeRefs.clear();
+        if (knownTypes != null) {
+            knownTypes.clear();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Starts a stream of beans, writing the stream header.
+     * <p>
+     * The tables of the referencing format are retained between the beans of the stream.
+     * As such, the base package used for short type names is that of the first bean,
+     * and remains the same for the whole stream.
+     * 
+     * @param sink  the sink to write to, not null
+     * @throws IOException if an error occurs
+     */
+    void startStream(MsgPackSink sink) throws IOException {
+        reset();
+        this.output = new MsgPackOutput(sink);
+        output.writeInt(MsgPack.JODA_STREAM_VERSION);
+    }
+
+    /**
+     * Writes the next bean in a stream, including the root type.
+     * 
+     * @param bean  the bean to output, not null
+     * @throws IOException if an error occurs
+     */
+    void writeStreamBean(final Bean bean) throws IOException {
+        writeBean(bean, bean.getClass(), RootType.ROOT_WITH_TYPE);
+    }
+
+    /**
+     * Completes the writing of any buffered stream data.
+     * 
+     * @throws IOException if an error occurs
+     */
+    void finishStream() throws IOException {
+        output.finish();
     }
 
     //-----------------------------------------------------------------------
     private void writeRoot(final Bean bean, final boolean rootType) throws IOException {
         output.writeArrayHeader(2);
-        output.writeInt(1);  // version 1
+        output.writeInt(format.getVersion());
         writeBean(bean, bean.getClass(), rootType ? RootType.ROOT_WITH_TYPE : RootType.ROOT_WITHOUT_TYPE);
     }
 
     private void writeBean(final Bean bean, final Class<?> declaredType, RootType rootTypeFlag) throws IOException {
-        int count = bean.metaBean().metaPropertyCount();
-        MetaProperty<?>[] props = new MetaProperty<?>[count];
+        List<PropertyPlan> plans = settings.beanPlan(bean).getProperties();
+        int count = plans.size();
+        PropertyPlan[] props = new PropertyPlan[count];
         Object[] values = new Object[count];
         int size = 0;
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable()) {
-                Object value = SerOptional.extractValue(prop, bean);
-                if (value != null) {
-                    props[size] = prop;
-                    values[size++] = value;
-                }
+        for (int i = 0; i < count; i++) {
+            PropertyPlan prop = plans.get(i);
+            if (prop.isUnboxed()) {
+                // primitives are never null, and are read when written to avoid boxing
+                props[size++] = prop;
+                continue;
+            }
+            Object value = prop.extractValue(bean);
+            if (value != null) {
+                props[size] = prop;
+                values[size++] = value;
             }
         }
         if (rootTypeFlag == RootType.ROOT_WITH_TYPE || (rootTypeFlag == RootType.NOT_ROOT && bean.getClass() != declaredType)) {
-            String typeStr = SerTypeMapper.encodeType(bean.getClass(), settings, basePackage, knownTypes);
-            if (rootTypeFlag == RootType.ROOT_WITH_TYPE) {
+            output.writeMapHeader(size + 1);
+            writeType(MsgPack.JODA_TYPE_BEAN, MsgPack.JODA_TYPE_BEAN_REF, bean.getClass());
+            if (rootTypeFlag == RootType.ROOT_WITH_TYPE && basePackage == null) {
+                // in a stream, the base package is fixed by the first bean as the known types depend on it
                 basePackage = bean.getClass().getPackage().getName() + ".";
             }
-            output.writeMapHeader(size + 1);
-            output.writeExtensionString(MsgPack.JODA_TYPE_BEAN, typeStr);
             output.writeNil();
         } else {
             output.writeMapHeader(size);
         }
         for (int i = 0; i < size; i++) {
-            MetaProperty<?> prop = props[i];
+            PropertyPlan prop = props[i];
             Object value = values[i];
-            output.writeString(prop.name());
-            Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-            if (value instanceof Bean) {
+            writePropertyName(prop.getName());
+            Class<?> propType = prop.getPropertyType();
+            if (value == null) {
+                writePrimitive(prop, bean);
+            } else if (value instanceof Bean) {
                 if (settings.getConverter().isConvertible(value.getClass())) {
                     writeSimple(propType, value);
                 } else {
+                    int definitions = startSized();
                     writeBean((Bean) value, propType, RootType.NOT_ROOT);
+                    endSized(definitions);
                 }
             } else {
-                SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass());
+                SerIterator itemIterator = prop.createIterator(settings.getIteratorFactory(), value, bean.getClass());
                 if (itemIterator != null) {
+                    int definitions = startSized();
                     writeElements(itemIterator);
+                    endSized(definitions);
                 } else {
                     writeSimple(propType, value);
                 }
@@ -211,11 +438,98 @@ public class JodaBeanBinWriter {
         }
     }
 
+    // writes a primitive property without boxing
+    private void writePrimitive(PropertyPlan prop, Bean bean) throws IOException {
+        MetaProperty<?> metaProperty = prop.getMetaProperty();
+        Class<?> propType = prop.getPropertyType();
+        if (propType == double.class) {
+            output.writeDouble(metaProperty.getDouble(bean));
+        } else if (propType == long.class) {
+            output.writeLong(metaProperty.getLong(bean));
+        } else if (propType == int.class) {
+            output.writeInt(metaProperty.getInt(bean));
+        } else {
+            output.writeBoolean(metaProperty.getBoolean(bean));
+        }
+    }
+
+    // starts a sized value, returning the number of definitions so far, or -1 if not writing sized values
+    private int startSized() {
+        if (sizedValues == false) {
+            return -1;
+        }
+        int depth = suspendedOutputs.size();
+        if (depth == sizedBuffers.size()) {
+            sizedBuffers.add(ByteBuffer.allocate(256));
+        }
+        suspendedOutputs.add(output);
+        output = new MsgPackOutput(MsgPackSink.ofBuffer(sizedBuffers.get(depth)));
+        return propertyNameRefs.size() + typeRefs.size();
+    }
+
+    // ends a sized value, writing the buffered value to the suspended output
+    private void endSized(int definitions) throws IOException {
+        if (definitions < 0) {
+            return;
+        }
+        ByteBuffer data = output.buffer();
+        int depth = suspendedOutputs.size() - 1;
+        output = suspendedOutputs.remove(depth);
+        data.flip();
+        boolean defining = propertyNameRefs.size() + typeRefs.size() > definitions;
+        output.writeSized(defining ? MsgPack.JODA_SIZED_DEFINING : MsgPack.JODA_SIZED, data);
+        data.clear();
+        // retain the buffer, which may have grown, for the next value at this depth
+        sizedBuffers.set(depth, data);
+    }
+
+    private void writePropertyName(String name) throws IOException {
+        if (format == JodaBeanBinFormat.REFERENCING) {
+            Integer ref = propertyNameRefs.get(name);
+            if (ref != null) {
+                output.writeInt(ref.intValue());
+                return;
+            }
+            // long names are not worth referencing, and may not fit in EXT_8
+            if (name.length() < 64) {
+                propertyNameRefs.put(name, propertyNameRefs.size());
+                output.writeExtensionString(MsgPack.JODA_PROPERTY_NAME, name);
+                return;
+            }
+        }
+        output.writeString(name);
+    }
+
+    private void writeType(int extensionType, int referenceType, Class<?> type) throws IOException {
+        if (format == JodaBeanBinFormat.REFERENCING) {
+            Integer ref = typeRefs.get(type);
+            if (ref != null) {
+                output.writeExtensionReference(referenceType, ref.intValue());
+                return;
+            }
+            typeRefs.put(type, typeRefs.size());
+        }
+        String typeStr = SerTypeMapper.encodeType(type, settings, basePackage, knownTypes);
+        output.writeExtensionString(extensionType, typeStr);
+    }
+
+    private void writeMetaType(String metaTypeName) throws IOException {
+        if (format == JodaBeanBinFormat.REFERENCING) {
+            Integer ref = typeRefs.get(metaTypeName);
+            if (ref != null) {
+                output.writeExtensionReference(MsgPack.JODA_TYPE_META_REF, ref.intValue());
+                return;
+            }
+            typeRefs.put(metaTypeName, typeRefs.size());
+        }
+        output.writeExtensionString(MsgPack.JODA_TYPE_META, metaTypeName);
+    }
+
     //-----------------------------------------------------------------------
     private void writeElements(final SerIterator itemIterator) throws IOException {
         if (itemIterator.metaTypeRequired()) {
             output.writeMapHeader(1);
-            output.writeExtensionString(MsgPack.JODA_TYPE_META, itemIterator.metaTypeName());
+            writeMetaType(itemIterator.metaTypeName());
         }
         if (itemIterator.category() == SerCategory.MAP) {
             writeMap(itemIterator);
@@ -336,23 +650,27 @@ public class JodaBeanBinWriter {
             output.writeBoolean(((Boolean) value).booleanValue());
             return;
         }
+        if (format == JodaBeanBinFormat.REFERENCING && realType.isArray() && realType.getComponentType().isPrimitive()) {
+            // primitive arrays are self-describing, except byte[] which is handled below
+            if (writePrimitiveArray(value)) {
+                return;
+            }
+        }
         
         // handle no declared type and subclasses
         Class<?> effectiveType = declaredType;
         if (declaredType == Object.class) {
             if (realType != String.class) {
                 effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
-                String typeStr = SerTypeMapper.encodeType(effectiveType, settings, basePackage, knownTypes);
                 output.writeMapHeader(1);
-                output.writeExtensionString(MsgPack.JODA_TYPE_DATA, typeStr);
+                writeType(MsgPack.JODA_TYPE_DATA, MsgPack.JODA_TYPE_DATA_REF, effectiveType);
             } else {
                 effectiveType = realType;
             }
         } else if (settings.getConverter().isConvertible(declaredType) == false) {
             effectiveType = settings.getConverter().findTypedConverter(realType).getEffectiveType();
-            String typeStr = SerTypeMapper.encodeType(effectiveType, settings, basePackage, knownTypes);
             output.writeMapHeader(1);
-            output.writeExtensionString(MsgPack.JODA_TYPE_DATA, typeStr);
+            writeType(MsgPack.JODA_TYPE_DATA, MsgPack.JODA_TYPE_DATA_REF, effectiveType);
         }
         
         // long/short/byte only processed now to ensure that a distinction can be made between Integer and Long
@@ -382,6 +700,27 @@ public class JodaBeanBinWriter {
         }
     }
 
+    private boolean writePrimitiveArray(final Object value) throws IOException {
+        if (value instanceof double[]) {
+            output.writeArray((double[]) value);
+        } else if (value instanceof long[]) {
+            output.writeArray((long[]) value);
+        } else if (value instanceof int[]) {
+            output.writeArray((int[]) value);
+        } else if (value instanceof float[]) {
+            output.writeArray((float[]) value);
+        } else if (value instanceof short[]) {
+            output.writeArray((short[]) value);
+        } else if (value instanceof char[]) {
+            output.writeArray((char[]) value);
+        } else if (value instanceof boolean[]) {
+            output.writeArray((boolean[]) value);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
     //-----------------------------------------------------------------------
     enum RootType {
         ROOT_WITH_TYPE,
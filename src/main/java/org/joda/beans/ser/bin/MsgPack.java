@@ -189,6 +189,11 @@ abstract class MsgPack {
      */
     static final int MAP_32 = 0xFFFFFFDF;
 
+    /**
+     * Version number at the start of a stream of beans, which uses the referencing format.
+     */
+    static final int JODA_STREAM_VERSION = 3;
+
     /**
      * Extension type code for a Joda-Bean bean-type.
      */
@@ -201,6 +206,61 @@ abstract class MsgPack {
      * Extension type code for a Joda-Bean meta-type.
      */
     static final int JODA_TYPE_META = 34;
+    /**
+     * Extension type code for a Joda-Bean property name, used in the referencing format.
+     */
+    static final int JODA_PROPERTY_NAME = 35;
+    /**
+     * Extension type code for a reference to a Joda-Bean bean-type, used in the referencing format.
+     */
+    static final int JODA_TYPE_BEAN_REF = 36;
+    /**
+     * Extension type code for a reference to a Joda-Bean simple-type, used in the referencing format.
+     */
+    static final int JODA_TYPE_DATA_REF = 37;
+    /**
+     * Extension type code for a reference to a Joda-Bean meta-type, used in the referencing format.
+     */
+    static final int JODA_TYPE_META_REF = 38;
+    /**
+     * Extension type code for a {@code boolean[]}, one byte per element, used in the referencing format.
+     */
+    static final int JODA_ARRAY_BOOLEAN = 40;
+    /**
+     * Extension type code for a {@code short[]}, big-endian, used in the referencing format.
+     */
+    static final int JODA_ARRAY_SHORT = 41;
+    /**
+     * Extension type code for a {@code char[]}, big-endian, used in the referencing format.
+     */
+    static final int JODA_ARRAY_CHAR = 42;
+    /**
+     * Extension type code for an {@code int[]}, big-endian, used in the referencing format.
+     */
+    static final int JODA_ARRAY_INT = 43;
+    /**
+     * Extension type code for a {@code long[]}, big-endian, used in the referencing format.
+     */
+    static final int JODA_ARRAY_LONG = 44;
+    /**
+     * Extension type code for a {@code float[]}, big-endian, used in the referencing format.
+     */
+    static final int JODA_ARRAY_FLOAT = 45;
+    /**
+     * Extension type code for a {@code double[]}, big-endian, used in the referencing format.
+     */
+    static final int JODA_ARRAY_DOUBLE = 46;
+    /**
+     * Extension type code for a sized value, where the 'ext' data is a single MessagePack object.
+     * The object defines nothing that is referred to from outside, thus it can be skipped using the size.
+     */
+    static final int JODA_SIZED = 39;
+    /**
+     * Extension type code for a sized value, where the 'ext' data is a single MessagePack object.
+     * The object defines property names or types that may be referred to from outside,
+     * thus it must be read to skip it.
+     */
+    static final int JODA_SIZED_DEFINING = 47;
 
     //-----------------------------------------------------------------------
     /**
@@ -225,6 +285,11 @@ abstract class MsgPack {
         return (typeByte >= MIN_FIX_STR && typeByte <= MAX_FIX_STR) || typeByte == STR_8 || typeByte == STR_16 || typeByte == STR_32;
     }
 
+    protected static boolean isExtension(int typeByte) throws IOException {
+        return typeByte == EXT_8 || typeByte == EXT_16 || typeByte == EXT_32 ||
+                (typeByte >= FIX_EXT_1 && typeByte <= FIX_EXT_16);
+    }
+
     protected static boolean isIntegral(int typeByte) throws IOException {
         return (typeByte >= MIN_FIX_INT && typeByte <= MAX_FIX_INT) ||
                 typeByte == UINT_8 || typeByte == UINT_16 || typeByte == UINT_32 || typeByte == UINT_64 ||
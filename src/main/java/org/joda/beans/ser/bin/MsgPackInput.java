@@ -15,8 +15,6 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -28,9 +26,9 @@ import java.io.InputStream;
 abstract class MsgPackInput extends MsgPack {
 
     /**
-     * The stream to read.
+     * The source to read.
      */
-    private final DataInputStream input;
+    private final MsgPackSource input;
 
     /**
      * Creates an instance.
@@ -38,7 +36,7 @@ abstract class MsgPackInput extends MsgPack {
      * @param bytes  the bytes to read, not null
      */
     MsgPackInput(byte[] bytes) {
-        this(new ByteArrayInputStream(bytes));
+        this(MsgPackSource.ofBytes(bytes));
     }
 
     /**
@@ -47,16 +45,16 @@ abstract class MsgPackInput extends MsgPack {
      * @param stream  the stream to read from, not null
      */
     MsgPackInput(InputStream stream) {
-        this(new DataInputStream(stream));
+        this(MsgPackSource.ofStream(stream));
     }
 
     /**
      * Creates an instance.
      * 
-     * @param stream  the stream to read from, not null
+     * @param source  the source to read from, not null
      */
-    MsgPackInput(DataInputStream stream) {
-        this.input = stream;
+    MsgPackInput(MsgPackSource source) {
+        this.input = source;
     }
 
     //-----------------------------------------------------------------------
@@ -243,9 +241,7 @@ abstract class MsgPackInput extends MsgPack {
         if (size < 0) {
             throw new IllegalStateException("String too large");
         }
-        byte[] bytes = new byte[size];
-        input.readFully(bytes);
-        String str = new String(bytes, UTF_8);
+        String str = input.readString(size);
         handleString(str);
     }
 
@@ -293,6 +289,10 @@ abstract class MsgPackInput extends MsgPack {
         if (size < 0) {
             throw new IllegalStateException("Extension too large");
         }
+        if (type == JODA_SIZED || type == JODA_SIZED_DEFINING) {
+            handleSized(type, size);
+            return;
+        }
         byte[] bytes = new byte[size];
         input.readFully(bytes);
         handleExtension(type, bytes);
@@ -340,24 +340,51 @@ abstract class MsgPackInput extends MsgPack {
     protected void handleExtension(int type, byte[] bytes) throws IOException {
     }
 
+    /**
+     * Handles a sized value, by default reading the single object that it contains.
+     * 
+     * @param type  the extension type, either sized or sized-defining
+     * @param size  the size of the contained object in bytes
+     * @throws IOException if an error occurs
+     */
+    protected void handleSized(int type, int size) throws IOException {
+        readObject(input.readByte());
+    }
+
     //-----------------------------------------------------------------------
     /**
-     * Skips over the next object in an input stream.
+     * Skips over the next object in an input source.
      * 
-     * @param input  the input stream, not null
+     * @param input  the input source, not null
      * @throws IOException if an error occurs
      */
-    public static void skipObject(DataInputStream input) throws IOException {
+    static void skipObject(MsgPackSource input) throws IOException {
         new Skipper(input).skip(input.readByte());
     }
 
-    private static class Skipper extends MsgPackInput {
-        Skipper(DataInputStream input) {
+    /**
+     * Skips an object, jumping over sized values where possible.
+     */
+    static class Skipper extends MsgPackInput {
+        private final MsgPackSource source;
+
+        Skipper(MsgPackSource input) {
             super(input);
+            this.source = input;
         }
+
         void skip(int typeByte) throws IOException {
             readObject(typeByte);
         }
+
+        @Override
+        protected void handleSized(int type, int size) throws IOException {
+            if (type == JODA_SIZED) {
+                source.skip(size);
+            } else {
+                super.handleSized(type, size);
+            }
+        }
     }
 
 }
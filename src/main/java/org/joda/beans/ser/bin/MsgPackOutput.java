@@ -15,21 +15,24 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Outputter for MsgPack data.
+ * <p>
+ * Data is written to a {@link MsgPackSink}, which must be finished
+ * using {@link #finish()} once all the data has been written.
  *
  * @author Stephen Colebourne
  */
 final class MsgPackOutput extends MsgPack {
 
     /**
-     * The stream to write to.
+     * The sink to write to.
      */
-    private final DataOutputStream output;
+    private final MsgPackSink sink;
 
     /**
      * Creates an instance.
@@ -37,16 +40,37 @@ final class MsgPackOutput extends MsgPack {
      * @param stream  the stream to write to, not null
      */
     MsgPackOutput(OutputStream stream) {
-        this.output = new DataOutputStream(stream);
+        this(MsgPackSink.ofStream(stream));
     }
 
     /**
      * Creates an instance.
      * 
-     * @param stream  the stream to write to, not null
+     * @param sink  the sink to write to, not null
      */
-    MsgPackOutput(DataOutputStream stream) {
-        this.output = stream;
+    MsgPackOutput(MsgPackSink sink) {
+        this.sink = sink;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the buffer that has been written to.
+     * <p>
+     * This is only meaningful for a sink that grows its buffer.
+     * 
+     * @return the buffer, not null
+     */
+    ByteBuffer buffer() {
+        return sink.buffer;
+    }
+
+    /**
+     * Completes the output, draining any buffered data to the underlying destination.
+     * 
+     * @throws IOException if an error occurs
+     */
+    void finish() throws IOException {
+        sink.finish();
     }
 
     //-----------------------------------------------------------------------
@@ -56,7 +80,7 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeNil() throws IOException {
-        output.writeByte(NIL);
+        sink.ensure(1).put((byte) NIL);
     }
 
     /**
@@ -66,11 +90,7 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeBoolean(boolean value) throws IOException {
-        if (value) {
-            output.writeByte(TRUE);
-        } else {
-            output.writeByte(FALSE);
-        }
+        sink.ensure(1).put((byte) (value ? TRUE : FALSE));
     }
 
     /**
@@ -80,32 +100,27 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeInt(int value) throws IOException {
+        ByteBuffer buf = sink.ensure(5);
         if (value < MIN_FIX_INT) {
             // large negative
             if (value >= Byte.MIN_VALUE) {
-                output.writeByte(SINT_8);
-                output.writeByte((byte) value);
+                buf.put((byte) SINT_8).put((byte) value);
             } else if (value >= Short.MIN_VALUE) {
-                output.writeByte(SINT_16);
-                output.writeShort((short) value);
+                buf.put((byte) SINT_16).putShort((short) value);
             } else {
-                output.writeByte(SINT_32);
-                output.writeInt(value);
+                buf.put((byte) SINT_32).putInt(value);
             }
         } else if (value < MAX_FIX_INT) {
             // in range -64 to 127
-            output.writeByte(value);
+            buf.put((byte) value);
         } else {
             // large positive
             if (value < 0xFF) {
-                output.writeByte(UINT_8);
-                output.writeByte((byte) value);
+                buf.put((byte) UINT_8).put((byte) value);
             } else if (value < 0xFFFF) {
-                output.writeByte(UINT_16);
-                output.writeShort((short) value);
+                buf.put((byte) UINT_16).putShort((short) value);
             } else {
-                output.writeByte(UINT_32);
-                output.writeInt(value);
+                buf.put((byte) UINT_32).putInt(value);
             }
         }
     }
@@ -117,38 +132,31 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeLong(long value) throws IOException {
+        ByteBuffer buf = sink.ensure(9);
         if (value < MIN_FIX_INT) {
             // large negative
             if (value >= Byte.MIN_VALUE) {
-                output.writeByte(SINT_8);
-                output.writeByte((byte) value);
+                buf.put((byte) SINT_8).put((byte) value);
             } else if (value >= Short.MIN_VALUE) {
-                output.writeByte(SINT_16);
-                output.writeShort((short) value);
+                buf.put((byte) SINT_16).putShort((short) value);
             } else if (value >= Integer.MIN_VALUE) {
-                output.writeByte(SINT_32);
-                output.writeInt((int) value);
+                buf.put((byte) SINT_32).putInt((int) value);
             } else {
-                output.writeByte(SINT_64);
-                output.writeLong(value);
+                buf.put((byte) SINT_64).putLong(value);
             }
         } else if (value < MAX_FIX_INT) {
             // in range -64 to 127
-            output.writeByte((byte) value);
+            buf.put((byte) value);
         } else {
             // large positive
             if (value < 0xFF) {
-                output.writeByte(UINT_8);
-                output.writeByte((byte) value);
+                buf.put((byte) UINT_8).put((byte) value);
             } else if (value < 0xFFFF) {
-                output.writeByte(UINT_16);
-                output.writeShort((short) value);
+                buf.put((byte) UINT_16).putShort((short) value);
             } else if (value < 0xFFFFFFFFL) {
-                output.writeByte(UINT_32);
-                output.writeInt((int) value);
+                buf.put((byte) UINT_32).putInt((int) value);
             } else {
-                output.writeByte(UINT_64);
-                output.writeLong(value);
+                buf.put((byte) UINT_64).putLong(value);
             }
         }
     }
@@ -160,8 +168,7 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeFloat(float value) throws IOException {
-        output.writeByte(FLOAT_32);
-        output.writeFloat(value);
+        sink.ensure(5).put((byte) FLOAT_32).putFloat(value);
     }
 
     /**
@@ -171,8 +178,7 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeDouble(double value) throws IOException {
-        output.writeByte(FLOAT_64);
-        output.writeDouble(value);
+        sink.ensure(9).put((byte) FLOAT_64).putDouble(value);
     }
 
     /**
@@ -183,17 +189,15 @@ final class MsgPackOutput extends MsgPack {
      */
     void writeBytes(byte[] bytes) throws IOException {
         int size = bytes.length;
+        ByteBuffer buf = sink.ensure(5);
         if (size < 256) {
-            output.writeByte(BIN_8);
-            output.writeByte(size);
+            buf.put((byte) BIN_8).put((byte) size);
         } else if (size < 65536) {
-            output.writeByte(BIN_16);
-            output.writeShort(size);
+            buf.put((byte) BIN_16).putShort((short) size);
         } else {
-            output.writeByte(BIN_32);
-            output.writeInt(size);
+            buf.put((byte) BIN_32).putInt(size);
         }
-        output.write(bytes);
+        sink.write(bytes);
     }
 
     /**
@@ -203,36 +207,38 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeString(String value) throws IOException {
-        byte[] bytes = toUTF8(value);
-        int size = bytes.length;
-        if (size < 32) {
-            output.writeByte(MIN_FIX_STR + size);
-        } else if (size < 256) {
-            output.writeByte(STR_8);
-            output.writeByte(size);
-        } else if (size < 65536) {
-            output.writeByte(STR_16);
-            output.writeShort(size);
+        // inline common ASCII case for much better performance
+        if (isAscii(value)) {
+            writeStringHeader(value.length());
+            sink.writeAscii(value);
         } else {
-            output.writeByte(STR_32);
-            output.writeInt(size);
+            byte[] bytes = value.getBytes(UTF_8);
+            writeStringHeader(bytes.length);
+            sink.write(bytes);
         }
-        output.write(bytes);
     }
 
-    private byte[] toUTF8(String value) {
-        // inline common ASCII case for much better performance
+    private static boolean isAscii(String value) {
         final int size = value.length();
-        byte[] bytes = new byte[size];
         for (int i = 0; i < size; i++) {
-            char ch = value.charAt(i);
-            if (ch < 128) {
-                bytes[i] = (byte) ch;
-            } else {
-                return value.getBytes(UTF_8);
+            if (value.charAt(i) >= 128) {
+                return false;
             }
         }
-        return bytes;
+        return true;
+    }
+
+    private void writeStringHeader(int size) throws IOException {
+        ByteBuffer buf = sink.ensure(5);
+        if (size < 32) {
+            buf.put((byte) (MIN_FIX_STR + size));
+        } else if (size < 256) {
+            buf.put((byte) STR_8).put((byte) size);
+        } else if (size < 65536) {
+            buf.put((byte) STR_16).putShort((short) size);
+        } else {
+            buf.put((byte) STR_32).putInt(size);
+        }
     }
 
     /**
@@ -242,14 +248,13 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeArrayHeader(int size) throws IOException {
+        ByteBuffer buf = sink.ensure(5);
         if (size < 16) {
-            output.writeByte(MIN_FIX_ARRAY + size);
+            buf.put((byte) (MIN_FIX_ARRAY + size));
         } else if (size < 65536) {
-            output.writeByte(ARRAY_16);
-            output.writeShort(size);
+            buf.put((byte) ARRAY_16).putShort((short) size);
         } else {
-            output.writeByte(ARRAY_32);
-            output.writeInt(size);
+            buf.put((byte) ARRAY_32).putInt(size);
         }
     }
 
@@ -260,14 +265,13 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeMapHeader(int size) throws IOException {
+        ByteBuffer buf = sink.ensure(5);
         if (size < 16) {
-            output.writeByte(MIN_FIX_MAP + size);
+            buf.put((byte) (MIN_FIX_MAP + size));
         } else if (size < 65536) {
-            output.writeByte(MAP_16);
-            output.writeShort(size);
+            buf.put((byte) MAP_16).putShort((short) size);
         } else {
-            output.writeByte(MAP_32);
-            output.writeInt(size);
+            buf.put((byte) MAP_32).putInt(size);
         }
     }
 
@@ -279,11 +283,196 @@ final class MsgPackOutput extends MsgPack {
      * @throws IOException if an error occurs
      */
     void writeExtensionByte(int extensionType, int value) throws IOException {
-        output.write(FIX_EXT_1);
-        output.write(extensionType);
-        output.write(value);
+        sink.ensure(3).put((byte) FIX_EXT_1).put((byte) extensionType).put((byte) value);
+    }
+
+    /**
+     * Writes an extension reference using FIX_EXT_1, FIX_EXT_2 or FIX_EXT_4.
+     * <p>
+     * The reference is written as an unsigned big-endian integer using the smallest size.
+     * 
+     * @param extensionType  the type
+     * @param reference  the reference to write as the data, zero or greater
+     * @throws IOException if an error occurs
+     */
+    void writeExtensionReference(int extensionType, int reference) throws IOException {
+        ByteBuffer buf = sink.ensure(6);
+        if (reference < 256) {
+            buf.put((byte) FIX_EXT_1).put((byte) extensionType).put((byte) reference);
+        } else if (reference < 65536) {
+            buf.put((byte) FIX_EXT_2).put((byte) extensionType).putShort((short) reference);
+        } else {
+            buf.put((byte) FIX_EXT_4).put((byte) extensionType).putInt(reference);
+        }
+    }
+
+    /**
+     * Writes an extension header using EXT_8, EXT_16 or EXT_32.
+     * 
+     * @param extensionType  the type
+     * @param size  the size of the data that follows
+     * @throws IOException if an error occurs
+     */
+    void writeExtensionHeader(int extensionType, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Extension too large");
+        }
+        ByteBuffer buf = sink.ensure(6);
+        if (size < 256) {
+            buf.put((byte) EXT_8).put((byte) size);
+        } else if (size < 65536) {
+            buf.put((byte) EXT_16).putShort((short) size);
+        } else {
+            buf.put((byte) EXT_32).putInt((int) size);
+        }
+        buf.put((byte) extensionType);
+    }
+
+    /**
+     * Writes a sized value, which is an extension containing a single pre-encoded object.
+     * 
+     * @param extensionType  the type
+     * @param data  the encoded object, between position and limit, which is consumed, not null
+     * @throws IOException if an error occurs
+     */
+    void writeSized(int extensionType, ByteBuffer data) throws IOException {
+        writeExtensionHeader(extensionType, data.remaining());
+        sink.write(data);
     }
 
+    /**
+     * Writes data that is already encoded as MessagePack.
+     * 
+     * @param data  the encoded data, between position and limit, which is consumed, not null
+     * @throws IOException if an error occurs
+     */
+    void writeEncoded(ByteBuffer data) throws IOException {
+        sink.write(data);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes a {@code boolean[]} as an extension with one byte per element.
+     * 
+     * @param values  the values, not null
+     * @throws IOException if an error occurs
+     */
+    void writeArray(boolean[] values) throws IOException {
+        writeExtensionHeader(JODA_ARRAY_BOOLEAN, values.length);
+        for (boolean value : values) {
+            sink.ensure(1).put((byte) (value ? 1 : 0));
+        }
+    }
+
+    /**
+     * Writes a {@code short[]} as an extension containing big-endian data.
+     * 
+     * @param values  the values, not null
+     * @throws IOException if an error occurs
+     */
+    void writeArray(short[] values) throws IOException {
+        writeExtensionHeader(JODA_ARRAY_SHORT, values.length * 2L);
+        int offset = 0;
+        while (offset < values.length) {
+            ByteBuffer buf = sink.ensure(2);
+            int len = Math.min(values.length - offset, buf.remaining() / 2);
+            buf.asShortBuffer().put(values, offset, len);
+            buf.position(buf.position() + len * 2);
+            offset += len;
+        }
+    }
+
+    /**
+     * Writes a {@code char[]} as an extension containing big-endian data.
+     * 
+     * @param values  the values, not null
+     * @throws IOException if an error occurs
+     */
+    void writeArray(char[] values) throws IOException {
+        writeExtensionHeader(JODA_ARRAY_CHAR, values.length * 2L);
+        int offset = 0;
+        while (offset < values.length) {
+            ByteBuffer buf = sink.ensure(2);
+            int len = Math.min(values.length - offset, buf.remaining() / 2);
+            buf.asCharBuffer().put(values, offset, len);
+            buf.position(buf.position() + len * 2);
+            offset += len;
+        }
+    }
+
+    /**
+     * Writes an {@code int[]} as an extension containing big-endian data.
+     * 
+     * @param values  the values, not null
+     * @throws IOException if an error occurs
+     */
+    void writeArray(int[] values) throws IOException {
+        writeExtensionHeader(JODA_ARRAY_INT, values.length * 4L);
+        int offset = 0;
+        while (offset < values.length) {
+            ByteBuffer buf = sink.ensure(4);
+            int len = Math.min(values.length - offset, buf.remaining() / 4);
+            buf.asIntBuffer().put(values, offset, len);
+            buf.position(buf.position() + len * 4);
+            offset += len;
+        }
+    }
+
+    /**
+     * Writes a {@code long[]} as an extension containing big-endian data.
+     * 
+     * @param values  the values, not null
+     * @throws IOException if an error occurs
+     */
+    void writeArray(long[] values) throws IOException {
+        writeExtensionHeader(JODA_ARRAY_LONG, values.length * 8L);
+        int offset = 0;
+        while (offset < values.length) {
+            ByteBuffer buf = sink.ensure(8);
+            int len = Math.min(values.length - offset, buf.remaining() / 8);
+            buf.asLongBuffer().put(values, offset, len);
+            buf.position(buf.position() + len * 8);
+            offset += len;
+        }
+    }
+
+    /**
+     * Writes a {@code float[]} as an extension containing big-endian data.
+     * 
+     * @param values  the values, not null
+     * @throws IOException if an error occurs
+     */
+    void writeArray(float[] values) throws IOException {
+        writeExtensionHeader(JODA_ARRAY_FLOAT, values.length * 4L);
+        int offset = 0;
+        while (offset < values.length) {
+            ByteBuffer buf = sink.ensure(4);
+            int len = Math.min(values.length - offset, buf.remaining() / 4);
+            buf.asFloatBuffer().put(values, offset, len);
+            buf.position(buf.position() + len * 4);
+            offset += len;
+        }
+    }
+
+    /**
+     * Writes a {@code double[]} as an extension containing big-endian data.
+     * 
+     * @param values  the values, not null
+     * @throws IOException if an error occurs
+     */
+    void writeArray(double[] values) throws IOException {
+        writeExtensionHeader(JODA_ARRAY_DOUBLE, values.length * 8L);
+        int offset = 0;
+        while (offset < values.length) {
+            ByteBuffer buf = sink.ensure(8);
+            int len = Math.min(values.length - offset, buf.remaining() / 8);
+            buf.asDoubleBuffer().put(values, offset, len);
+            buf.position(buf.position() + len * 8);
+            offset += len;
+        }
+    }
+
+    //-----------------------------------------------------------------------
     /**
      * Writes an extension string using EXT_8.
      * 
@@ -296,10 +485,8 @@ final class MsgPackOutput extends MsgPack {
         if (bytes.length > 256) {
             throw new IllegalArgumentException("String too long");
         }
-        output.write(EXT_8);
-        output.write(bytes.length);
-        output.write(extensionType);
-        output.write(bytes);
+        sink.ensure(3).put((byte) EXT_8).put((byte) bytes.length).put((byte) extensionType);
+        sink.write(bytes);
     }
 
 }
@@ -0,0 +1,274 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Destination for MsgPack data.
+ * <p>
+ * All data is written into a {@code ByteBuffer} in big-endian order.
+ * When the buffer is full, the sink either drains it to the underlying
+ * stream or channel, or replaces it with a larger buffer.
+ *
+ * @author Stephen Colebourne
+ */
+abstract class MsgPackSink {
+
+    /**
+     * The default size of the buffer used for streams and channels.
+     */
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+    /**
+     * The minimum buffer size, large enough for any fixed size header.
+     */
+    private static final int MIN_BUFFER_SIZE = 16;
+
+    /**
+     * The buffer being written to.
+     */
+    ByteBuffer buffer;
+
+    /**
+     * Creates an instance.
+     *
+     * @param buffer  the buffer to write to, not null
+     */
+    MsgPackSink(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a sink that writes to an {@code OutputStream}.
+     *
+     * @param stream  the stream to write to, not null
+     * @return the sink, not null
+     */
+    static MsgPackSink ofStream(OutputStream stream) {
+        return new StreamSink(stream, ByteBuffer.allocate(DEFAULT_BUFFER_SIZE));
+    }
+
+    /**
+     * Creates a sink that writes to a {@code WritableByteChannel}.
+     * <p>
+     * The channel must be in blocking mode, as per {@code Channels.newOutputStream}.
+     * A non-blocking channel can accept no bytes, which would cause the sink to spin.
+     *
+     * @param channel  the channel to write to, not null
+     * @return the sink, not null
+     * @throws IllegalBlockingModeException if the channel is a selectable channel in non-blocking mode
+     */
+    static MsgPackSink ofChannel(WritableByteChannel channel) {
+        if (channel instanceof SelectableChannel && ((SelectableChannel) channel).isBlocking() == false) {
+            throw new IllegalBlockingModeException();
+        }
+        return new ChannelSink(channel, ByteBuffer.allocate(DEFAULT_BUFFER_SIZE));
+    }
+
+    /**
+     * Creates a sink that writes to a {@code ByteBuffer}, growing it as necessary.
+     * <p>
+     * Writing starts at the current position of the buffer.
+     * If the buffer fills up, a larger buffer of the same kind, heap or direct, is allocated.
+     *
+     * @param buffer  the buffer to write to, not null
+     * @return the sink, not null
+     */
+    static MsgPackSink ofBuffer(ByteBuffer buffer) {
+        return new GrowableSink(buffer);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Ensures that the buffer has space for the specified number of bytes.
+     * <p>
+     * The returned buffer must be used for the following writes, as it may have changed.
+     *
+     * @param required  the number of bytes required, no more than 16
+     * @return the buffer to write to, not null
+     * @throws IOException if an error occurs
+     */
+    final ByteBuffer ensure(int required) throws IOException {
+        if (buffer.remaining() < required) {
+            makeSpace(required);
+        }
+        return buffer;
+    }
+
+    /**
+     * Writes an array of bytes, draining or growing the buffer as necessary.
+     *
+     * @param bytes  the bytes to write, not null
+     * @throws IOException if an error occurs
+     */
+    final void write(byte[] bytes) throws IOException {
+        int offset = 0;
+        int remaining = bytes.length;
+        while (remaining > 0) {
+            if (buffer.hasRemaining() == false) {
+                makeSpace(Math.min(remaining, MIN_BUFFER_SIZE));
+            }
+            int len = Math.min(remaining, buffer.remaining());
+            buffer.put(bytes, offset, len);
+            offset += len;
+            remaining -= len;
+        }
+    }
+
+    /**
+     * Writes the data between the position and limit of a buffer, draining or growing as necessary.
+     *
+     * @param data  the data to write, which is consumed, not null
+     * @throws IOException if an error occurs
+     */
+    final void write(ByteBuffer data) throws IOException {
+        while (data.hasRemaining()) {
+            if (buffer.hasRemaining() == false) {
+                makeSpace(Math.min(data.remaining(), MIN_BUFFER_SIZE));
+            }
+            int len = Math.min(data.remaining(), buffer.remaining());
+            ByteBuffer chunk = data.duplicate();
+            chunk.limit(chunk.position() + len);
+            buffer.put(chunk);
+            data.position(data.position() + len);
+        }
+    }
+
+    /**
+     * Writes a string that is known to only contain ASCII characters.
+     *
+     * @param str  the string to write, not null
+     * @throws IOException if an error occurs
+     */
+    final void writeAscii(String str) throws IOException {
+        int offset = 0;
+        int size = str.length();
+        while (offset < size) {
+            if (buffer.hasRemaining() == false) {
+                makeSpace(Math.min(size - offset, MIN_BUFFER_SIZE));
+            }
+            ByteBuffer buf = buffer;
+            int end = Math.min(size, offset + buf.remaining());
+            for (int i = offset; i < end; i++) {
+                buf.put((byte) str.charAt(i));
+            }
+            offset = end;
+        }
+    }
+
+    /**
+     * Makes space in the buffer for the specified number of bytes.
+     *
+     * @param required  the number of bytes required
+     * @throws IOException if an error occurs
+     */
+    abstract void makeSpace(int required) throws IOException;
+
+    /**
+     * Completes the writing, draining any buffered data.
+     *
+     * @throws IOException if an error occurs
+     */
+    abstract void finish() throws IOException;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sink that drains to an {@code OutputStream}.
+     */
+    private static final class StreamSink extends MsgPackSink {
+        private final OutputStream stream;
+
+        StreamSink(OutputStream stream, ByteBuffer buffer) {
+            super(buffer);
+            this.stream = stream;
+        }
+
+        @Override
+        void makeSpace(int required) throws IOException {
+            finish();
+        }
+
+        @Override
+        void finish() throws IOException {
+            if (buffer.position() > 0) {
+                stream.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+                buffer.clear();
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sink that drains to a {@code WritableByteChannel}.
+     */
+    private static final class ChannelSink extends MsgPackSink {
+        private final WritableByteChannel channel;
+
+        ChannelSink(WritableByteChannel channel, ByteBuffer buffer) {
+            super(buffer);
+            this.channel = channel;
+        }
+
+        @Override
+        void makeSpace(int required) throws IOException {
+            finish();
+        }
+
+        @Override
+        void finish() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sink that grows the buffer as necessary.
+     */
+    private static final class GrowableSink extends MsgPackSink {
+        GrowableSink(ByteBuffer buffer) {
+            super(buffer.duplicate().order(ByteOrder.BIG_ENDIAN));
+        }
+
+        @Override
+        void makeSpace(int required) throws IOException {
+            int capacity = Math.max(Math.max(buffer.capacity() * 2, buffer.position() + required), MIN_BUFFER_SIZE);
+            if (capacity < 0) {
+                throw new IllegalStateException("Binary data too large");
+            }
+            ByteBuffer larger = buffer.isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+
+        @Override
+        void finish() throws IOException {
+            // nothing to drain
+        }
+    }
+
+}
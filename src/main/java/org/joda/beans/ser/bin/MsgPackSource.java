@@ -0,0 +1,452 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Origin of MsgPack data.
+ * <p>
+ * All data is read from a {@code ByteBuffer} in big-endian order.
+ * A source backed by a buffer reads directly from it, whereas a source
+ * backed by a stream refills a window buffer as necessary.
+ * <p>
+ * Bytes may be peeked by index without consuming them.
+ *
+ * @author Stephen Colebourne
+ */
+abstract class MsgPackSource {
+
+    /**
+     * The default size of the buffer used for streams.
+     */
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * The buffer being read from.
+     */
+    ByteBuffer buffer;
+
+    /**
+     * Creates an instance.
+     *
+     * @param buffer  the buffer to read from, not null
+     */
+    MsgPackSource(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a source that reads from an {@code InputStream}.
+     *
+     * @param stream  the stream to read from, not null
+     * @return the source, not null
+     */
+    static MsgPackSource ofStream(InputStream stream) {
+        ByteBuffer buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+        buffer.flip();
+        return new StreamSource(stream, buffer);
+    }
+
+    /**
+     * Creates a source that reads from a {@code ByteBuffer}.
+     * <p>
+     * Reading starts at the current position of the buffer.
+     * The position of the specified buffer is not altered.
+     *
+     * @param buffer  the buffer to read from, not null
+     * @return the source, not null
+     */
+    static MsgPackSource ofBuffer(ByteBuffer buffer) {
+        return new BufferSource(buffer.duplicate().order(ByteOrder.BIG_ENDIAN));
+    }
+
+    /**
+     * Creates a source that reads from an array of bytes.
+     *
+     * @param bytes  the bytes to read from, not null
+     * @return the source, not null
+     */
+    static MsgPackSource ofBytes(byte[] bytes) {
+        return new BufferSource(ByteBuffer.wrap(bytes));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Ensures that the buffer has the specified number of bytes available to read.
+     * <p>
+     * The returned buffer must be used for the following reads, as it may have changed.
+     *
+     * @param required  the number of bytes required
+     * @return the buffer to read from, not null
+     * @throws IOException if an error occurs, such as end of data
+     */
+    final ByteBuffer ensure(int required) throws IOException {
+        if (buffer.remaining() < required) {
+            if (fill(required) == false) {
+                throw new EOFException();
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Reads a single unsigned byte, returning -1 at the end of the data.
+     *
+     * @return the unsigned byte, or -1 at the end of the data
+     * @throws IOException if an error occurs
+     */
+    final int read() throws IOException {
+        if (buffer.hasRemaining() || fill(1)) {
+            return buffer.get() & 0xFF;
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if the end of the data has been reached.
+     *
+     * @return true if there is no more data
+     * @throws IOException if an error occurs
+     */
+    final boolean isEnd() throws IOException {
+        return buffer.hasRemaining() == false && fill(1) == false;
+    }
+
+    final byte readByte() throws IOException {
+        return ensure(1).get();
+    }
+
+    final int readUnsignedByte() throws IOException {
+        return ensure(1).get() & 0xFF;
+    }
+
+    final short readShort() throws IOException {
+        return ensure(2).getShort();
+    }
+
+    final int readUnsignedShort() throws IOException {
+        return ensure(2).getShort() & 0xFFFF;
+    }
+
+    final int readInt() throws IOException {
+        return ensure(4).getInt();
+    }
+
+    final long readLong() throws IOException {
+        return ensure(8).getLong();
+    }
+
+    final float readFloat() throws IOException {
+        return ensure(4).getFloat();
+    }
+
+    final double readDouble() throws IOException {
+        return ensure(8).getDouble();
+    }
+
+    /**
+     * Peeks a byte without consuming it.
+     *
+     * @param offset  the offset from the current position
+     * @return the byte at the offset
+     * @throws IOException if an error occurs, such as end of data
+     */
+    final byte peekByte(int offset) throws IOException {
+        ByteBuffer buf = ensure(offset + 1);
+        return buf.get(buf.position() + offset);
+    }
+
+    /**
+     * Reads bytes to fill the specified array.
+     *
+     * @param bytes  the array to fill, not null
+     * @throws IOException if an error occurs, such as end of data
+     */
+    final void readFully(byte[] bytes) throws IOException {
+        int offset = 0;
+        int remaining = bytes.length;
+        while (remaining > 0) {
+            if (buffer.hasRemaining() == false && fill(1) == false) {
+                throw new EOFException();
+            }
+            int len = Math.min(remaining, buffer.remaining());
+            buffer.get(bytes, offset, len);
+            offset += len;
+            remaining -= len;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads data with one byte per element to fill the specified array.
+     *
+     * @param values  the array to fill, not null
+     * @throws IOException if an error occurs, such as end of data
+     */
+    final void readFully(boolean[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (readByte() != 0);
+        }
+    }
+
+    /**
+     * Reads big-endian data to fill the specified array.
+     *
+     * @param values  the array to fill, not null
+     * @throws IOException if an error occurs, such as end of data
+     */
+    final void readFully(short[] values) throws IOException {
+        int offset = 0;
+        while (offset < values.length) {
+            ByteBuffer buf = ensure(2);
+            int len = Math.min(values.length - offset, buf.remaining() / 2);
+            buf.asShortBuffer().get(values, offset, len);
+            buf.position(buf.position() + len * 2);
+            offset += len;
+        }
+    }
+
+    /**
+     * Reads big-endian data to fill the specified array.
+     *
+     * @param values  the array to fill, not null
+     * @throws IOException if an error occurs, such as end of data
+     */
+    final void readFully(char[] values) throws IOException {
+        int offset = 0;
+        while (offset < values.length) {
+            ByteBuffer buf = ensure(2);
+            int len = Math.min(values.length - offset, buf.remaining() / 2);
+            buf.asCharBuffer().get(values, offset, len);
+            buf.position(buf.position() + len * 2);
+            offset += len;
+        }
+    }
+
+    /**
+     * Reads big-endian data to fill the specified array.
+     *
+     * @param values  the array to fill, not null
+     * @throws IOException if an error occurs, such as end of data
+     */
+    final void readFully(int[] values) throws IOException {
+        int offset = 0;
+        while (offset < values.length) {
+            ByteBuffer buf = ensure(4);
+            int len = Math.min(values.length - offset, buf.remaining() / 4);
+            buf.asIntBuffer().get(values, offset, len);
+            buf.position(buf.position() + len * 4);
+            offset += len;
+        }
+    }
+
+    /**
+     * Reads big-endian data to fill the specified array.
+     *
+     * @param values  the array to fill, not null
+     * @throws IOException if an error occurs, such as end of data
+     */
+    final void readFully(long[] values) throws IOException {
+        int offset = 0;
+        while (offset < values.length) {
+            ByteBuffer buf = ensure(8);
+            int len = Math.min(values.length - offset, buf.remaining() / 8);
+            buf.asLongBuffer().get(values, offset, len);
+            buf.position(buf.position() + len * 8);
+            offset += len;
+        }
+    }
+
+    /**
+     * Reads big-endian data to fill the specified array.
+     *
+     * @param values  the array to fill, not null
+     * @throws IOException if an error occurs, such as end of data
+     */
+    final void readFully(float[] values) throws IOException {
+        int offset = 0;
+        while (offset < values.length) {
+            ByteBuffer buf = ensure(4);
+            int len = Math.min(values.length - offset, buf.remaining() / 4);
+            buf.asFloatBuffer().get(values, offset, len);
+            buf.position(buf.position() + len * 4);
+            offset += len;
+        }
+    }
+
+    /**
+     * Reads big-endian data to fill the specified array.
+     *
+     * @param values  the array to fill, not null
+     * @throws IOException if an error occurs, such as end of data
+     */
+    final void readFully(double[] values) throws IOException {
+        int offset = 0;
+        while (offset < values.length) {
+            ByteBuffer buf = ensure(8);
+            int len = Math.min(values.length - offset, buf.remaining() / 8);
+            buf.asDoubleBuffer().get(values, offset, len);
+            buf.position(buf.position() + len * 8);
+            offset += len;
+        }
+    }
+
+    /**
+     * Reads a string of the specified number of UTF-8 bytes.
+     *
+     * @param size  the number of bytes
+     * @return the string, not null
+     * @throws IOException if an error occurs, such as end of data
+     */
+    final String readString(int size) throws IOException {
+        ByteBuffer buf = ensure(size);
+        // inline common ASCII case for much better performance
+        int start = buf.position();
+        if (buf.hasArray()) {
+            // ASCII is a subset of ISO-8859-1, which is decoded without an intermediate char array
+            byte[] bytes = buf.array();
+            int offset = buf.arrayOffset() + start;
+            for (int i = 0; i < size; i++) {
+                if (bytes[offset + i] < 0) {
+                    return decodeUtf8(buf, start, size);
+                }
+            }
+            buf.position(start + size);
+            return new String(bytes, offset, size, StandardCharsets.ISO_8859_1);
+        }
+        char[] chars = new char[size];
+        for (int i = 0; i < size; i++) {
+            byte b = buf.get(start + i);
+            if (b < 0) {
+                return decodeUtf8(buf, start, size);
+            }
+            chars[i] = (char) b;
+        }
+        buf.position(start + size);
+        return new String(chars);
+    }
+
+    // decodes a string that is not ASCII, moving the position past the bytes
+    private static String decodeUtf8(ByteBuffer buf, int start, int size) {
+        ByteBuffer slice = buf.duplicate();
+        slice.limit(start + size);
+        buf.position(start + size);
+        return StandardCharsets.UTF_8.decode(slice).toString();
+    }
+
+    /**
+     * Skips the specified number of bytes.
+     *
+     * @param size  the number of bytes to skip
+     * @throws IOException if an error occurs, such as end of data
+     */
+    final void skip(int size) throws IOException {
+        int remaining = size;
+        while (remaining > buffer.remaining()) {
+            remaining -= buffer.remaining();
+            buffer.position(buffer.limit());
+            if (fill(1) == false) {
+                throw new EOFException();
+            }
+        }
+        buffer.position(buffer.position() + remaining);
+    }
+
+    /**
+     * Attempts to make the specified number of bytes available.
+     *
+     * @param required  the number of bytes required
+     * @return true if the bytes are available, false if the end of the data was reached
+     * @throws IOException if an error occurs
+     */
+    abstract boolean fill(int required) throws IOException;
+
+    /**
+     * Closes the underlying resource, if any.
+     *
+     * @throws IOException if an error occurs
+     */
+    abstract void close() throws IOException;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Source that reads directly from a buffer.
+     */
+    private static final class BufferSource extends MsgPackSource {
+        BufferSource(ByteBuffer buffer) {
+            super(buffer);
+        }
+
+        @Override
+        boolean fill(int required) {
+            return false;
+        }
+
+        @Override
+        void close() {
+            // nothing to close
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Source that refills the buffer from a stream.
+     */
+    private static final class StreamSource extends MsgPackSource {
+        private final InputStream stream;
+
+        StreamSource(InputStream stream, ByteBuffer buffer) {
+            super(buffer);
+            this.stream = stream;
+        }
+
+        @Override
+        boolean fill(int required) throws IOException {
+            if (buffer.capacity() < required) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, required));
+                larger.put(buffer);
+                buffer = larger;
+            } else {
+                buffer.compact();
+            }
+            try {
+                while (buffer.position() < required) {
+                    int read = stream.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                    if (read < 0) {
+                        return false;
+                    }
+                    buffer.position(buffer.position() + read);
+                }
+                return true;
+            } finally {
+                buffer.flip();
+            }
+        }
+
+        @Override
+        void close() throws IOException {
+            stream.close();
+        }
+    }
+
+}
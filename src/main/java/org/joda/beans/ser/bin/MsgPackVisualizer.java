@@ -15,7 +15,6 @@
  */
 package org.joda.beans.ser.bin;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -56,10 +55,10 @@ final class MsgPackVisualizer extends MsgPackInput {
     /**
      * Creates an instance.
      * 
-     * @param stream  the stream to read from, not null
+     * @param source  the source to read from, not null
      */
-    MsgPackVisualizer(DataInputStream stream) {
-        super(stream);
+    MsgPackVisualizer(MsgPackSource source) {
+        super(source);
     }
 
     //-----------------------------------------------------------------------
@@ -154,6 +153,14 @@ final class MsgPackVisualizer extends MsgPackInput {
         buf.append("map (" + size + ")").append(System.lineSeparator());
     }
 
+    @Override
+    protected void handleSized(int type, int size) throws IOException {
+        buf.append("sized type=" + type + " (" + size + ")").append(System.lineSeparator());
+        indent = indent + "  ";
+        super.handleSized(type, size);
+        indent = indent.substring(0, indent.length() - 2);
+    }
+
     @Override
     protected void handleBinary(byte[] bytes) {
         buf.append("bin '");
@@ -165,7 +172,7 @@ final class MsgPackVisualizer extends MsgPackInput {
 
     @Override
     protected void handleExtension(int type, byte[] bytes) throws IOException {
-        if (type == JODA_TYPE_BEAN || type == JODA_TYPE_DATA || type == JODA_TYPE_META) {
+        if (type == JODA_TYPE_BEAN || type == JODA_TYPE_DATA || type == JODA_TYPE_META || type == JODA_PROPERTY_NAME) {
             String str = new String(bytes, UTF_8);
             buf.append("ext type=" + type + " '" + str + "'").append(System.lineSeparator());
         } else {
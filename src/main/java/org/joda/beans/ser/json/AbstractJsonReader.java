@@ -20,14 +20,20 @@ import static org.joda.beans.ser.json.JodaBeanJsonWriter.META;
 import static org.joda.beans.ser.json.JodaBeanJsonWriter.TYPE;
 import static org.joda.beans.ser.json.JodaBeanJsonWriter.VALUE;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
+import org.joda.beans.DynamicMetaBean;
 import org.joda.beans.JodaBeanUtils;
 import org.joda.beans.MetaBean;
 import org.joda.beans.MetaProperty;
+import org.joda.beans.ser.DefaultDeserializer;
 import org.joda.beans.ser.JodaBeanSer;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerDeserializer;
@@ -41,7 +47,8 @@ import org.joda.beans.ser.SerTypeMapper;
  * The JSON format is defined by {@link JodaBeanJsonWriter}.
  * <p>
  * This class contains mutable state and cannot be used from multiple threads.
- * A new instance must be created for each message.
+ * Each call to {@code read} resets the state of any previous message,
+ * thus an instance may be reused for a sequence of messages on a single thread.
  */
 abstract class AbstractJsonReader {
 
@@ -61,6 +68,14 @@ abstract class AbstractJsonReader {
      * The known types.
      */
     private Map<String, Class<?>> knownTypes = new HashMap<>();
+    /**
+     * The names of the properties to read from the root bean, null to read all properties.
+     */
+    private Set<String> projection;
+    /**
+     * Whether the projected properties of the root bean are returned as a map.
+     */
+    private boolean projectToMap;
 
     /**
      * Creates an instance.
@@ -82,40 +97,149 @@ abstract class AbstractJsonReader {
      * @throws Exception if an error occurs
      */
     <T> T parseRoot(JsonInput input, Class<T> declaredType) throws Exception {
-        this.input = input;
+        reset(input);
         Object parsed = parseObject(input.acceptEvent(JsonEvent.OBJECT), declaredType, null, null, null, true);
         return declaredType.cast(parsed);
     }
 
+    /**
+     * Parses the root bean, only reading the specified properties.
+     * 
+     * @param input  the JSON input
+     * @param declaredType  the declared type, not null
+     * @param properties  the properties to read, not null
+     * @param toMap  true to return a map of property name to value, false to return a bean
+     * @return the bean or map, not null
+     * @throws Exception if an error occurs
+     */
+    Object parseRootProjection(
+            JsonInput input,
+            Class<?> declaredType,
+            Collection<? extends MetaProperty<?>> properties,
+            boolean toMap) throws Exception {
+
+        JodaBeanUtils.notNull(properties, "properties");
+        reset(input);
+        projection = new HashSet<>();
+        for (MetaProperty<?> metaProp : properties) {
+            projection.add(metaProp.name());
+        }
+        projectToMap = toMap;
+        Object parsed;
+        try {
+            parsed = parseObject(input.acceptEvent(JsonEvent.OBJECT), declaredType, null, null, null, true);
+        } finally {
+            projection = null;
+        }
+        if (toMap && parsed instanceof Map == false) {
+            throw new IllegalArgumentException("Invalid JSON data: Root bean was not written as an object");
+        }
+        return parsed;
+    }
+
+    /**
+     * Starts parsing a stream of root beans.
+     * 
+     * @param input  the JSON input
+     */
+    void startStream(JsonInput input) {
+        reset(input);
+    }
+
+    /**
+     * Parses the next root bean in a stream.
+     * <p>
+     * Each bean in the stream is a separate JSON message, thus the base package
+     * and known types are reset before each bean is parsed.
+     * 
+     * @param event  the object start event that has just been read
+     * @param declaredType  the declared type, not null
+     * @return the bean, not null
+     * @throws Exception if an error occurs
+     */
+    <T> T parseStreamBean(JsonEvent event, Class<T> declaredType) throws Exception {
+        reset(input);
+        Object parsed = parseObject(input.ensureEvent(event, JsonEvent.OBJECT), declaredType, null, null, null, true);
+        return declaredType.cast(parsed);
+    }
+
+    // resets the state of any previous message, allowing the reader to be reused
+    private void reset(JsonInput input) {
+        this.input = input;
+        this.basePackage = null;
+        this.knownTypes.clear();
+    }
+
     // parse a bean, event after object start passed in
     private Object parseBean(JsonEvent event, Class<?> beanType) throws Exception {
         String propName = "";
+        // any projection only applies to the root bean
+        Set<String> selected = projection;
+        Map<String, Object> projected = (selected != null && projectToMap ? new LinkedHashMap<String, Object>() : null);
+        projection = null;
         try {
             SerDeserializer deser = settings.getDeserializers().findDeserializer(beanType);
             MetaBean metaBean = deser.findMetaBean(beanType);
             BeanBuilder<?> builder = deser.createBuilder(beanType, metaBean);
+            JsonKeys keys = JsonKeys.of(metaBean);
+            boolean standardLookup = (deser == DefaultDeserializer.INSTANCE);
+            // the standard deserializer sets by ordinal, avoiding a lookup by name in the builder
+            boolean ordinals = (standardLookup && metaBean instanceof DynamicMetaBean == false);
             while (event != JsonEvent.OBJECT_END) {
-                // property name
-                propName = input.acceptObjectKey(event);
-                MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propName);
-                // ignore unknown properties
-                if (metaProp == null) {
+                // property name, matched from the input without creating a string where possible
+                input.ensureEvent(event, JsonEvent.STRING);
+                MetaProperty<?> metaProp;
+                int keyIndex = input.matchObjectKey(keys);
+                if (keyIndex >= 0) {
+                    propName = keys.name(keyIndex);
+                    metaProp = standardLookup ? keys.metaProperty(keyIndex) : deser.findMetaProperty(beanType, metaBean, propName);
+                } else {
+                    propName = input.parseObjectKey();
+                    metaProp = deser.findMetaProperty(beanType, metaBean, propName);
+                }
+                // ignore unknown and unselected properties
+                if (metaProp == null || (selected != null && selected.contains(metaProp.name()) == false)) {
                     input.skipData();
                 } else {
                     Object value = parseObject(input.readEvent(),
                             SerOptional.extractType(metaProp, beanType), metaProp, beanType, null, false);
-                    deser.setValue(builder, metaProp, SerOptional.wrapValue(metaProp, beanType, value));
+                    if (projected != null) {
+                        projected.put(metaProp.name(), value);
+                    } else {
+                        Object wrapped = SerOptional.wrapValue(metaProp, beanType, value);
+                        if (ordinals) {
+                            ordinals = setByOrdinal(builder, metaProp, wrapped);
+                        }
+                        if (ordinals == false) {
+                            deser.setValue(builder, metaProp, wrapped);
+                        }
+                    }
                 }
                 propName = "";
                 event = input.acceptObjectSeparator();
             }
-            return deser.build(beanType, builder);
+            return (projected != null ? projected : deser.build(beanType, builder));
         } catch (Exception ex) {
             throw new IllegalArgumentException(
                     "Error parsing bean: " + beanType.getName() + "::" + propName + ", " + ex.getMessage(), ex);
         }
     }
 
+    // sets a property by ordinal, returning false if the builder does not support ordinals
+    private static boolean setByOrdinal(BeanBuilder<?> builder, MetaProperty<?> metaProp, Object value) {
+        int ordinal = metaProp.ordinal();
+        if (ordinal < 0) {
+            return false;
+        }
+        try {
+            builder.set(ordinal, value);
+            return true;
+        } catch (UnsupportedOperationException ex) {
+            // builders generated by earlier versions only support setting by name
+            return false;
+        }
+    }
+
     // parse object, event passed in
     private Object parseObject(
             JsonEvent event,
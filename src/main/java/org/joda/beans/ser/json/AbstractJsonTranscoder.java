@@ -0,0 +1,855 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.json;
+
+import static org.joda.beans.ser.json.JodaBeanJsonWriter.BEAN;
+import static org.joda.beans.ser.json.JodaBeanJsonWriter.META;
+import static org.joda.beans.ser.json.JodaBeanJsonWriter.TYPE;
+import static org.joda.beans.ser.json.JodaBeanJsonWriter.VALUE;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerCategory;
+import org.joda.beans.ser.SerDeserializer;
+import org.joda.beans.ser.SerIterable;
+import org.joda.beans.ser.SerOptional;
+import org.joda.beans.ser.SerTypeMapper;
+
+/**
+ * Provides the JSON half of a transcoder between JSON and another format.
+ * <p>
+ * This reads JSON one token at a time, passing each value to the abstract methods
+ * that write the other format, and writes JSON for values read from the other format.
+ * The JSON parser and writer are not exposed, allowing them to remain internal.
+ * <p>
+ * This class is public so that transcoders in other packages can extend it,
+ * but is not intended for general use.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ *
+ * @author Stephen Colebourne
+ */
+public abstract class AbstractJsonTranscoder {
+
+    /**
+     * The settings to use.
+     */
+    private final JodaBeanSer settings;
+    /**
+     * The JSON input, when transcoding from JSON.
+     */
+    private JsonInput jsonInput;
+    /**
+     * The base package of the JSON input including the trailing dot.
+     */
+    private String jsonBasePackage;
+    /**
+     * The known types of the JSON input.
+     */
+    private final Map<String, Class<?>> jsonKnownTypes = new HashMap<>();
+    /**
+     * The JSON output, when transcoding to JSON.
+     */
+    private JsonOutput jsonOutput;
+
+    /**
+     * Creates an instance.
+     *
+     * @param settings  the settings to use, not null
+     */
+    protected AbstractJsonTranscoder(JodaBeanSer settings) {
+        JodaBeanUtils.notNull(settings, "settings");
+        this.settings = settings;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads the root bean from JSON, writing each value to the other format.
+     *
+     * @param input  the JSON input, not null
+     * @param rootType  the root type, used if the JSON does not contain the type of the root bean, not null
+     * @throws Exception if an error occurs
+     */
+    protected final void readJson(String input, Class<?> rootType) throws Exception {
+        readJson(new JsonInput(input), rootType);
+    }
+
+    /**
+     * Reads the root bean from JSON, writing each value to the other format.
+     *
+     * @param input  the JSON input, not null
+     * @param rootType  the root type, used if the JSON does not contain the type of the root bean, not null
+     * @throws Exception if an error occurs
+     */
+    protected final void readJson(Reader input, Class<?> rootType) throws Exception {
+        readJson(new JsonInput(input), rootType);
+    }
+
+    private void readJson(JsonInput input, Class<?> rootType) throws Exception {
+        jsonInput = input;
+        jsonBasePackage = null;
+        jsonKnownTypes.clear();
+        try {
+            jsonObject(jsonInput.acceptEvent(JsonEvent.OBJECT), rootType, null, null, null, true);
+        } finally {
+            jsonInput = null;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    // transcodes a JSON object, array or simple value, the first event passed in
+    private void jsonObject(
+            JsonEvent event,
+            Class<?> declaredType, MetaProperty<?> metaProp, Class<?> beanType,
+            SerIterable parentIterable, boolean rootType) throws Exception {
+        // establish type, retaining the first key of an object that has no type information
+        boolean object = false;
+        String firstKey = null;
+        if (event == JsonEvent.OBJECT) {
+            object = true;
+            event = jsonInput.readEvent();
+            if (event == JsonEvent.STRING) {
+                String key = jsonInput.parseObjectKey();
+                if (key.equals(BEAN)) {
+                    jsonTypedBean(declaredType, rootType);
+                    return;
+                } else if (key.equals(TYPE)) {
+                    jsonTypedSimple(declaredType);
+                    return;
+                } else if (key.equals(META)) {
+                    jsonTypedMeta();
+                    return;
+                }
+                firstKey = key;
+            } else if (event != JsonEvent.OBJECT_END) {
+                throw new IllegalArgumentException("Invalid JSON data: Expected JSON object end but found " + event);
+            }
+        }
+        // transcode based on type
+        if (Bean.class.isAssignableFrom(declaredType)) {
+            if (object) {
+                jsonBean(event, firstKey, declaredType, rootType, rootType);
+            } else {
+                jsonSimple(event, declaredType);
+            }
+        } else if (object || event == JsonEvent.ARRAY) {
+            SerIterable childIterable = null;
+            if (metaProp != null) {
+                childIterable = settings.getIteratorFactory().createIterable(metaProp, beanType);
+            } else if (parentIterable != null) {
+                childIterable = settings.getIteratorFactory().createIterable(parentIterable);
+            }
+            if (childIterable == null) {
+                throw new IllegalArgumentException(
+                        "JSON contained an " + (object ? "object" : "array") + " without information about the Java type");
+            }
+            if (object) {
+                if (childIterable.category() != SerCategory.MAP) {
+                    throw new IllegalArgumentException("Invalid JSON data: Expected " + JsonEvent.ARRAY + " but found " + JsonEvent.OBJECT);
+                }
+                jsonMapObject(event, firstKey, childIterable);
+            } else {
+                jsonIterable(event, childIterable);
+            }
+        } else {
+            jsonSimple(event, declaredType);
+        }
+    }
+
+    // transcodes a bean, the event after the object start or first key passed in
+    private void jsonBean(JsonEvent event, String firstKey, Class<?> beanType, boolean writeType, boolean rootType) throws Exception {
+        String propName = "";
+        try {
+            SerDeserializer deser = settings.getDeserializers().findDeserializer(beanType);
+            MetaBean metaBean = deser.findMetaBean(beanType);
+            startContent();
+            int size = 0;
+            if (writeType) {
+                writeBeanType(beanType, rootType);
+                size++;
+            }
+            String key = firstKey;
+            while (event != JsonEvent.OBJECT_END) {
+                jsonInput.ensureEvent(event, JsonEvent.STRING);
+                propName = (key != null ? key : jsonInput.parseObjectKey());
+                key = null;
+                MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propName);
+                if (metaProp == null) {
+                    jsonInput.skipData();
+                } else {
+                    writeString(metaProp.name());
+                    jsonObject(jsonInput.readEvent(), SerOptional.extractType(metaProp, beanType), metaProp, beanType, null, false);
+                    size++;
+                }
+                propName = "";
+                event = jsonInput.acceptObjectSeparator();
+            }
+            endMap(size);
+        } catch (Exception ex) {
+            throw new IllegalArgumentException(
+                    "Error parsing bean: " + beanType.getName() + "::" + propName + ", " + ex.getMessage(), ex);
+        }
+    }
+
+    private void jsonTypedBean(Class<?> declaredType, boolean rootType) throws Exception {
+        String typeStr = jsonInput.acceptString();
+        Class<?> effectiveType = SerTypeMapper.decodeType(typeStr, settings, jsonBasePackage, jsonKnownTypes);
+        if (rootType) {
+            if (Bean.class.isAssignableFrom(effectiveType) == false) {
+                throw new IllegalArgumentException("Root type is not a Joda-Bean: " + effectiveType.getName());
+            }
+            jsonBasePackage = effectiveType.getPackage().getName() + ".";
+        }
+        if (declaredType.isAssignableFrom(effectiveType) == false) {
+            throw new IllegalArgumentException("Specified type is incompatible with declared type: " +
+                declaredType.getName() + " and " + effectiveType.getName());
+        }
+        JsonEvent event = jsonInput.readEvent();
+        if (event == JsonEvent.COMMA) {
+            event = jsonInput.readEvent();
+        }
+        jsonBean(event, null, effectiveType, true, rootType);
+    }
+
+    private void jsonTypedSimple(Class<?> declaredType) throws Exception {
+        String typeStr = jsonInput.acceptString();
+        Class<?> effectiveType = settings.getDeserializers().decodeType(typeStr, settings, jsonBasePackage, jsonKnownTypes, declaredType);
+        if (declaredType.isAssignableFrom(effectiveType) == false) {
+            throw new IllegalArgumentException("Specified type is incompatible with declared type: " +
+                declaredType.getName() + " and " + effectiveType.getName());
+        }
+        acceptValueKey();
+        // types that the other format can represent without the type are written without it
+        if (isSelfDescribing(effectiveType) == false) {
+            writeDataType(effectiveType);
+        }
+        jsonSimple(jsonInput.readEvent(), effectiveType);
+        jsonInput.acceptEvent(JsonEvent.OBJECT_END);
+    }
+
+    private void jsonTypedMeta() throws Exception {
+        String metaType = jsonInput.acceptString();
+        SerIterable childIterable = settings.getIteratorFactory().createIterable(metaType, settings, jsonKnownTypes);
+        if (childIterable == null) {
+            throw new IllegalArgumentException("Invalid JSON data: Invalid metaType: " + metaType);
+        }
+        acceptValueKey();
+        writeMetaType(metaType);
+        jsonIterable(jsonInput.readEvent(), childIterable);
+        jsonInput.acceptEvent(JsonEvent.OBJECT_END);
+    }
+
+    private void acceptValueKey() throws IOException {
+        jsonInput.acceptEvent(JsonEvent.COMMA);
+        String valueKey = jsonInput.acceptObjectKey(jsonInput.readEvent());
+        if (valueKey.equals(VALUE) == false) {
+            throw new IllegalArgumentException("Invalid JSON data: Expected 'value' key but found " + valueKey);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private void jsonIterable(JsonEvent event, SerIterable iterable) throws Exception {
+        if (iterable.category() == SerCategory.MAP) {
+            if (event == JsonEvent.OBJECT) {
+                jsonMapObject(jsonInput.readEvent(), null, iterable);
+            } else if (event == JsonEvent.ARRAY) {
+                jsonMapArray(iterable);
+            } else {
+                throw new IllegalArgumentException("Invalid JSON data: Expected array or object but found " + event);
+            }
+        } else {
+            jsonInput.ensureEvent(event, JsonEvent.ARRAY);
+            if (iterable.category() == SerCategory.COUNTED) {
+                jsonCounted(iterable);
+            } else if (iterable.category() == SerCategory.TABLE) {
+                jsonTable(iterable);
+            } else if (iterable.category() == SerCategory.GRID) {
+                jsonGrid(iterable);
+            } else {
+                jsonArray(iterable);
+            }
+        }
+    }
+
+    // transcodes a map with simple keys, the event after the object start or first key passed in
+    private void jsonMapObject(JsonEvent event, String firstKey, SerIterable iterable) throws Exception {
+        startContent();
+        int size = 0;
+        String key = firstKey;
+        while (event != JsonEvent.OBJECT_END) {
+            String keyStr = (key != null ? key : jsonInput.acceptObjectKey(event));
+            key = null;
+            jsonText(keyStr, iterable.keyType());
+            jsonObject(jsonInput.readEvent(), iterable.valueType(), null, null, iterable, false);
+            size++;
+            event = jsonInput.acceptObjectSeparator();
+        }
+        endMap(size);
+    }
+
+    // transcodes a map with complex keys, the array start having been read
+    private void jsonMapArray(SerIterable iterable) throws Exception {
+        startContent();
+        int size = 0;
+        JsonEvent event = jsonInput.readEvent();
+        while (event != JsonEvent.ARRAY_END) {
+            jsonInput.ensureEvent(event, JsonEvent.ARRAY);
+            jsonObject(jsonInput.readEvent(), iterable.keyType(), null, null, null, false);
+            jsonInput.acceptEvent(JsonEvent.COMMA);
+            jsonObject(jsonInput.readEvent(), iterable.valueType(), null, null, iterable, false);
+            jsonInput.acceptEvent(JsonEvent.ARRAY_END);
+            size++;
+            event = jsonInput.acceptArraySeparator();
+        }
+        endMap(size);
+    }
+
+    private void jsonCounted(SerIterable iterable) throws Exception {
+        startContent();
+        int size = 0;
+        JsonEvent event = jsonInput.readEvent();
+        while (event != JsonEvent.ARRAY_END) {
+            jsonInput.ensureEvent(event, JsonEvent.ARRAY);
+            jsonObject(jsonInput.readEvent(), iterable.valueType(), null, null, iterable, false);
+            jsonInput.acceptEvent(JsonEvent.COMMA);
+            jsonInput.acceptEvent(JsonEvent.NUMBER_INTEGRAL);
+            writeInt((int) jsonInput.parseNumberIntegral());
+            jsonInput.acceptEvent(JsonEvent.ARRAY_END);
+            size++;
+            event = jsonInput.acceptArraySeparator();
+        }
+        endMap(size);
+    }
+
+    private void jsonTable(SerIterable iterable) throws Exception {
+        startContent();
+        int size = 0;
+        JsonEvent event = jsonInput.readEvent();
+        while (event != JsonEvent.ARRAY_END) {
+            jsonInput.ensureEvent(event, JsonEvent.ARRAY);
+            writeArrayHeader(3);
+            jsonObject(jsonInput.readEvent(), iterable.keyType(), null, null, null, false);
+            jsonInput.acceptEvent(JsonEvent.COMMA);
+            jsonObject(jsonInput.readEvent(), iterable.columnType(), null, null, null, false);
+            jsonInput.acceptEvent(JsonEvent.COMMA);
+            jsonObject(jsonInput.readEvent(), iterable.valueType(), null, null, iterable, false);
+            jsonInput.acceptEvent(JsonEvent.ARRAY_END);
+            size++;
+            event = jsonInput.acceptArraySeparator();
+        }
+        endArray(size);
+    }
+
+    private void jsonGrid(SerIterable iterable) throws Exception {
+        jsonInput.acceptEvent(JsonEvent.NUMBER_INTEGRAL);
+        int rows = (int) jsonInput.parseNumberIntegral();
+        jsonInput.acceptEvent(JsonEvent.COMMA);
+        jsonInput.acceptEvent(JsonEvent.NUMBER_INTEGRAL);
+        int columns = (int) jsonInput.parseNumberIntegral();
+        startContent();
+        // the row, column, start and end of the encoded value of each cell
+        int[] cells = new int[16];
+        int size = 0;
+        JsonEvent event = jsonInput.acceptArraySeparator();
+        while (event != JsonEvent.ARRAY_END) {
+            jsonInput.ensureEvent(event, JsonEvent.ARRAY);
+            jsonInput.acceptEvent(JsonEvent.NUMBER_INTEGRAL);
+            int row = (int) jsonInput.parseNumberIntegral();
+            jsonInput.acceptEvent(JsonEvent.COMMA);
+            jsonInput.acceptEvent(JsonEvent.NUMBER_INTEGRAL);
+            int column = (int) jsonInput.parseNumberIntegral();
+            jsonInput.acceptEvent(JsonEvent.COMMA);
+            if (size * 4 == cells.length) {
+                cells = Arrays.copyOf(cells, cells.length * 2);
+            }
+            cells[size * 4] = row;
+            cells[size * 4 + 1] = column;
+            cells[size * 4 + 2] = startGridCell(row, column);
+            jsonObject(jsonInput.readEvent(), iterable.valueType(), null, null, iterable, false);
+            jsonInput.acceptEvent(JsonEvent.ARRAY_END);
+            cells[size * 4 + 3] = contentPosition();
+            size++;
+            event = jsonInput.acceptArraySeparator();
+        }
+        endGrid(rows, columns, cells, size);
+    }
+
+    private void jsonArray(SerIterable iterable) throws Exception {
+        startContent();
+        int size = 0;
+        JsonEvent event = jsonInput.readEvent();
+        while (event != JsonEvent.ARRAY_END) {
+            jsonObject(event, iterable.valueType(), null, null, iterable, false);
+            size++;
+            event = jsonInput.acceptArraySeparator();
+        }
+        endArray(size);
+    }
+
+    //-----------------------------------------------------------------------
+    // transcodes a JSON simple value, choosing the representation from the type
+    private void jsonSimple(JsonEvent event, Class<?> type) throws Exception {
+        switch (event) {
+            case STRING: {
+                jsonText(jsonInput.parseString(), type);
+                return;
+            }
+            case NUMBER_INTEGRAL: {
+                long value = jsonInput.parseNumberIntegral();
+                if (type == Long.class || type == long.class) {
+                    writeLong(value);
+
+                } else if (type == Short.class || type == short.class) {
+                    if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+                        throw new IllegalArgumentException("Invalid JSON data: Expected short, but was " + value);
+                    }
+                    writeInt((int) value);
+
+                } else if (type == Byte.class || type == byte.class) {
+                    if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+                        throw new IllegalArgumentException("Invalid JSON data: Expected byte, but was " + value);
+                    }
+                    writeInt((int) value);
+
+                } else if (type == Double.class || type == double.class) {
+                    double dblVal = (double) value;
+                    if (value != (long) dblVal) {
+                        throw new IllegalArgumentException("Invalid JSON data: Value exceeds capacity of double: " + value);
+                    }
+                    writeDouble(dblVal);
+
+                } else if (type == Float.class || type == float.class) {
+                    float fltVal = (float) value;
+                    if (value != (long) fltVal) {
+                        throw new IllegalArgumentException("Invalid JSON data: Value exceeds capacity of float: " + value);
+                    }
+                    writeFloat(fltVal);
+
+                } else {
+                    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                        throw new IllegalArgumentException("Invalid JSON data: Expected int, but was " + value);
+                    }
+                    writeInt((int) value);
+                }
+                return;
+            }
+            case NUMBER_FLOATING: {
+                double value = jsonInput.parseNumberFloating();
+                if (type == Float.class || type == float.class) {
+                    writeFloat((float) value);
+                } else {
+                    writeDouble(value);
+                }
+                return;
+            }
+            case NULL: {
+                if (type == double.class || type == Double.class) {
+                    writeDouble(Double.NaN);  // leniently accept null for NaN
+                } else if (type == float.class || type == Float.class) {
+                    writeFloat(Float.NaN);  // leniently accept null for NaN
+                } else {
+                    writeNil();
+                }
+                return;
+            }
+            case TRUE:
+                writeBoolean(true);
+                return;
+            case FALSE:
+                writeBoolean(false);
+                return;
+            default:
+                throw new IllegalArgumentException("Invalid JSON data: Expected simple type but found " + event);
+        }
+    }
+
+    // transcodes the text form of a simple value, converting only those types that are not written as a string
+    private void jsonText(String text, Class<?> type) throws IOException {
+        if (type == String.class || type == Object.class) {
+            writeString(text);
+        } else if (type == Integer.class || type == int.class ||
+                type == Short.class || type == short.class ||
+                type == Byte.class || type == byte.class) {
+            writeInt(((Number) settings.getConverter().convertFromString(type, text)).intValue());
+        } else if (type == Long.class || type == long.class) {
+            writeLong(settings.getConverter().convertFromString(Long.class, text));
+        } else if (type == Double.class || type == double.class) {
+            writeDouble(settings.getConverter().convertFromString(Double.class, text));
+        } else if (type == Float.class || type == float.class) {
+            writeFloat(settings.getConverter().convertFromString(Float.class, text));
+        } else if (type == Boolean.class || type == boolean.class) {
+            writeBoolean(settings.getConverter().convertFromString(Boolean.class, text));
+        } else if (type == byte[].class) {
+            writeBytes(settings.getConverter().convertFromString(byte[].class, text));
+        } else {
+            writeString(text);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes a null to the other format.
+     *
+     * @throws IOException if an error occurs
+     */
+    protected abstract void writeNil() throws IOException;
+
+    /**
+     * Writes a boolean to the other format.
+     *
+     * @param value  the value
+     * @throws IOException if an error occurs
+     */
+    protected abstract void writeBoolean(boolean value) throws IOException;
+
+    /**
+     * Writes an int to the other format.
+     *
+     * @param value  the value
+     * @throws IOException if an error occurs
+     */
+    protected abstract void writeInt(int value) throws IOException;
+
+    /**
+     * Writes a long to the other format.
+     *
+     * @param value  the value
+     * @throws IOException if an error occurs
+     */
+    protected abstract void writeLong(long value) throws IOException;
+
+    /**
+     * Writes a float to the other format.
+     *
+     * @param value  the value
+     * @throws IOException if an error occurs
+     */
+    protected abstract void writeFloat(float value) throws IOException;
+
+    /**
+     * Writes a double to the other format.
+     *
+     * @param value  the value
+     * @throws IOException if an error occurs
+     */
+    protected abstract void writeDouble(double value) throws IOException;
+
+    /**
+     * Writes a string to the other format, including a property name or map key.
+     *
+     * @param value  the value, not null
+     * @throws IOException if an error occurs
+     */
+    protected abstract void writeString(String value) throws IOException;
+
+    /**
+     * Writes a byte array to the other format.
+     *
+     * @param value  the value, not null
+     * @throws IOException if an error occurs
+     */
+    protected abstract void writeBytes(byte[] value) throws IOException;
+
+    /**
+     * Writes the type of a bean to the other format, as the first entry of the content of the bean.
+     *
+     * @param beanType  the bean type, not null
+     * @param rootType  true if this is the root bean
+     * @throws IOException if an error occurs
+     */
+    protected abstract void writeBeanType(Class<?> beanType, boolean rootType) throws IOException;
+
+    /**
+     * Checks if the other format can represent a value of the type without writing the type.
+     * <p>
+     * This is used when the JSON contains the type of a simple value.
+     * If true, the value is written without calling {@link #writeDataType(Class)}.
+     *
+     * @param type  the type of the value, not null
+     * @return true if the type is not written
+     */
+    protected abstract boolean isSelfDescribing(Class<?> type);
+
+    /**
+     * Writes the type of a simple value to the other format, before the value is written.
+     *
+     * @param type  the type, not null
+     * @throws IOException if an error occurs
+     */
+    protected abstract void writeDataType(Class<?> type) throws IOException;
+
+    /**
+     * Writes the meta-type of a collection to the other format, before the collection is written.
+     *
+     * @param metaType  the meta-type, not null
+     * @throws IOException if an error occurs
+     */
+    protected abstract void writeMetaType(String metaType) throws IOException;
+
+    /**
+     * Writes an array header to the other format, where the size is known in advance.
+     *
+     * @param size  the size of the array
+     * @throws IOException if an error occurs
+     */
+    protected abstract void writeArrayHeader(int size) throws IOException;
+
+    /**
+     * Starts the content of a map or array, whose size is not yet known.
+     *
+     * @throws IOException if an error occurs
+     */
+    protected abstract void startContent() throws IOException;
+
+    /**
+     * Ends the content of a map, which has the specified number of entries.
+     *
+     * @param size  the number of entries
+     * @throws IOException if an error occurs
+     */
+    protected abstract void endMap(int size) throws IOException;
+
+    /**
+     * Ends the content of an array, which has the specified number of items.
+     *
+     * @param size  the number of items
+     * @throws IOException if an error occurs
+     */
+    protected abstract void endArray(int size) throws IOException;
+
+    /**
+     * Starts a cell of a grid, returning the position of the value within the content.
+     *
+     * @param row  the row
+     * @param column  the column
+     * @return the position of the value within the content
+     * @throws IOException if an error occurs
+     */
+    protected abstract int startGridCell(int row, int column) throws IOException;
+
+    /**
+     * Gets the current position within the content.
+     *
+     * @return the position within the content
+     */
+    protected abstract int contentPosition();
+
+    /**
+     * Ends the content of a grid.
+     * <p>
+     * The cells array holds four elements for each cell, the row, column,
+     * and the start and end position of the value within the content.
+     *
+     * @param rows  the number of rows
+     * @param columns  the number of columns
+     * @param cells  the cells, not null
+     * @param size  the number of cells
+     * @throws IOException if an error occurs
+     */
+    protected abstract void endGrid(int rows, int columns, int[] cells, int size) throws IOException;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Starts writing JSON to the specified output.
+     *
+     * @param output  the output to write to, not null
+     */
+    protected final void startJson(Appendable output) {
+        jsonOutput = new JsonOutput(output, settings.getIndent(), settings.getNewLine());
+    }
+
+    /**
+     * Ends writing JSON.
+     */
+    protected final void endJson() {
+        jsonOutput = null;
+    }
+
+    /**
+     * Writes the start of a JSON object representing a bean.
+     *
+     * @param typeStr  the bean type to write, null to omit the type
+     * @throws IOException if an error occurs
+     */
+    protected final void writeJsonBeanStart(String typeStr) throws IOException {
+        jsonOutput.writeObjectStart();
+        if (typeStr != null) {
+            jsonOutput.writeObjectKeyValue(BEAN, typeStr);
+        }
+    }
+
+    /**
+     * Writes the start of a JSON object holding the type of a simple value.
+     * <p>
+     * The value must be written next, followed by {@link #writeJsonObjectEnd()}.
+     *
+     * @param typeStr  the type, not null
+     * @throws IOException if an error occurs
+     */
+    protected final void writeJsonTypedStart(String typeStr) throws IOException {
+        jsonOutput.writeObjectStart();
+        jsonOutput.writeObjectKeyValue(TYPE, typeStr);
+        jsonOutput.writeObjectKey(VALUE);
+    }
+
+    /**
+     * Writes the start of a JSON object holding the meta-type of a collection.
+     * <p>
+     * The collection must be written next, followed by {@link #writeJsonObjectEnd()}.
+     *
+     * @param metaType  the meta-type, not null
+     * @throws IOException if an error occurs
+     */
+    protected final void writeJsonMetaStart(String metaType) throws IOException {
+        jsonOutput.writeObjectStart();
+        jsonOutput.writeObjectKeyValue(META, metaType);
+        jsonOutput.writeObjectKey(VALUE);
+    }
+
+    /**
+     * Writes the start of a JSON object.
+     *
+     * @throws IOException if an error occurs
+     */
+    protected final void writeJsonObjectStart() throws IOException {
+        jsonOutput.writeObjectStart();
+    }
+
+    /**
+     * Writes a JSON object key, which must be followed by the value.
+     *
+     * @param key  the key, not null
+     * @throws IOException if an error occurs
+     */
+    protected final void writeJsonObjectKey(String key) throws IOException {
+        jsonOutput.writeObjectKey(key);
+    }
+
+    /**
+     * Writes the end of a JSON object.
+     *
+     * @throws IOException if an error occurs
+     */
+    protected final void writeJsonObjectEnd() throws IOException {
+        jsonOutput.writeObjectEnd();
+    }
+
+    /**
+     * Writes the start of a JSON array.
+     *
+     * @throws IOException if an error occurs
+     */
+    protected final void writeJsonArrayStart() throws IOException {
+        jsonOutput.writeArrayStart();
+    }
+
+    /**
+     * Writes the start of a JSON array item, which must be followed by the value.
+     *
+     * @throws IOException if an error occurs
+     */
+    protected final void writeJsonArrayItemStart() throws IOException {
+        jsonOutput.writeArrayItemStart();
+    }
+
+    /**
+     * Writes the end of a JSON array.
+     *
+     * @throws IOException if an error occurs
+     */
+    protected final void writeJsonArrayEnd() throws IOException {
+        jsonOutput.writeArrayEnd();
+    }
+
+    /**
+     * Writes a JSON null.
+     *
+     * @throws IOException if an error occurs
+     */
+    protected final void writeJsonNull() throws IOException {
+        jsonOutput.writeNull();
+    }
+
+    /**
+     * Writes a JSON boolean.
+     *
+     * @param value  the value
+     * @throws IOException if an error occurs
+     */
+    protected final void writeJsonBoolean(boolean value) throws IOException {
+        jsonOutput.writeBoolean(value);
+    }
+
+    /**
+     * Writes a JSON int.
+     *
+     * @param value  the value
+     * @throws IOException if an error occurs
+     */
+    protected final void writeJsonInt(int value) throws IOException {
+        jsonOutput.writeInt(value);
+    }
+
+    /**
+     * Writes a JSON long.
+     *
+     * @param value  the value
+     * @throws IOException if an error occurs
+     */
+    protected final void writeJsonLong(long value) throws IOException {
+        jsonOutput.writeLong(value);
+    }
+
+    /**
+     * Writes a JSON float.
+     *
+     * @param value  the value
+     * @throws IOException if an error occurs
+     */
+    protected final void writeJsonFloat(float value) throws IOException {
+        jsonOutput.writeFloat(value);
+    }
+
+    /**
+     * Writes a JSON double.
+     *
+     * @param value  the value
+     * @throws IOException if an error occurs
+     */
+    protected final void writeJsonDouble(double value) throws IOException {
+        jsonOutput.writeDouble(value);
+    }
+
+    /**
+     * Writes a JSON string.
+     *
+     * @param value  the value, not null
+     * @throws IOException if an error occurs
+     */
+    protected final void writeJsonString(String value) throws IOException {
+        jsonOutput.writeString(value);
+    }
+
+}
@@ -16,10 +16,12 @@
 package org.joda.beans.ser.json;
 
 import java.io.Reader;
-import java.io.StringReader;
+import java.util.Collection;
+import java.util.Map;
 
 import org.joda.beans.Bean;
 import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
 
 /**
@@ -28,7 +30,8 @@ import org.joda.beans.ser.JodaBeanSer;
  * The JSON format is defined by {@link JodaBeanJsonWriter}.
  * <p>
  * This class contains mutable state and cannot be used from multiple threads.
- * A new instance must be created for each message.
+ * Each call to {@code read} resets the state of any previous message,
+ * thus an instance may be reused for a sequence of messages on a single thread.
  */
 public class JodaBeanJsonReader extends AbstractJsonReader {
 
@@ -62,7 +65,7 @@ public class JodaBeanJsonReader extends AbstractJsonReader {
      */
     public <T> T read(String input, Class<T> rootType) {
         JodaBeanUtils.notNull(input, "input");
-        return read(new StringReader(input), rootType);
+        return read(new JsonInput(input), rootType);
     }
 
     /**
@@ -85,9 +88,12 @@ public class JodaBeanJsonReader extends AbstractJsonReader {
      */
     public <T> T read(Reader input, Class<T> rootType) {
         JodaBeanUtils.notNull(input, "input");
+        return read(new JsonInput(input), rootType);
+    }
+
+    private <T> T read(JsonInput jsonInput, Class<T> rootType) {
         JodaBeanUtils.notNull(rootType, "rootType");
         try {
-            JsonInput jsonInput = new JsonInput(input);
             return parseRoot(jsonInput, rootType);
         } catch (RuntimeException ex) {
             throw ex;
@@ -96,4 +102,87 @@ public class JodaBeanJsonReader extends AbstractJsonReader {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Reads and parses to a bean, only reading the specified properties of the root bean.
+     * <p>
+     * The data of all other properties of the root bean is skipped without being parsed.
+     * The returned bean is built from the selected properties, thus the bean must
+     * permit the remaining properties to be absent, such as by having defaults.
+     * Beans nested within the selected properties are read in full.
+     * 
+     * @param <T>  the root type
+     * @param input  the input string, not null
+     * @param rootType  the root type, not null
+     * @param properties  the properties to read, not null
+     * @return the bean, not null
+     */
+    public <T> T read(String input, Class<T> rootType, Collection<? extends MetaProperty<?>> properties) {
+        JodaBeanUtils.notNull(input, "input");
+        return rootType.cast(readProjection(new JsonInput(input), rootType, properties, false));
+    }
+
+    /**
+     * Reads and parses to a bean, only reading the specified properties of the root bean.
+     * <p>
+     * See {@link #read(String, Class, Collection)} for details.
+     * 
+     * @param <T>  the root type
+     * @param input  the input reader, not null
+     * @param rootType  the root type, not null
+     * @param properties  the properties to read, not null
+     * @return the bean, not null
+     */
+    public <T> T read(Reader input, Class<T> rootType, Collection<? extends MetaProperty<?>> properties) {
+        JodaBeanUtils.notNull(input, "input");
+        return rootType.cast(readProjection(new JsonInput(input), rootType, properties, false));
+    }
+
+    /**
+     * Reads and parses the specified properties of the root bean to a map.
+     * <p>
+     * The data of all other properties of the root bean is skipped without being parsed.
+     * No bean is built, thus this works whatever the validation rules of the bean.
+     * The map is keyed by property name, in the order the properties were found in the data.
+     * Properties that are absent from the data are absent from the map.
+     * Any optional wrapper is removed from the values.
+     * 
+     * @param input  the input string, not null
+     * @param rootType  the root type, not null
+     * @param properties  the properties to read, not null
+     * @return the map of property name to value, not null
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> readProperties(String input, Class<?> rootType, Collection<? extends MetaProperty<?>> properties) {
+        JodaBeanUtils.notNull(input, "input");
+        return (Map<String, Object>) readProjection(new JsonInput(input), rootType, properties, true);
+    }
+
+    /**
+     * Reads and parses the specified properties of the root bean to a map.
+     * <p>
+     * See {@link #readProperties(String, Class, Collection)} for details.
+     * 
+     * @param input  the input reader, not null
+     * @param rootType  the root type, not null
+     * @param properties  the properties to read, not null
+     * @return the map of property name to value, not null
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> readProperties(Reader input, Class<?> rootType, Collection<? extends MetaProperty<?>> properties) {
+        JodaBeanUtils.notNull(input, "input");
+        return (Map<String, Object>) readProjection(new JsonInput(input), rootType, properties, true);
+    }
+
+    private Object readProjection(JsonInput jsonInput, Class<?> rootType, Collection<? extends MetaProperty<?>> properties, boolean toMap) {
+        JodaBeanUtils.notNull(rootType, "rootType");
+        try {
+            return parseRootProjection(jsonInput, rootType, properties, toMap);
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
 }
@@ -0,0 +1,245 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.ser.JodaBeanSer;
+
+/**
+ * Provides the ability to read a stream of Joda-Beans from JSON.
+ * <p>
+ * Each bean is in the format defined by {@link JodaBeanJsonWriter}.
+ * Two layouts of the beans are accepted, determined by the first character of the input:
+ * <ul>
+ * <li>a single JSON array, where each element of the array is a bean
+ * <li>a sequence of JSON objects separated by whitespace, such as newline-delimited JSON
+ * </ul>
+ * Empty input is treated as an empty sequence.
+ * <p>
+ * The beans are parsed one at a time as they are requested, thus memory usage
+ * is bounded by the size of a single bean rather than the size of the input.
+ * The beans can be read one at a time using {@link #read()}, or via
+ * an {@code Iterator} or {@code Stream}, which are consumed as they are read.
+ * Each bean is a separate JSON message, so short type names are resolved relative to that bean alone.
+ * <p>
+ * This class contains mutable state and cannot be used from multiple threads.
+ *
+ * @param <T>  the type of the beans
+ * @author Stephen Colebourne
+ */
+public class JodaBeanJsonStreamReader<T> implements Closeable {
+
+    /**
+     * The underlying reader.
+     */
+    private final Reader reader;
+    /**
+     * The input to read from.
+     */
+    private final JsonInput input;
+    /**
+     * The parser, which retains state between beans.
+     */
+    private final JodaBeanJsonReader parser;
+    /**
+     * The type of the beans.
+     */
+    private final Class<T> beanType;
+    /**
+     * Whether the start of the input has been read.
+     */
+    private boolean started;
+    /**
+     * Whether the beans are in an array.
+     */
+    private boolean array;
+    /**
+     * Whether the end of the beans has been reached.
+     */
+    private boolean ended;
+    /**
+     * The number of beans read.
+     */
+    private int count;
+
+    /**
+     * Creates an instance.
+     * <p>
+     * The start of the input is read when the first bean is read.
+     *
+     * @param settings  the settings to use, not null
+     * @param reader  the reader to read from, not null
+     * @param beanType  the type of the beans, not null
+     */
+    public JodaBeanJsonStreamReader(JodaBeanSer settings, Reader reader, Class<T> beanType) {
+        JodaBeanUtils.notNull(settings, "settings");
+        JodaBeanUtils.notNull(reader, "reader");
+        JodaBeanUtils.notNull(beanType, "beanType");
+        this.reader = reader;
+        this.input = new JsonInput(reader);
+        this.parser = new JodaBeanJsonReader(settings);
+        this.beanType = beanType;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads the next bean from the stream.
+     *
+     * @return the bean, null at the end of the stream
+     */
+    public T read() {
+        if (ended) {
+            return null;
+        }
+        try {
+            JsonEvent event = readStart();
+            if (ended == false) {
+                T bean = parser.parseStreamBean(event, beanType);
+                count++;
+                return bean;
+            }
+            return null;
+        } catch (RuntimeException ex) {
+            ended = true;
+            throw ex;
+        } catch (Exception ex) {
+            ended = true;
+            throw new RuntimeException(ex);
+        }
+    }
+
+    // reads up to the start of the next bean, setting the ended flag if there are no more
+    private JsonEvent readStart() throws IOException {
+        if (started == false) {
+            started = true;
+            parser.startStream(input);
+            if (input.skipWhitespaceToEnd()) {
+                ended = true;
+                return null;
+            }
+            JsonEvent event = input.readEvent();
+            if (event == JsonEvent.ARRAY) {
+                array = true;
+                event = input.readEvent();
+                return (event == JsonEvent.ARRAY_END ? acceptEnd() : event);
+            }
+            return event;
+        }
+        if (array) {
+            JsonEvent event = input.readEvent();
+            if (event == JsonEvent.ARRAY_END) {
+                return acceptEnd();
+            }
+            input.ensureEvent(event, JsonEvent.COMMA);
+            return input.readEvent();
+        }
+        if (input.skipWhitespaceToEnd()) {
+            ended = true;
+            return null;
+        }
+        return input.readEvent();
+    }
+
+    // the array has ended, which must be the end of the data
+    private JsonEvent acceptEnd() throws IOException {
+        if (input.skipWhitespaceToEnd() == false) {
+            throw new IllegalArgumentException("Invalid JSON data: Expected end of file after array");
+        }
+        ended = true;
+        return null;
+    }
+
+    /**
+     * Gets the number of beans that have been read so far.
+     *
+     * @return the number of beans read
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns an iterator over the remaining beans in the stream.
+     * <p>
+     * The iterator consumes the stream as it is iterated.
+     *
+     * @return the iterator, not null
+     */
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private T next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    next = read();
+                }
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (hasNext() == false) {
+                    throw new NoSuchElementException();
+                }
+                T bean = next;
+                next = null;
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential stream of the remaining beans in the stream.
+     * <p>
+     * Closing the returned stream closes this reader.
+     *
+     * @return the stream, not null
+     */
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(
+                iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    /**
+     * Closes the underlying reader.
+     *
+     * @throws IOException if an error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
@@ -16,7 +16,6 @@
 package org.joda.beans.ser.json;
 
 import java.io.Reader;
-import java.io.StringReader;
 import java.util.Collections;
 
 import org.joda.beans.JodaBeanUtils;
@@ -54,7 +53,7 @@ public class JodaBeanSimpleJsonReader extends AbstractJsonReader {
      */
     public <T> T read(String input, Class<T> rootType) {
         JodaBeanUtils.notNull(input, "input");
-        return read(new StringReader(input), rootType);
+        return read(new JsonInput(input), rootType);
     }
 
     /**
@@ -67,9 +66,12 @@ public class JodaBeanSimpleJsonReader extends AbstractJsonReader {
      */
     public <T> T read(Reader input, Class<T> rootType) {
         JodaBeanUtils.notNull(input, "input");
+        return read(new JsonInput(input), rootType);
+    }
+
+    private <T> T read(JsonInput jsonInput, Class<T> rootType) {
         JodaBeanUtils.notNull(rootType, "rootType");
         try {
-            JsonInput jsonInput = new JsonInput(input);
             return parseRoot(jsonInput, rootType);
         } catch (RuntimeException ex) {
             throw ex;
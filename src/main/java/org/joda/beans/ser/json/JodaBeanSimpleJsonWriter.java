@@ -16,14 +16,15 @@
 package org.joda.beans.ser.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import org.joda.beans.Bean;
 import org.joda.beans.JodaBeanUtils;
-import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanPlan.PropertyPlan;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
 import org.joda.convert.StringConverter;
 
 /**
@@ -102,30 +103,93 @@ public class JodaBeanSimpleJsonWriter {
         output.append(settings.getNewLine());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the bean to an array of bytes, encoded in UTF-8.
+     * <p>
+     * The JSON is encoded directly to bytes, without creating a string.
+     * 
+     * @param bean  the bean to output, not null
+     * @return the UTF-8 encoded JSON, not null
+     */
+    public byte[] writeUtf8(Bean bean) {
+        JsonUtf8Sink.GrowableSink sink = JsonUtf8Sink.ofBytes();
+        try {
+            write(bean, sink);
+            sink.finish();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return sink.toByteArray();
+    }
+
+    /**
+     * Writes the bean to the {@code OutputStream}, encoded in UTF-8.
+     * <p>
+     * The stream is neither flushed nor closed.
+     * 
+     * @param bean  the bean to output, not null
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    public void writeUtf8(Bean bean, OutputStream output) throws IOException {
+        JodaBeanUtils.notNull(output, "output");
+        JsonUtf8Sink sink = JsonUtf8Sink.ofStream(output);
+        write(bean, sink);
+        sink.finish();
+    }
+
+    /**
+     * Writes the bean to the {@code ByteBuffer}, encoded in UTF-8.
+     * <p>
+     * Data is written starting at the current position of the buffer, which may be heap or direct.
+     * If the buffer runs out of space, a larger buffer of the same kind is allocated and
+     * the contents copied, thus the returned buffer should be used to access the data.
+     * The position of the returned buffer is immediately after the last byte written.
+     * 
+     * @param bean  the bean to output, not null
+     * @param buffer  the buffer to write to, not null
+     * @return the buffer containing the data, which may be a different instance, not null
+     */
+    public ByteBuffer writeUtf8(Bean bean, ByteBuffer buffer) {
+        JodaBeanUtils.notNull(buffer, "buffer");
+        JsonUtf8Sink.BufferSink sink = JsonUtf8Sink.ofBuffer(buffer);
+        try {
+            write(bean, sink);
+            sink.finish();
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return sink.buffer();
+    }
+
     //-----------------------------------------------------------------------
     // write a bean as a JSON object
     private void writeBean(Bean bean, Class<?> declaredType) throws IOException {
         output.writeObjectStart();
         // property information
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable()) {
-                Object value = SerOptional.extractValue(prop, bean);
-                if (value != null) {
-                    output.writeObjectKey(prop.name());
-                    Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-                    if (value instanceof Bean) {
-                        if (settings.getConverter().isConvertible(value.getClass())) {
-                            writeSimple(propType, value);
-                        } else {
-                            writeBean((Bean) value, propType);
-                        }
+        JsonKeys keys = JsonKeys.of(bean.metaBean());
+        for (PropertyPlan prop : settings.beanPlan(bean).getProperties()) {
+            JsonKeys.Key key = keys.get(prop.getName());
+            if (prop.isUnboxed() && output.writePrimitive(prop.getMetaProperty(), bean, key)) {
+                continue;
+            }
+            Object value = prop.extractValue(bean);
+            if (value != null) {
+                output.writeObjectKey(key, prop.getName());
+                Class<?> propType = prop.getPropertyType();
+                if (value instanceof Bean) {
+                    if (settings.getConverter().isConvertible(value.getClass())) {
+                        writeSimple(propType, value);
+                    } else {
+                        writeBean((Bean) value, propType);
+                    }
+                } else {
+                    SerIterator itemIterator = prop.createIterator(settings.getIteratorFactory(), value, bean.getClass());
+                    if (itemIterator != null) {
+                        writeElements(itemIterator);
                     } else {
-                        SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass());
-                        if (itemIterator != null) {
-                            writeElements(itemIterator);
-                        } else {
-                            writeSimple(propType, value);
-                        }
+                        writeSimple(propType, value);
                     }
                 }
             }
@@ -20,9 +20,18 @@ import java.io.Reader;
 
 /**
  * Reader of JSON data.
+ * <p>
+ * The data is read into a window of characters, from a {@code Reader} or a {@code String}.
+ * Tokens are scanned directly from the window wherever possible.
+ * The first element of the window is never filled, ensuring there is always space to push back.
  */
 final class JsonInput {
 
+    /**
+     * The maximum size of the window.
+     */
+    private static final int WINDOW_SIZE = 8192;
+
     /** encoding JSON */
     private static final String[] REPLACE = new String[128];
     static {
@@ -40,9 +49,29 @@ final class JsonInput {
     }
 
     /**
-     * The reader.
+     * The reader, null if reading from a string.
      */
     private final Reader input;
+    /**
+     * The string, null if reading from a reader.
+     */
+    private final String inputString;
+    /**
+     * The position in the string of the next data to copy to the window.
+     */
+    private int inputStringPos;
+    /**
+     * The window of characters.
+     */
+    private final char[] window;
+    /**
+     * The position of the next character to read in the window.
+     */
+    private int pos = 1;
+    /**
+     * The end of the valid data in the window.
+     */
+    private int limit = 1;
     /**
      * The reused string buffer.
      */
@@ -55,10 +84,6 @@ final class JsonInput {
      * The last parsed floating number.
      */
     private double floating;
-    /**
-     * The previously read character.
-     */
-    private Character cachedNext;
     /**
      * The previously read object key.
      */
@@ -71,12 +96,26 @@ final class JsonInput {
      */
     JsonInput(Reader input) {
         this.input = input;
+        this.inputString = null;
+        this.window = new char[WINDOW_SIZE + 1];
+    }
+
+    /**
+     * Creates an instance that parses JSON from a string.
+     * 
+     * @param input  the input to read from, not null
+     */
+    JsonInput(String input) {
+        this.input = null;
+        this.inputString = input;
+        this.window = new char[Math.max(Math.min(input.length(), WINDOW_SIZE), 1) + 1];
     }
 
     //-----------------------------------------------------------------------
     /**
-     * Writes a JSON null.
+     * Reads the next event, skipping whitespace.
      * 
+     * @return the event, not null
      * @throws IOException if an error occurs
      */
     JsonEvent readEvent() throws IOException {
@@ -124,9 +163,12 @@ final class JsonInput {
         }
     }
 
-    // store peeked value for later use
+    // store peeked value for later use, replacing the last character read
     void pushBack(char ch) throws IOException {
-        cachedNext = ch;
+        if (pos == 0) {
+            throw new IllegalStateException("Unable to push back");
+        }
+        window[--pos] = ch;
     }
 
     // store peeked value for later use
@@ -164,6 +206,38 @@ final class JsonInput {
         return str;
     }
 
+    // opening quote already consumed, matching the key without creating a string where possible
+    // returns the index of the matched key, or negative without consuming the key if not matched
+    int matchObjectKey(JsonKeys keys) throws IOException {
+        if (cachedObjectKey != null) {
+            int index = keys.find(cachedObjectKey);
+            if (index >= 0) {
+                cachedObjectKey = null;
+            }
+            return index;
+        }
+        if (pos == limit) {
+            fill();
+        }
+        char[] window = this.window;
+        int start = pos;
+        for (int i = start; i < limit; i++) {
+            char ch = window[i];
+            if (ch == '"') {
+                int index = keys.find(window, start, i - start);
+                if (index >= 0) {
+                    pos = i + 1;
+                    acceptEvent(JsonEvent.COLON);
+                }
+                return index;
+            }
+            if (ch == '\\') {
+                break;
+            }
+        }
+        return -1;
+    }
+
     //-----------------------------------------------------------------------
     // expect string and parse it
     String acceptString() throws IOException {
@@ -173,17 +247,40 @@ final class JsonInput {
 
     // opening quite already consumed
     String parseString() throws IOException {
+        // fast path, where the string is in the window without escapes
+        char[] window = this.window;
+        int start = pos;
+        for (int i = start; i < limit; i++) {
+            char ch = window[i];
+            if (ch == '"') {
+                pos = i + 1;
+                return new String(window, start, i - start);
+            }
+            if (ch == '\\') {
+                break;
+            }
+        }
+        // slow path, copying runs of plain characters to the buffer
         buf.setLength(0);
-        char next = readNext();
-        while (next != '"') {
-            if (next == '\\') {
+        while (true) {
+            if (pos == limit && fill() == false) {
+                throw new IllegalArgumentException("Invalid JSON data: End of file");
+            }
+            int runStart = pos;
+            int i = runStart;
+            while (i < limit && window[i] != '"' && window[i] != '\\') {
+                i++;
+            }
+            buf.append(window, runStart, i - runStart);
+            pos = i;
+            if (i < limit) {
+                pos++;
+                if (window[i] == '"') {
+                    return buf.toString();
+                }
                 parseEscape();
-            } else {
-                buf.append(next);
             }
-            next = readNext();
         }
-        return buf.toString();
     }
 
     private void parseEscape() throws IOException {
@@ -250,13 +347,38 @@ final class JsonInput {
         return floating;
     }
 
+    // the first character has just been read from the window
     private JsonEvent acceptNumber(char first) throws IOException {
+        // fast path, where an integer of up to 18 digits is in the window
+        char[] window = this.window;
+        boolean negative = (first == '-');
+        int digitsStart = (negative ? pos : pos - 1);
+        long value = 0;
+        int i = digitsStart;
+        while (i < limit && window[i] >= '0' && window[i] <= '9') {
+            value = value * 10 + (window[i] - '0');
+            i++;
+        }
+        int digits = i - digitsStart;
+        if (i < limit && isNumberChar(window[i]) == false && digits > 0 && digits <= 18 &&
+                (window[digitsStart] != '0' || digits == 1)) {
+            pos = i;
+            integral = (negative ? -value : value);
+            return JsonEvent.NUMBER_INTEGRAL;
+        }
+        return acceptNumberSlow(first);
+    }
+
+    // the first character has been read, handles all numbers
+    private JsonEvent acceptNumberSlow(char first) throws IOException {
         buf.setLength(0);
         buf.append(first);
+        boolean decimal = false;
         char last = first;
         char next = readNext();
-        while ((next >= '0' && next <= '9') || next == '.' || next == '-' || next == '+' || next == 'e' || next == 'E') {
-            buf.append((char) next);
+        while (isNumberChar(next)) {
+            buf.append(next);
+            decimal |= (next == '.' || next == 'e' || next == 'E');
             last = next;
             next = readNext();
         }
@@ -264,13 +386,12 @@ final class JsonInput {
         if (last < '0' || last > '9') {
             throw new IllegalArgumentException("Invalid JSON data: Expected number but found invalid last char '" + last + "'");
         }
-        String str = buf.toString();
-        if (str.equals("0")) {
-            integral = 0;
-            return JsonEvent.NUMBER_INTEGRAL;
-        } else if (str.startsWith("0") && str.charAt(1) != '.') {
+        int digitsStart = (first == '-' ? 1 : 0);
+        if (buf.length() > digitsStart + 1 && buf.charAt(digitsStart) == '0' && buf.charAt(digitsStart + 1) != '.') {
             throw new IllegalArgumentException("Invalid JSON data: Expected number but found zero at start");
-        } else if (str.contains(".") || str.contains("e") || str.contains("E")) {
+        }
+        String str = buf.toString();
+        if (decimal) {
             floating = Double.parseDouble(str);
             return JsonEvent.NUMBER_FLOATING;
         } else {
@@ -279,6 +400,10 @@ final class JsonInput {
         }
     }
 
+    private static boolean isNumberChar(char ch) {
+        return (ch >= '0' && ch <= '9') || ch == '.' || ch == '-' || ch == '+' || ch == 'e' || ch == 'E';
+    }
+
     //-----------------------------------------------------------------------
     private JsonEvent acceptNull() throws IOException {
         acceptChar('u');
@@ -310,17 +435,50 @@ final class JsonInput {
     }
 
     //-----------------------------------------------------------------------
-    private char readNext() throws IOException {
-        if (cachedNext != null) {
-            char next = cachedNext.charValue();
-            cachedNext = null;
-            return next;
+    // skips whitespace, returning true if the end of the data has been reached
+    boolean skipWhitespaceToEnd() throws IOException {
+        while (true) {
+            if (pos == limit && fill() == false) {
+                return true;
+            }
+            char next = window[pos];
+            if (next != ' ' && next != '\t' && next != '\n' && next != '\r') {
+                return false;
+            }
+            pos++;
         }
-        int next = input.read();
-        if (next == -1) {
+    }
+
+    private char readNext() throws IOException {
+        if (pos == limit && fill() == false) {
             throw new IllegalArgumentException("Invalid JSON data: End of file");
         }
-        return (char) next;
+        return window[pos++];
+    }
+
+    // refills the window once all of it has been read, returning false at the end of the data
+    private boolean fill() throws IOException {
+        if (input != null) {
+            int read = input.read(window, 1, window.length - 1);
+            while (read == 0) {
+                read = input.read(window, 1, window.length - 1);
+            }
+            if (read < 0) {
+                return false;
+            }
+            limit = read + 1;
+        } else {
+            int remaining = inputString.length() - inputStringPos;
+            if (remaining == 0) {
+                return false;
+            }
+            int read = Math.min(remaining, window.length - 1);
+            inputString.getChars(inputStringPos, inputStringPos + read, window, 1);
+            inputStringPos += read;
+            limit = read + 1;
+        }
+        pos = 1;
+        return true;
     }
 
     void skipData() throws IOException {
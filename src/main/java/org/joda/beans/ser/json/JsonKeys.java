@@ -0,0 +1,278 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.joda.beans.DynamicMetaBean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+
+/**
+ * The JSON object keys of the properties of a meta-bean.
+ * <p>
+ * When writing, each key is held in the quoted and escaped form {@code "name":},
+ * both as characters and as UTF-8 bytes, so that it can be output with a single append.
+ * <p>
+ * When reading, the property names are held in an open-addressing hash table,
+ * allowing a key to be matched directly from an array of characters without creating a string.
+ * The hash code is that of {@code String}, so a table lookup can also use a string's cached hash.
+ * <p>
+ * The keys are cached against the bean type using {@link ClassValue}, except for dynamic
+ * meta-beans whose properties can change. The cache does not prevent the bean class from being unloaded.
+ */
+final class JsonKeys {
+
+    /**
+     * The keys of dynamic meta-beans, which are not cached.
+     */
+    private static final JsonKeys EMPTY =
+            new JsonKeys(null, Collections.<String, Key>emptyMap(), Collections.<MetaProperty<?>>emptyList());
+    /**
+     * The cache of keys, keyed by bean type, with an empty reference if not yet cached.
+     */
+    private static final ClassValue<AtomicReference<JsonKeys>> CACHE = new ClassValue<AtomicReference<JsonKeys>>() {
+        @Override
+        protected AtomicReference<JsonKeys> computeValue(Class<?> cls) {
+            return new AtomicReference<>();
+        }
+    };
+
+    /**
+     * The meta-bean, null if empty.
+     */
+    private final MetaBean metaBean;
+
+    /**
+     * The keys, keyed by property name.
+     */
+    private final Map<String, Key> keys;
+    /**
+     * The hash table of property names, null where empty.
+     */
+    private final String[] names;
+    /**
+     * The hash codes of the property names, aligned with the hash table.
+     */
+    private final int[] hashes;
+    /**
+     * The meta-properties, aligned with the hash table.
+     */
+    private final MetaProperty<?>[] metaProperties;
+
+    /**
+     * Obtains the keys of the meta-bean.
+     * <p>
+     * Dynamic meta-beans have no pre-encoded keys.
+     * Only the first meta-bean seen for a bean type is cached, thus the keys of
+     * any other meta-bean for the same type are created on each call.
+     *
+     * @param metaBean  the meta-bean, not null
+     * @return the keys, not null
+     */
+    static JsonKeys of(MetaBean metaBean) {
+        if (metaBean instanceof DynamicMetaBean) {
+            return EMPTY;
+        }
+        AtomicReference<JsonKeys> cached = CACHE.get(metaBean.beanType());
+        JsonKeys keys = cached.get();
+        if (keys == null || keys.metaBean != metaBean) {
+            keys = create(metaBean);
+            if (cached.compareAndSet(null, keys) == false) {
+                JsonKeys existing = cached.get();
+                keys = (existing.metaBean == metaBean ? existing : keys);
+            }
+        }
+        return keys;
+    }
+
+    // creates the keys of the meta-bean
+    private static JsonKeys create(MetaBean metaBean) {
+        Map<String, Key> map = new HashMap<>();
+        List<MetaProperty<?>> metaProperties = new ArrayList<>();
+        for (MetaProperty<?> metaProperty : metaBean.metaPropertyIterable()) {
+            map.put(metaProperty.name(), Key.of(metaProperty.name()));
+            // the meta-property that the meta-bean returns when queried by name
+            metaProperties.add(metaBean.metaProperty(metaProperty.name()));
+        }
+        return new JsonKeys(metaBean, map, metaProperties);
+    }
+
+    /**
+     * Restricted constructor.
+     *
+     * @param metaBean  the meta-bean, null if empty
+     * @param keys  the keys, not null
+     * @param metaProperties  the meta-properties to match, not null
+     */
+    private JsonKeys(MetaBean metaBean, Map<String, Key> keys, List<MetaProperty<?>> metaProperties) {
+        this.metaBean = metaBean;
+        this.keys = keys;
+        int size = Integer.highestOneBit(Math.max(metaProperties.size(), 1) * 2) * 2;
+        this.names = new String[size];
+        this.hashes = new int[size];
+        this.metaProperties = new MetaProperty<?>[size];
+        int mask = size - 1;
+        for (MetaProperty<?> metaProperty : metaProperties) {
+            String name = metaProperty.name();
+            int hash = name.hashCode();
+            int index = hash & mask;
+            while (names[index] != null) {
+                index = (index + 1) & mask;
+            }
+            names[index] = name;
+            hashes[index] = hash;
+            this.metaProperties[index] = metaProperty;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the pre-encoded key of a property.
+     *
+     * @param propertyName  the property name, not null
+     * @return the key, null if not pre-encoded
+     */
+    Key get(String propertyName) {
+        return keys.get(propertyName);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Finds the property matching the characters of a key.
+     *
+     * @param chars  the characters, not null
+     * @param offset  the offset of the key
+     * @param length  the length of the key
+     * @return the index of the matching property, negative if not found
+     */
+    int find(char[] chars, int offset, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + chars[offset + i];
+        }
+        int mask = names.length - 1;
+        int index = hash & mask;
+        String name;
+        while ((name = names[index]) != null) {
+            if (hashes[index] == hash && name.length() == length && matches(name, chars, offset)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    // checks if the name matches the characters
+    private static boolean matches(String name, char[] chars, int offset) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the property matching a key.
+     *
+     * @param key  the key, not null
+     * @return the index of the matching property, negative if not found
+     */
+    int find(String key) {
+        int hash = key.hashCode();
+        int mask = names.length - 1;
+        int index = hash & mask;
+        String name;
+        while ((name = names[index]) != null) {
+            if (hashes[index] == hash && name.equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the property name at the index returned by {@code find}.
+     *
+     * @param index  the index
+     * @return the property name, not null
+     */
+    String name(int index) {
+        return names[index];
+    }
+
+    /**
+     * Gets the meta-property at the index returned by {@code find}.
+     *
+     * @param index  the index
+     * @return the meta-property, not null
+     */
+    MetaProperty<?> metaProperty(int index) {
+        return metaProperties[index];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * A single pre-encoded key.
+     */
+    static final class Key {
+        /**
+         * The quoted, escaped and colon-terminated key.
+         */
+        final String chars;
+        /**
+         * The quoted, escaped and colon-terminated key in UTF-8.
+         */
+        final byte[] utf8;
+
+        /**
+         * Encodes the key.
+         *
+         * @param name  the name to encode, not null
+         * @return the key, not null
+         */
+        static Key of(String name) {
+            StringBuilder buf = new StringBuilder(name.length() + 3);
+            try {
+                new JsonOutput(buf).writeString(name);
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+            buf.append(':');
+            return new Key(buf.toString());
+        }
+
+        private Key(String chars) {
+            this.chars = chars;
+            this.utf8 = chars.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String toString() {
+            return chars;
+        }
+    }
+
+}
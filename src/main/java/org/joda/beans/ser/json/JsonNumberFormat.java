@@ -0,0 +1,223 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.json;
+
+/**
+ * Formats finite {@code double} and {@code float} values into a character array.
+ * <p>
+ * The output is the shortest decimal that parses back to the same value, in the layout of
+ * {@link Double#toString(double)}, such as {@code 0.125}, {@code 1234567.0} or {@code 1.0E-6}.
+ * <p>
+ * The value is scaled by a power of ten and rounded to the nearest integer of 15 digits (6 for float).
+ * At that precision, at most one such integer can parse back to the value, so if any shorter decimal
+ * parses back to the value, the integer is that decimal followed by zeros.
+ * The integer is checked by converting it back to binary using a single correctly rounded
+ * multiplication or division by an exact power of ten, which is an exact round-trip test.
+ * If the check passes, removing the trailing zeros yields the shortest decimal.
+ * <p>
+ * Values that need more digits, or are very large or small, are not formatted,
+ * and the caller falls back to the JDK.
+ * Most values found in practice, such as prices and rates, have few significant digits
+ * and are formatted without allocation.
+ */
+final class JsonNumberFormat {
+
+    /**
+     * The exact powers of ten as double.
+     */
+    private static final double[] DOUBLE_POW10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    /**
+     * The exact powers of ten as float.
+     */
+    private static final float[] FLOAT_POW10 = {
+        1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+    /**
+     * The number of digits used for a double, where at most one integer can round-trip.
+     */
+    private static final int DOUBLE_DIGITS = 15;
+    /**
+     * The number of digits used for a float, where at most one integer can round-trip.
+     */
+    private static final int FLOAT_DIGITS = 6;
+    /**
+     * The number of characters that a formatted value can occupy.
+     */
+    static final int MAX_LENGTH = 32;
+
+    /**
+     * Restricted constructor.
+     */
+    private JsonNumberFormat() {
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Formats a double.
+     *
+     * @param value  the finite value to format
+     * @param buf  the buffer to write to, at least {@code MAX_LENGTH} in size
+     * @return the number of characters written, zero if the value could not be formatted
+     */
+    static int formatDouble(double value, char[] buf) {
+        if (value == 0d) {
+            return writeZero(Double.doubleToRawLongBits(value) < 0, buf);
+        }
+        double abs = Math.abs(value);
+        // the decimal exponent is either this estimate or one more
+        int exponent = (int) Math.floor(Math.getExponent(abs) * 0.30102999566398120);
+        int digits = Math.min(DOUBLE_DIGITS, exponent + 23);
+        int scale = digits - 1 - exponent;
+        if (digits < 1 || scale < -22) {
+            return 0;
+        }
+        double scaled = scale(abs, scale);
+        if (scaled >= DOUBLE_POW10[digits]) {
+            if (--scale < -22) {
+                return 0;
+            }
+            scaled = scale(abs, scale);
+        }
+        long unscaled = Math.round(scaled);
+        double converted = (scale >= 0 ? unscaled / DOUBLE_POW10[scale] : unscaled * DOUBLE_POW10[-scale]);
+        return (converted == abs ? write(value < 0d, unscaled, scale, buf) : 0);
+    }
+
+    /**
+     * Formats a float.
+     *
+     * @param value  the finite value to format
+     * @param buf  the buffer to write to, at least {@code MAX_LENGTH} in size
+     * @return the number of characters written, zero if the value could not be formatted
+     */
+    static int formatFloat(float value, char[] buf) {
+        if (value == 0f) {
+            return writeZero(Float.floatToRawIntBits(value) < 0, buf);
+        }
+        float abs = Math.abs(value);
+        // the decimal exponent is either this estimate or one more
+        int exponent = (int) Math.floor(Math.getExponent(abs) * 0.30102999566398120);
+        int digits = Math.min(FLOAT_DIGITS, exponent + 11);
+        int scale = digits - 1 - exponent;
+        if (digits < 1 || scale < -10) {
+            return 0;
+        }
+        // scaling in double is accurate enough to find the nearest integer
+        double scaled = scale(abs, scale);
+        if (scaled >= DOUBLE_POW10[digits]) {
+            if (--scale < -10) {
+                return 0;
+            }
+            scaled = scale(abs, scale);
+        }
+        long unscaled = Math.round(scaled);
+        float converted = (float) unscaled;
+        converted = (scale >= 0 ? converted / FLOAT_POW10[scale] : converted * FLOAT_POW10[-scale]);
+        return (converted == abs ? write(value < 0f, unscaled, scale, buf) : 0);
+    }
+
+    // multiplies the value by ten to the power of the scale
+    private static double scale(double value, int scale) {
+        return (scale >= 0 ? value * DOUBLE_POW10[scale] : value / DOUBLE_POW10[-scale]);
+    }
+
+    //-----------------------------------------------------------------------
+    // writes zero
+    private static int writeZero(boolean negative, char[] buf) {
+        int pos = 0;
+        if (negative) {
+            buf[pos++] = '-';
+        }
+        buf[pos++] = '0';
+        buf[pos++] = '.';
+        buf[pos++] = '0';
+        return pos;
+    }
+
+    // writes the value of unscaled * 10^-scale in the layout of Double.toString()
+    private static int write(boolean negative, long unscaled, int scale, char[] buf) {
+        // remove trailing zeros
+        while (unscaled % 10 == 0) {
+            unscaled /= 10;
+            scale--;
+        }
+        // write the digits to the end of the buffer
+        int digitsEnd = buf.length;
+        int digitsStart = digitsEnd;
+        long remaining = unscaled;
+        do {
+            buf[--digitsStart] = (char) ('0' + (remaining % 10));
+            remaining /= 10;
+        } while (remaining > 0);
+        int digitCount = digitsEnd - digitsStart;
+        int exponent = digitCount - 1 - scale;
+        // move the digits into place
+        int pos = 0;
+        if (negative) {
+            buf[pos++] = '-';
+        }
+        if (exponent >= -3 && exponent < 7) {
+            if (exponent >= 0) {
+                int intDigits = exponent + 1;
+                for (int i = 0; i < intDigits; i++) {
+                    buf[pos++] = (i < digitCount ? buf[digitsStart + i] : '0');
+                }
+                buf[pos++] = '.';
+                if (intDigits >= digitCount) {
+                    buf[pos++] = '0';
+                } else {
+                    for (int i = intDigits; i < digitCount; i++) {
+                        buf[pos++] = buf[digitsStart + i];
+                    }
+                }
+            } else {
+                buf[pos++] = '0';
+                buf[pos++] = '.';
+                for (int i = exponent + 1; i < 0; i++) {
+                    buf[pos++] = '0';
+                }
+                for (int i = 0; i < digitCount; i++) {
+                    buf[pos++] = buf[digitsStart + i];
+                }
+            }
+        } else {
+            buf[pos++] = buf[digitsStart];
+            buf[pos++] = '.';
+            if (digitCount == 1) {
+                buf[pos++] = '0';
+            } else {
+                for (int i = 1; i < digitCount; i++) {
+                    buf[pos++] = buf[digitsStart + i];
+                }
+            }
+            buf[pos++] = 'E';
+            if (exponent < 0) {
+                buf[pos++] = '-';
+                exponent = -exponent;
+            }
+            if (exponent >= 100) {
+                buf[pos++] = (char) ('0' + exponent / 100);
+            }
+            if (exponent >= 10) {
+                buf[pos++] = (char) ('0' + (exponent / 10) % 10);
+            }
+            buf[pos++] = (char) ('0' + exponent % 10);
+        }
+        return pos;
+    }
+
+}
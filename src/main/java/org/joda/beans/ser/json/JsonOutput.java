@@ -16,8 +16,12 @@
 package org.joda.beans.ser.json;
 
 import java.io.IOException;
+import java.nio.CharBuffer;
 import java.util.BitSet;
 
+import org.joda.beans.Bean;
+import org.joda.beans.MetaProperty;
+
 /**
  * Outputter for JSON data.
  */
@@ -43,6 +47,10 @@ final class JsonOutput {
      * The appender to write to.
      */
     private final Appendable output;
+    /**
+     * The output as a UTF-8 sink, null if not a sink.
+     */
+    private final JsonUtf8Sink utf8Output;
     /**
      * The indent amount.
      */
@@ -63,6 +71,14 @@ final class JsonOutput {
      * The comma state.
      */
     private BitSet commaState = new BitSet(64);
+    /**
+     * The buffer used to format numbers.
+     */
+    private final char[] numberBuf = new char[JsonNumberFormat.MAX_LENGTH];
+    /**
+     * The buffer used to format numbers, as a character sequence.
+     */
+    private final CharBuffer numberChars = CharBuffer.wrap(numberBuf);
 
     /**
      * Creates an instance that outputs in compact format.
@@ -82,6 +98,7 @@ final class JsonOutput {
      */
     JsonOutput(Appendable output, String indent, String newLine) {
         this.output = output;
+        this.utf8Output = (output instanceof JsonUtf8Sink ? (JsonUtf8Sink) output : null);
         this.indent = indent;
         this.newLine = newLine;
     }
@@ -139,6 +156,7 @@ final class JsonOutput {
      * Writes a JSON float.
      * <p>
      * This outputs the values of NaN, and Infinity as strings.
+     * Other values are output as the shortest decimal that parses to the same float.
      * 
      * @param value  the value
      * @throws IOException if an error occurs
@@ -147,7 +165,12 @@ final class JsonOutput {
         if (Float.isNaN(value) || Float.isInfinite(value)) {
             output.append('"').append(Float.toString(value)).append('"');
         } else {
-            output.append(Float.toString(value));
+            int length = JsonNumberFormat.formatFloat(value, numberBuf);
+            if (length > 0) {
+                output.append(numberChars, 0, length);
+            } else {
+                output.append(Float.toString(value));
+            }
         }
     }
 
@@ -155,6 +178,7 @@ final class JsonOutput {
      * Writes a JSON double.
      * <p>
      * This outputs the values of NaN, and Infinity as strings.
+     * Other values are output as the shortest decimal that parses to the same double.
      * 
      * @param value  the value
      * @throws IOException if an error occurs
@@ -163,7 +187,12 @@ final class JsonOutput {
         if (Double.isNaN(value) || Double.isInfinite(value)) {
             output.append('"').append(Double.toString(value)).append('"');
         } else {
-            output.append(Double.toString(value));
+            int length = JsonNumberFormat.formatDouble(value, numberBuf);
+            if (length > 0) {
+                output.append(numberChars, 0, length);
+            } else {
+                output.append(Double.toString(value));
+            }
         }
     }
 
@@ -176,23 +205,26 @@ final class JsonOutput {
      */
     void writeString(String value) throws IOException {
         output.append('"');
-        for (int i = 0; i < value.length(); i++) {
+        // append runs of characters that do not need escaping in bulk
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
             char ch = value.charAt(i);
+            String replace = null;
             if (ch < 128) {
-                String replace = REPLACE[ch];
-                if (replace != null) {
-                    output.append(replace);
-                } else {
-                    output.append(ch);
-                }
+                replace = REPLACE[ch];
             } else if (ch == '\u2028') {
-                output.append("\\u2028");  // match other JSON writers
+                replace = "\\u2028";  // match other JSON writers
             } else if (ch == '\u2029') {
-                output.append("\\u2029");  // match other JSON writers
-            } else {
-                output.append(ch);
+                replace = "\\u2029";  // match other JSON writers
+            }
+            if (replace != null) {
+                output.append(value, start, i);
+                output.append(replace);
+                start = i + 1;
             }
         }
+        output.append(value, start, length);
         output.append('"');
     }
 
@@ -256,6 +288,32 @@ final class JsonOutput {
      * @throws IOException if an error occurs
      */
     void writeObjectKey(String key) throws IOException {
+        writeObjectKeyStart();
+        writeString(key);
+        output.append(':');
+        writeObjectKeyEnd();
+    }
+
+    /**
+     * Writes a pre-encoded JSON object key.
+     * <p>
+     * This handles the comma, and appends the key and separator colon in bulk.
+     * 
+     * @param key  the pre-encoded item key
+     * @throws IOException if an error occurs
+     */
+    void writeObjectKey(JsonKeys.Key key) throws IOException {
+        writeObjectKeyStart();
+        if (utf8Output != null) {
+            utf8Output.write(key.utf8);
+        } else {
+            output.append(key.chars);
+        }
+        writeObjectKeyEnd();
+    }
+
+    // writes the comma and indent before a key
+    private void writeObjectKeyStart() throws IOException {
         if (commaState.get(commaDepth)) {
             output.append(',');
         } else {
@@ -263,13 +321,70 @@ final class JsonOutput {
         }
         output.append(newLine);
         output.append(currentIndent);
-        writeString(key);
-        output.append(':');
+    }
+
+    // writes the space after the colon in pretty format
+    private void writeObjectKeyEnd() throws IOException {
         if (newLine.length() > 0) {
             output.append(' ');
         }
     }
 
+    /**
+     * Writes a JSON object key, using the pre-encoded form if available.
+     * 
+     * @param key  the pre-encoded key, null if not available
+     * @param name  the key name, used if the pre-encoded key is null
+     * @throws IOException if an error occurs
+     */
+    void writeObjectKey(JsonKeys.Key key, String name) throws IOException {
+        if (key != null) {
+            writeObjectKey(key);
+        } else {
+            writeObjectKey(name);
+        }
+    }
+
+    /**
+     * Writes a JSON object key and primitive value for a property without boxing.
+     * <p>
+     * Only {@code double}, {@code long}, {@code int} and {@code boolean} properties are written.
+     * Nothing is written for other types, or for a double that is NaN or infinite,
+     * as those need the standard approach.
+     * 
+     * @param metaProperty  the meta-property to write
+     * @param bean  the bean to query
+     * @param key  the pre-encoded key, null if not available
+     * @return true if the key and value were written, false if nothing was written
+     * @throws IOException if an error occurs
+     */
+    boolean writePrimitive(MetaProperty<?> metaProperty, Bean bean, JsonKeys.Key key) throws IOException {
+        Class<?> propType = metaProperty.propertyType();
+        if (propType == double.class) {
+            double value = metaProperty.getDouble(bean);
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                return false;
+            }
+            writeObjectKey(key, metaProperty.name());
+            writeDouble(value);
+        } else if (propType == long.class) {
+            long value = metaProperty.getLong(bean);
+            writeObjectKey(key, metaProperty.name());
+            writeLong(value);
+        } else if (propType == int.class) {
+            int value = metaProperty.getInt(bean);
+            writeObjectKey(key, metaProperty.name());
+            writeInt(value);
+        } else if (propType == boolean.class) {
+            boolean value = metaProperty.getBoolean(bean);
+            writeObjectKey(key, metaProperty.name());
+            writeBoolean(value);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Writes a JSON object key and value.
      * 
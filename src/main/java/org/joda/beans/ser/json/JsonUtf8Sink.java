@@ -0,0 +1,337 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Destination of JSON data that encodes directly to UTF-8 bytes.
+ * <p>
+ * Characters are encoded into a byte array, copying runs of ASCII characters
+ * in a tight loop. When the array is full, it is drained to the destination,
+ * or grown if the destination is the array itself.
+ * Invalid surrogate pairs are encoded as '?', matching {@code String.getBytes()}.
+ */
+abstract class JsonUtf8Sink implements Appendable {
+
+    /**
+     * The default size of the buffer.
+     */
+    static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * The buffer being written to.
+     */
+    byte[] buf;
+    /**
+     * The number of bytes in the buffer.
+     */
+    int count;
+    /**
+     * The high surrogate awaiting its low surrogate, zero if none.
+     */
+    private char highSurrogate;
+
+    /**
+     * Creates an instance.
+     *
+     * @param size  the initial size of the buffer
+     */
+    JsonUtf8Sink(int size) {
+        this.buf = new byte[size];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Creates a sink that drains to an {@code OutputStream}.
+     *
+     * @param stream  the stream to write to, not null
+     * @return the sink, not null
+     */
+    static JsonUtf8Sink ofStream(OutputStream stream) {
+        return new StreamSink(stream);
+    }
+
+    /**
+     * Creates a sink that grows its own array of bytes.
+     *
+     * @return the sink, not null
+     */
+    static GrowableSink ofBytes() {
+        return new GrowableSink();
+    }
+
+    /**
+     * Creates a sink that drains to a {@code ByteBuffer}, growing it as necessary.
+     *
+     * @param buffer  the buffer to write to, not null
+     * @return the sink, not null
+     */
+    static BufferSink ofBuffer(ByteBuffer buffer) {
+        return new BufferSink(buffer);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public Appendable append(char ch) throws IOException {
+        if (ch < 0x80 && highSurrogate == 0) {
+            if (count == buf.length) {
+                makeSpace(1);
+            }
+            buf[count++] = (byte) ch;
+        } else {
+            appendNonAscii(ch);
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        CharSequence str = (csq == null ? "null" : csq);
+        return append(str, 0, str.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        CharSequence str = (csq == null ? "null" : csq);
+        int i = start;
+        while (i < end) {
+            if (count == buf.length) {
+                makeSpace(1);
+            }
+            // copy ASCII characters until the buffer is full
+            int runEnd = Math.min(end, i + buf.length - count);
+            if (highSurrogate == 0) {
+                byte[] bytes = buf;
+                int pos = count;
+                while (i < runEnd) {
+                    char ch = str.charAt(i);
+                    if (ch >= 0x80) {
+                        break;
+                    }
+                    bytes[pos++] = (byte) ch;
+                    i++;
+                }
+                count = pos;
+            }
+            if (i < runEnd) {
+                appendNonAscii(str.charAt(i));
+                i++;
+            }
+        }
+        return this;
+    }
+
+    // encodes a character that is not ASCII, or that follows a high surrogate
+    private void appendNonAscii(char ch) throws IOException {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(ch)) {
+                int codePoint = Character.toCodePoint(high, ch);
+                ensure(4);
+                buf[count++] = (byte) (0xF0 | (codePoint >> 18));
+                buf[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buf[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buf[count++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+            ensure(1);
+            buf[count++] = '?';
+        }
+        if (ch < 0x80) {
+            ensure(1);
+            buf[count++] = (byte) ch;
+        } else if (ch < 0x800) {
+            ensure(2);
+            buf[count++] = (byte) (0xC0 | (ch >> 6));
+            buf[count++] = (byte) (0x80 | (ch & 0x3F));
+        } else if (Character.isHighSurrogate(ch)) {
+            highSurrogate = ch;
+        } else if (Character.isLowSurrogate(ch)) {
+            ensure(1);
+            buf[count++] = '?';
+        } else {
+            ensure(3);
+            buf[count++] = (byte) (0xE0 | (ch >> 12));
+            buf[count++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+            buf[count++] = (byte) (0x80 | (ch & 0x3F));
+        }
+    }
+
+    /**
+     * Writes bytes that are already encoded in UTF-8.
+     *
+     * @param bytes  the bytes to write, not null
+     * @throws IOException if an error occurs
+     */
+    void write(byte[] bytes) throws IOException {
+        endHighSurrogate();
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buf, count, bytes.length);
+        count += bytes.length;
+    }
+
+    // ensures there is space for the specified number of bytes
+    private void ensure(int required) throws IOException {
+        if (buf.length - count < required) {
+            makeSpace(required);
+            if (buf.length - count < required) {
+                buf = Arrays.copyOf(buf, count + required);
+            }
+        }
+    }
+
+    /**
+     * Completes the writing, draining any buffered data to the destination.
+     *
+     * @throws IOException if an error occurs
+     */
+    final void finish() throws IOException {
+        endHighSurrogate();
+        drain();
+    }
+
+    // encodes a pending high surrogate that has no matching low surrogate as '?'
+    private void endHighSurrogate() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            ensure(1);
+            buf[count++] = '?';
+        }
+    }
+
+    /**
+     * Makes space in the buffer, by draining or growing it.
+     *
+     * @param required  the number of bytes required
+     * @throws IOException if an error occurs
+     */
+    abstract void makeSpace(int required) throws IOException;
+
+    /**
+     * Drains the buffer to the destination.
+     *
+     * @throws IOException if an error occurs
+     */
+    abstract void drain() throws IOException;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sink that drains to an {@code OutputStream}.
+     */
+    private static final class StreamSink extends JsonUtf8Sink {
+        private final OutputStream stream;
+
+        StreamSink(OutputStream stream) {
+            super(DEFAULT_BUFFER_SIZE);
+            this.stream = stream;
+        }
+
+        @Override
+        void makeSpace(int required) throws IOException {
+            drain();
+        }
+
+        @Override
+        void drain() throws IOException {
+            if (count > 0) {
+                stream.write(buf, 0, count);
+                count = 0;
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sink that grows its array.
+     */
+    static final class GrowableSink extends JsonUtf8Sink {
+        GrowableSink() {
+            super(1024);
+        }
+
+        @Override
+        void makeSpace(int required) {
+            int capacity = Math.max(buf.length * 2, count + required);
+            if (capacity < 0) {
+                throw new IllegalStateException("JSON data too large");
+            }
+            buf = Arrays.copyOf(buf, capacity);
+        }
+
+        @Override
+        void drain() {
+            // nothing to drain
+        }
+
+        /**
+         * Gets the bytes that have been written.
+         *
+         * @return the bytes, not null
+         */
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, count);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Sink that drains to a {@code ByteBuffer}, growing it as necessary.
+     */
+    static final class BufferSink extends JsonUtf8Sink {
+        private ByteBuffer buffer;
+
+        BufferSink(ByteBuffer buffer) {
+            super(DEFAULT_BUFFER_SIZE);
+            this.buffer = buffer;
+        }
+
+        @Override
+        void makeSpace(int required) {
+            drain();
+        }
+
+        @Override
+        void drain() {
+            if (buffer.remaining() < count) {
+                int capacity = Math.max(buffer.capacity() * 2, buffer.position() + count);
+                if (capacity < 0) {
+                    throw new IllegalStateException("JSON data too large");
+                }
+                ByteBuffer larger = buffer.isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+            buffer.put(buf, 0, count);
+            count = 0;
+        }
+
+        /**
+         * Gets the buffer that has been written to, which may be a different instance.
+         *
+         * @return the buffer, not null
+         */
+        ByteBuffer buffer() {
+            return buffer;
+        }
+    }
+
+}
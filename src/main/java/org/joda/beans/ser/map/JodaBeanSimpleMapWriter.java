@@ -23,11 +23,10 @@ import java.util.Map;
 
 import org.joda.beans.Bean;
 import org.joda.beans.JodaBeanUtils;
-import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanPlan.PropertyPlan;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
 import org.joda.convert.StringConverter;
 
 /**
@@ -83,28 +82,26 @@ public class JodaBeanSimpleMapWriter {
     private Map<String, Object> writeBean(Bean bean, Class<?> declaredType) {
         Map<String, Object> result = new LinkedHashMap<>();
         // property information
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable()) {
-                Object value = SerOptional.extractValue(prop, bean);
-                if (value != null) {
-                    Object outputValue = null;
-                    Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-                    if (value instanceof Bean) {
-                        if (settings.getConverter().isConvertible(value.getClass())) {
-                            outputValue = writeSimple(propType, value);
-                        } else {
-                            outputValue = writeBean((Bean) value, propType);
-                        }
+        for (PropertyPlan prop : settings.beanPlan(bean).getProperties()) {
+            Object value = prop.extractValue(bean);
+            if (value != null) {
+                Object outputValue = null;
+                Class<?> propType = prop.getPropertyType();
+                if (value instanceof Bean) {
+                    if (settings.getConverter().isConvertible(value.getClass())) {
+                        outputValue = writeSimple(propType, value);
                     } else {
-                        SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass());
-                        if (itemIterator != null) {
-                            outputValue = writeElements(itemIterator);
-                        } else {
-                            outputValue = writeSimple(propType, value);
-                        }
+                        outputValue = writeBean((Bean) value, propType);
+                    }
+                } else {
+                    SerIterator itemIterator = prop.createIterator(settings.getIteratorFactory(), value, bean.getClass());
+                    if (itemIterator != null) {
+                        outputValue = writeElements(itemIterator);
+                    } else {
+                        outputValue = writeSimple(propType, value);
                     }
-                    result.put(prop.name(), outputValue);
                 }
+                result.put(prop.getName(), outputValue);
             }
         }
         return result;
@@ -36,11 +36,10 @@ import java.util.HashMap;
 import java.util.Map;
 
 import javax.xml.namespace.QName;
-import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
-import javax.xml.stream.events.Attribute;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.joda.beans.Bean;
 import org.joda.beans.BeanBuilder;
@@ -58,6 +57,10 @@ import org.joda.beans.ser.SerTypeMapper;
  * <p>
  * The XML format is defined by {@link JodaBeanXmlWriter}.
  * <p>
+ * The XML is read using the cursor-based {@link XMLStreamReader}, which does not create
+ * an object for each node. Attributes are read by index and text is copied directly
+ * from the parser's character array.
+ * <p>
  * This class contains mutable state and cannot be used from multiple threads.
  * A new instance must be created for each message.
  *
@@ -72,7 +75,7 @@ public class JodaBeanXmlReader {
     /**
      * The reader.
      */
-    private XMLEventReader reader;
+    private XMLStreamReader reader;
     /**
      * The base package including the trailing dot.
      */
@@ -81,6 +84,10 @@ public class JodaBeanXmlReader {
      * The known types.
      */
     private Map<String, Class<?>> knownTypes = new HashMap<>();
+    /**
+     * The buffer used to accumulate text, reused for each element.
+     */
+    private final StringBuilder textBuf = new StringBuilder(64);
 
     /**
      * Creates an instance.
@@ -135,7 +142,7 @@ public class JodaBeanXmlReader {
     public <T> T read(final InputStream input, Class<T> rootType) {
         try {
             try {
-                reader = factory().createXMLEventReader(input);
+                reader = factory().createXMLStreamReader(input);
                 return read(rootType);
             } finally {
                 reader.close();
@@ -168,7 +175,7 @@ public class JodaBeanXmlReader {
     public <T> T read(final Reader input, Class<T> rootType) {
         try {
             try {
-                reader = factory().createXMLEventReader(input);
+                reader = factory().createXMLStreamReader(input);
                 return read(rootType);
             } finally {
                 reader.close();
@@ -203,17 +210,16 @@ public class JodaBeanXmlReader {
      * @throws Exception if an error occurs
      */
     private <T> T read(final Class<T> rootType) throws Exception {
-        StartElement start = advanceToStartElement();
-        if (start.getName().equals(BEAN_QNAME) == false) {
-            throw new IllegalArgumentException("Expected root element 'bean' but found '" + start.getName() + "'");
+        advanceToStartElement();
+        if (isElement(BEAN_QNAME) == false) {
+            throw new IllegalArgumentException("Expected root element 'bean' but found '" + reader.getName() + "'");
         }
-        Attribute attr = start.getAttributeByName(TYPE_QNAME);
-        if (attr == null && rootType == Bean.class) {
+        String typeStr = attribute(TYPE_QNAME);
+        if (typeStr == null && rootType == Bean.class) {
             throw new IllegalArgumentException("Root element attribute must specify '" + TYPE + "'");
         }
         Class<?> effectiveType = rootType;
-        if (attr != null) {
-            String typeStr = attr.getValue();
+        if (typeStr != null) {
             effectiveType = SerTypeMapper.decodeType(typeStr, settings, null, knownTypes);
             if (rootType.isAssignableFrom(effectiveType) == false) {
                 throw new IllegalArgumentException("Specified root type is incompatible with XML root type: " + rootType.getName() + " and " + effectiveType.getName());
@@ -230,28 +236,28 @@ public class JodaBeanXmlReader {
     /**
      * Parses a logical bean in the input XML.
      * <p>
+     * The reader must be positioned at the start element of the bean.
      * Return type allows for a non-bean to be returned.
      * 
      * @param beanType  the bean type, not null
      * @return the bean, not null
      */
-    @SuppressWarnings("null")
     private Object parseBean(final Class<?> beanType) throws Exception {
         String propName = "";
         try {
-            XMLEvent event = null;
+            int event = XMLStreamConstants.START_ELEMENT;
             // handle case where whole bean is Joda-Convert string
             if (settings.getConverter().isConvertible(beanType)) {
-                StringBuilder buf = new StringBuilder();
+                textBuf.setLength(0);
                 while (reader.hasNext()) {
                     event = nextEvent(">btxt ");
-                    if (event.isCharacters()) {
-                        buf.append(event.asCharacters().getData());
-                    } else if (event.isEndElement()) {
-                        return settings.getConverter().convertFromString(beanType, buf.toString());
-                    } else if (event.isStartElement()) {
+                    if (isCharacters(event)) {
+                        appendText();
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        return settings.getConverter().convertFromString(beanType, textBuf.toString());
+                    } else if (event == XMLStreamConstants.START_ELEMENT) {
                         break;  // not serialized via Joda-Convert
-                    } else if (event.isEndDocument()) {
+                    } else if (event == XMLStreamConstants.END_DOCUMENT) {
                         throw new IllegalArgumentException("Unexpected end of document");
                     }
                 }
@@ -263,41 +269,40 @@ public class JodaBeanXmlReader {
             MetaBean metaBean = deser.findMetaBean(beanType);
             BeanBuilder<?> builder = deser.createBuilder(beanType, metaBean);
             // handle beans with structure
-            while (event.isEndElement() == false) {
-                if (event.isStartElement()) {
-                    StartElement start = event.asStartElement();
-                    propName = start.getName().getLocalPart();
+            while (event != XMLStreamConstants.END_ELEMENT) {
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    propName = reader.getLocalName();
                     MetaProperty<?> metaProp = deser.findMetaProperty(beanType, metaBean, propName);
                     if (metaProp == null) {
                         int depth = 0;
                         event = nextEvent(" skip ");
-                        while (event.isEndElement() == false || depth > 0) {
-                            if (event.isStartElement()) {
+                        while (event != XMLStreamConstants.END_ELEMENT || depth > 0) {
+                            if (event == XMLStreamConstants.START_ELEMENT) {
                                 depth++;
-                            } else if (event.isEndElement()) {
+                            } else if (event == XMLStreamConstants.END_ELEMENT) {
                                 depth--;
                             }
                             event = nextEvent(" skip ");
                         }
                         // skip elements
                     } else {
-                        Class<?> childType = parseTypeAttribute(start, SerOptional.extractType(metaProp, beanType));
+                        Class<?> childType = parseTypeAttribute(SerOptional.extractType(metaProp, beanType));
                         Object value;
                         if (Bean.class.isAssignableFrom(childType)) {
                             value = parseBean(childType);
                         } else {
                             SerIterable iterable = settings.getIteratorFactory().createIterable(metaProp, beanType);
                             if (iterable != null) {
-                                value = parseIterable(start, iterable);
+                                value = parseIterable(iterable);
                             } else {
                                 // metatype
-                                Attribute metaTypeAttr = start.getAttributeByName(METATYPE_QNAME);
-                                if (metaTypeAttr != null) {
-                                    iterable = settings.getIteratorFactory().createIterable(metaTypeAttr.getValue(), settings, knownTypes);
+                                String metaType = attribute(METATYPE_QNAME);
+                                if (metaType != null) {
+                                    iterable = settings.getIteratorFactory().createIterable(metaType, settings, knownTypes);
                                     if (iterable == null) {
                                         throw new IllegalArgumentException("Invalid metaType");
                                     }
-                                    value = parseIterable(start, iterable);
+                                    value = parseIterable(iterable);
                                 } else {
                                     String text = advanceAndParseText();
                                     value = settings.getConverter().convertFromString(childType, text);
@@ -318,81 +323,78 @@ public class JodaBeanXmlReader {
 
     /**
      * Parses to a collection wrapper.
+     * <p>
+     * The reader must be positioned at the start element of the collection.
      * 
      * @param iterable  the iterable builder, not null
      * @return the iterable, not null
      */
-    private Object parseIterable(final StartElement iterableEvent, final SerIterable iterable) throws Exception {
-        Attribute rowsAttr = iterableEvent.getAttributeByName(ROWS_QNAME);
-        Attribute columnsAttr = iterableEvent.getAttributeByName(COLS_QNAME);
-        if (rowsAttr != null && columnsAttr != null) {
-            iterable.dimensions(new int[] {Integer.parseInt(rowsAttr.getValue()), Integer.parseInt(columnsAttr.getValue())});
+    private Object parseIterable(final SerIterable iterable) throws Exception {
+        String rowsStr = attribute(ROWS_QNAME);
+        String columnsStr = attribute(COLS_QNAME);
+        if (rowsStr != null && columnsStr != null) {
+            iterable.dimensions(new int[] {Integer.parseInt(rowsStr), Integer.parseInt(columnsStr)});
         }
-        XMLEvent event = nextEvent(">iter ");
-        while (event.isEndElement() == false) {
-            if (event.isStartElement()) {
-                StartElement start = event.asStartElement();
+        int event = nextEvent(">iter ");
+        while (event != XMLStreamConstants.END_ELEMENT) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
                 QName expectedType = iterable.category() == SerCategory.MAP ? ENTRY_QNAME : ITEM_QNAME;
-                if (start.getName().equals(expectedType) == false) {
-                    throw new IllegalArgumentException("Expected '" + expectedType.getLocalPart() + "' but found '" + start.getName() + "'");
+                if (isElement(expectedType) == false) {
+                    throw new IllegalArgumentException("Expected '" + expectedType.getLocalPart() + "' but found '" + reader.getName() + "'");
                 }
                 int count = 1;
                 Object key = null;
                 Object column = null;
                 Object value = null;
                 if (iterable.category() == SerCategory.COUNTED) {
-                    Attribute countAttr = start.getAttributeByName(COUNT_QNAME);
-                    if (countAttr != null) {
-                        count = Integer.parseInt(countAttr.getValue());
+                    String countStr = attribute(COUNT_QNAME);
+                    if (countStr != null) {
+                        count = Integer.parseInt(countStr);
                     }
-                    value = parseValue(iterable, start);
+                    value = parseValue(iterable);
                     
                 } else if (iterable.category() == SerCategory.TABLE || iterable.category() == SerCategory.GRID) {
-                    Attribute rowAttr = start.getAttributeByName(ROW_QNAME);
-                    Attribute colAttr = start.getAttributeByName(COL_QNAME);
-                    if (rowAttr == null || colAttr == null) {
+                    String rowStr = attribute(ROW_QNAME);
+                    String colStr = attribute(COL_QNAME);
+                    if (rowStr == null || colStr == null) {
                         throw new IllegalArgumentException("Unable to read table as row/col attribute missing");
                     }
-                    String rowStr = rowAttr.getValue();
                     if (iterable.keyType() != null) {
                         key = settings.getConverter().convertFromString(iterable.keyType(), rowStr);
                     } else {
                         key = rowStr;
                     }
-                    String colStr = colAttr.getValue();
                     if (iterable.columnType() != null) {
                         column = settings.getConverter().convertFromString(iterable.columnType(), colStr);
                     } else {
                         column = colStr;
                     }
-                    value = parseValue(iterable, start);
+                    value = parseValue(iterable);
                     
                 } else if (iterable.category() == SerCategory.MAP) {
-                    Attribute keyAttr = start.getAttributeByName(KEY_QNAME);
-                    if (keyAttr != null) {
+                    String keyStr = attribute(KEY_QNAME);
+                    if (keyStr != null) {
                         // item is value with a key attribute
-                        String keyStr = keyAttr.getValue();
                         if (iterable.keyType() != null) {
                             key = settings.getConverter().convertFromString(iterable.keyType(), keyStr);
                         } else {
                             key = keyStr;
                         }
-                        value = parseValue(iterable, start);
+                        value = parseValue(iterable);
                         
                     } else {
                         // two items nested in this entry
                         event = nextEvent(">>map ");
                         int loop = 0;
-                        while (event.isEndElement() == false) {
-                            if (event.isStartElement()) {
-                                start = event.asStartElement();
-                                if (start.getName().equals(ITEM_QNAME) == false) {
-                                    throw new IllegalArgumentException("Expected 'item' but found '" + start.getName() + "'");
+                        while (event != XMLStreamConstants.END_ELEMENT) {
+                            if (event == XMLStreamConstants.START_ELEMENT) {
+                                if (isElement(ITEM_QNAME) == false) {
+                                    throw new IllegalArgumentException("Expected 'item' but found '" + reader.getName() + "'");
                                 }
                                 if (key == null) {
-                                    key = parseKey(iterable, start);
+                                    key = parseKey(iterable);
                                 } else {
-                                    value = parseValue(iterable, start);
+                                    value = parseValue(iterable);
                                 }
                                 loop++;
                             }
@@ -404,7 +406,7 @@ public class JodaBeanXmlReader {
                     }                    
                     
                 } else {  // COLLECTION
-                    value = parseValue(iterable, start);
+                    value = parseValue(iterable);
                 }
                 iterable.add(key, column, value, count);
             }
@@ -413,9 +415,10 @@ public class JodaBeanXmlReader {
         return iterable.build();
     }
 
-    private Object parseKey(final SerIterable iterable, StartElement start) throws Exception {
+    // reader must be at StartElement
+    private Object parseKey(final SerIterable iterable) throws Exception {
         // type
-        Class<?> childType = parseTypeAttribute(start, iterable.keyType());
+        Class<?> childType = parseTypeAttribute(iterable.keyType());
         if (Bean.class.isAssignableFrom(childType) || settings.getConverter().isConvertible(childType)) {
             return parseBean(childType);
         } else {
@@ -423,35 +426,36 @@ public class JodaBeanXmlReader {
         }
     }
 
-    private Object parseValue(final SerIterable iterable, StartElement start) throws Exception {
+    // reader must be at StartElement
+    private Object parseValue(final SerIterable iterable) throws Exception {
         // null
         Object value;
-        Attribute nullAttr = start.getAttributeByName(NULL_QNAME);
-        if (nullAttr != null) {
-            if (nullAttr.getValue().equals("true") == false) {
+        String nullStr = attribute(NULL_QNAME);
+        if (nullStr != null) {
+            if (nullStr.equals("true") == false) {
                 throw new IllegalArgumentException("Unexpected value for null attribute");
             }
             advanceAndParseText();  // move to end tag and ignore any text
             value = null;
         } else {
             // type
-            Class<?> childType = parseTypeAttribute(start, iterable.valueType());
+            Class<?> childType = parseTypeAttribute(iterable.valueType());
             if (Bean.class.isAssignableFrom(childType)) {
                 value = parseBean(childType);
             } else {
                 // try deep generic parameters
                 SerIterable childIterable = settings.getIteratorFactory().createIterable(iterable);
                 if (childIterable != null) {
-                    value = parseIterable(start, childIterable);
+                    value = parseIterable(childIterable);
                 } else {
                     // metatype
-                    Attribute metaTypeAttr = start.getAttributeByName(METATYPE_QNAME);
-                    if (metaTypeAttr != null) {
-                        childIterable = settings.getIteratorFactory().createIterable(metaTypeAttr.getValue(), settings, knownTypes);
+                    String metaType = attribute(METATYPE_QNAME);
+                    if (metaType != null) {
+                        childIterable = settings.getIteratorFactory().createIterable(metaType, settings, knownTypes);
                         if (childIterable == null) {
                             throw new IllegalArgumentException("Invalid metaType");
                         }
-                        value = parseIterable(start, childIterable);
+                        value = parseIterable(childIterable);
                     } else {
                         String text = advanceAndParseText();
                         value = settings.getConverter().convertFromString(childType, text);
@@ -463,46 +467,79 @@ public class JodaBeanXmlReader {
     }
 
     //-----------------------------------------------------------------------
-    private Class<?> parseTypeAttribute(StartElement start, Class<?> defaultType) throws ClassNotFoundException {
-        Attribute typeAttr = start.getAttributeByName(TYPE_QNAME);
-        if (typeAttr == null) {
+    // reader must be at StartElement
+    private Class<?> parseTypeAttribute(Class<?> defaultType) throws ClassNotFoundException {
+        String typeStr = attribute(TYPE_QNAME);
+        if (typeStr == null) {
             return (defaultType == Object.class ? String.class : defaultType);
         }
-        String typeStr = typeAttr.getValue();
         return settings.getDeserializers().decodeType(typeStr, settings, basePackage, knownTypes, defaultType);
     }
 
+    // reader must be at StartElement, attributes are searched by index to avoid creating objects
+    private String attribute(QName name) {
+        int count = reader.getAttributeCount();
+        for (int i = 0; i < count; i++) {
+            if (name.getLocalPart().equals(reader.getAttributeLocalName(i)) &&
+                    isNamespace(name, reader.getAttributeNamespace(i))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    // reader must be at StartElement
+    private boolean isElement(QName name) {
+        return name.getLocalPart().equals(reader.getLocalName()) && isNamespace(name, reader.getNamespaceURI());
+    }
+
+    // the parser may return null or empty for no namespace
+    private static boolean isNamespace(QName name, String namespaceUri) {
+        return name.getNamespaceURI().equals(namespaceUri == null ? "" : namespaceUri);
+    }
+
     // reader can be anywhere, but normally at StartDocument
-    private StartElement advanceToStartElement() throws Exception {
+    private void advanceToStartElement() throws XMLStreamException {
         while (reader.hasNext()) {
-            XMLEvent event = nextEvent("advnc ");
-            if (event.isStartElement()) {
-                return event.asStartElement();
+            int event = nextEvent("advnc ");
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return;
             }
         }
         throw new IllegalArgumentException("Unexpected end of document");
     }
 
     // reader must be at StartElement
-    private String advanceAndParseText() throws Exception {
-        StringBuilder buf = new StringBuilder();
+    private String advanceAndParseText() throws XMLStreamException {
+        textBuf.setLength(0);
         while (reader.hasNext()) {
-            XMLEvent event = nextEvent("text  ");
-            if (event.isCharacters()) {
-                buf.append(event.asCharacters().getData());
-            } else if (event.isEndElement()) {
-                return buf.toString();
-            } else if (event.isStartElement()) {
+            int event = nextEvent("text  ");
+            if (isCharacters(event)) {
+                appendText();
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return textBuf.toString();
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
                 throw new IllegalArgumentException("Unexpected start tag");
             }
         }
         throw new IllegalArgumentException("Unexpected end of document");
     }
 
+    // copies the text of the current event directly from the parser's buffer
+    private void appendText() {
+        textBuf.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+    }
+
+    private static boolean isCharacters(int event) {
+        return event == XMLStreamConstants.CHARACTERS ||
+                event == XMLStreamConstants.CDATA ||
+                event == XMLStreamConstants.SPACE;
+    }
+
     // provide for debugging
-    private XMLEvent nextEvent(String location) throws Exception {
-        XMLEvent event = reader.nextEvent();
-//        System.out.println(location + event.toString().replace('\n', ' ') + " " + event.getClass().getSimpleName());
+    private int nextEvent(String location) throws XMLStreamException {
+        int event = reader.next();
+//        System.out.println(location + event + " " + (reader.hasName() ? reader.getLocalName() : ""));
         return event;
     }
 
@@ -28,15 +28,20 @@ import static org.joda.beans.ser.xml.JodaBeanXml.ROW;
 import static org.joda.beans.ser.xml.JodaBeanXml.ROWS;
 import static org.joda.beans.ser.xml.JodaBeanXml.TYPE;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.joda.beans.Bean;
-import org.joda.beans.MetaProperty;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerBeanPlan.PropertyPlan;
 import org.joda.beans.ser.SerCategory;
 import org.joda.beans.ser.SerIterator;
-import org.joda.beans.ser.SerOptional;
 import org.joda.beans.ser.SerTypeMapper;
 import org.joda.convert.StringConverter;
 
@@ -62,11 +67,19 @@ import org.joda.convert.StringConverter;
  * <p>
  * Type names are shortened by the package of the root type if possible.
  * Certain basic types are also handled, such as String, Integer, File and URI.
+ * <p>
+ * When writing to a {@code Writer} or {@code OutputStream}, the XML is buffered
+ * and passed to the output in blocks as it is produced, rather than building the whole document.
  *
  * @author Stephen Colebourne
  */
 public class JodaBeanXmlWriter {
 
+    /**
+     * The size at which the buffer is passed to the output.
+     */
+    private static final int FLUSH_SIZE = 8192;
+
     /**
      * The settings to use.
      */
@@ -75,6 +88,22 @@ public class JodaBeanXmlWriter {
      * The string builder.
      */
     private final StringBuilder builder;
+    /**
+     * The buffer being written to, either the builder or the buffer of the output.
+     */
+    private StringBuilder buf;
+    /**
+     * The output, null if writing to the builder.
+     */
+    private Writer output;
+    /**
+     * The characters being copied to the output.
+     */
+    private char[] chunk;
+    /**
+     * The attributes of the element being written, reused for each element.
+     */
+    private final StringBuilder attributes = new StringBuilder(64);
     /**
      * The root bean.
      */
@@ -152,6 +181,96 @@ public class JodaBeanXmlWriter {
      * @return the builder, not null
      */
     public StringBuilder writeToBuilder(final Bean bean, final boolean rootType) {
+        this.buf = builder;
+        try {
+            writeDocument(bean, rootType);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return builder;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the bean to the {@code Writer}.
+     * <p>
+     * The type of the bean will be set in the message.
+     * The XML is passed to the writer in blocks as it is produced.
+     * The writer is neither flushed nor closed.
+     * 
+     * @param bean  the bean to output, not null
+     * @param output  the output writer, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(final Bean bean, final Writer output) throws IOException {
+        write(bean, true, output);
+    }
+
+    /**
+     * Writes the bean to the {@code Writer}.
+     * <p>
+     * The XML is passed to the writer in blocks as it is produced.
+     * The writer is neither flushed nor closed.
+     * 
+     * @param bean  the bean to output, not null
+     * @param rootType  true to output the root type
+     * @param output  the output writer, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(final Bean bean, final boolean rootType, final Writer output) throws IOException {
+        if (output == null) {
+            throw new NullPointerException("output");
+        }
+        if (chunk == null) {
+            this.chunk = new char[FLUSH_SIZE];
+        }
+        this.buf = new StringBuilder(FLUSH_SIZE + 1024);
+        this.output = output;
+        try {
+            writeDocument(bean, rootType);
+            flushBuffer();
+        } finally {
+            this.output = null;
+        }
+    }
+
+    /**
+     * Writes the bean to the {@code OutputStream}, encoded in UTF-8.
+     * <p>
+     * The type of the bean will be set in the message.
+     * The XML is passed to the stream in blocks as it is produced.
+     * The stream is flushed but not closed.
+     * 
+     * @param bean  the bean to output, not null
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(final Bean bean, final OutputStream output) throws IOException {
+        write(bean, true, output);
+    }
+
+    /**
+     * Writes the bean to the {@code OutputStream}, encoded in UTF-8.
+     * <p>
+     * The XML is passed to the stream in blocks as it is produced.
+     * The stream is flushed but not closed.
+     * 
+     * @param bean  the bean to output, not null
+     * @param rootType  true to output the root type
+     * @param output  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    public void write(final Bean bean, final boolean rootType, final OutputStream output) throws IOException {
+        if (output == null) {
+            throw new NullPointerException("output");
+        }
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        write(bean, rootType, writer);
+        writer.flush();
+    }
+
+    //-----------------------------------------------------------------------
+    private void writeDocument(final Bean bean, final boolean rootType) throws IOException {
         if (bean == null) {
             throw new NullPointerException("bean");
         }
@@ -160,71 +279,91 @@ public class JodaBeanXmlWriter {
         
         String type = rootBean.getClass().getName();
         writeHeader();
-        builder.append('<').append(BEAN);
+        buf.append('<').append(BEAN);
         if (rootType) {
-            appendAttribute(builder, TYPE, type);
+            appendAttribute(buf, TYPE, type);
         }
-        builder.append('>').append(settings.getNewLine());
-        writeBean(rootBean, settings.getIndent());
-        builder.append('<').append('/').append(BEAN).append('>').append(settings.getNewLine());
-        return builder;
+        buf.append('>').append(settings.getNewLine());
+        writeBean(rootBean, settings.beanPlan(rootBean).getProperties(), settings.getIndent());
+        buf.append('<').append('/').append(BEAN).append('>').append(settings.getNewLine());
     }
 
     private void writeHeader() {
-        builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>").append(settings.getNewLine());
+        buf.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>").append(settings.getNewLine());
+    }
+
+    // passes the buffer to the output once it is large enough, bounding the memory used
+    private void flushIfFull() throws IOException {
+        if (output != null && buf.length() >= FLUSH_SIZE) {
+            flushBuffer();
+        }
+    }
+
+    // copies in blocks to avoid creating a string of the whole buffer
+    private void flushBuffer() throws IOException {
+        for (int start = 0; start < buf.length(); start += chunk.length) {
+            int end = Math.min(buf.length(), start + chunk.length);
+            buf.getChars(start, end, chunk, 0);
+            output.write(chunk, 0, end - start);
+        }
+        buf.setLength(0);
+    }
+
+    // the attributes of an element are always written before any nested element is started,
+    // thus a single buffer can be shared by all elements
+    private StringBuilder attributes() {
+        attributes.setLength(0);
+        return attributes;
     }
 
     //-----------------------------------------------------------------------
-    private boolean writeBean(final Bean bean, final String currentIndent) {
-        boolean output = false;
-        for (MetaProperty<?> prop : bean.metaBean().metaPropertyIterable()) {
-            if (prop.style().isSerializable()) {
-                output = true;
-                Object value = SerOptional.extractValue(prop, bean);
-                if (value != null) {
-                    String propName = prop.name();
-                    Class<?> propType = SerOptional.extractType(prop, bean.getClass());
-                    if (value instanceof Bean) {
-                        if (settings.getConverter().isConvertible(value.getClass())) {
-                            writeSimple(currentIndent, propName, new StringBuilder(), propType, value);
-                        } else {
-                            writeBean(currentIndent, propName, new StringBuilder(), propType, (Bean) value);
-                        }
+    private void writeBean(final Bean bean, final List<PropertyPlan> plans, final String currentIndent) throws IOException {
+        for (PropertyPlan prop : plans) {
+            Object value = prop.extractValue(bean);
+            if (value != null) {
+                String propName = prop.getName();
+                Class<?> propType = prop.getPropertyType();
+                if (value instanceof Bean) {
+                    if (settings.getConverter().isConvertible(value.getClass())) {
+                        writeSimple(currentIndent, propName, attributes(), propType, value);
+                    } else {
+                        writeBean(currentIndent, propName, attributes(), propType, (Bean) value);
+                    }
+                } else {
+                    SerIterator itemIterator = prop.createIterator(settings.getIteratorFactory(), value, bean.getClass());
+                    if (itemIterator != null) {
+                        writeElements(currentIndent, propName, attributes(), itemIterator);
                     } else {
-                        SerIterator itemIterator = settings.getIteratorFactory().create(value, prop, bean.getClass());
-                        if (itemIterator != null) {
-                            writeElements(currentIndent, propName, new StringBuilder(), itemIterator);
-                        } else {
-                            writeSimple(currentIndent, propName, new StringBuilder(), propType, value);
-                        }
+                        writeSimple(currentIndent, propName, attributes(), propType, value);
                     }
                 }
+                flushIfFull();
             }
         }
-        return output;
     }
 
     //-----------------------------------------------------------------------
-    private void writeBean(final String currentIndent, final String tagName, final StringBuilder attrs, final Class<?> propType, final Bean value) {
+    private void writeBean(final String currentIndent, final String tagName, final StringBuilder attrs, final Class<?> propType, final Bean value) throws IOException {
         if (value == null) {
             throw new IllegalArgumentException("Bean cannot be null");
         }
-        builder.append(currentIndent).append('<').append(tagName).append(attrs);
+        buf.append(currentIndent).append('<').append(tagName).append(attrs);
         if (value.getClass() != propType) {
             String typeStr = SerTypeMapper.encodeType(value.getClass(), settings, basePackage, knownTypes);
-            appendAttribute(builder, TYPE, typeStr);
+            appendAttribute(buf, TYPE, typeStr);
         }
-        int insertPoint = builder.length();
-        builder.append('>').append(settings.getNewLine());
-        if (writeBean(value, currentIndent + settings.getIndent())) {
-            builder.append(currentIndent).append('<').append('/').append(tagName).append('>').append(settings.getNewLine());
+        List<PropertyPlan> plans = settings.beanPlan(value).getProperties();
+        if (plans.isEmpty()) {
+            buf.append('/').append('>').append(settings.getNewLine());
         } else {
-            builder.insert(insertPoint, '/');
+            buf.append('>').append(settings.getNewLine());
+            writeBean(value, plans, currentIndent + settings.getIndent());
+            buf.append(currentIndent).append('<').append('/').append(tagName).append('>').append(settings.getNewLine());
         }
     }
 
     //-----------------------------------------------------------------------
-    private void writeElements(final String currentIndent, final String tagName, final StringBuilder attrs, final SerIterator itemIterator) {
+    private void writeElements(final String currentIndent, final String tagName, final StringBuilder attrs, final SerIterator itemIterator) throws IOException {
         if (itemIterator.metaTypeRequired()) {
             appendAttribute(attrs, METATYPE, itemIterator.metaTypeName());
         }
@@ -233,15 +372,15 @@ public class JodaBeanXmlWriter {
             appendAttribute(attrs, COLS, Integer.toString(itemIterator.dimensionSize(1)));
         }
         if (itemIterator.size() == 0) {
-            builder.append(currentIndent).append('<').append(tagName).append(attrs).append('/').append('>').append(settings.getNewLine());
+            buf.append(currentIndent).append('<').append(tagName).append(attrs).append('/').append('>').append(settings.getNewLine());
         } else {
-            builder.append(currentIndent).append('<').append(tagName).append(attrs).append('>').append(settings.getNewLine());
+            buf.append(currentIndent).append('<').append(tagName).append(attrs).append('>').append(settings.getNewLine());
             writeElements(currentIndent + settings.getIndent(), itemIterator);
-            builder.append(currentIndent).append('<').append('/').append(tagName).append('>').append(settings.getNewLine());
+            buf.append(currentIndent).append('<').append('/').append(tagName).append('>').append(settings.getNewLine());
         }
     }
 
-    private void writeElements(final String currentIndent, final SerIterator itemIterator) {
+    private void writeElements(final String currentIndent, final SerIterator itemIterator) throws IOException {
         // find converter once for performance, and before checking if key is bean
         StringConverter<Object> keyConverter = null;
         StringConverter<Object> rowConverter = null;
@@ -269,30 +408,31 @@ public class JodaBeanXmlWriter {
         // output each item
         while (itemIterator.hasNext()) {
             itemIterator.next();
-            StringBuilder attr = new StringBuilder(32);
+            StringBuilder attr = attributes();
             if (keyConverter != null) {
                 String keyStr = convertToString(keyConverter, itemIterator.key(), "map key");
-                appendAttribute(attr, KEY, keyStr);
+                appendEncodedAttribute(attr, KEY, keyStr);
             }
             if (rowConverter != null) {
                 String rowStr = convertToString(rowConverter, itemIterator.key(), "table row");
-                appendAttribute(attr, ROW, rowStr);
+                appendEncodedAttribute(attr, ROW, rowStr);
                 String colStr = convertToString(columnConverter, itemIterator.column(), "table column");
-                appendAttribute(attr, COL, colStr);
+                appendEncodedAttribute(attr, COL, colStr);
             }
             if (itemIterator.count() != 1) {
                 appendAttribute(attr, COUNT, Integer.toString(itemIterator.count()));
             }
             if (keyBean) {
                 Object key = itemIterator.key();
-                builder.append(currentIndent).append('<').append(ENTRY).append(attr).append('>').append(settings.getNewLine());
+                buf.append(currentIndent).append('<').append(ENTRY).append(attr).append('>').append(settings.getNewLine());
                 writeKeyElement(currentIndent + settings.getIndent(), key, itemIterator);
-                writeValueElement(currentIndent + settings.getIndent(), ITEM, new StringBuilder(), itemIterator);
-                builder.append(currentIndent).append('<').append('/').append(ENTRY).append('>').append(settings.getNewLine());
+                writeValueElement(currentIndent + settings.getIndent(), ITEM, attributes(), itemIterator);
+                buf.append(currentIndent).append('<').append('/').append(ENTRY).append('>').append(settings.getNewLine());
             } else {
                 String tagName = itemIterator.category() == SerCategory.MAP ? ENTRY : ITEM;
                 writeValueElement(currentIndent, tagName, attr, itemIterator);
             }
+            flushIfFull();
         }
     }
 
@@ -300,38 +440,38 @@ public class JodaBeanXmlWriter {
         if (obj == null) {
             throw new IllegalArgumentException("Unable to write " + description + " as it cannot be null: " + obj);
         }
-        String str = encodeAttribute(converter.convertToString(obj));
+        String str = converter.convertToString(obj);
         if (str == null) {
             throw new IllegalArgumentException("Unable to write " + description + " as it cannot be a null string: " + obj);
         }
         return str;
     }
 
-    private void writeKeyElement(final String currentIndent, Object key, final SerIterator itemIterator) {
+    private void writeKeyElement(final String currentIndent, Object key, final SerIterator itemIterator) throws IOException {
         if (key == null) {
             throw new IllegalArgumentException("Unable to write map key as it cannot be null: " + key);
         }
         // if key type is known and convertible use short key format
         if (settings.getConverter().isConvertible(itemIterator.keyType())) {
-            writeSimple(currentIndent, ITEM, new StringBuilder(), Object.class, key);
+            writeSimple(currentIndent, ITEM, attributes(), Object.class, key);
         } else if (key instanceof Bean) {
-            writeBean(currentIndent, ITEM, new StringBuilder(), itemIterator.keyType(), (Bean) key);
+            writeBean(currentIndent, ITEM, attributes(), itemIterator.keyType(), (Bean) key);
         } else {
             // this case covers where the key type is not known, such as an Object meta-property
             try {
-                writeSimple(currentIndent, ITEM, new StringBuilder(), Object.class, key);
+                writeSimple(currentIndent, ITEM, attributes(), Object.class, key);
             } catch (RuntimeException ex) {
                 throw new IllegalArgumentException("Unable to write map as declared key type is neither a bean nor a simple type: " + itemIterator.keyType().getName(), ex);
             }
         }
     }
 
-    private void writeValueElement(final String currentIndent, final String tagName, final StringBuilder attrs, final SerIterator itemIterator) {
+    private void writeValueElement(final String currentIndent, final String tagName, final StringBuilder attrs, final SerIterator itemIterator) throws IOException {
         Object value = itemIterator.value();
         Class<?> valueType = itemIterator.valueType();
         if (value == null) {
             appendAttribute(attrs, NULL, "true");
-            builder.append(currentIndent).append('<').append(tagName).append(attrs).append("/>").append(settings.getNewLine());
+            buf.append(currentIndent).append('<').append(tagName).append(attrs).append("/>").append(settings.getNewLine());
         } else if (value instanceof Bean) {
             if (settings.getConverter().isConvertible(value.getClass())) {
                 writeSimple(currentIndent, tagName, attrs, valueType, value);
@@ -372,9 +512,9 @@ public class JodaBeanXmlWriter {
             if (converted == null) {
                 throw new IllegalArgumentException("Unable to write because converter returned a null string: " + value);
             }
-            builder.append(currentIndent).append('<').append(tagName).append(attrs).append('>');
+            buf.append(currentIndent).append('<').append(tagName).append(attrs).append('>');
             appendEncoded(converted);
-            builder.append('<').append('/').append(tagName).append('>').append(settings.getNewLine());
+            buf.append('<').append('/').append(tagName).append('>').append(settings.getNewLine());
         } catch (RuntimeException ex) {
             throw new IllegalArgumentException("Unable to convert type " + effectiveType.getName() + " declared as " + declaredType.getName(), ex);
         }
@@ -385,28 +525,28 @@ public class JodaBeanXmlWriter {
             char ch = text.charAt(i);
             switch (ch) {
                 case '&':
-                    builder.append("&amp;");
+                    buf.append("&amp;");
                     break;
                 case '<':
-                    builder.append("&lt;");
+                    buf.append("&lt;");
                     break;
                 case '>':
-                    builder.append("&gt;");
+                    buf.append("&gt;");
                     break;
                 case '\t':
                 case '\n':
                 case '\r':
-                    builder.append(ch);
+                    buf.append(ch);
                     break;
                 default:
                     if ((int) ch < 32) {
                         throw new IllegalArgumentException("Invalid character for XML: " + ((int) ch));
                     }
-                    builder.append(ch);
+                    buf.append(ch);
                     break;
             }
         }
-        return builder;
+        return buf;
     }
 
     //-----------------------------------------------------------------------
@@ -414,50 +554,48 @@ public class JodaBeanXmlWriter {
         return buf.append(' ').append(attrName).append('=').append('\"').append(encodedValue).append('\"');
     }
 
-    private String encodeAttribute(final String text) {
-        if (text == null) {
-            return null;
-        }
-        return appendEncodedAttribute(new StringBuilder(text.length() + 16), text).toString();
+    private StringBuilder appendEncodedAttribute(final StringBuilder buf, final String attrName, final String text) {
+        buf.append(' ').append(attrName).append('=').append('\"');
+        return appendEncodedAttributeValue(buf, text).append('\"');
     }
 
-    private StringBuilder appendEncodedAttribute(final StringBuilder builder, final String text) {
+    private StringBuilder appendEncodedAttributeValue(final StringBuilder buf, final String text) {
         for (int i = 0; i < text.length(); i++) {
             char ch = text.charAt(i);
             switch (ch) {
                 case '&':
-                    builder.append("&amp;");
+                    buf.append("&amp;");
                     break;
                 case '<':
-                    builder.append("&lt;");
+                    buf.append("&lt;");
                     break;
                 case '>':
-                    builder.append("&gt;");
+                    buf.append("&gt;");
                     break;
                 case '"':
-                    builder.append("&quot;");
+                    buf.append("&quot;");
                     break;
                 case '\'':
-                    builder.append("&apos;");
+                    buf.append("&apos;");
                     break;
                 case '\t':
-                    builder.append("&#09;");
+                    buf.append("&#09;");
                     break;
                 case '\n':
-                    builder.append("&#0A;");
+                    buf.append("&#0A;");
                     break;
                 case '\r':
-                    builder.append("&#0D;");
+                    buf.append("&#0D;");
                     break;
                 default:
                     if ((int) ch < 32) {
                         throw new IllegalArgumentException("Invalid character for XML: " + ((int) ch));
                     }
-                    builder.append(ch);
+                    buf.append(ch);
                     break;
             }
         }
-        return builder;
+        return buf;
     }
 
 }
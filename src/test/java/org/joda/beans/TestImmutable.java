@@ -27,6 +27,7 @@ import org.joda.beans.sample.ImmPerson;
 import org.joda.beans.sample.ImmPersonNonFinal;
 import org.joda.beans.sample.ImmSubPersonNonFinal;
 import org.joda.beans.sample.ImmSubSubPersonFinal;
+import org.joda.beans.sample.ImmTolerance;
 import org.joda.beans.sample.ImmAddress.Builder;
 import org.testng.annotations.Test;
 
@@ -147,6 +148,78 @@ public class TestImmutable {
         }
     }
 
+    //-----------------------------------------------------------------------
+    public void test_builder_ordinal() {
+        ImmAddress.Meta meta = ImmAddress.meta();
+        assertEquals(meta.number().ordinal(), 0);
+        assertEquals(meta.city().ordinal(), 2);
+        assertEquals(meta.metaProperty(2), meta.city());
+        ImmAddress address = meta.builder()
+                .set(meta.number().ordinal(), 12)
+                .set(meta.street().ordinal(), "Park Lane")
+                .set(meta.city().ordinal(), "Smallville")
+                .set(meta.owner().ordinal(), ImmPerson.builder().forename("John").surname("Doggett").build())
+                .build();
+        
+        assertEquals(address.getNumber(), 12);
+        assertEquals(address.getStreet(), "Park Lane");
+        assertEquals(address.getCity(), "Smallville");
+    }
+
+    public void test_builder_subclass_ordinal() {
+        ImmSubSubPersonFinal.Meta meta = ImmSubSubPersonFinal.meta();
+        int ordinal = 0;
+        for (MetaProperty<?> mp : meta.metaPropertyIterable()) {
+            assertEquals(mp.ordinal(), ordinal);
+            assertEquals(meta.metaProperty(ordinal), mp);
+            ordinal++;
+        }
+        assertEquals(ImmPersonNonFinal.meta().forename().ordinal(), 0);
+        assertEquals(ImmSubPersonNonFinal.meta().middleName().ordinal(), 3);
+        assertEquals(meta.codeCounts().ordinal(), 5);
+        
+        ImmSubSubPersonFinal result = meta.builder()
+                .set(0, "Bobby")
+                .set(3, "Joe")
+                .set(5, ImmutableMultiset.of("A"))
+                .build();
+        assertEquals(result.getForename(), "Bobby");
+        assertEquals(result.getMiddleName(), "Joe");
+        assertEquals(result.getCodeCounts(), ImmutableMultiset.of("A"));
+    }
+
+    @Test(expectedExceptions=NoSuchElementException.class)
+    public void test_builder_setDerivedOrdinal() {
+        ImmSubSubPersonFinal.meta().builder().set(ImmPersonNonFinal.meta().age().ordinal(), 12);
+    }
+
+    @Test(expectedExceptions=NoSuchElementException.class)
+    public void test_builder_setInvalidOrdinal() {
+        ImmSubSubPersonFinal.meta().builder().set(6, "");
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_metaProperty_invalidOrdinal() {
+        ImmSubSubPersonFinal.meta().metaProperty(6);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_metaProperty_primitive() {
+        ImmTolerance tolerance = ImmTolerance.builder().value(1.5d).build();
+        assertEquals(ImmTolerance.meta().value().getDouble(tolerance), 1.5d, 0d);
+        
+        ImmSubSubPersonFinal person = ImmSubSubPersonFinal.meta().builder()
+                .set("forename", "Bobby")
+                .build();
+        assertEquals(ImmPersonNonFinal.meta().age().getInt(person), person.getAge());
+    }
+
+    @Test(expectedExceptions=UnsupportedOperationException.class)
+    public void test_metaProperty_primitive_immutable() {
+        ImmTolerance tolerance = ImmTolerance.builder().value(1.5d).build();
+        ImmTolerance.meta().value().setDouble(tolerance, 2d);
+    }
+
     //-----------------------------------------------------------------------
     public void test_builder_defaultValue() {
         ImmPerson person = ImmPerson.builder()
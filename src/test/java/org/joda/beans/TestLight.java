@@ -25,6 +25,7 @@ import java.util.Currency;
 import java.util.NoSuchElementException;
 
 import org.joda.beans.impl.StandaloneMetaProperty;
+import org.joda.beans.impl.flexi.FlexiBean;
 import org.joda.beans.impl.light.LightMetaBean;
 import org.joda.beans.sample.ImmPerson;
 import org.joda.beans.sample.LightImmutable;
@@ -129,6 +130,103 @@ public class TestLight {
         assertEquals(mps.get(9).name(), "address");
     }
 
+    public void test_immutable_ordinal() {
+        MetaBean meta = LightImmutable.meta();
+        int ordinal = 0;
+        for (MetaProperty<?> mp : meta.metaPropertyIterable()) {
+            assertEquals(mp.ordinal(), ordinal);
+            assertEquals(meta.metaProperty(ordinal), mp);
+            ordinal++;
+        }
+        assertEquals(ordinal, 10);
+        LightImmutable bean = (LightImmutable) meta.builder()
+                .set(meta.metaProperty("number").ordinal(), 12)
+                .set(meta.metaProperty("street").ordinal(), "Park Lane")
+                .set(meta.metaProperty("city").ordinal(), "Smallville")
+                .set(meta.metaProperty("owner").ordinal(), ImmPerson.builder().forename("John").surname("Doggett").build())
+                .set(meta.metaProperty("list").ordinal(), new ArrayList<String>())
+                .set(meta.metaProperty("currency").ordinal(), Currency.getInstance("USD"))
+                .build();
+        assertEquals(bean.getNumber(), 12);
+        assertEquals(bean.getStreetName(), "Park Lane");
+        assertEquals(bean.getCurrency().get(), Currency.getInstance("USD"));
+        try {
+            meta.metaProperty(ordinal);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {
+            // expected
+        }
+    }
+
+    public void test_mutable_primitive() {
+        LightMutable bean = LightMutable.meta().builder()
+                .set("number", 12)
+                .set("street", "Park Lane")
+                .set("city", "Smallville")
+                .set("list", new ArrayList<String>())
+                .build();
+        MetaProperty<Object> number = bean.metaBean().metaProperty("number");
+        MetaProperty<Object> flag = bean.metaBean().metaProperty("flag");
+        assertEquals(number.getInt(bean), 12);
+        assertEquals(flag.getBoolean(bean), false);
+        
+        number.setInt(bean, 13);
+        flag.setBoolean(bean, true);
+        assertEquals(bean.getNumber(), 13);
+        assertEquals(bean.isFlag(), true);
+        assertEquals(number.getInt(bean), 13);
+        assertEquals(flag.getBoolean(bean), true);
+        
+        try {
+            number.getLong(bean);
+            fail();
+        } catch (ClassCastException ex) {
+            // expected
+        }
+    }
+
+    public void test_mutable_invalidValues() {
+        LightMutable bean = LightMutable.meta().builder()
+                .set("number", 12)
+                .set("street", "Park Lane")
+                .set("city", "Smallville")
+                .set("list", new ArrayList<String>())
+                .build();
+        // street is accessed as a field, city using the getter and setter
+        MetaProperty<Object> street = bean.metaBean().metaProperty("street");
+        MetaProperty<Object> city = bean.metaBean().metaProperty("city");
+        street.set(bean, "Oxford Street");
+        city.set(bean, "London");
+        assertEquals(street.get(bean), "Oxford Street");
+        assertEquals(city.get(bean), "London");
+        
+        MetaProperty<Object> number = bean.metaBean().metaProperty("number");
+        try {
+            number.set(bean, "Six");
+            fail();
+        } catch (ClassCastException ex) {
+            // expected
+        }
+        try {
+            number.set(bean, null);
+            fail();
+        } catch (NullPointerException ex) {
+            // expected
+        }
+        try {
+            city.set(bean, 6);
+            fail();
+        } catch (ClassCastException ex) {
+            // expected
+        }
+        try {
+            city.get(new FlexiBean());
+            fail();
+        } catch (ClassCastException ex) {
+            // expected
+        }
+    }
+
     public void test_mutable() {
         LightMutable bean = LightMutable.meta().builder()
                 .set("number", 12)
@@ -16,14 +16,22 @@
 package org.joda.beans;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 import org.joda.beans.impl.flexi.FlexiBean;
 import org.joda.beans.impl.map.MapBean;
+import org.joda.beans.sample.ImmAddress;
 import org.joda.beans.sample.ImmPerson;
 import org.joda.beans.sample.MetaBeanLoad;
+import org.joda.beans.sample.SampleBeanIndex;
 import org.testng.annotations.Test;
 
+import com.google.common.collect.ImmutableSet;
+
 /**
  * Test MetaBean statics.
  */
@@ -46,10 +54,23 @@ public class TestMetaBean {
         assertEquals(metaBean, MetaBeanLoad.meta());
     }
 
+    public void test_metaBean_cached() {
+        assertSame(MetaBean.of(ImmPerson.class), ImmPerson.meta());
+        assertSame(MetaBean.of(ImmPerson.class), MetaBean.of(ImmPerson.class));
+    }
+
     public void test_metaBean_FlexiBean() {
         assertEquals(MetaBean.of(FlexiBean.class).builder().build().getClass(), FlexiBean.class);
     }
 
+    public void test_metaBean_FlexiBean_separateInstances() {
+        FlexiBean bean1 = (FlexiBean) MetaBean.of(FlexiBean.class).builder().set("a", "A").build();
+        FlexiBean bean2 = (FlexiBean) MetaBean.of(FlexiBean.class).builder().set("b", "B").build();
+        assertNotSame(bean1, bean2);
+        assertEquals(bean1.propertyNames(), ImmutableSet.of("a"));
+        assertEquals(bean2.propertyNames(), ImmutableSet.of("b"));
+    }
+
     public void test_metaBean_MapBean() {
         assertEquals(MetaBean.of(MapBean.class).builder().build().getClass(), MapBean.class);
     }
@@ -59,4 +80,29 @@ public class TestMetaBean {
         MetaBean.of(String.class);
     }
 
+    //-----------------------------------------------------------------------
+    public void test_index() {
+        SampleBeanIndex index = new SampleBeanIndex();
+        assertTrue(index.beanTypes().contains(ImmAddress.class));
+        assertFalse(index.beanTypes().contains(FlexiBean.class));
+        
+        MetaBeanIndex.register(index);
+        MetaBeanIndex.register(index);
+        assertEquals(MetaBeanIndex.findType(ImmAddress.class.getName()), ImmAddress.class);
+        assertEquals(MetaBeanIndex.findType("org.joda.beans.sample.Unknown"), null);
+        
+        index.preload();
+        assertSame(MetaBean.of(ImmAddress.class), ImmAddress.meta());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_metaBean_notFoundTwice() {
+        try {
+            MetaBean.of(Integer.class);
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+        MetaBean.of(Integer.class);
+    }
+
 }
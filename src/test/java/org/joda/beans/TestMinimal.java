@@ -120,6 +120,34 @@ public class TestMinimal {
         assertEquals(mps.get(8).name(), "address");
     }
 
+    public void test_immutable_ordinal() {
+        MetaBean meta = MinimalImmutable.meta();
+        int ordinal = 0;
+        for (MetaProperty<?> mp : meta.metaPropertyIterable()) {
+            assertEquals(mp.ordinal(), ordinal);
+            assertEquals(meta.metaProperty(ordinal), mp);
+            ordinal++;
+        }
+        assertEquals(ordinal, 9);
+        MinimalImmutable bean = (MinimalImmutable) meta.builder()
+                .set(meta.metaProperty("number").ordinal(), 12)
+                .set(meta.metaProperty("street").ordinal(), "Park Lane")
+                .set(meta.metaProperty("city").ordinal(), "Smallville")
+                .set(meta.metaProperty("owner").ordinal(), ImmPerson.builder().forename("John").surname("Doggett").build())
+                .set(meta.metaProperty("list").ordinal(), new ArrayList<String>())
+                .set(meta.metaProperty("currency").ordinal(), Currency.getInstance("USD"))
+                .build();
+        assertEquals(bean.getNumber(), 12);
+        assertEquals(bean.getStreetName(), "Park Lane");
+        assertEquals(bean.getCurrency().get(), Currency.getInstance("USD"));
+        try {
+            meta.metaProperty(ordinal);
+            fail();
+        } catch (IndexOutOfBoundsException ex) {
+            // expected
+        }
+    }
+
     public void test_mutable() {
         MinimalMutable bean = (MinimalMutable) MinimalMutable.meta().builder()
                 .set("number", 12)
@@ -199,6 +199,20 @@ public class TestPerson {
     }
 
     //-----------------------------------------------------------------------
+    public void test_metaProperty_primitive() {
+        Person person = new Person();
+        MetaProperty<Integer> mp = Person.meta().numberOfCars();
+        mp.setInt(person, 3);
+        assertEquals(person.getNumberOfCars(), 3);
+        assertEquals(mp.getInt(person), 3);
+        assertEquals(mp.get(person), (Integer) 3);
+    }
+
+    @Test(expectedExceptions=ClassCastException.class)
+    public void test_metaProperty_primitive_wrongType() {
+        Person.meta().numberOfCars().getDouble(new Person());
+    }
+
     public void test_metaProperty_types_addressList() {
         MetaProperty<List<Address>> test = Person.meta().addressList();
         
@@ -17,9 +17,15 @@ package org.joda.beans;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
 
 import org.joda.beans.impl.StandaloneMetaProperty;
+import org.joda.beans.impl.flexi.FlexiBean;
 import org.joda.beans.sample.ReflectiveMutable;
+import org.joda.beans.sample.ReflectiveThrowing;
 import org.joda.beans.ser.JodaBeanSer;
 import org.testng.annotations.Test;
 
@@ -70,4 +76,97 @@ public class TestReflective {
         assertTrue(JodaBeanSer.PRETTY.xmlWriter().write(bean).contains("<street>Park Lane<"));
     }
 
+    public void test_mutable_ordinal() {
+        MetaBean meta = ReflectiveMutable.META_BEAN;
+        assertEquals(meta.metaProperty("number").ordinal(), 0);
+        assertEquals(meta.metaProperty("city").ordinal(), 3);
+        assertEquals(meta.metaProperty(2), meta.metaProperty("street"));
+        assertEquals(StandaloneMetaProperty.of("foobar", meta, String.class).ordinal(), -1);
+        
+        ReflectiveMutable bean = (ReflectiveMutable) meta.builder()
+                .set(0, 12)
+                .set(3, "Smallville")
+                .build();
+        assertEquals(bean.getNumber(), 12);
+        assertEquals(bean.getCity(), "Smallville");
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class)
+    public void test_mutable_invalidOrdinal() {
+        ReflectiveMutable.META_BEAN.metaProperty(4);
+    }
+
+    public void test_mutable_invalidValues() {
+        ReflectiveMutable bean = new ReflectiveMutable();
+        MetaProperty<Object> number = bean.metaBean().metaProperty("number");
+        MetaProperty<Object> street = bean.metaBean().metaProperty("street");
+        number.set(bean, 6);
+        street.set(bean, "Baker Street");
+        assertEquals(number.get(bean), 6);
+        assertEquals(street.get(bean), "Baker Street");
+        try {
+            number.set(bean, "Six");
+            fail();
+        } catch (ClassCastException ex) {
+            assertTrue(ex.getMessage().startsWith("Property cannot be written: number"));
+        }
+        try {
+            number.set(bean, null);
+            fail();
+        } catch (NullPointerException ex) {
+            assertTrue(ex.getMessage().startsWith("Property cannot be written: number"));
+        }
+        try {
+            number.get(new FlexiBean());
+            fail();
+        } catch (UnsupportedOperationException ex) {
+            // expected
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_throwing_checked() {
+        ReflectiveThrowing bean = new ReflectiveThrowing();
+        MetaProperty<String> checked = bean.metaBean().metaProperty("checked");
+        assertWrapped(() -> checked.get(bean), IOException.class, "Get");
+        assertWrapped(() -> checked.set(bean, "A"), IOException.class, "Set");
+    }
+
+    public void test_throwing_error() {
+        ReflectiveThrowing bean = new ReflectiveThrowing();
+        MetaProperty<String> error = bean.metaBean().metaProperty("error");
+        assertWrapped(() -> error.get(bean), AssertionError.class, "Get");
+        assertWrapped(() -> error.set(bean, "A"), AssertionError.class, "Set");
+    }
+
+    public void test_throwing_runtime() {
+        ReflectiveThrowing bean = new ReflectiveThrowing();
+        MetaProperty<String> runtime = bean.metaBean().metaProperty("runtime");
+        try {
+            runtime.get(bean);
+            fail();
+        } catch (IllegalStateException ex) {
+            assertEquals(ex.getMessage(), "Get");
+        }
+        try {
+            runtime.set(bean, "A");
+            fail();
+        } catch (IllegalStateException ex) {
+            assertEquals(ex.getMessage(), "Set");
+        }
+    }
+
+    // checked exceptions and errors are wrapped as a reflective call wraps them
+    private static void assertWrapped(Runnable runnable, Class<? extends Throwable> causeType, String message) {
+        try {
+            runnable.run();
+            fail();
+        } catch (RuntimeException ex) {
+            assertEquals(ex.getClass(), RuntimeException.class);
+            assertEquals(ex.getCause().getClass(), InvocationTargetException.class);
+            assertEquals(ex.getCause().getCause().getClass(), causeType);
+            assertEquals(ex.getCause().getCause().getMessage(), message);
+        }
+    }
+
 }
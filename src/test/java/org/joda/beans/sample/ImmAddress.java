@@ -1136,6 +1136,15 @@ public final class ImmAddress implements ImmutableBean, Serializable {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -1034364087:  // number
+                    return ((ImmAddress) bean).getNumber();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -1352,6 +1361,91 @@ public final class ImmAddress implements ImmutableBean, Serializable {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // number
+                    this.number = (Integer) newValue;
+                    break;
+                case 1:  // street
+                    this.street = (String) newValue;
+                    break;
+                case 2:  // city
+                    this.city = (String) newValue;
+                    break;
+                case 3:  // abstractNumber
+                    this.abstractNumber = (Number) newValue;
+                    break;
+                case 4:  // data
+                    this.data = (byte[]) newValue;
+                    break;
+                case 5:  // array2d
+                    this.array2d = (String[][]) newValue;
+                    break;
+                case 6:  // owner
+                    this.owner = (ImmPerson) newValue;
+                    break;
+                case 7:  // object1
+                    this.object1 = (Object) newValue;
+                    break;
+                case 8:  // object2
+                    this.object2 = (Object) newValue;
+                    break;
+                case 9:  // risk
+                    this.risk = (Risk) newValue;
+                    break;
+                case 10:  // riskLevel
+                    this.riskLevel = (RiskLevel) newValue;
+                    break;
+                case 11:  // riskLevels
+                    this.riskLevels = (Set<RiskLevel>) newValue;
+                    break;
+                case 12:  // serializable
+                    this.serializable = (Serializable) newValue;
+                    break;
+                case 13:  // objectInMap
+                    this.objectInMap = (Map<String, Object>) newValue;
+                    break;
+                case 14:  // listInMap
+                    this.listInMap = (Map<String, List<String>>) newValue;
+                    break;
+                case 15:  // listNumericInMap
+                    this.listNumericInMap = (Map<String, List<Integer>>) newValue;
+                    break;
+                case 16:  // listInListInMap
+                    this.listInListInMap = (Map<String, List<List<Integer>>>) newValue;
+                    break;
+                case 17:  // objectListInListInMap
+                    this.objectListInListInMap = (Map<String, List<List<Object>>>) newValue;
+                    break;
+                case 18:  // mapInMap
+                    this.mapInMap = (Map<ImmPerson, Map<String, ImmPerson>>) newValue;
+                    break;
+                case 19:  // simpleTable
+                    this.simpleTable = (Table<Integer, Integer, String>) newValue;
+                    break;
+                case 20:  // compoundTable
+                    this.compoundTable = (Table<Integer, Integer, ImmPerson>) newValue;
+                    break;
+                case 21:  // sparseGrid
+                    this.sparseGrid = (Grid<ImmPerson>) newValue;
+                    break;
+                case 22:  // denseGrid
+                    this.denseGrid = (Grid<ImmPerson>) newValue;
+                    break;
+                case 23:  // beanBeanMap
+                    this.beanBeanMap = (Map<ImmPerson, ImmAddress>) newValue;
+                    break;
+                case 24:  // matrix
+                    this.matrix = (double[][]) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -546,6 +546,39 @@ public final class ImmClone implements ImmutableBean, Serializable{
             return this;
         }
 
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // date
+                    this.date = (Date) newValue;
+                    break;
+                case 1:  // array1
+                    this.array1 = (String[]) newValue;
+                    break;
+                case 2:  // array2
+                    this.array2 = (String[]) newValue;
+                    break;
+                case 3:  // array3
+                    this.array3 = (String[]) newValue;
+                    break;
+                case 4:  // dateNullable
+                    this.dateNullable = (Date) newValue;
+                    break;
+                case 5:  // array1Nullable
+                    this.array1Nullable = (String[]) newValue;
+                    break;
+                case 6:  // array2Nullable
+                    this.array2Nullable = (String[]) newValue;
+                    break;
+                case 7:  // array3Nullable
+                    this.array3Nullable = (String[]) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
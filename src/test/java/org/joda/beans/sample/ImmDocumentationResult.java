@@ -272,6 +272,19 @@ public final class ImmDocumentationResult<T> implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder<T> set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // documentation
+                    this.documentation = (Documentation<T>) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -159,6 +159,11 @@ public final class ImmEmpty implements ImmutableBean
             throw new NoSuchElementException("Unknown property: " + propertyName);
         }
 
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -243,6 +243,19 @@ public final class ImmGenericArray<T extends Address> implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder<T> set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // values
+                    this.values = (T[]) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public ImmGenericArray<T> build() {
             return new ImmGenericArray<>(
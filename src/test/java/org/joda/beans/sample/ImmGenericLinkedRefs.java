@@ -273,6 +273,19 @@ public final class ImmGenericLinkedRefs<A, B extends Comparable<A>> implements I
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder<A, B> set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // value
+                    this.value = (A) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder<A, B> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
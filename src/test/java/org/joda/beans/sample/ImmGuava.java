@@ -1718,6 +1718,115 @@ public final class ImmGuava<T extends Comparable<T>> implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder<T> set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // collection
+                    this.collection = (Collection<T>) newValue;
+                    break;
+                case 1:  // list
+                    this.list = (List<T>) newValue;
+                    break;
+                case 2:  // set
+                    this.set = (Set<T>) newValue;
+                    break;
+                case 3:  // sortedSet
+                    this.sortedSet = (SortedSet<T>) newValue;
+                    break;
+                case 4:  // map
+                    this.map = (Map<T, String>) newValue;
+                    break;
+                case 5:  // sortedMap
+                    this.sortedMap = (SortedMap<T, String>) newValue;
+                    break;
+                case 6:  // biMap
+                    this.biMap = (BiMap<T, String>) newValue;
+                    break;
+                case 7:  // multimap
+                    this.multimap = (Multimap<T, String>) newValue;
+                    break;
+                case 8:  // listMultimap
+                    this.listMultimap = (ListMultimap<T, String>) newValue;
+                    break;
+                case 9:  // setMultimap
+                    this.setMultimap = (SetMultimap<T, String>) newValue;
+                    break;
+                case 10:  // multiset
+                    this.multiset = (Multiset<T>) newValue;
+                    break;
+                case 11:  // sortedMultiset
+                    this.sortedMultiset = (SortedMultiset<T>) newValue;
+                    break;
+                case 12:  // collectionInterface
+                    this.collectionInterface = (Collection<T>) newValue;
+                    break;
+                case 13:  // listInterface
+                    this.listInterface = (List<T>) newValue;
+                    break;
+                case 14:  // setInterface
+                    this.setInterface = (Set<T>) newValue;
+                    break;
+                case 15:  // sortedSetInterface
+                    this.sortedSetInterface = (SortedSet<T>) newValue;
+                    break;
+                case 16:  // mapInterface
+                    this.mapInterface = (Map<T, String>) newValue;
+                    break;
+                case 17:  // sortedMapInterface
+                    this.sortedMapInterface = (SortedMap<T, String>) newValue;
+                    break;
+                case 18:  // biMapInterface
+                    this.biMapInterface = (BiMap<T, String>) newValue;
+                    break;
+                case 19:  // multimapInterface
+                    this.multimapInterface = (Multimap<T, String>) newValue;
+                    break;
+                case 20:  // listMultimapInterface
+                    this.listMultimapInterface = (ListMultimap<T, String>) newValue;
+                    break;
+                case 21:  // setMultimapInterface
+                    this.setMultimapInterface = (SetMultimap<T, String>) newValue;
+                    break;
+                case 22:  // multisetInterface
+                    this.multisetInterface = (Multiset<T>) newValue;
+                    break;
+                case 23:  // sortedMultisetInterface
+                    this.sortedMultisetInterface = (SortedMultiset<T>) newValue;
+                    break;
+                case 24:  // listWildExtendsT
+                    this.listWildExtendsT = (List<? extends T>) newValue;
+                    break;
+                case 25:  // listWildExtendsNumber
+                    this.listWildExtendsNumber = (List<? extends Number>) newValue;
+                    break;
+                case 26:  // listWildExtendsComparable
+                    this.listWildExtendsComparable = (List<? extends Comparable<?>>) newValue;
+                    break;
+                case 27:  // setWildExtendsT
+                    this.setWildExtendsT = (Set<? extends T>) newValue;
+                    break;
+                case 28:  // setWildExtendsNumber
+                    this.setWildExtendsNumber = (Set<? extends Number>) newValue;
+                    break;
+                case 29:  // setWildExtendsComparable
+                    this.setWildExtendsComparable = (Set<? extends Comparable<?>>) newValue;
+                    break;
+                case 30:  // listWildBuilder1
+                    this.listWildBuilder1 = (List<?>) newValue;
+                    break;
+                case 31:  // listWildBuilder2
+                    this.listWildBuilder2 = (List<? extends Address>) newValue;
+                    break;
+                case 32:  // mapWildBuilder1
+                    this.mapWildBuilder1 = (Map<String, ? extends Address>) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
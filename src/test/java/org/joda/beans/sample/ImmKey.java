@@ -258,6 +258,18 @@ public final class ImmKey implements ImmutableBean, IKey, Serializable {
             return this;
         }
 
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // name
+                    this.name = (String) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
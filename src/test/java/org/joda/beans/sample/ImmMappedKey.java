@@ -259,6 +259,19 @@ public final class ImmMappedKey implements ImmutableBean, Serializable {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // data
+                    this.data = (Map<? extends IKey, ?>) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
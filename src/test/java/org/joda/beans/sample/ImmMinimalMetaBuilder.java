@@ -235,6 +235,27 @@ public final class ImmMinimalMetaBuilder implements ImmutableBean {
             return this;
         }
 
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // number
+                    this.number = (Integer) newValue;
+                    break;
+                case 1:  // street
+                    this.street = (String) newValue;
+                    break;
+                case 2:  // city
+                    this.city = (String) newValue;
+                    break;
+                case 3:  // owner
+                    this.owner = (ImmPerson) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public ImmMinimalMetaBuilder build() {
             return new ImmMinimalMetaBuilder(
@@ -492,6 +492,34 @@ public final class ImmOptional implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // optString
+                    this.optString = (Optional<String>) newValue;
+                    break;
+                case 1:  // optStringEmpty
+                    this.optStringEmpty = (Optional<String>) newValue;
+                    break;
+                case 2:  // optStringGetter
+                    this.optStringGetter = (String) newValue;
+                    break;
+                case 3:  // optLongGetter
+                    this.optLongGetter = (Long) newValue;
+                    break;
+                case 4:  // optIntGetter
+                    this.optIntGetter = (Integer) newValue;
+                    break;
+                case 5:  // optDoubleGetter
+                    this.optDoubleGetter = (Double) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
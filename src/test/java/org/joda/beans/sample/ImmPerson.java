@@ -581,6 +581,17 @@ public final class ImmPerson implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    return ((ImmPerson) bean).getNumberOfCars();
+                case 96511:  // age
+                    return ((ImmPerson) bean).getAge();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -693,6 +704,46 @@ public final class ImmPerson implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // forename
+                    this.forename = (String) newValue;
+                    break;
+                case 1:  // surname
+                    this.surname = (String) newValue;
+                    break;
+                case 2:  // numberOfCars
+                    this.numberOfCars = (Integer) newValue;
+                    break;
+                case 3:  // dateOfBirth
+                    this.dateOfBirth = (Date) newValue;
+                    break;
+                case 4:  // middleNames
+                    this.middleNames = (String[]) newValue;
+                    break;
+                case 5:  // addressList
+                    this.addressList = (List<Address>) newValue;
+                    break;
+                case 6:  // otherAddressMap
+                    this.otherAddressMap = (Map<String, Address>) newValue;
+                    break;
+                case 7:  // addressesList
+                    this.addressesList = (List<List<Address>>) newValue;
+                    break;
+                case 8:  // mainAddress
+                    this.mainAddress = (ImmAddress) newValue;
+                    break;
+                case 9:  // codeCounts
+                    this.codeCounts = (Multiset<String>) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
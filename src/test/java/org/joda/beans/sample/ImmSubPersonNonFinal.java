@@ -306,6 +306,23 @@ public class ImmSubPersonNonFinal extends ImmPersonNonFinal {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            switch (ordinal - (ImmSubPersonNonFinal.Meta.INSTANCE.metaPropertyCount() - 2)) {
+                case 0:  // middleName
+                    this.middleName = (String) newValue;
+                    break;
+                case 1:  // addressList
+                    this.addressList = (List<Address>) newValue;
+                    break;
+                default:
+                    super.set(ordinal, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -274,6 +274,20 @@ public final class ImmSubSubPersonFinal extends ImmSubPersonNonFinal {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            switch (ordinal - (ImmSubSubPersonFinal.Meta.INSTANCE.metaPropertyCount() - 1)) {
+                case 0:  // codeCounts
+                    this.codeCounts = (Multiset<String>) newValue;
+                    break;
+                default:
+                    super.set(ordinal, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
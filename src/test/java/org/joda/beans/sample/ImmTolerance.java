@@ -255,6 +255,15 @@ public final class ImmTolerance implements ImmutableBean {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected double propertyGetDouble(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 111972721:  // value
+                    return ((ImmTolerance) bean).getValue();
+            }
+            return super.propertyGetDouble(bean, propertyName);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -309,6 +318,21 @@ public final class ImmTolerance implements ImmutableBean {
             return this;
         }
 
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // value
+                    this.value = (Double) newValue;
+                    break;
+                case 1:  // array
+                    this.array = (double[]) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -456,6 +456,31 @@ public final class ImmTreeNode implements ImmutableBean{
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // name
+                    this.name = (String) newValue;
+                    break;
+                case 1:  // child1
+                    this.child1 = (ImmTreeNode) newValue;
+                    break;
+                case 2:  // child2
+                    this.child2 = (ImmTreeNode) newValue;
+                    break;
+                case 3:  // child3
+                    this.child3 = (ImmTreeNode) newValue;
+                    break;
+                case 4:  // childList
+                    this.childList = (List<ImmTreeNode>) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
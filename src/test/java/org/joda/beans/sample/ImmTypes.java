@@ -513,6 +513,34 @@ public final class ImmTypes<T extends Comparable<T>> implements ImmutableBean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder<T> set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // listWild
+                    this.listWild = (List<?>) newValue;
+                    break;
+                case 1:  // listWildPublic1
+                    this.listWildPublic1 = (List<?>) newValue;
+                    break;
+                case 2:  // listWildPublic2
+                    this.listWildPublic2 = (List<?>) newValue;
+                    break;
+                case 3:  // listWildBuilder1
+                    this.listWildBuilder1 = (List<?>) newValue;
+                    break;
+                case 4:  // listWildBuilder2
+                    this.listWildBuilder2 = (List<? extends Address>) newValue;
+                    break;
+                case 5:  // mapWildBuilder1
+                    this.mapWildBuilder1 = (Map<String, ? extends Address>) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
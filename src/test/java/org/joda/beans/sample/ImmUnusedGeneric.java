@@ -276,6 +276,18 @@ public final class ImmUnusedGeneric<T> implements ImmutableBean {
             return this;
         }
 
+        @Override
+        public Builder<T> set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // errorMessage
+                    this.errorMessage = (String) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
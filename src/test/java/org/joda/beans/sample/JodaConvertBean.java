@@ -281,6 +281,25 @@ public class JodaConvertBean extends DirectBean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 96965648:  // extra
+                    return ((JodaConvertBean) bean).getExtra();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, String propertyName, int newValue) {
+            switch (propertyName.hashCode()) {
+                case 96965648:  // extra
+                    ((JodaConvertBean) bean).setExtra(newValue);
+                    return;
+            }
+            super.propertySetInt(bean, propertyName, newValue);
+        }
+
     }
 
     //-------------------------- AUTOGENERATED END --------------------------
@@ -0,0 +1,143 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.sample;
+
+import java.util.Map;
+
+import org.joda.beans.Bean;
+import org.joda.beans.BeanBuilder;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.impl.BasicBeanBuilder;
+import org.joda.beans.impl.reflection.ReflectiveMetaBean;
+
+/**
+ * Mock bean whose builder can only set properties by name, used for testing.
+ * <p>
+ * This matches builders generated by earlier versions, which do not support ordinals.
+ *
+ * @author Stephen Colebourne
+ */
+public final class LegacyBuilderBean implements Bean {
+
+    /**
+     * The meta-bean providing the properties.
+     */
+    private static final MetaBean PROPERTIES = ReflectiveMetaBean.of(LegacyBuilderBean.class, "name", "count");
+    /**
+     * The meta-bean.
+     */
+    public static final MetaBean META_BEAN = new MetaBean() {
+        @Override
+        public boolean isBuildable() {
+            return true;
+        }
+
+        @Override
+        public BeanBuilder<LegacyBuilderBean> builder() {
+            BeanBuilder<LegacyBuilderBean> underlying = new BasicBeanBuilder<>(new LegacyBuilderBean());
+            return new BeanBuilder<LegacyBuilderBean>() {
+                @Override
+                public Object get(String propertyName) {
+                    return underlying.get(propertyName);
+                }
+
+                @Override
+                public <P> P get(MetaProperty<P> metaProperty) {
+                    return underlying.get(metaProperty);
+                }
+
+                @Override
+                public BeanBuilder<LegacyBuilderBean> set(String propertyName, Object value) {
+                    underlying.set(propertyName, value);
+                    return this;
+                }
+
+                @Override
+                public BeanBuilder<LegacyBuilderBean> set(MetaProperty<?> metaProperty, Object value) {
+                    underlying.set(metaProperty, value);
+                    return this;
+                }
+
+                @Override
+                public LegacyBuilderBean build() {
+                    return underlying.build();
+                }
+            };
+        }
+
+        @Override
+        public Class<LegacyBuilderBean> beanType() {
+            return LegacyBuilderBean.class;
+        }
+
+        @Override
+        public Map<String, MetaProperty<?>> metaPropertyMap() {
+            return PROPERTIES.metaPropertyMap();
+        }
+    };
+    static {
+        MetaBean.register(META_BEAN);
+    }
+
+    /**
+     * The name.
+     */
+    private String name;
+    /**
+     * The count.
+     */
+    private int count;
+
+    @Override
+    public MetaBean metaBean() {
+        return META_BEAN;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the name.
+     * @return the value of the property
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the name.
+     * @param name  the new value of the property
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the count.
+     * @return the value of the property
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Sets the count.
+     * @param count  the new value of the property
+     */
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+}
@@ -120,6 +120,11 @@ public final class MinimalEmpty implements ImmutableBean {
             throw new NoSuchElementException("Unknown property: " + propertyName);
         }
 
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
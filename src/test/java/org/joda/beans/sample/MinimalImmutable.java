@@ -401,6 +401,40 @@ public final class MinimalImmutable implements ImmutableBean, Serializable {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // number
+                    this.number = (Integer) newValue;
+                    break;
+                case 1:  // flag
+                    this.flag = (Boolean) newValue;
+                    break;
+                case 2:  // street
+                    this.street = (String) newValue;
+                    break;
+                case 3:  // town
+                    this.town = (String) newValue;
+                    break;
+                case 4:  // city
+                    this.city = (String) newValue;
+                    break;
+                case 5:  // owner
+                    this.owner = (ImmPerson) newValue;
+                    break;
+                case 6:  // list
+                    this.list = (List<String>) newValue;
+                    break;
+                case 7:  // currency
+                    this.currency = (Currency) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
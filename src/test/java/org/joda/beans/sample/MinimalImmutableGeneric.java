@@ -246,6 +246,25 @@ public final class MinimalImmutableGeneric<T extends Number> implements Immutabl
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder<T> set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // number
+                    this.number = (T) newValue;
+                    break;
+                case 1:  // list
+                    this.list = (List<T>) newValue;
+                    break;
+                case 2:  // map
+                    this.map = (Map<String, T>) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder<T> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -330,6 +330,22 @@ public final class MutableListFinalBean implements Bean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // strings
+                    this.strings = (List<String>) newValue;
+                    break;
+                case 1:  // numberMap
+                    this.numberMap = (Map<String, Integer>) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.sample;
+
+import java.io.IOException;
+
+import org.joda.beans.Bean;
+import org.joda.beans.TypedMetaBean;
+import org.joda.beans.impl.reflection.ReflectiveMetaBean;
+
+/**
+ * Mock reflective bean whose accessors throw, used for testing.
+ * 
+ * @author Stephen Colebourne
+ */
+public final class ReflectiveThrowing implements Bean {
+
+    /**
+     * The meta-bean.
+     */
+    public static final TypedMetaBean<ReflectiveThrowing> META_BEAN =
+            ReflectiveMetaBean.of(ReflectiveThrowing.class, "checked", "error", "runtime");
+
+    @Override
+    public TypedMetaBean<ReflectiveThrowing> metaBean() {
+        return META_BEAN;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the checked property, throwing a checked exception.
+     * @return the value of the property
+     * @throws IOException always
+     */
+    public String getChecked() throws IOException {
+        throw new IOException("Get");
+    }
+
+    /**
+     * Sets the checked property, throwing a checked exception.
+     * @param checked  the new value of the property
+     * @throws IOException always
+     */
+    public void setChecked(String checked) throws IOException {
+        throw new IOException("Set");
+    }
+
+    /**
+     * Gets the error property, throwing an error.
+     * @return the value of the property
+     */
+    public String getError() {
+        throw new AssertionError("Get");
+    }
+
+    /**
+     * Sets the error property, throwing an error.
+     * @param error  the new value of the property
+     */
+    public void setError(String error) {
+        throw new AssertionError("Set");
+    }
+
+    /**
+     * Gets the runtime property, throwing a runtime exception.
+     * @return the value of the property
+     */
+    public String getRuntime() {
+        throw new IllegalStateException("Get");
+    }
+
+    /**
+     * Sets the runtime property, throwing a runtime exception.
+     * @param runtime  the new value of the property
+     */
+    public void setRuntime(String runtime) {
+        throw new IllegalStateException("Set");
+    }
+
+}
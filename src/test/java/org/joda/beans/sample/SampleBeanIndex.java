@@ -0,0 +1,141 @@
+package org.joda.beans.sample;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.joda.beans.MetaBeanIndex;
+
+/**
+ * The index of beans in this source tree.
+ * <p>
+ * This class is generated by Joda-Beans {@code BeanCodeGen} and should not be edited.
+ * Register the index at startup using {@code MetaBeanIndex.register(new SampleBeanIndex())}.
+ */
+public final class SampleBeanIndex implements MetaBeanIndex {
+
+    /**
+     * The bean types.
+     */
+    private static final List<Class<?>> BEAN_TYPES;
+    static {
+        List<Class<?>> types = new ArrayList<>(105);
+        addTypes0(types);
+        BEAN_TYPES = Collections.unmodifiableList(types);
+    }
+
+    private static void addTypes0(List<Class<?>> types) {
+        types.add(org.joda.beans.sample.AbstractResult.class);
+        types.add(org.joda.beans.sample.Address.class);
+        types.add(org.joda.beans.sample.AddressResult.class);
+        types.add(org.joda.beans.sample.ClonePerson.class);
+        types.add(org.joda.beans.sample.Company.class);
+        types.add(org.joda.beans.sample.CompanyAddress.class);
+        types.add(org.joda.beans.sample.CompanyAddressMidResult.class);
+        types.add(org.joda.beans.sample.CompanyAddressResult.class);
+        types.add(org.joda.beans.sample.Documentation.class);
+        types.add(org.joda.beans.sample.DocumentationHolder.class);
+        types.add(org.joda.beans.sample.DoubleGenericsComplexExtendsSuperTwoGenerics.class);
+        types.add(org.joda.beans.sample.DoubleGenericsNoExtendsNoSuper.class);
+        types.add(org.joda.beans.sample.DoubleGenericsSimpleSuper.class);
+        types.add(org.joda.beans.sample.DoubleGenericsWithExtendsNoSuper.class);
+        types.add(org.joda.beans.sample.DoubleGenericsWithExtendsSuperNoGenerics.class);
+        types.add(org.joda.beans.sample.DoubleGenericsWithExtendsSuperOneGeneric.class);
+        types.add(org.joda.beans.sample.DoubleGenericsWithExtendsSuperTwoGenerics.class);
+        types.add(org.joda.beans.sample.FinalFieldBean.class);
+        types.add(org.joda.beans.sample.GenericAllFinal.class);
+        types.add(org.joda.beans.sample.GenericArray.class);
+        types.add(org.joda.beans.sample.GenericSubWrapper.class);
+        types.add(org.joda.beans.sample.GenericUnionType.class);
+        types.add(org.joda.beans.sample.GenericWrapperDocumentation.class);
+        types.add(org.joda.beans.sample.ImmAddress.class);
+        types.add(org.joda.beans.sample.ImmClone.class);
+        types.add(org.joda.beans.sample.ImmDocumentationHolder.class);
+        types.add(org.joda.beans.sample.ImmDocumentationResult.class);
+        types.add(org.joda.beans.sample.ImmEmpty.class);
+        types.add(org.joda.beans.sample.ImmFieldGetter.class);
+        types.add(org.joda.beans.sample.ImmGeneric.class);
+        types.add(org.joda.beans.sample.ImmGenericArray.class);
+        types.add(org.joda.beans.sample.ImmGenericLinkedRefs.class);
+        types.add(org.joda.beans.sample.ImmGenericNonFinal.class);
+        types.add(org.joda.beans.sample.ImmGuava.class);
+        types.add(org.joda.beans.sample.ImmKey.class);
+        types.add(org.joda.beans.sample.ImmMappedKey.class);
+        types.add(org.joda.beans.sample.ImmMinimalMetaBuilder.class);
+        types.add(org.joda.beans.sample.ImmMinimalPrivateBuilder.class);
+        types.add(org.joda.beans.sample.ImmOptional.class);
+        types.add(org.joda.beans.sample.ImmPerson.class);
+        types.add(org.joda.beans.sample.ImmPersonAbstract.class);
+        types.add(org.joda.beans.sample.ImmPersonNonFinal.class);
+        types.add(org.joda.beans.sample.ImmPrivateMeta.class);
+        types.add(org.joda.beans.sample.ImmSubPersonFromAbstract.class);
+        types.add(org.joda.beans.sample.ImmSubPersonNonFinal.class);
+        types.add(org.joda.beans.sample.ImmSubSubPersonFinal.class);
+        types.add(org.joda.beans.sample.ImmTolerance.class);
+        types.add(org.joda.beans.sample.ImmTreeNode.class);
+        types.add(org.joda.beans.sample.ImmTypes.class);
+        types.add(org.joda.beans.sample.ImmUnusedGeneric.class);
+        types.add(org.joda.beans.sample.JodaConvertBean.class);
+        types.add(org.joda.beans.sample.JodaConvertWrapper.class);
+        types.add(org.joda.beans.sample.LightEmpty.class);
+        types.add(org.joda.beans.sample.LightImmutable.class);
+        types.add(org.joda.beans.sample.LightImmutableGeneric.class);
+        types.add(org.joda.beans.sample.LightImmutableSimple.class);
+        types.add(org.joda.beans.sample.LightMutable.class);
+        types.add(org.joda.beans.sample.LightMutableGeneric.class);
+        types.add(org.joda.beans.sample.LightMutableSimple.class);
+        types.add(org.joda.beans.sample.MetaBeanLoad.class);
+        types.add(org.joda.beans.sample.MidAbstractResult.class);
+        types.add(org.joda.beans.sample.MinimalEmpty.class);
+        types.add(org.joda.beans.sample.MinimalImmutable.class);
+        types.add(org.joda.beans.sample.MinimalImmutableGeneric.class);
+        types.add(org.joda.beans.sample.MinimalImmutableSimple.class);
+        types.add(org.joda.beans.sample.MinimalMutable.class);
+        types.add(org.joda.beans.sample.MinimalMutableGeneric.class);
+        types.add(org.joda.beans.sample.MinimalMutableGenericSimple.class);
+        types.add(org.joda.beans.sample.MinimalMutableSimple.class);
+        types.add(org.joda.beans.sample.MutableListFinalBean.class);
+        types.add(org.joda.beans.sample.MutableListNonFinalBean.class);
+        types.add(org.joda.beans.sample.MutableOptional.class);
+        types.add(org.joda.beans.sample.MutableTypes.class);
+        types.add(org.joda.beans.sample.NoClone.class);
+        types.add(org.joda.beans.sample.NoGenEquals.class);
+        types.add(org.joda.beans.sample.NoGenToString.class);
+        types.add(org.joda.beans.sample.NoProperties.class);
+        types.add(org.joda.beans.sample.Pair.class);
+        types.add(org.joda.beans.sample.Person.class);
+        types.add(org.joda.beans.sample.PersonDocumentation.class);
+        types.add(org.joda.beans.sample.PrimitiveBean.class);
+        types.add(org.joda.beans.sample.PropertyDefBean.class);
+        types.add(org.joda.beans.sample.RWOnlyBean.class);
+        types.add(org.joda.beans.sample.SimpleJson.class);
+        types.add(org.joda.beans.sample.SimpleName.class);
+        types.add(org.joda.beans.sample.SimplePerson.class);
+        types.add(org.joda.beans.sample.SimplePersonWithBuilderFinal.class);
+        types.add(org.joda.beans.sample.SimplePersonWithBuilderNonFinal.class);
+        types.add(org.joda.beans.sample.SimpleSubPersonWithBuilderFinal.class);
+        types.add(org.joda.beans.sample.SimpleSubPersonWithBuilderNonFinal.class);
+        types.add(org.joda.beans.sample.SubPerson.class);
+        types.add(org.joda.beans.sample.SubValidateBean.class);
+        types.add(org.joda.beans.sample.SubWrapper.class);
+        types.add(org.joda.beans.sample.TupleFinal.class);
+        types.add(org.joda.beans.sample.TupleImmutable.class);
+        types.add(org.joda.beans.sample.TupleNonFinal.class);
+        types.add(org.joda.beans.sample.TupleSub.class);
+        types.add(org.joda.beans.sample.TweakedPair.class);
+        types.add(org.joda.beans.sample.UserAccount.class);
+        types.add(org.joda.beans.sample.ValidateBean.class);
+        types.add(org.joda.beans.sample.WeirdFormat.class);
+        types.add(org.joda.beans.sample.Wrapper.class);
+        types.add(org.joda.beans.sample.WrapperToDoubleGenerics.class);
+        types.add(org.joda.beans.sample.other.Address.class);
+        types.add(org.joda.beans.sample.other.Pair.class);
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public List<Class<?>> beanTypes() {
+        return BEAN_TYPES;
+    }
+
+}
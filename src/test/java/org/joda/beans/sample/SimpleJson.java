@@ -1070,6 +1070,37 @@ public final class SimpleJson implements ImmutableBean, Serializable {
             throw new UnsupportedOperationException("Property cannot be written: " + propertyName);
         }
 
+        @Override
+        protected double propertyGetDouble(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case -851055720:  // primitiveDouble
+                    return ((SimpleJson) bean).getPrimitiveDouble();
+                case -608928189:  // primitiveDoubleNaN
+                    return ((SimpleJson) bean).getPrimitiveDoubleNaN();
+                case -608932567:  // primitiveDoubleInf
+                    return ((SimpleJson) bean).getPrimitiveDoubleInf();
+            }
+            return super.propertyGetDouble(bean, propertyName);
+        }
+
+        @Override
+        protected long propertyGetLong(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 1058569219:  // primitiveLong
+                    return ((SimpleJson) bean).getPrimitiveLong();
+            }
+            return super.propertyGetLong(bean, propertyName);
+        }
+
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 1281070472:  // primitiveInt
+                    return ((SimpleJson) bean).getPrimitiveInt();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
     }
 
     //-----------------------------------------------------------------------
@@ -1293,6 +1324,94 @@ public final class SimpleJson implements ImmutableBean, Serializable {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // primitiveChar
+                    this.primitiveChar = (Character) newValue;
+                    break;
+                case 1:  // primitiveByte
+                    this.primitiveByte = (Byte) newValue;
+                    break;
+                case 2:  // primitiveShort
+                    this.primitiveShort = (Short) newValue;
+                    break;
+                case 3:  // primitiveInt
+                    this.primitiveInt = (Integer) newValue;
+                    break;
+                case 4:  // primitiveLong
+                    this.primitiveLong = (Long) newValue;
+                    break;
+                case 5:  // primitiveFloat
+                    this.primitiveFloat = (Float) newValue;
+                    break;
+                case 6:  // primitiveDouble
+                    this.primitiveDouble = (Double) newValue;
+                    break;
+                case 7:  // primitiveDoubleNaN
+                    this.primitiveDoubleNaN = (Double) newValue;
+                    break;
+                case 8:  // primitiveDoubleInf
+                    this.primitiveDoubleInf = (Double) newValue;
+                    break;
+                case 9:  // abstractNumber
+                    this.abstractNumber = (Number) newValue;
+                    break;
+                case 10:  // arrayByte
+                    this.arrayByte = (byte[]) newValue;
+                    break;
+                case 11:  // array2d
+                    this.array2d = (String[][]) newValue;
+                    break;
+                case 12:  // string
+                    this.string = (String) newValue;
+                    break;
+                case 13:  // bean
+                    this.bean = (ImmKey) newValue;
+                    break;
+                case 14:  // object1
+                    this.object1 = (Object) newValue;
+                    break;
+                case 15:  // object2
+                    this.object2 = (Object) newValue;
+                    break;
+                case 16:  // risk
+                    this.risk = (Risk) newValue;
+                    break;
+                case 17:  // riskLevel
+                    this.riskLevel = (RiskLevel) newValue;
+                    break;
+                case 18:  // riskLevels
+                    this.riskLevels = (Set<RiskLevel>) newValue;
+                    break;
+                case 19:  // stringList
+                    this.stringList = (List<String>) newValue;
+                    break;
+                case 20:  // beanList
+                    this.beanList = (List<ImmKey>) newValue;
+                    break;
+                case 21:  // stringMap
+                    this.stringMap = (Map<String, String>) newValue;
+                    break;
+                case 22:  // intKeyMap
+                    this.intKeyMap = (Map<Integer, String>) newValue;
+                    break;
+                case 23:  // beanMap
+                    this.beanMap = (Map<String, ImmKey>) newValue;
+                    break;
+                case 24:  // listInMap
+                    this.listInMap = (Map<String, List<String>>) newValue;
+                    break;
+                case 25:  // listNumericInMap
+                    this.listNumericInMap = (Map<String, List<Integer>>) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -596,6 +596,25 @@ public final class SimplePersonWithBuilderFinal implements Cloneable, Bean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    return ((SimplePersonWithBuilderFinal) bean).getNumberOfCars();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, String propertyName, int newValue) {
+            switch (propertyName.hashCode()) {
+                case 926656063:  // numberOfCars
+                    ((SimplePersonWithBuilderFinal) bean).setNumberOfCars(newValue);
+                    return;
+            }
+            super.propertySetInt(bean, propertyName, newValue);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notNull(((SimplePersonWithBuilderFinal) bean).surname, "surname");
@@ -701,6 +720,40 @@ public final class SimplePersonWithBuilderFinal implements Cloneable, Bean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // forename
+                    this.forename = (String) newValue;
+                    break;
+                case 1:  // surname
+                    this.surname = (String) newValue;
+                    break;
+                case 2:  // numberOfCars
+                    this.numberOfCars = (Integer) newValue;
+                    break;
+                case 3:  // addressList
+                    this.addressList = (List<Address>) newValue;
+                    break;
+                case 4:  // otherAddressMap
+                    this.otherAddressMap = (Map<String, Address>) newValue;
+                    break;
+                case 5:  // addressesList
+                    this.addressesList = (List<List<Address>>) newValue;
+                    break;
+                case 6:  // mainAddress
+                    this.mainAddress = (Address) newValue;
+                    break;
+                case 7:  // tags
+                    this.tags = (String[]) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
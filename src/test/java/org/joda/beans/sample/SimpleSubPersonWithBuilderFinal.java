@@ -274,6 +274,19 @@ public final class SimpleSubPersonWithBuilderFinal extends SimplePersonWithBuild
             return this;
         }
 
+        @Override
+        public Builder set(int ordinal, Object newValue) {
+            switch (ordinal - (SimpleSubPersonWithBuilderFinal.Meta.INSTANCE.metaPropertyCount() - 1)) {
+                case 0:  // middleName
+                    this.middleName = (String) newValue;
+                    break;
+                default:
+                    super.set(ordinal, newValue);
+                    break;
+            }
+            return this;
+        }
+
         @Override
         public Builder set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -422,6 +422,25 @@ public final class TupleFinal<X, Y, Z> implements Bean {
             return this;
         }
 
+        @SuppressWarnings("unchecked")
+        @Override
+        public Builder<X, Y, Z> set(int ordinal, Object newValue) {
+            switch (ordinal) {
+                case 0:  // first
+                    this.first = (X) newValue;
+                    break;
+                case 1:  // second
+                    this.second = (Y) newValue;
+                    break;
+                case 2:  // third
+                    this.third = (Z) newValue;
+                    break;
+                default:
+                    throw new NoSuchElementException("Unknown property ordinal: " + ordinal);
+            }
+            return this;
+        }
+
         @Override
         public Builder<X, Y, Z> set(MetaProperty<?> property, Object value) {
             super.set(property, value);
@@ -366,6 +366,25 @@ public final class UserAccount implements Bean {
             super.propertySet(bean, propertyName, newValue, quiet);
         }
 
+        @Override
+        protected int propertyGetInt(Bean bean, String propertyName) {
+            switch (propertyName.hashCode()) {
+                case 850160339:  // numberLogins
+                    return ((UserAccount) bean).getNumberLogins();
+            }
+            return super.propertyGetInt(bean, propertyName);
+        }
+
+        @Override
+        protected void propertySetInt(Bean bean, String propertyName, int newValue) {
+            switch (propertyName.hashCode()) {
+                case 850160339:  // numberLogins
+                    ((UserAccount) bean).setNumberLogins(newValue);
+                    return;
+            }
+            super.propertySetInt(bean, propertyName, newValue);
+        }
+
         @Override
         protected void validate(Bean bean) {
             JodaBeanUtils.notEmpty(((UserAccount) bean).userId, "userId");
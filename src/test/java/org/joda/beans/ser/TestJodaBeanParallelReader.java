@@ -0,0 +1,162 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.joda.beans.Bean;
+import org.joda.beans.sample.ImmAddress;
+import org.joda.beans.sample.ImmTolerance;
+import org.joda.beans.test.BeanAssert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test the parallel reader.
+ */
+@Test
+public class TestJodaBeanParallelReader {
+
+    private static final int COUNT = 2500;
+
+    private ExecutorService executor;
+
+    @BeforeClass
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_readJsonLines_ordered() {
+        JodaBeanParallelReader reader = JodaBeanSer.COMPACT.parallelReader().withExecutor(executor, 4).withChunkSize(100);
+        try (Stream<ImmTolerance> stream = reader.readJsonLines(new StringReader(jsonLines()), ImmTolerance.class)) {
+            List<Double> values = stream.map(ImmTolerance::getValue).collect(Collectors.toList());
+            assertEquals(values, expectedValues());
+        }
+    }
+
+    public void test_readJsonLines_unordered() {
+        JodaBeanParallelReader reader = JodaBeanSer.COMPACT.parallelReader()
+                .withExecutor(executor, 4)
+                .withChunkSize(7)
+                .withOrdered(false);
+        try (Stream<ImmTolerance> stream = reader.readJsonLines(new StringReader(jsonLines()), ImmTolerance.class)) {
+            List<Double> values = stream.map(ImmTolerance::getValue).collect(Collectors.toList());
+            Collections.sort(values);
+            assertEquals(values, expectedValues());
+        }
+    }
+
+    public void test_readJsonLines_commonPool() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(address);
+        String text = json + "\n\n" + json + "\r\n" + json;
+        List<Bean> parsed = JodaBeanSer.COMPACT.parallelReader().readJsonLines(new StringReader(text), Bean.class)
+                .collect(Collectors.toList());
+        assertEquals(parsed.size(), 3);
+        for (Bean bean : parsed) {
+            BeanAssert.assertBeanEquals(bean, address);
+        }
+    }
+
+    public void test_readJsonLines_empty() {
+        assertEquals(JodaBeanSer.COMPACT.parallelReader().readJsonLines(new StringReader(""), Bean.class).count(), 0);
+    }
+
+    public void test_readJsonLines_bad() {
+        String text = jsonLines().replace("{\"@bean\":\"org.joda.beans.sample.ImmTolerance\",\"value\":1234.0",
+                "{\"@bean\":\"org.joda.beans.sample.ImmTolerance\",\"value\":\"Bad\"");
+        JodaBeanParallelReader reader = JodaBeanSer.COMPACT.parallelReader().withExecutor(executor, 4).withChunkSize(100);
+        try (Stream<ImmTolerance> stream = reader.readJsonLines(new StringReader(text), ImmTolerance.class)) {
+            stream.count();
+            throw new AssertionError("Expected exception");
+        } catch (IllegalArgumentException ex) {
+            assertTrue(ex.getMessage().startsWith("Error parsing record 1234: "), ex.getMessage());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_readBinFramed() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(baos)) {
+            for (int i = 0; i < COUNT; i++) {
+                byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(ImmTolerance.builder().value(i).build());
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+        JodaBeanParallelReader reader = JodaBeanSer.COMPACT.parallelReader().withExecutor(executor, 4).withChunkSize(64);
+        try (Stream<ImmTolerance> stream = reader.readBinFramed(new ByteArrayInputStream(baos.toByteArray()), ImmTolerance.class)) {
+            List<Double> values = stream.map(ImmTolerance::getValue).collect(Collectors.toList());
+            assertEquals(values, expectedValues());
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_readBinFramed_negativeLength() {
+        byte[] bytes = {(byte) 0xFF, 0, 0, 0};
+        JodaBeanSer.COMPACT.parallelReader().readBinFramed(new ByteArrayInputStream(bytes), Bean.class).count();
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_withChunkSize_zero() {
+        JodaBeanSer.COMPACT.parallelReader().withChunkSize(0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_withExecutor_zeroParallelism() {
+        JodaBeanSer.COMPACT.parallelReader().withExecutor(executor, 0);
+    }
+
+    //-----------------------------------------------------------------------
+    private static String jsonLines() {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < COUNT; i++) {
+            buf.append(JodaBeanSer.COMPACT.jsonWriter().write(ImmTolerance.builder().value(i).build())).append('\n');
+        }
+        return buf.toString();
+    }
+
+    private static List<Double> expectedValues() {
+        List<Double> expected = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            expected.add((double) i);
+        }
+        return expected;
+    }
+
+}
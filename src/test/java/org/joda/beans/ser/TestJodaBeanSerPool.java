@@ -0,0 +1,106 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.joda.beans.Bean;
+import org.joda.beans.sample.Address;
+import org.joda.beans.sample.ImmAddress;
+import org.joda.beans.ser.bin.JodaBeanBinFormat;
+import org.joda.beans.ser.bin.JodaBeanBinWriter;
+import org.joda.beans.test.BeanAssert;
+import org.testng.annotations.Test;
+
+/**
+ * Test the pool of reusable serializers.
+ */
+@Test
+public class TestJodaBeanSerPool {
+
+    public void test_pool_shared() {
+        assertSame(JodaBeanSer.COMPACT.pool(), JodaBeanSer.COMPACT.pool());
+        assertSame(JodaBeanSer.COMPACT.pool().getSettings(), JodaBeanSer.COMPACT);
+    }
+
+    public void test_bin_reused() {
+        JodaBeanSerPool pool = JodaBeanSer.COMPACT.pool();
+        Address address = SerTestHelper.testAddress();
+        ImmAddress immAddress = SerTestHelper.testImmAddress();
+        for (JodaBeanBinFormat format : JodaBeanBinFormat.values()) {
+            for (int i = 0; i < 3; i++) {
+                byte[] bytes1 = pool.writeBin(address, format);
+                byte[] bytes2 = pool.writeBin(immAddress, format);
+                assertEquals(bytes1, JodaBeanSer.COMPACT.binWriter(format).write(address));
+                assertEquals(bytes2, JodaBeanSer.COMPACT.binWriter(format).write(immAddress));
+                BeanAssert.assertBeanEquals(pool.readBin(bytes1, Address.class), address);
+                BeanAssert.assertBeanEquals(pool.readBin(bytes2), immAddress);
+            }
+        }
+    }
+
+    public void test_json_reused() {
+        JodaBeanSerPool pool = JodaBeanSer.PRETTY.pool();
+        Address address = SerTestHelper.testAddress();
+        ImmAddress immAddress = SerTestHelper.testImmAddress();
+        for (int i = 0; i < 3; i++) {
+            String json1 = pool.writeJson(address);
+            String json2 = pool.writeJson(immAddress);
+            assertEquals(json1, JodaBeanSer.PRETTY.jsonWriter().write(address));
+            assertEquals(json2, JodaBeanSer.PRETTY.jsonWriter().write(immAddress));
+            BeanAssert.assertBeanEquals(pool.readJson(json1, Address.class), address);
+            BeanAssert.assertBeanEquals(pool.readJson(json2), immAddress);
+        }
+    }
+
+    public void test_writer_reused() {
+        JodaBeanBinWriter writer = JodaBeanSer.COMPACT.binWriter(JodaBeanBinFormat.REFERENCING);
+        ImmAddress immAddress = SerTestHelper.testImmAddress();
+        byte[] bytes1 = writer.write(immAddress);
+        byte[] bytes2 = writer.write(immAddress);
+        assertEquals(bytes2, bytes1);
+    }
+
+    public void test_multipleThreads() throws Exception {
+        JodaBeanSerPool pool = JodaBeanSer.COMPACT.pool();
+        ImmAddress immAddress = SerTestHelper.testImmAddress();
+        byte[] expected = JodaBeanSer.COMPACT.binWriter().write(immAddress);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Bean>> futures = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                futures.add(executor.submit(() -> {
+                    byte[] bytes = pool.writeBin(immAddress);
+                    assertEquals(bytes, expected);
+                    return pool.readJson(pool.writeJson(pool.readBin(bytes)));
+                }));
+            }
+            for (Future<Bean> future : futures) {
+                BeanAssert.assertBeanEquals(future.get(), immAddress);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.joda.beans.Bean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.sample.Address;
+import org.joda.beans.sample.ImmAddress;
+import org.joda.beans.sample.ImmOptional;
+import org.joda.beans.sample.ImmPerson;
+import org.joda.beans.ser.SerBeanPlan.PropertyPlan;
+import org.testng.annotations.Test;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Test bean plans.
+ */
+@Test
+public class TestSerBeanPlan {
+
+    public void test_plan_person() {
+        ImmPerson person = ImmPerson.builder().forename("A").surname("B").build();
+        SerBeanPlan plan = JodaBeanSer.COMPACT.beanPlan(person);
+        List<String> names = new ArrayList<>();
+        for (PropertyPlan prop : plan.getProperties()) {
+            names.add(prop.getName());
+        }
+        // derived property 'age' is not serializable
+        assertEquals(names.contains("age"), false);
+        assertEquals(names.get(0), "forename");
+        PropertyPlan forename = plan.getProperties().get(0);
+        assertEquals(forename.getPropertyType(), String.class);
+        assertEquals(forename.isOptional(), false);
+        assertEquals(forename.isCollectionLike(), false);
+        assertEquals(forename.extractValue(person), "A");
+        assertEquals(forename.createIterator(SerIteratorFactory.INSTANCE, "A", ImmPerson.class), null);
+        PropertyPlan addressList = plan.getProperties().get(names.indexOf("addressList"));
+        assertEquals(addressList.isCollectionLike(), true);
+    }
+
+    public void test_createIterator_resolvedTypesReused() {
+        AtomicInteger resolutions = new AtomicInteger();
+        PropertyPlan listPlan = new PropertyPlan(countingProperty(ImmPerson.meta().addressList(), resolutions), ImmPerson.class);
+        PropertyPlan mapPlan = new PropertyPlan(countingProperty(ImmPerson.meta().otherAddressMap(), resolutions), ImmPerson.class);
+        int resolved = resolutions.get();
+        List<Address> list = ImmutableList.of(new Address());
+        Map<String, Address> map = ImmutableMap.of("A", new Address());
+        for (int i = 0; i < 3; i++) {
+            SerIterator listIterator = listPlan.createIterator(SerIteratorFactory.INSTANCE, list, ImmPerson.class);
+            assertEquals(listIterator.valueType(), Address.class);
+            SerIterator mapIterator = mapPlan.createIterator(SerIteratorFactory.INSTANCE, map, ImmPerson.class);
+            assertEquals(mapIterator.keyType(), String.class);
+            assertEquals(mapIterator.valueType(), Address.class);
+        }
+        assertEquals(resolutions.get(), resolved);
+        // other factories resolve the types on each call
+        SerIterator custom = listPlan.createIterator(new SerIteratorFactory(), list, ImmPerson.class);
+        assertEquals(custom.valueType(), Address.class);
+        assertTrue(resolutions.get() > resolved);
+    }
+
+    // a meta-property that counts the calls that resolve generics
+    private static MetaProperty<?> countingProperty(MetaProperty<?> underlying, AtomicInteger resolutions) {
+        return (MetaProperty<?>) Proxy.newProxyInstance(
+                MetaProperty.class.getClassLoader(),
+                new Class<?>[] {MetaProperty.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("propertyGenericType")) {
+                        resolutions.incrementAndGet();
+                    }
+                    return method.invoke(underlying, args);
+                });
+    }
+
+    public void test_plan_optional() {
+        ImmOptional bean = ImmOptional.builder().optString(Optional.of("A")).build();
+        SerBeanPlan plan = JodaBeanSer.COMPACT.beanPlan(bean);
+        PropertyPlan optString = plan.getProperties().get(0);
+        assertEquals(optString.getName(), "optString");
+        assertEquals(optString.getPropertyType(), String.class);
+        assertEquals(optString.isOptional(), true);
+        assertEquals(optString.extractValue(bean), "A");
+        PropertyPlan optStringEmpty = plan.getProperties().get(1);
+        assertEquals(optStringEmpty.extractValue(bean), null);
+    }
+
+    public void test_plan_cached() {
+        ImmPerson person = ImmPerson.builder().forename("A").build();
+        SerBeanPlan plan = JodaBeanSer.COMPACT.beanPlan(person);
+        assertSame(JodaBeanSer.COMPACT.beanPlan(person.toBuilder().forename("C").build()), plan);
+        assertSame(JodaBeanSer.PRETTY.beanPlan(person), plan);
+        assertSame(plan.getMetaBean(), ImmPerson.meta());
+    }
+
+    public void test_plan_otherMetaBeanForSameType() {
+        Bean bean1 = proxyBean(ImmPerson.meta());
+        Bean bean2 = proxyBean(ImmAddress.meta());
+        assertSame(bean2.getClass(), bean1.getClass());
+        SerBeanPlan plan1 = JodaBeanSer.COMPACT.beanPlan(bean1);
+        SerBeanPlan plan2 = JodaBeanSer.COMPACT.beanPlan(bean2);
+        assertNotSame(plan2, plan1);
+        assertSame(plan1.getMetaBean(), ImmPerson.meta());
+        assertSame(plan2.getMetaBean(), ImmAddress.meta());
+    }
+
+    private static Bean proxyBean(MetaBean metaBean) {
+        return (Bean) Proxy.newProxyInstance(
+                Bean.class.getClassLoader(),
+                new Class<?>[] {Bean.class},
+                (proxy, method, args) -> metaBean);
+    }
+
+    public void test_plan_dynamic() {
+        FlexiBean bean1 = new FlexiBean();
+        bean1.set("a", "A");
+        FlexiBean bean2 = new FlexiBean();
+        bean2.set("b", "B");
+        assertEquals(JodaBeanSer.COMPACT.beanPlan(bean1).getProperties().get(0).getName(), "a");
+        assertEquals(JodaBeanSer.COMPACT.beanPlan(bean2).getProperties().get(0).getName(), "b");
+    }
+
+}
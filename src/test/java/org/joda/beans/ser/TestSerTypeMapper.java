@@ -24,6 +24,10 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.joda.beans.MetaBeanIndex;
+import org.joda.beans.sample.ImmAddress;
+import org.joda.beans.sample.ImmPerson;
+import org.joda.beans.sample.SampleBeanIndex;
 import org.testng.annotations.Test;
 
 /**
@@ -159,6 +163,20 @@ public class TestSerTypeMapper {
         assertEquals(SerTypeMapper.decodeType("java.util.concurrent.atomic.AtomicReference", SETTINGS, null, cache), AtomicReference.class);
     }
 
+    public void test_decodeType_index() throws Exception {
+        MetaBeanIndex.register(new SampleBeanIndex());
+        Map<String, Class<?>> cache = new HashMap<>();
+        // short type
+        assertEquals(SerTypeMapper.decodeType("ImmAddress", SETTINGS, "org.joda.beans.sample.", cache), ImmAddress.class);
+        assertEquals(cache.get("org.joda.beans.sample.ImmAddress"), ImmAddress.class);
+        assertEquals(cache.get("ImmAddress"), ImmAddress.class);
+        // full type
+        assertEquals(SerTypeMapper.decodeType("org.joda.beans.sample.ImmPerson", SETTINGS, "java.util.", cache), ImmPerson.class);
+        assertEquals(cache.get("ImmPerson"), ImmPerson.class);
+        // type not in index
+        assertEquals(SerTypeMapper.decodeType("BitSet", SETTINGS, "java.util.", cache), BitSet.class);
+    }
+
     @Test(expectedExceptions = ClassNotFoundException.class)
     public void test_decodeType_emptyClassName() throws Exception {
         Map<String, Class<?>> cache = new HashMap<>();
@@ -0,0 +1,207 @@
+/*
+ *  Copyright 2001-present Stephen Colebourne
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.joda.beans.ser.bin;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+
+import org.joda.beans.Bean;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.sample.Address;
+import org.joda.beans.sample.ImmAddress;
+import org.joda.beans.sample.ImmGuava;
+import org.joda.beans.sample.ImmTolerance;
+import org.joda.beans.sample.Pair;
+import org.joda.beans.sample.PrimitiveBean;
+import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerTestHelper;
+import org.joda.beans.test.BeanAssert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.ImmutableTable;
+
+/**
+ * Test transcoding between JSON and binary.
+ */
+@Test
+public class TestJodaBeanBinTranscoder {
+
+    public void test_jsonToBin_address() {
+        assertJsonToBin(SerTestHelper.testAddress());
+    }
+
+    public void test_jsonToBin_immAddress() {
+        assertJsonToBin(SerTestHelper.testImmAddress());
+    }
+
+    public void test_jsonToBin_immOptional() {
+        assertJsonToBin(SerTestHelper.testImmOptional());
+    }
+
+    @DataProvider(name = "matchesBinWriter")
+    Object[][] data_matchesBinWriter() {
+        PrimitiveBean primitives = new PrimitiveBean();
+        primitives.setValueLong(1L);
+        primitives.setValueInt(2);
+        primitives.setValueShort((short) 3);
+        primitives.setValueByte((byte) 4);
+        primitives.setValueDouble(5.5d);
+        primitives.setValueFloat(6.5f);
+        primitives.setValueChar('7');
+        primitives.setValueBoolean(true);
+        ImmGuava<String> guava = ImmGuava.<String>builder()
+                .list(ImmutableList.of("a", "b"))
+                .map(ImmutableMap.of("a", "A", "b", "B"))
+                .multimap(ImmutableMultimap.of("a", "A", "a", "AA", "b", "B"))
+                .listMultimap(ImmutableListMultimap.of("a", "A", "a", "AA"))
+                .setMultimap(ImmutableSetMultimap.of("b", "B", "b", "BB"))
+                .multiset(ImmutableMultiset.of("a", "a", "b"))
+                .build();
+        FlexiBean flexi = new FlexiBean();
+        flexi.set("string", "Hello");
+        flexi.set("integer", 1);
+        flexi.set("long", 2L);
+        flexi.set("short", (short) 3);
+        flexi.set("byte", (byte) 4);
+        flexi.set("double", 5.5d);
+        flexi.set("float", 6.5f);
+        flexi.set("boolean", Boolean.TRUE);
+        flexi.set("date", LocalDate.of(2016, 6, 1));
+        flexi.set("bean", SerTestHelper.testAddress());
+        return new Object[][] {
+            {SerTestHelper.testAddress()},
+            {SerTestHelper.testImmAddress()},
+            {SerTestHelper.testImmOptional()},
+            {primitives},
+            {guava},
+            {flexi},
+            {pair(6.5f, Float.NaN)},
+            {pair(5.5d, Double.POSITIVE_INFINITY)},
+            {pair(1, 2L)},
+            {pair((short) 3, (byte) 4)},
+            {pair(true, "Hello")},
+            {pair(LocalDate.of(2016, 6, 1), null)},
+            {pair(ImmutableList.of(1, 2L, 6.5f), ImmutableMap.of("a", 3.5d))},
+            {pair(ImmutableTable.of(1, 2, 6.5f), ImmutableListMultimap.of("a", 2L))},
+        };
+    }
+
+    @Test(dataProvider = "matchesBinWriter")
+    public void test_jsonToBin_matchesBinWriter(Bean bean) {
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(bean);
+        byte[] bytes = JodaBeanSer.COMPACT.binTranscoder().jsonToBin(json);
+        assertEquals(bytes, JodaBeanSer.COMPACT.binWriter().write(bean));
+    }
+
+    private static Pair pair(Object first, Object second) {
+        Pair pair = new Pair();
+        pair.setFirst(first);
+        pair.setSecond(second);
+        return pair;
+    }
+
+    public void test_jsonToBin_rootType() {
+        ImmTolerance bean = ImmTolerance.builder().value(1.5d).build();
+        byte[] bytes = JodaBeanSer.COMPACT.binTranscoder().jsonToBin("{\"value\":1.5}", ImmTolerance.class);
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(bytes, ImmTolerance.class), bean);
+    }
+
+    public void test_jsonToBin_stream() throws IOException {
+        Address address = SerTestHelper.testAddress();
+        String json = JodaBeanSer.PRETTY.jsonWriter().write(address);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.COMPACT.binTranscoder().jsonToBin(new StringReader(json), Bean.class, baos);
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(baos.toByteArray(), Address.class), address);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_jsonToBin_badValue() {
+        JodaBeanSer.COMPACT.binTranscoder().jsonToBin("{\"value\":\"Bad\"}", ImmTolerance.class);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_binToJson_address() {
+        assertBinToJson(SerTestHelper.testAddress(), JodaBeanBinFormat.STANDARD, false);
+    }
+
+    public void test_binToJson_immAddress() {
+        assertBinToJson(SerTestHelper.testImmAddress(), JodaBeanBinFormat.STANDARD, false);
+    }
+
+    public void test_binToJson_immOptional() {
+        assertBinToJson(SerTestHelper.testImmOptional(), JodaBeanBinFormat.STANDARD, false);
+    }
+
+    public void test_binToJson_referencing() {
+        assertBinToJson(SerTestHelper.testImmAddress(), JodaBeanBinFormat.REFERENCING, false);
+    }
+
+    public void test_binToJson_sized() {
+        assertBinToJson(SerTestHelper.testImmAddress(), JodaBeanBinFormat.STANDARD, true);
+    }
+
+    public void test_binToJson_matchesJsonWriter() {
+        ImmAddress bean = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.PRETTY.binWriter().write(bean);
+        String json = JodaBeanSer.PRETTY.binTranscoder().binToJson(bytes);
+        assertEquals(json, JodaBeanSer.PRETTY.jsonWriter().write(bean));
+    }
+
+    public void test_binToJson_stream() throws IOException {
+        Address address = SerTestHelper.testAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+        StringBuilder buf = new StringBuilder();
+        JodaBeanSer.COMPACT.binTranscoder().binToJson(new ByteArrayInputStream(bytes), Bean.class, buf);
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.jsonReader().read(buf.toString(), Address.class), address);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_reuse() {
+        JodaBeanBinTranscoder transcoder = JodaBeanSer.COMPACT.binTranscoder();
+        for (int i = 0; i < 3; i++) {
+            ImmAddress address = SerTestHelper.testImmAddress();
+            byte[] bytes = transcoder.jsonToBin(JodaBeanSer.COMPACT.jsonWriter().write(address));
+            String json = transcoder.binToJson(bytes);
+            BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.jsonReader().read(json, ImmAddress.class), address);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    private static void assertJsonToBin(Bean bean) {
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(bean);
+        byte[] bytes = JodaBeanSer.COMPACT.binTranscoder().jsonToBin(json);
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(bytes, Bean.class), bean);
+    }
+
+    private static void assertBinToJson(Bean bean, JodaBeanBinFormat format, boolean sized) {
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter(format, sized).write(bean);
+        String json = JodaBeanSer.COMPACT.binTranscoder().binToJson(bytes);
+        BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.jsonReader().read(json, Bean.class), bean);
+    }
+
+}
@@ -16,25 +16,58 @@
 package org.joda.beans.ser.bin;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.IllegalBlockingModeException;
+import java.nio.channels.Pipe;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.joda.beans.Bean;
+import org.joda.beans.JodaBeanUtils;
+import org.joda.beans.MetaProperty;
+import org.joda.beans.PropertyStyle;
 import org.joda.beans.impl.flexi.FlexiBean;
 import org.joda.beans.sample.Address;
 import org.joda.beans.sample.Company;
 import org.joda.beans.sample.ImmAddress;
 import org.joda.beans.sample.ImmOptional;
+import org.joda.beans.sample.ImmTolerance;
 import org.joda.beans.sample.JodaConvertBean;
 import org.joda.beans.sample.JodaConvertWrapper;
+import org.joda.beans.sample.LegacyBuilderBean;
+import org.joda.beans.sample.Pair;
 import org.joda.beans.sample.Person;
+import org.joda.beans.sample.PrimitiveBean;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerDeserializers;
 import org.joda.beans.ser.SerTestHelper;
 import org.joda.beans.test.BeanAssert;
 import org.testng.annotations.Test;
 
+import com.google.common.base.Optional;
+
 /**
  * Test property roundtrip using binary.
  */
@@ -72,6 +105,510 @@ public class TestSerializeBin {
         BeanAssert.assertBeanEquals(bean, optional);
     }
 
+    //-----------------------------------------------------------------------
+    public void test_write_outputStream() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] expected = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.COMPACT.binWriter().write(address, baos);
+        assertEquals(baos.toByteArray(), expected);
+    }
+
+    public void test_write_channel() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] expected = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.COMPACT.binWriter().write(address, Channels.newChannel(baos));
+        assertEquals(baos.toByteArray(), expected);
+    }
+
+    @Test(expectedExceptions = IllegalBlockingModeException.class)
+    public void test_write_channel_nonBlocking() throws IOException {
+        Pipe pipe = Pipe.open();
+        try {
+            pipe.sink().configureBlocking(false);
+            JodaBeanSer.COMPACT.binWriter().write(SerTestHelper.testImmAddress(), pipe.sink());
+        } finally {
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
+
+    public void test_write_byteBuffer_heapGrowable() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] expected = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        ByteBuffer initial = ByteBuffer.allocate(8);
+        initial.put((byte) 1).put((byte) 2);
+        ByteBuffer buffer = JodaBeanSer.COMPACT.binWriter().write(address, initial);
+        assertEquals(buffer.isDirect(), false);
+        assertEquals(buffer.position(), expected.length + 2);
+        buffer.flip();
+        assertEquals(buffer.get(), (byte) 1);
+        assertEquals(buffer.get(), (byte) 2);
+        byte[] actual = new byte[buffer.remaining()];
+        buffer.get(actual);
+        assertEquals(actual, expected);
+    }
+
+    public void test_write_byteBuffer_directLargeEnough() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] expected = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        ByteBuffer initial = ByteBuffer.allocateDirect(expected.length + 100);
+        ByteBuffer buffer = JodaBeanSer.COMPACT.binWriter().write(address, initial);
+        assertSame(buffer, initial);
+        assertEquals(buffer.position(), expected.length);
+        buffer.flip();
+        byte[] actual = new byte[buffer.remaining()];
+        buffer.get(actual);
+        assertEquals(actual, expected);
+    }
+
+    public void test_write_byteBuffer_directGrowable() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] expected = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        ByteBuffer buffer = JodaBeanSer.COMPACT.binWriter().write(address, ByteBuffer.allocateDirect(16));
+        assertEquals(buffer.isDirect(), true);
+        buffer.flip();
+        byte[] actual = new byte[buffer.remaining()];
+        buffer.get(actual);
+        assertEquals(actual, expected);
+    }
+
+    public void test_write_longNonAsciiString() {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            buf.append(i % 7 == 0 ? '\u00e9' : 'a');
+        }
+        FlexiBean bean = new FlexiBean();
+        bean.set("ascii", buf.toString().replace('\u00e9', 'b'));
+        bean.set("other", buf.toString());
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try {
+            JodaBeanSer.COMPACT.binWriter().write(bean, baos);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        assertEquals(baos.toByteArray(), JodaBeanSer.COMPACT.binWriter().write(bean));
+        Bean parsed = JodaBeanSer.COMPACT.binReader().read(baos.toByteArray());
+        BeanAssert.assertBeanEquals(bean, parsed);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_read_inputStream() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        ImmAddress bean = JodaBeanSer.COMPACT.binReader().read(new ByteArrayInputStream(bytes), ImmAddress.class);
+        BeanAssert.assertBeanEquals(bean, address);
+    }
+
+    public void test_read_byteBuffer_heap() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 3);
+        buffer.put((byte) 9).put(bytes).put((byte) 8).put((byte) 7);
+        buffer.flip();
+        buffer.get();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        ImmAddress bean = JodaBeanSer.COMPACT.binReader().read(buffer, ImmAddress.class);
+        BeanAssert.assertBeanEquals(bean, address);
+        assertEquals(buffer.position(), bytes.length + 1);
+        assertEquals(buffer.order(), ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public void test_read_byteBuffer_heapSlice_strings() {
+        Pair pair = new Pair();
+        pair.setFirst("Stephen");
+        pair.setSecond("Caf\u00e9 \uD83D\uDE00");
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(pair);
+
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 5);
+        buffer.position(5);
+        ByteBuffer slice = buffer.slice();
+        slice.put(bytes);
+        slice.flip();
+        assertEquals(slice.arrayOffset(), 5);
+        Pair bean = JodaBeanSer.COMPACT.binReader().read(slice, Pair.class);
+        assertEquals(bean.getFirst(), "Stephen");
+        assertEquals(bean.getSecond(), "Caf\u00e9 \uD83D\uDE00");
+        assertEquals(slice.hasRemaining(), false);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes);
+        direct.flip();
+        bean = JodaBeanSer.COMPACT.binReader().read(direct, Pair.class);
+        assertEquals(bean.getFirst(), "Stephen");
+        assertEquals(bean.getSecond(), "Caf\u00e9 \uD83D\uDE00");
+    }
+
+    public void test_read_byteBuffer_direct() {
+        Address address = SerTestHelper.testAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+        Bean bean = JodaBeanSer.COMPACT.binReader().read(buffer);
+        BeanAssert.assertBeanEquals(bean, address);
+        assertEquals(buffer.hasRemaining(), false);
+    }
+
+    public void test_read_byteBuffer_mapped() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        Path file = Files.createTempFile("joda-beans", ".bin");
+        try {
+            Files.write(file, bytes);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+                ImmAddress bean = JodaBeanSer.COMPACT.binReader().read(buffer, ImmAddress.class);
+                BeanAssert.assertBeanEquals(bean, address);
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expectedExceptions = RuntimeException.class)
+    public void test_read_byteBuffer_truncated() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, bytes.length - 1);
+        JodaBeanSer.COMPACT.binReader().read(buffer, ImmAddress.class);
+    }
+
+    public void test_visualize() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(address);
+
+        String visualized = JodaBeanBinReader.visualize(bytes);
+        assertEquals(visualized.contains("ext type=32 'org.joda.beans.sample.ImmAddress'"), true);
+        assertEquals(visualized.contains("str 'London & Capital of the World <!>\n'"), true);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_writeAddress_referencing() {
+        Address address = SerTestHelper.testAddress();
+        byte[] bytes = JodaBeanSer.PRETTY.binWriter(JodaBeanBinFormat.REFERENCING).write(address);
+        assertEquals(bytes[1], (byte) 2);
+
+        Address bean = (Address) JodaBeanSer.PRETTY.binReader().read(bytes);
+        BeanAssert.assertBeanEquals(bean, address);
+    }
+
+    public void test_writeImmAddress_referencing() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.PRETTY.binWriter(JodaBeanBinFormat.REFERENCING).write(address);
+
+        ImmAddress bean = (ImmAddress) JodaBeanSer.PRETTY.binReader().read(bytes);
+        BeanAssert.assertBeanEquals(bean, address);
+    }
+
+    public void test_writeImmOptional_referencing() {
+        ImmOptional optional = SerTestHelper.testImmOptional();
+        byte[] bytes = JodaBeanSer.PRETTY.binWriter(JodaBeanBinFormat.REFERENCING).write(optional);
+
+        ImmOptional bean = (ImmOptional) JodaBeanSer.PRETTY.binReader().read(bytes);
+        BeanAssert.assertBeanEquals(bean, optional);
+    }
+
+    public void test_write_referencing_smaller() {
+        List<Object> list = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(SerTestHelper.testAddress());
+        }
+        FlexiBean bean = new FlexiBean();
+        bean.set("list", list);
+        byte[] standard = JodaBeanSer.COMPACT.binWriter().write(bean);
+        byte[] referencing = JodaBeanSer.COMPACT.binWriter(JodaBeanBinFormat.REFERENCING).write(bean);
+        assertTrue(referencing.length < standard.length / 2);
+
+        Bean parsed = JodaBeanSer.COMPACT.binReader().read(referencing);
+        BeanAssert.assertBeanEquals(parsed, bean);
+    }
+
+    public void test_readWrite_primitiveBean() {
+        PrimitiveBean bean = new PrimitiveBean();
+        bean.setValueLong(1234567890123L);
+        bean.setValueInt(-12);
+        bean.setValueDouble(Double.NaN);
+        bean.setValueBoolean(true);
+        for (JodaBeanBinFormat format : JodaBeanBinFormat.values()) {
+            byte[] bytes = JodaBeanSer.COMPACT.binWriter(format).write(bean);
+            BeanAssert.assertBeanEquals(bean, JodaBeanSer.COMPACT.binReader().read(bytes));
+        }
+    }
+
+    public void test_read_referencing_skipUnknownDefinitions() {
+        Address extra = new Address();
+        extra.setStreet("Extra Street");
+        extra.setCity("Extra City");
+        FlexiBean bean = new FlexiBean();
+        bean.set("extra", extra);
+        bean.set("street", "Main Street");
+        bean.set("city", "Town");
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter(JodaBeanBinFormat.REFERENCING).write(bean, false);
+
+        JodaBeanSer lenient = JodaBeanSer.COMPACT.withDeserializers(SerDeserializers.LENIENT);
+        Address parsed = lenient.binReader().read(bytes, Address.class);
+        assertEquals(parsed.getStreet(), "Main Street");
+        assertEquals(parsed.getCity(), "Town");
+    }
+
+    public void test_visualize_referencing() {
+        Address address = SerTestHelper.testAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter(JodaBeanBinFormat.REFERENCING).write(address);
+
+        String visualized = JodaBeanBinReader.visualize(bytes);
+        assertEquals(visualized.contains("ext type=35 'street'"), true);
+    }
+
+    public void test_readWrite_primitiveArrays_referencing() {
+        FlexiBean bean = new FlexiBean();
+        bean.set("booleans", new boolean[] {true, false, true});
+        bean.set("shorts", new short[] {1, -2, Short.MAX_VALUE});
+        bean.set("chars", new char[] {'a', '\u00e9', Character.MAX_VALUE});
+        bean.set("ints", new int[] {1, -2, Integer.MIN_VALUE});
+        bean.set("longs", new long[] {1L, -2L, Long.MAX_VALUE});
+        bean.set("floats", new float[] {1.5f, -2f, Float.NaN});
+        bean.set("doubles", new double[] {1.5d, -2d, Double.NEGATIVE_INFINITY});
+        bean.set("empty", new double[0]);
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter(JodaBeanBinFormat.REFERENCING).write(bean);
+
+        FlexiBean parsed = (FlexiBean) JodaBeanSer.COMPACT.binReader().read(bytes);
+        assertEquals((boolean[]) parsed.get("booleans"), new boolean[] {true, false, true});
+        assertEquals((short[]) parsed.get("shorts"), new short[] {1, -2, Short.MAX_VALUE});
+        assertEquals((char[]) parsed.get("chars"), new char[] {'a', '\u00e9', Character.MAX_VALUE});
+        assertEquals((int[]) parsed.get("ints"), new int[] {1, -2, Integer.MIN_VALUE});
+        assertEquals((long[]) parsed.get("longs"), new long[] {1L, -2L, Long.MAX_VALUE});
+        assertEquals((float[]) parsed.get("floats"), new float[] {1.5f, -2f, Float.NaN});
+        assertEquals((double[]) parsed.get("doubles"), new double[] {1.5d, -2d, Double.NEGATIVE_INFINITY});
+        assertEquals((double[]) parsed.get("empty"), new double[0]);
+    }
+
+    public void test_readWrite_primitiveArray_largeStream_referencing() throws IOException {
+        double[] array = new double[10001];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i * 1.5d;
+        }
+        ImmTolerance bean = ImmTolerance.builder().value(2d).array(array).build();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.COMPACT.binWriter(JodaBeanBinFormat.REFERENCING).write(bean, baos);
+        byte[] bytes = baos.toByteArray();
+        assertTrue(bytes.length < array.length * 8 + 100);
+
+        ImmTolerance parsed = JodaBeanSer.COMPACT.binReader().read(new ByteArrayInputStream(bytes), ImmTolerance.class);
+        assertEquals(parsed.getArray(), array);
+        assertEquals(parsed, bean);
+    }
+
+    public void test_read_projection() {
+        Address address = SerTestHelper.testAddress();
+        for (JodaBeanBinFormat format : JodaBeanBinFormat.values()) {
+            byte[] bytes = JodaBeanSer.COMPACT.binWriter(format).write(address);
+            List<MetaProperty<?>> props = Arrays.<MetaProperty<?>>asList(Address.meta().street(), Address.meta().owner());
+            Address parsed = JodaBeanSer.COMPACT.binReader().read(bytes, Address.class, props);
+            assertEquals(parsed.getStreet(), "Big Road");
+            assertEquals(parsed.getCity(), null);
+            assertEquals(parsed.getNumber(), 0);
+            BeanAssert.assertBeanEquals(parsed.getOwner(), address.getOwner());
+        }
+    }
+
+    public void test_readProperties_projection() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        for (JodaBeanBinFormat format : JodaBeanBinFormat.values()) {
+            byte[] bytes = JodaBeanSer.COMPACT.binWriter(format).write(address);
+            List<MetaProperty<?>> props = Arrays.<MetaProperty<?>>asList(ImmAddress.meta().city(), ImmAddress.meta().number());
+            Map<String, Object> parsed = JodaBeanSer.COMPACT.binReader().readProperties(
+                    new ByteArrayInputStream(bytes), ImmAddress.class, props);
+            assertEquals(new ArrayList<>(parsed.keySet()), Arrays.asList("number", "city"));
+            assertEquals(parsed.get("number"), 185);
+            assertEquals(parsed.get("city"), address.getCity());
+        }
+    }
+
+    public void test_readWrite_sized() {
+        for (JodaBeanBinFormat format : JodaBeanBinFormat.values()) {
+            Address address = SerTestHelper.testAddress();
+            byte[] bytes = JodaBeanSer.COMPACT.binWriter(format, true).write(address);
+            BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(bytes, Address.class), address);
+
+            ImmAddress immAddress = SerTestHelper.testImmAddress();
+            bytes = JodaBeanSer.COMPACT.binWriter(format, true).write(immAddress);
+            BeanAssert.assertBeanEquals(JodaBeanSer.COMPACT.binReader().read(bytes, ImmAddress.class), immAddress);
+            String visualized = JodaBeanBinReader.visualize(bytes);
+            assertTrue(visualized.contains("sized type=39"));
+        }
+    }
+
+    public void test_visualize_sized_referencing() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter(JodaBeanBinFormat.REFERENCING, true).write(address);
+        String visualized = JodaBeanBinReader.visualize(bytes);
+        assertTrue(visualized.contains("sized type=39"));
+        assertTrue(visualized.contains("sized type=47"));
+    }
+
+    public void test_read_projection_sized() {
+        for (JodaBeanBinFormat format : JodaBeanBinFormat.values()) {
+            ImmAddress address = SerTestHelper.testImmAddress();
+            byte[] bytes = JodaBeanSer.COMPACT.binWriter(format, true).write(address);
+            List<MetaProperty<?>> props = Arrays.<MetaProperty<?>>asList(ImmAddress.meta().city(), ImmAddress.meta().owner());
+            Map<String, Object> parsed = JodaBeanSer.COMPACT.binReader().readProperties(bytes, ImmAddress.class, props);
+            assertEquals(parsed.get("city"), address.getCity());
+            BeanAssert.assertBeanEquals((Bean) parsed.get("owner"), address.getOwner());
+        }
+    }
+
+    public void test_readView() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        for (JodaBeanBinFormat format : JodaBeanBinFormat.values()) {
+            for (boolean sized : new boolean[] {false, true}) {
+                byte[] bytes = JodaBeanSer.COMPACT.binWriter(format, sized).write(address);
+                JodaBeanBinView view = JodaBeanSer.COMPACT.binReader().readView(bytes);
+                assertEquals(view.getBeanType(), ImmAddress.class);
+                // read in reverse order, so values are parsed out of order
+                List<String> names = new ArrayList<>(view.propertyNames());
+                Collections.reverse(names);
+                assertTrue(names.contains("owner"));
+                for (String name : names) {
+                    Object expected = address.metaBean().metaProperty(name).get(address);
+                    assertTrue(JodaBeanUtils.equal(view.get(name), expected), name);
+                    assertSame(view.property(name).get(), view.get(name));
+                }
+                BeanAssert.assertBeanEquals(view.toBean(), address);
+            }
+        }
+    }
+
+    public void test_readView_optional() {
+        ImmOptional optional = SerTestHelper.testImmOptional();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter(JodaBeanBinFormat.REFERENCING).write(optional);
+        JodaBeanBinView view = JodaBeanSer.COMPACT.binReader().readView(ByteBuffer.wrap(bytes));
+        assertEquals(view.get("optString"), Optional.of("A"));
+        assertEquals(view.metaBean().metaProperty("optString").propertyType(), Optional.class);
+        assertEquals(view.metaBean().metaProperty("optString").style(), PropertyStyle.READ_ONLY);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void test_readView_readOnly() {
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(SerTestHelper.testAddress());
+        JodaBeanBinView view = JodaBeanSer.COMPACT.binReader().readView(bytes);
+        view.property("city").set("Paris");
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void test_readView_unknownProperty() {
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(SerTestHelper.testAddress());
+        JodaBeanBinView view = JodaBeanSer.COMPACT.binReader().readView(bytes);
+        view.get("rubbish");
+    }
+
+    public void test_readWrite_stream() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (JodaBeanBinStreamWriter writer = JodaBeanSer.COMPACT.binStreamWriter(baos)) {
+            for (int i = 0; i < 10; i++) {
+                writer.write(address);
+            }
+            writer.write(SerTestHelper.testAddress());
+        }
+        byte[] bytes = baos.toByteArray();
+        byte[] single = JodaBeanSer.COMPACT.binWriter(JodaBeanBinFormat.REFERENCING).write(address);
+        assertTrue(bytes.length < single.length * 10);
+
+        List<Bean> parsed = new ArrayList<>();
+        try (JodaBeanBinStreamReader reader = JodaBeanSer.COMPACT.binStreamReader(new ByteArrayInputStream(bytes))) {
+            Iterator<Bean> it = reader.iterator();
+            while (it.hasNext()) {
+                parsed.add(it.next());
+            }
+            assertEquals(reader.read(), null);
+        }
+        assertEquals(parsed.size(), 11);
+        for (int i = 0; i < 10; i++) {
+            BeanAssert.assertBeanEquals(parsed.get(i), address);
+        }
+        BeanAssert.assertBeanEquals(parsed.get(10), SerTestHelper.testAddress());
+    }
+
+    public void test_readWrite_stream_stream() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (JodaBeanBinStreamWriter writer = JodaBeanSer.COMPACT.binStreamWriter(baos)) {
+            writer.write(ImmTolerance.builder().value(1d).build());
+            writer.write(ImmTolerance.builder().value(2d).build());
+            writer.flush();
+            assertTrue(baos.size() > 0);
+        }
+        try (Stream<Bean> stream = JodaBeanSer.COMPACT.binStreamReader(new ByteArrayInputStream(baos.toByteArray())).stream()) {
+            List<Double> values = stream.map(bean -> ((ImmTolerance) bean).getValue()).collect(Collectors.toList());
+            assertEquals(values, Arrays.asList(1d, 2d));
+        }
+    }
+
+    public void test_readWrite_builderWithoutOrdinals() {
+        LegacyBuilderBean bean = new LegacyBuilderBean();
+        bean.setName("Stephen");
+        bean.setCount(3);
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(bean);
+        LegacyBuilderBean parsed = JodaBeanSer.COMPACT.binReader().read(bytes, LegacyBuilderBean.class);
+        assertEquals(parsed.getName(), "Stephen");
+        assertEquals(parsed.getCount(), 3);
+    }
+
+    public void test_readWrite_stream_samePackageTypeNames() throws IOException {
+        // the simple type names Pair and Address are in both packages
+        Pair pair1 = new Pair();
+        pair1.setFirst(SerTestHelper.testAddress());
+        org.joda.beans.sample.other.Address address2 = new org.joda.beans.sample.other.Address();
+        address2.setStreet("Park Lane");
+        org.joda.beans.sample.other.Pair pair2 = new org.joda.beans.sample.other.Pair();
+        pair2.setFirst(address2);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (JodaBeanBinStreamWriter writer = JodaBeanSer.COMPACT.binStreamWriter(baos)) {
+            writer.write(pair1);
+            writer.write(pair2);
+            writer.write(pair1);
+        }
+        try (JodaBeanBinStreamReader reader = JodaBeanSer.COMPACT.binStreamReader(new ByteArrayInputStream(baos.toByteArray()))) {
+            BeanAssert.assertBeanEquals(reader.read(), pair1);
+            BeanAssert.assertBeanEquals(reader.read(), pair2);
+            BeanAssert.assertBeanEquals(reader.read(), pair1);
+            assertEquals(reader.read(), null);
+        }
+    }
+
+    public void test_read_stream_empty() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.COMPACT.binStreamWriter(baos).close();
+        assertEquals(baos.toByteArray(), new byte[] {3});
+        assertEquals(JodaBeanSer.COMPACT.binStreamReader(new ByteArrayInputStream(baos.toByteArray())).read(), null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_read_stream_notStream() {
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(SerTestHelper.testImmAddress());
+        JodaBeanSer.COMPACT.binStreamReader(new ByteArrayInputStream(bytes)).read();
+    }
+
+    public void test_write_primitiveArray_standard() {
+        ImmTolerance bean = ImmTolerance.builder().value(2d).array(new double[] {1.5d, 2.5d}).build();
+        byte[] bytes = JodaBeanSer.COMPACT.binWriter().write(bean);
+        assertEquals(JodaBeanBinReader.visualize(bytes).contains("str '1.5,2.5'"), true);
+
+        ImmTolerance parsed = JodaBeanSer.COMPACT.binReader().read(bytes, ImmTolerance.class);
+        assertEquals(parsed, bean);
+    }
+
     //-----------------------------------------------------------------------
     public void test_readWrite_primitives() throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
@@ -16,10 +16,14 @@
 package org.joda.beans.ser.json;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 
+import java.io.FilterReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 
+import org.joda.beans.sample.ImmAddress;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -77,6 +81,33 @@ public class TestJsonInput {
         assertEquals(input.acceptString(), expected);
     }
 
+    @Test(dataProvider = "string")
+    public void test_acceptString_fromString(String text, String expected) throws IOException {
+        JsonInput input = new JsonInput('"' + text + '"');
+        assertEquals(input.acceptString(), expected);
+    }
+
+    @Test(dataProvider = "string")
+    public void test_acceptString_singleCharReader(String text, String expected) throws IOException {
+        JsonInput input = new JsonInput(singleCharReader('"' + text + '"'));
+        assertEquals(input.acceptString(), expected);
+    }
+
+    public void test_acceptString_largerThanWindow() throws IOException {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            buf.append("ab\\\\");
+        }
+        String expected = buf.toString().replace("\\\\", "\\");
+        JsonInput input = new JsonInput(new StringReader('"' + buf.toString() + "\"[1]"));
+        assertEquals(input.acceptString(), expected);
+        assertEquals(input.readEvent(), JsonEvent.ARRAY);
+        assertEquals(input.readEvent(), JsonEvent.NUMBER_INTEGRAL);
+        assertEquals(input.parseNumberIntegral(), 1L);
+        input = new JsonInput('"' + buf.toString() + '"');
+        assertEquals(input.acceptString(), expected);
+    }
+
     @Test(dataProvider = "string")
     public void test_acceptString_pushback(String text, String expected) throws IOException {
         JsonInput input = new JsonInput(new StringReader(text + '"'));
@@ -152,6 +183,40 @@ public class TestJsonInput {
         assertEquals(input.acceptObjectKey(JsonEvent.STRING), "key");
     }
 
+    public void test_matchObjectKey() throws IOException {
+        JsonKeys keys = JsonKeys.of(ImmAddress.meta());
+        JsonInput input = new JsonInput("street\": 1}");
+        int index = input.matchObjectKey(keys);
+        assertEquals(keys.name(index), "street");
+        assertSame(keys.metaProperty(index), ImmAddress.meta().street());
+        assertEquals(input.readEvent(), JsonEvent.NUMBER_INTEGRAL);
+    }
+
+    public void test_matchObjectKey_unknown() throws IOException {
+        JsonInput input = new JsonInput("streets\": 1");
+        assertEquals(input.matchObjectKey(JsonKeys.of(ImmAddress.meta())), -1);
+        assertEquals(input.parseObjectKey(), "streets");
+    }
+
+    public void test_matchObjectKey_escaped() throws IOException {
+        JsonInput input = new JsonInput("stre\\u0065t\": 1");
+        assertEquals(input.matchObjectKey(JsonKeys.of(ImmAddress.meta())), -1);
+        assertEquals(input.parseObjectKey(), "street");
+    }
+
+    public void test_matchObjectKey_singleCharReader() throws IOException {
+        JsonInput input = new JsonInput(singleCharReader("street\": 1"));
+        assertEquals(input.matchObjectKey(JsonKeys.of(ImmAddress.meta())), -1);
+        assertEquals(input.parseObjectKey(), "street");
+    }
+
+    public void test_matchObjectKey_pushBack() throws IOException {
+        JsonKeys keys = JsonKeys.of(ImmAddress.meta());
+        JsonInput input = new JsonInput(new StringReader(":"));
+        input.pushBackObjectKey("city");
+        assertEquals(keys.name(input.matchObjectKey(keys)), "city");
+    }
+
     //-----------------------------------------------------------------------
     @DataProvider(name = "numberIntegral")
     Object[][] data_numberIntegral() {
@@ -181,6 +246,22 @@ public class TestJsonInput {
         assertEquals(input.readEvent(), JsonEvent.OBJECT_END);
     }
 
+    @Test(dataProvider = "numberIntegral")
+    public void test_parseNumberIntegral_fromString(String text, long expected) throws IOException {
+        JsonInput input = new JsonInput(text + '}');
+        assertEquals(input.readEvent(), JsonEvent.NUMBER_INTEGRAL);
+        assertEquals(input.parseNumberIntegral(), expected);
+        assertEquals(input.readEvent(), JsonEvent.OBJECT_END);
+    }
+
+    @Test(dataProvider = "numberIntegral")
+    public void test_parseNumberIntegral_singleCharReader(String text, long expected) throws IOException {
+        JsonInput input = new JsonInput(singleCharReader(text + '}'));
+        assertEquals(input.readEvent(), JsonEvent.NUMBER_INTEGRAL);
+        assertEquals(input.parseNumberIntegral(), expected);
+        assertEquals(input.readEvent(), JsonEvent.OBJECT_END);
+    }
+
     @Test(dataProvider = "numberIntegral", expectedExceptions = IllegalArgumentException.class)
     public void test_parseNumberIntegral_endOfFile(String text, long expected) throws IOException {
         JsonInput input = new JsonInput(new StringReader(text));
@@ -260,6 +341,12 @@ public class TestJsonInput {
         input.readEvent();
     }
 
+    @Test(dataProvider = "numberBad", expectedExceptions = IllegalArgumentException.class)
+    public void test_parseNumberFloating_bad_fromString(String text) throws IOException {
+        JsonInput input = new JsonInput(text + '}');
+        input.readEvent();
+    }
+
     //-----------------------------------------------------------------------
     @DataProvider(name = "event")
     Object[][] data_event() {
@@ -343,4 +430,15 @@ public class TestJsonInput {
         input.skipData();
     }
 
+    //-----------------------------------------------------------------------
+    // a reader that returns one character at a time
+    private static Reader singleCharReader(String text) {
+        return new FilterReader(new StringReader(text)) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                return super.read(cbuf, off, Math.min(len, 1));
+            }
+        };
+    }
+
 }
@@ -16,8 +16,21 @@
 package org.joda.beans.ser.json;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.joda.beans.MetaBean;
+import org.joda.beans.impl.flexi.FlexiBean;
+import org.joda.beans.sample.ImmAddress;
+import org.joda.beans.sample.PrimitiveBean;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
@@ -114,6 +127,17 @@ public class TestJsonOutput {
             {-1234567d, "-1234567.0"},
             {0.000001d, "1.0E-6"},
             {0.1234d, "0.1234"},
+            {-0d, "-0.0"},
+            {0.1d, "0.1"},
+            {0.001d, "0.001"},
+            {0.0001d, "1.0E-4"},
+            {123.456d, "123.456"},
+            {9999999d, "9999999.0"},
+            {10000000d, "1.0E7"},
+            {1.5e300d, "1.5E300"},
+            {4.9e-324d, "4.9E-324"},
+            {0.1d + 0.2d, "0.30000000000000004"},
+            {Double.MAX_VALUE, "1.7976931348623157E308"},
             {Double.NaN, "\"NaN\""},
             {Double.POSITIVE_INFINITY, "\"Infinity\""},
             {Double.NEGATIVE_INFINITY, "\"-Infinity\""},
@@ -137,6 +161,11 @@ public class TestJsonOutput {
             {-1234567f, "-1234567.0"},
             {0.000001f, "1.0E-6"},
             {0.1234f, "0.1234"},
+            {-0f, "-0.0"},
+            {0.1f, "0.1"},
+            {123.456f, "123.456"},
+            {1.0e10f, "1.0E10"},
+            {Float.MAX_VALUE, "3.4028235E38"},
             {Float.NaN, "\"NaN\""},
             {Float.POSITIVE_INFINITY, "\"Infinity\""},
             {Float.NEGATIVE_INFINITY, "\"-Infinity\""},
@@ -149,6 +178,38 @@ public class TestJsonOutput {
         assertEquals(buf.toString(), expected);
     }
 
+    public void test_writeDouble_roundTrip() throws IOException {
+        Random random = new Random(1234);
+        for (int i = 0; i < 100_000; i++) {
+            double value = (i % 2 == 0 ?
+                    Double.longBitsToDouble(random.nextLong()) :
+                    random.nextInt(10_000_000) / Math.pow(10, random.nextInt(12)));
+            if (Double.isFinite(value)) {
+                buf.setLength(0);
+                outputCompact.writeDouble(value);
+                String str = buf.toString();
+                assertEquals(Double.doubleToRawLongBits(Double.parseDouble(str)), Double.doubleToRawLongBits(value), str);
+                assertTrue(str.length() <= Double.toString(value).length(), str);
+            }
+        }
+    }
+
+    public void test_writeFloat_roundTrip() throws IOException {
+        Random random = new Random(1234);
+        for (int i = 0; i < 100_000; i++) {
+            float value = (i % 2 == 0 ?
+                    Float.intBitsToFloat(random.nextInt()) :
+                    (float) (random.nextInt(100_000) / Math.pow(10, random.nextInt(8))));
+            if (Float.isFinite(value)) {
+                buf.setLength(0);
+                outputCompact.writeFloat(value);
+                String str = buf.toString();
+                assertEquals(Float.floatToRawIntBits(Float.parseFloat(str)), Float.floatToRawIntBits(value), str);
+                assertTrue(str.length() <= Float.toString(value).length(), str);
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     public void test_writeNull() throws IOException {
         outputCompact.writeNull();
@@ -471,4 +532,91 @@ public class TestJsonOutput {
         		"\n \"c\": \"cc\"\n}");
     }
 
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "string")
+    public void test_writeObjectKey_preEncoded(String input, String expected) throws IOException {
+        JsonKeys.Key key = JsonKeys.Key.of(input);
+        assertEquals(key.chars, '"' + expected + "\":");
+        assertEquals(key.utf8, key.chars.getBytes(StandardCharsets.UTF_8));
+        outputPretty.writeObjectStart();
+        outputPretty.writeObjectKey(key);
+        outputPretty.writeString("v");
+        outputPretty.writeObjectKey(input);
+        outputPretty.writeString("v");
+        outputPretty.writeObjectEnd();
+        assertEquals(buf.toString(), "{\n \"" + expected + "\": \"v\",\n \"" + expected + "\": \"v\"\n}");
+    }
+
+    public void test_writeObjectKey_preEncodedUtf8() throws IOException {
+        JsonUtf8Sink.GrowableSink sink = JsonUtf8Sink.ofBytes();
+        JsonOutput output = new JsonOutput(sink);
+        output.writeObjectStart();
+        output.writeObjectKey(JsonKeys.Key.of("a\u00e9"));
+        output.writeInt(1);
+        output.writeObjectKey(JsonKeys.Key.of("b"));
+        output.writeInt(2);
+        output.writeObjectEnd();
+        sink.finish();
+        assertEquals(sink.toByteArray(), "{\"a\u00e9\":1,\"b\":2}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void test_writeObjectKey_preEncodedUtf8_afterLoneHighSurrogate() throws IOException {
+        JsonUtf8Sink.GrowableSink sink = JsonUtf8Sink.ofBytes();
+        sink.append("a\uD83D");
+        sink.write(JsonKeys.Key.of("b").utf8);
+        sink.append('\uD83D');
+        sink.finish();
+        assertEquals(sink.toByteArray(), "a?\"b\":?".getBytes(StandardCharsets.UTF_8));
+        assertEquals(sink.toByteArray(), "a\uD83D\"b\":\uD83D".getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void test_writePrimitive() throws IOException {
+        PrimitiveBean bean = new PrimitiveBean();
+        bean.setValueLong(2);
+        bean.setValueInt(3);
+        bean.setValueDouble(1.5);
+        bean.setValueBoolean(true);
+        JsonKeys keys = JsonKeys.of(bean.metaBean());
+        outputCompact.writeObjectStart();
+        assertTrue(outputCompact.writePrimitive(PrimitiveBean.meta().valueLong(), bean, keys.get("valueLong")));
+        assertTrue(outputCompact.writePrimitive(PrimitiveBean.meta().valueInt(), bean, null));
+        assertTrue(outputCompact.writePrimitive(PrimitiveBean.meta().valueDouble(), bean, keys.get("valueDouble")));
+        assertTrue(outputCompact.writePrimitive(PrimitiveBean.meta().valueBoolean(), bean, keys.get("valueBoolean")));
+        assertFalse(outputCompact.writePrimitive(PrimitiveBean.meta().valueShort(), bean, keys.get("valueShort")));
+        assertFalse(outputCompact.writePrimitive(PrimitiveBean.meta().valueChar(), bean, keys.get("valueChar")));
+        outputCompact.writeObjectEnd();
+        assertEquals(buf.toString(), "{\"valueLong\":2,\"valueInt\":3,\"valueDouble\":1.5,\"valueBoolean\":true}");
+    }
+
+    public void test_writePrimitive_doubleNotFinite() throws IOException {
+        PrimitiveBean bean = new PrimitiveBean();
+        bean.setValueDouble(Double.NaN);
+        outputCompact.writeObjectStart();
+        assertFalse(outputCompact.writePrimitive(PrimitiveBean.meta().valueDouble(), bean, null));
+        bean.setValueDouble(Double.POSITIVE_INFINITY);
+        assertFalse(outputCompact.writePrimitive(PrimitiveBean.meta().valueDouble(), bean, null));
+        outputCompact.writeObjectEnd();
+        assertEquals(buf.toString(), "{}");
+    }
+
+    public void test_keys_cached() {
+        JsonKeys keys = JsonKeys.of(ImmAddress.meta());
+        assertSame(JsonKeys.of(ImmAddress.meta()), keys);
+        assertEquals(keys.get("street").chars, "\"street\":");
+        assertNull(keys.get("unknown"));
+        assertNull(JsonKeys.of(new FlexiBean().metaBean()).get("street"));
+    }
+
+    public void test_keys_otherMetaBeanForSameType() {
+        MetaBean other = (MetaBean) Proxy.newProxyInstance(
+                MetaBean.class.getClassLoader(),
+                new Class<?>[] {MetaBean.class},
+                (proxy, method, args) -> method.invoke(ImmAddress.meta(), args));
+        JsonKeys keys = JsonKeys.of(ImmAddress.meta());
+        JsonKeys otherKeys = JsonKeys.of(other);
+        assertNotSame(otherKeys, keys);
+        assertEquals(otherKeys.get("street").chars, "\"street\":");
+        assertSame(JsonKeys.of(ImmAddress.meta()), keys);
+    }
+
 }
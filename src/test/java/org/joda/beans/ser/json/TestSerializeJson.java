@@ -16,12 +16,25 @@
 package org.joda.beans.ser.json;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.joda.beans.Bean;
+import org.joda.beans.MetaBean;
+import org.joda.beans.MetaProperty;
 import org.joda.beans.impl.flexi.FlexiBean;
 import org.joda.beans.sample.Address;
 import org.joda.beans.sample.ImmAddress;
@@ -30,12 +43,17 @@ import org.joda.beans.sample.ImmKey;
 import org.joda.beans.sample.ImmMappedKey;
 import org.joda.beans.sample.ImmOptional;
 import org.joda.beans.sample.ImmPerson;
+import org.joda.beans.sample.ImmTolerance;
 import org.joda.beans.sample.JodaConvertBean;
 import org.joda.beans.sample.JodaConvertWrapper;
+import org.joda.beans.sample.LegacyBuilderBean;
+import org.joda.beans.sample.Pair;
 import org.joda.beans.sample.Person;
 import org.joda.beans.sample.PrimitiveBean;
 import org.joda.beans.sample.SimplePerson;
+import org.joda.beans.ser.DefaultDeserializer;
 import org.joda.beans.ser.JodaBeanSer;
+import org.joda.beans.ser.SerDeserializer;
 import org.joda.beans.ser.SerDeserializers;
 import org.joda.beans.ser.SerTestHelper;
 import org.joda.beans.test.BeanAssert;
@@ -80,6 +98,208 @@ public class TestSerializeJson {
         BeanAssert.assertBeanEquals(bean, optional);
     }
 
+    //-----------------------------------------------------------------------
+    public void test_writeUtf8_bytes() {
+        Address address = SerTestHelper.testAddress();
+        address.setStreet("Gro\u00dfe Stra\u00dfe \u20ac \ud83d\ude00 \u2028");
+        String json = JodaBeanSer.PRETTY.jsonWriter().write(address);
+        byte[] bytes = JodaBeanSer.PRETTY.jsonWriter().writeUtf8(address);
+        assertEquals(bytes, json.getBytes(StandardCharsets.UTF_8));
+        
+        Address bean = (Address) JodaBeanSer.PRETTY.jsonReader().read(new String(bytes, StandardCharsets.UTF_8));
+        BeanAssert.assertBeanEquals(bean, address);
+    }
+
+    public void test_writeUtf8_bytesNoRootType() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(address, false);
+        byte[] bytes = JodaBeanSer.COMPACT.jsonWriter().writeUtf8(address, false);
+        assertEquals(bytes, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void test_writeUtf8_stream() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        String json = JodaBeanSer.PRETTY.jsonWriter().write(address);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.PRETTY.jsonWriter().writeUtf8(address, baos);
+        assertEquals(baos.toByteArray(), json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void test_writeUtf8_buffer() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        byte[] expected = JodaBeanSer.PRETTY.jsonWriter().write(address).getBytes(StandardCharsets.UTF_8);
+        for (ByteBuffer buffer : Arrays.asList(ByteBuffer.allocate(8), ByteBuffer.allocateDirect(8), ByteBuffer.allocate(65536))) {
+            buffer.put((byte) 'X');
+            ByteBuffer result = JodaBeanSer.PRETTY.jsonWriter().writeUtf8(address, buffer);
+            assertEquals(result.position(), expected.length + 1);
+            assertEquals(result.isDirect(), buffer.isDirect());
+            result.flip();
+            assertEquals(result.get(), (byte) 'X');
+            byte[] actual = new byte[result.remaining()];
+            result.get(actual);
+            assertEquals(actual, expected);
+        }
+    }
+
+    public void test_read_customDeserializerSeesMatchedKeys() {
+        Address address = SerTestHelper.testAddress();
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(address);
+        SerDeserializer swapper = new DefaultDeserializer() {
+            @Override
+            public MetaProperty<?> findMetaProperty(Class<?> beanType, MetaBean metaBean, String propertyName) {
+                if (propertyName.equals("street")) {
+                    return metaBean.metaProperty("city");
+                }
+                if (propertyName.equals("city")) {
+                    return metaBean.metaProperty("street");
+                }
+                return super.findMetaProperty(beanType, metaBean, propertyName);
+            }
+        };
+        SerDeserializers deserializers = new SerDeserializers().register(Address.class, swapper);
+        Address parsed = JodaBeanSer.COMPACT.withDeserializers(deserializers).jsonReader().read(json, Address.class);
+        assertEquals(parsed.getStreet(), address.getCity());
+        assertEquals(parsed.getCity(), address.getStreet());
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_readStream_array() throws IOException {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        String json = JodaBeanSer.PRETTY.jsonWriter().write(address);
+        String text = " [\n" + json + ",\n" + json + ",\n" + json + "]\n";
+        List<ImmAddress> parsed = new ArrayList<>();
+        try (JodaBeanJsonStreamReader<ImmAddress> reader =
+                JodaBeanSer.PRETTY.jsonStreamReader(new StringReader(text), ImmAddress.class)) {
+            Iterator<ImmAddress> it = reader.iterator();
+            while (it.hasNext()) {
+                parsed.add(it.next());
+            }
+            assertEquals(reader.read(), null);
+            assertEquals(reader.getCount(), 3);
+        }
+        assertEquals(parsed.size(), 3);
+        for (ImmAddress bean : parsed) {
+            BeanAssert.assertBeanEquals(bean, address);
+        }
+    }
+
+    public void test_readStream_newlineDelimited() {
+        Address address = SerTestHelper.testAddress();
+        ImmAddress immAddress = SerTestHelper.testImmAddress();
+        String text = JodaBeanSer.COMPACT.jsonWriter().write(address) + "\n" +
+                JodaBeanSer.COMPACT.jsonWriter().write(immAddress) + "\n" +
+                JodaBeanSer.COMPACT.jsonWriter().write(address) + "\n";
+        try (Stream<Bean> stream = JodaBeanSer.COMPACT.jsonStreamReader(new StringReader(text), Bean.class).stream()) {
+            List<Bean> parsed = stream.collect(Collectors.toList());
+            assertEquals(parsed.size(), 3);
+            BeanAssert.assertBeanEquals(parsed.get(0), address);
+            BeanAssert.assertBeanEquals(parsed.get(1), immAddress);
+            BeanAssert.assertBeanEquals(parsed.get(2), address);
+        }
+    }
+
+    public void test_readWrite_builderWithoutOrdinals() {
+        LegacyBuilderBean bean = new LegacyBuilderBean();
+        bean.setName("Stephen");
+        bean.setCount(3);
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(bean);
+        LegacyBuilderBean parsed = JodaBeanSer.COMPACT.jsonReader().read(json, LegacyBuilderBean.class);
+        assertEquals(parsed.getName(), "Stephen");
+        assertEquals(parsed.getCount(), 3);
+    }
+
+    public void test_readStream_newlineDelimited_samePackageTypeNames() {
+        // the simple type names Pair and Address are in both packages
+        Pair pair1 = new Pair();
+        pair1.setFirst(SerTestHelper.testAddress());
+        org.joda.beans.sample.other.Address address2 = new org.joda.beans.sample.other.Address();
+        address2.setStreet("Park Lane");
+        org.joda.beans.sample.other.Pair pair2 = new org.joda.beans.sample.other.Pair();
+        pair2.setFirst(address2);
+        String text = JodaBeanSer.COMPACT.jsonWriter().write(pair1) + "\n" +
+                JodaBeanSer.COMPACT.jsonWriter().write(pair2) + "\n" +
+                JodaBeanSer.COMPACT.jsonWriter().write(pair1) + "\n";
+        try (Stream<Bean> stream = JodaBeanSer.COMPACT.jsonStreamReader(new StringReader(text), Bean.class).stream()) {
+            List<Bean> parsed = stream.collect(Collectors.toList());
+            assertEquals(parsed.size(), 3);
+            BeanAssert.assertBeanEquals(parsed.get(0), pair1);
+            BeanAssert.assertBeanEquals(parsed.get(1), pair2);
+            BeanAssert.assertBeanEquals(parsed.get(2), pair1);
+        }
+    }
+
+    public void test_readStream_largerThanWindow() {
+        StringBuilder buf = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            buf.append(JodaBeanSer.COMPACT.jsonWriter().write(ImmTolerance.builder().value(i).build())).append('\n');
+        }
+        JodaBeanJsonStreamReader<ImmTolerance> reader =
+                JodaBeanSer.COMPACT.jsonStreamReader(new StringReader(buf.toString()), ImmTolerance.class);
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(reader.read().getValue(), (double) i);
+        }
+        assertEquals(reader.read(), null);
+    }
+
+    @DataProvider(name = "emptyStream")
+    Object[][] data_emptyStream() {
+        return new Object[][] {
+            {""},
+            {" \n "},
+            {"[]"},
+            {" [ ] \n"},
+        };
+    }
+
+    @Test(dataProvider = "emptyStream")
+    public void test_readStream_empty(String text) {
+        JodaBeanJsonStreamReader<Bean> reader = JodaBeanSer.COMPACT.jsonStreamReader(new StringReader(text), Bean.class);
+        assertEquals(reader.read(), null);
+        assertEquals(reader.read(), null);
+        assertEquals(reader.getCount(), 0);
+    }
+
+    @DataProvider(name = "badStream")
+    Object[][] data_badStream() {
+        return new Object[][] {
+            {"1"},
+            {"[1]"},
+            {"[{}"},
+            {"[{}] {}"},
+            {"[{} {}]"},
+        };
+    }
+
+    @Test(dataProvider = "badStream", expectedExceptions = IllegalArgumentException.class)
+    public void test_readStream_bad(String text) {
+        JodaBeanJsonStreamReader<FlexiBean> reader =
+                JodaBeanSer.COMPACT.jsonStreamReader(new StringReader(text), FlexiBean.class);
+        while (reader.read() != null) {
+            // read all
+        }
+    }
+
+    public void test_read_projection() {
+        Address address = SerTestHelper.testAddress();
+        String json = JodaBeanSer.PRETTY.jsonWriter().write(address);
+        List<MetaProperty<?>> props = Arrays.<MetaProperty<?>>asList(Address.meta().street(), Address.meta().owner());
+        Address parsed = JodaBeanSer.PRETTY.jsonReader().read(json, Address.class, props);
+        assertEquals(parsed.getStreet(), "Big Road");
+        assertEquals(parsed.getCity(), null);
+        assertEquals(parsed.getNumber(), 0);
+        BeanAssert.assertBeanEquals(parsed.getOwner(), address.getOwner());
+    }
+
+    public void test_readProperties_projection() {
+        ImmAddress address = SerTestHelper.testImmAddress();
+        String json = JodaBeanSer.PRETTY.jsonWriter().write(address);
+        List<MetaProperty<?>> props = Arrays.<MetaProperty<?>>asList(ImmAddress.meta().city(), ImmAddress.meta().number());
+        Map<String, Object> parsed = JodaBeanSer.PRETTY.jsonReader().readProperties(json, ImmAddress.class, props);
+        assertEquals(new ArrayList<>(parsed.keySet()), Arrays.asList("number", "city"));
+        assertEquals(parsed.get("number"), 185);
+        assertEquals(parsed.get("city"), address.getCity());
+    }
+
     //-----------------------------------------------------------------------
     public void test_readWriteBeanEmptyChild_pretty() {
         FlexiBean bean = new FlexiBean();
@@ -194,6 +414,24 @@ public class TestSerializeJson {
         BeanAssert.assertBeanEquals(bean, parsed);
     }
 
+    public void test_write_primitives() {
+        PrimitiveBean bean = new PrimitiveBean();
+        bean.setValueLong(1234567890123L);
+        bean.setValueInt(-12);
+        bean.setValueDouble(1.5d);
+        bean.setValueChar('A');
+        bean.setValueBoolean(true);
+        String json = JodaBeanSer.COMPACT.jsonWriter().write(bean);
+        assertEquals(json, "{\"@bean\":\"org.joda.beans.sample.PrimitiveBean\",\"valueLong\":1234567890123,\"valueInt\":-12," +
+                "\"valueShort\":0,\"valueByte\":0,\"valueDouble\":1.5,\"valueFloat\":0.0,\"valueChar\":\"A\",\"valueBoolean\":true}");
+        BeanAssert.assertBeanEquals(bean, JodaBeanSer.COMPACT.jsonReader().read(json));
+        
+        bean.setValueDouble(Double.NaN);
+        json = JodaBeanSer.COMPACT.jsonWriter().write(bean);
+        assertTrue(json.contains("\"valueDouble\":\"NaN\""), json);
+        BeanAssert.assertBeanEquals(bean, JodaBeanSer.COMPACT.jsonReader().read(json));
+    }
+
     public void test_readWrite_double() {
         FlexiBean bean = new FlexiBean();
         bean.set("data", (double) 6);
@@ -17,9 +17,13 @@ package org.joda.beans.ser.json;
 
 import static org.testng.Assert.assertEquals;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 
 import org.joda.beans.Bean;
@@ -60,6 +64,19 @@ public class TestSerializeJsonSimple {
         BeanAssert.assertBeanEquals(bean, parsed);
     }
 
+    public void test_writeUtf8() throws IOException {
+        SimpleJson bean = SerTestHelper.testSimpleJson();
+        byte[] expected = JodaBeanSer.PRETTY.simpleJsonWriter().write(bean).getBytes(StandardCharsets.UTF_8);
+        assertEquals(JodaBeanSer.PRETTY.simpleJsonWriter().writeUtf8(bean), expected);
+        
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.PRETTY.simpleJsonWriter().writeUtf8(bean, baos);
+        assertEquals(baos.toByteArray(), expected);
+        
+        ByteBuffer buffer = JodaBeanSer.PRETTY.simpleJsonWriter().writeUtf8(bean, ByteBuffer.allocate(16));
+        assertEquals(Arrays.copyOf(buffer.array(), buffer.position()), expected);
+    }
+
     //-----------------------------------------------------------------------
     public void test_readWriteBeanEmptyChild_pretty() {
         FlexiBean bean = new FlexiBean();
@@ -16,6 +16,13 @@
 package org.joda.beans.ser.xml;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 
 import org.joda.beans.Bean;
 import org.joda.beans.impl.flexi.FlexiBean;
@@ -157,6 +164,21 @@ public class TestSerializeXml {
         BeanAssert.assertBeanEquals(bean, parsed);
     }
 
+    public void test_read_nonStandard_withSplitText() {
+        String xml = "<bean><element>A &amp; <![CDATA[<B>]]><!-- comment --> &#x43;</element></bean>";
+        FlexiBean parsed = JodaBeanSer.COMPACT.xmlReader().read(xml, FlexiBean.class);
+        FlexiBean bean = new FlexiBean();
+        bean.set("element", "A & <B> C");
+        BeanAssert.assertBeanEquals(bean, parsed);
+    }
+
+    public void test_read_nonStandard_namespacedAttributeIgnored() {
+        String xml = "<bean xmlns:x=\"urn:other\" type=\"org.joda.beans.sample.SimpleName\">" +
+                "<forename x:type=\"Bad\">A</forename></bean>";
+        SimpleName parsed = JodaBeanSer.COMPACT.xmlReader().read(xml, SimpleName.class);
+        assertEquals(parsed.getForename(), "A");
+    }
+
     //-----------------------------------------------------------------------
     public void test_read_aliased() {
         String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><bean type=\"org.joda.beans.sample.SimpleName\">" +
@@ -226,6 +248,36 @@ public class TestSerializeXml {
         JodaBeanSer.COMPACT.xmlReader().read("<bean></bean>", Integer.class);
     }
 
+    public void test_write_writer() throws IOException {
+        Person person = new Person();
+        for (int i = 0; i < 1000; i++) {
+            Address address = new Address();
+            address.setStreet("Street \"" + i + "\" & <Lane>");
+            address.setCity("Caf\u00e9 " + i);
+            person.getOtherAddressMap().put("Key \"" + i + "\" & 'More'", address);
+        }
+        String xml = JodaBeanSer.PRETTY.xmlWriter().write(person);
+        assertTrue(xml.length() > 100_000);
+
+        StringWriter writer = new StringWriter();
+        JodaBeanSer.PRETTY.xmlWriter().write(person, writer);
+        assertEquals(writer.toString(), xml);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        JodaBeanSer.PRETTY.xmlWriter().write(person, baos);
+        assertEquals(new String(baos.toByteArray(), StandardCharsets.UTF_8), xml);
+
+        Person bean = (Person) JodaBeanSer.PRETTY.xmlReader().read(new ByteArrayInputStream(baos.toByteArray()));
+        BeanAssert.assertBeanEquals(bean, person);
+    }
+
+    public void test_write_writer_rootTypeNotOutput() throws IOException {
+        Address address = SerTestHelper.testAddress();
+        StringWriter writer = new StringWriter();
+        JodaBeanSer.COMPACT.xmlWriter().write(address, false, writer);
+        assertEquals(writer.toString(), JodaBeanSer.COMPACT.xmlWriter().write(address, false));
+    }
+
     @Test(expectedExceptions = IllegalArgumentException.class)
     public void test_write_nullKeyInMap() {
         Address address = new Address();